@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.groundx.caver_ext_kas.kas.KASTransport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the startup of a worker, i.e. creating a CaverExtKAS instance on the shared transport, calling initKASAPI()
+ * and getting the rest-client objects the worker uses, without sending any request.
+ * `wallet` is a worker using only the Wallet API, and `all` uses every rest-client object of all KAS API, which is what initKASAPI() created before.
+ * Run it with `-prof gc` to see the bytes allocated per worker(`gc.alloc.rate.norm`).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CaverExtKASStartupBenchmark {
+
+    @Param({"none", "wallet", "all"})
+    String usage;
+
+    KASTransport transport;
+
+    @Setup
+    public void setUp() {
+        transport = new KASTransport();
+    }
+
+    @TearDown
+    public void tearDown() {
+        transport.shutdown();
+    }
+
+    @Benchmark
+    public CaverExtKAS startWorker() {
+        CaverExtKAS caver = new CaverExtKAS(transport);
+        caver.initKASAPI(1001, "accessKeyId", "secretAccessKey");
+
+        switch(usage) {
+            case "wallet":
+                caver.kas.wallet.getAccountApi();
+                caver.kas.wallet.getBasicTransactionApi();
+                break;
+            case "all":
+                caver.kas.wallet.getAccountApi();
+                caver.kas.wallet.getBasicTransactionApi();
+                caver.kas.wallet.getFeeDelegatedTransactionPaidByKasApi();
+                caver.kas.wallet.getFeeDelegatedTransactionPaidByUserApi();
+                caver.kas.wallet.getMultisigTransactionManagementApi();
+                caver.kas.wallet.getStatisticsApi();
+                caver.kas.anchor.getDataAnchoringTransactionApi();
+                caver.kas.anchor.getOperatorApi();
+                caver.kas.tokenHistory.getTokenApi();
+                caver.kas.tokenHistory.getTokenContractApi();
+                caver.kas.tokenHistory.getTokenHistoryApi();
+                caver.kas.tokenHistory.getTokenOwnershipApi();
+                break;
+            default:
+        }
+        return caver;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads the canned KAS response bodies used by the benchmarks.
+ * The files are in src/jmh/resources/fixtures.
+ */
+public class Fixtures {
+    public static final String PAGEABLE_TRANSFERS = "pageable-transfers.json";
+    public static final String ACCOUNTS = "accounts.json";
+    public static final String TRANSACTION_RECEIPT = "transaction-receipt.json";
+
+    private Fixtures() {
+    }
+
+    public static byte[] readBytes(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if(in == null) {
+                throw new IllegalArgumentException("The fixture " + name + " does not exist.");
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static String read(String name) {
+        return new String(readBytes(name), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.*;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a klay_getBlockByHash call served by NodeResponseCache.
+ * The baseline gets the same response from an in-process interceptor instead of KAS, so it excludes the network
+ * and shows the cost of building and parsing the HTTP call that a cache hit still pays.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeResponseCacheBenchmark {
+
+    static final String BLOCK_HASH = String.format("0x%064x", 0x2d8f9b1);
+
+    static final String BLOCK = "{\"number\":\"0x2d8f9b1\",\"hash\":\"" + BLOCK_HASH + "\","
+            + "\"parentHash\":\"" + String.format("0x%064x", 0x2d8f9b0) + "\","
+            + "\"timestamp\":\"0x5f85a1f0\",\"gasUsed\":\"0x5208\",\"transactions\":[]}";
+
+    HttpService cached;
+    HttpService uncached;
+
+    @Setup
+    public void setUp() throws IOException {
+        NodeResponseCache cache = new NodeResponseCache(1000, 1024 * 1024, 0);
+        cached = new HttpService("http://localhost/", client(cache));
+        uncached = new HttpService("http://localhost/", client(null));
+        getBlockByHash(cached);
+    }
+
+    static OkHttpClient client(NodeResponseCache cache) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        if(cache != null) {
+            builder.addInterceptor(cache);
+        }
+        return builder.addInterceptor(chain -> new Response.Builder()
+                .request(chain.request())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":" + BLOCK + "}", MediaType.parse("application/json")))
+                .build())
+                .build();
+    }
+
+    static EthBlock getBlockByHash(HttpService service) throws IOException {
+        return new Request<>("klay_getBlockByHash", Arrays.asList(BLOCK_HASH, false), service, EthBlock.class).send();
+    }
+
+    @Benchmark
+    public EthBlock hit() throws IOException {
+        return getBlockByHash(cached);
+    }
+
+    @Benchmark
+    public EthBlock inProcessResponse() throws IOException {
+        return getBlockByHash(uncached);
+    }
+}
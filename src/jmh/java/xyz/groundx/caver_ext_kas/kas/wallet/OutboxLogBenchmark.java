@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures durable appends to the log of TransactionOutbox, i.e. an append followed by sync() as done for each intent.
+ * With 16 threads, the appends waiting at the same time share a single force of the log.
+ * The numbers depend heavily on the file system; a tmpfs directory makes force() nearly free.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutboxLogBenchmark {
+    // The size of the intent of a value transfer request.
+    static final byte[] PAYLOAD = TransactionOutbox.encode(1,
+            "0x6a1b0f2b2d3e4f5a6b7c8d9e0f1a2b3c4d5e6f7a8b9c0d1e2f3a4b5c6d7e8f9a",
+            "xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ValueTransferTransactionRequest",
+            "{\"from\":\"0x1b71a63903e35371e2fc41c6012effb99b9a2c0f\",\"to\":\"0x6f4d5a7b4e4e8b25c1d44ef8bd6a6e3d8b9a5bcb\",\"value\":\"0x1\",\"nonce\":1,\"submit\":true}");
+
+    Path directory;
+    OutboxLog log;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("outbox");
+        log = new OutboxLog(directory.resolve("wallet.outbox"), TransactionOutbox.INITIAL_CAPACITY);
+        log.read();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        log.close();
+        Files.deleteIfExists(directory.resolve("wallet.outbox"));
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void appendAndSync() throws IOException {
+        log.sync(log.append(TransactionOutbox.INTENT, PAYLOAD));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void appendAndSyncGroupCommit() throws IOException {
+        log.sync(log.append(TransactionOutbox.INTENT, PAYLOAD));
+    }
+}
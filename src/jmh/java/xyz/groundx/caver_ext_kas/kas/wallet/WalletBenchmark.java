@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.groundx.caver_ext_kas.kas.wallet.accountkey.KeyTypeMultiSig;
+import xyz.groundx.caver_ext_kas.kas.wallet.accountkey.KeyTypePublic;
+import xyz.groundx.caver_ext_kas.kas.wallet.accountkey.KeyTypeRoleBased;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.AccountUpdateKey;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.MultisigKey;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.MultisigUpdateKey;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Wallet.makeUncompressedKeyFormat() applied to the account key of each account update request.
+ * The key is created in each invocation because makeUncompressedKeyFormat() updates it in place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WalletBenchmark {
+    // The public keys of the private keys 1, 2 and 3 without the 0x04 prefix.
+    static final String[] PUBLIC_KEYS = {
+            "0x79be667ef9dcbbac55a06295ce870b07029bfcdb2dce28d959f2815b16f81798483ada7726a3c4655da4fbfc0e1108a8fd17b448a68554199c47d08ffb10d4b8",
+            "0xc6047f9441ed7d6d3045406e95c07cd85c778e4b8cef3ca7abac09b95c709ee51ae168fea63dc339a3c58419466ceaeef7f632653266d0e1236431a950cfe52a",
+            "0xf9308a019258c31049344f85f89d5229b531c845836f99b08601f113bce036f9388f7b0f632de8140fe337e62a37f3566500a99934c2231b6cb9fd7584b8e672",
+    };
+
+    Wallet wallet;
+
+    @Setup
+    public void setUp() {
+        wallet = new Wallet("1001", new ApiClient());
+    }
+
+    @Benchmark
+    public AccountUpdateKey publicKey() {
+        return wallet.makeUncompressedKeyFormat(new KeyTypePublic(PUBLIC_KEYS[0]));
+    }
+
+    @Benchmark
+    public AccountUpdateKey multiSigKey() {
+        return wallet.makeUncompressedKeyFormat(multiSig());
+    }
+
+    @Benchmark
+    public AccountUpdateKey roleBasedKey() {
+        return wallet.makeUncompressedKeyFormat(new KeyTypeRoleBased(Arrays.<AccountUpdateKey>asList(
+                new KeyTypePublic(PUBLIC_KEYS[0]), multiSig(), new KeyTypePublic(PUBLIC_KEYS[2]))));
+    }
+
+    private static KeyTypeMultiSig multiSig() {
+        MultisigUpdateKey key = new MultisigUpdateKey().threshold(2L);
+        for(String publicKey : PUBLIC_KEYS) {
+            key.addWeightedKeysItem(new MultisigKey().publicKey(publicKey).weight(1L));
+        }
+        return new KeyTypeMultiSig(key);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client;
+
+import com.squareup.okhttp.Request;
+import org.openjdk.jmh.annotations.*;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ValueTransferTransactionRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the HTTP request of a KAS API call, which is done for every call before it is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiClientBenchmark {
+    static final String[] AUTH_NAMES = new String[] {"basic"};
+
+    ApiClient apiClient;
+    List<Pair> queryParams;
+    ValueTransferTransactionRequest body;
+
+    @Setup
+    public void setUp() {
+        apiClient = new ApiClient();
+        apiClient.setBasePath("https://wallet-api.klaytnapi.com");
+        apiClient.setUsername("accessKeyId");
+        apiClient.setPassword("secretAccessKey");
+
+        queryParams = new ArrayList<>();
+        queryParams.addAll(apiClient.parameterToPair("size", 100));
+        queryParams.addAll(apiClient.parameterToPair("cursor", "J9Ag6nV3ZP4DmeAPdakmkOrxnKX8lPY2XYpwGMePk8V1BZ0bjPzl3vA4eGmK5ryoVNrLmwdg2VYJWg1yLMWZ6jNW7QD9q3EqbaJyYN5dBAObyZ0wxPlmVdBlqEZ4KaML"));
+        queryParams.addAll(apiClient.parameterToPair("from-timestamp", 1602550000L));
+        queryParams.addAll(apiClient.parameterToPair("to-timestamp", 1602560000L));
+
+        body = new ValueTransferTransactionRequest()
+                .from("0x6a3edfad6d1126020d5369e9097db39281876c5d")
+                .to("0xd4c7ff6a6a1b2e3b8d1f1b2c6d7e1f2a3b4c5d6e")
+                .value("0x1")
+                .memo("memo")
+                .submit(true);
+    }
+
+    @Benchmark
+    public String buildUrl() {
+        return apiClient.buildUrl("/v2/account", queryParams, new ArrayList<Pair>());
+    }
+
+    @Benchmark
+    public Request buildGetRequest() throws ApiException {
+        return apiClient.buildRequest("/v2/account", "GET", new ArrayList<>(queryParams), new ArrayList<Pair>(), null, headers(), new HashMap<String, Object>(), AUTH_NAMES, null);
+    }
+
+    @Benchmark
+    public Request buildPostRequest() throws ApiException {
+        return apiClient.buildRequest("/v2/tx/value", "POST", new ArrayList<Pair>(), new ArrayList<Pair>(), body, headers(), new HashMap<String, Object>(), AUTH_NAMES, null);
+    }
+
+    private static Map<String, String> headers() {
+        // The header map is filled with the Authorization header by buildRequest(), so it is created for each call like the generated APIs do.
+        Map<String, String> headers = new HashMap<>();
+        headers.put("x-chain-id", "1001");
+        headers.put("Accept", "application/json");
+        headers.put("Content-Type", "application/json");
+        return headers;
+    }
+}
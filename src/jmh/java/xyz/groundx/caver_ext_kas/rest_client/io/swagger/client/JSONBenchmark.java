@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.groundx.caver_ext_kas.benchmark.Fixtures;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.PageableTransfers;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Accounts;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the deserialization of KAS responses.
+ * The `String` benchmarks follow ApiClient.deserialize() reading the whole body first, and the `Stream` ones read the body as a stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONBenchmark {
+    JSON json;
+
+    String pageableTransfers;
+    String accounts;
+    String transactionReceipt;
+
+    byte[] pageableTransfersBytes;
+
+    @Setup
+    public void setUp() {
+        json = new JSON();
+
+        pageableTransfers = Fixtures.read(Fixtures.PAGEABLE_TRANSFERS);
+        accounts = Fixtures.read(Fixtures.ACCOUNTS);
+        transactionReceipt = Fixtures.read(Fixtures.TRANSACTION_RECEIPT);
+
+        pageableTransfersBytes = Fixtures.readBytes(Fixtures.PAGEABLE_TRANSFERS);
+    }
+
+    @Benchmark
+    public PageableTransfers deserializePageableTransfersString() {
+        return json.deserialize(pageableTransfers, PageableTransfers.class);
+    }
+
+    @Benchmark
+    public PageableTransfers deserializePageableTransfersStream() {
+        return json.deserialize(new InputStreamReader(new ByteArrayInputStream(pageableTransfersBytes), StandardCharsets.UTF_8), PageableTransfers.class);
+    }
+
+    @Benchmark
+    public Accounts deserializeAccounts() {
+        return json.deserialize(accounts, Accounts.class);
+    }
+
+    @Benchmark
+    public TransactionReceipt deserializeTransactionReceipt() {
+        return json.deserialize(transactionReceipt, TransactionReceipt.class);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+import xyz.groundx.caver_ext_kas.benchmark.Fixtures;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.PageableTransfers;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Accounts;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated model TypeAdapters registered by JSON with the reflective adapters of Gson.
+ * `adapters=generated` uses new JSON().getGson(), and `adapters=reflective` uses a Gson built by JSON.createGson() only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelTypeAdapterBenchmark {
+    @Param({"generated", "reflective"})
+    String adapters;
+
+    Gson gson;
+
+    String pageableTransfers;
+    String accounts;
+    String transactionReceipt;
+
+    TransactionReceipt receipt;
+
+    @Setup
+    public void setUp() {
+        gson = adapters.equals("generated") ? new JSON().getGson() : JSON.createGson().create();
+
+        pageableTransfers = Fixtures.read(Fixtures.PAGEABLE_TRANSFERS);
+        accounts = Fixtures.read(Fixtures.ACCOUNTS);
+        transactionReceipt = Fixtures.read(Fixtures.TRANSACTION_RECEIPT);
+
+        receipt = gson.fromJson(transactionReceipt, TransactionReceipt.class);
+    }
+
+    @Benchmark
+    public PageableTransfers deserializePageableTransfers() {
+        return gson.fromJson(pageableTransfers, PageableTransfers.class);
+    }
+
+    @Benchmark
+    public Accounts deserializeAccounts() {
+        return gson.fromJson(accounts, Accounts.class);
+    }
+
+    @Benchmark
+    public TransactionReceipt deserializeTransactionReceipt() {
+        return gson.fromJson(transactionReceipt, TransactionReceipt.class);
+    }
+
+    @Benchmark
+    public String serializeTransactionReceipt() {
+        return gson.toJson(receipt);
+    }
+
+    /**
+     * Measures the creation of a Gson instance and the adapters of a response type, which is paid once per JSON instance.
+     * @return TypeAdapter
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 20)
+    public Object createAdapters() {
+        Gson created = adapters.equals("generated") ? new JSON().getGson() : JSON.createGson().create();
+        return created.getAdapter(TransactionReceipt.class);
+    }
+}
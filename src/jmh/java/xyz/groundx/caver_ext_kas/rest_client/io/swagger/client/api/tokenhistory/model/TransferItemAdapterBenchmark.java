@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.*;
+import xyz.groundx.caver_ext_kas.benchmark.Fixtures;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures TransferItemAdapter deserializing a single transfer item of each type,
+ * compared with reading the item as a JsonElement tree first to find its type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransferItemAdapterBenchmark {
+
+    @Param({"ft", "nft", "klay"})
+    String transferType;
+
+    Gson gson;
+    String item;
+
+    @Setup
+    public void setUp() {
+        gson = new JSON().getGson();
+
+        JsonArray items = new JsonParser().parse(Fixtures.read(Fixtures.PAGEABLE_TRANSFERS)).getAsJsonObject().getAsJsonArray("items");
+        for(JsonElement element : items) {
+            if(transferType.equals(element.getAsJsonObject().get("transferType").getAsString())) {
+                item = element.toString();
+                return;
+            }
+        }
+        throw new IllegalStateException("No " + transferType + " transfer in the fixture.");
+    }
+
+    @Benchmark
+    public AnyOfTransferArrayItems deserializeItem() {
+        return gson.fromJson(item, AnyOfTransferArrayItems.class);
+    }
+
+    @Benchmark
+    public AnyOfTransferArrayItems deserializeItemWithTree() {
+        JsonObject object = new JsonParser().parse(item).getAsJsonObject();
+        switch(object.get("transferType").getAsString()) {
+            case "ft":
+                return gson.fromJson(object, FtTransfer.class);
+            case "nft":
+                return gson.fromJson(object, NftTransfer.class);
+            case "klay":
+                return gson.fromJson(object, KlayTransfer.class);
+            default:
+                return null;
+        }
+    }
+}
@@ -19,28 +19,75 @@ package xyz.groundx.caver_ext_kas;
 import com.klaytn.caver.Caver;
 import com.klaytn.caver.rpc.RPC;
 import com.squareup.okhttp.Credentials;
+import okhttp3.OkHttpClient;
 import org.web3j.protocol.http.HttpService;
 import xyz.groundx.caver_ext_kas.kas.KAS;
+import xyz.groundx.caver_ext_kas.kas.KASTransport;
+import xyz.groundx.caver_ext_kas.kas.utils.BatchingHttpService;
+import xyz.groundx.caver_ext_kas.kas.utils.NodeResponseCache;
+import xyz.groundx.caver_ext_kas.kas.utils.KASRateLimiter;
 
 /**
  * Representing wrapping class that can use Klaytn API Service
  */
 public class CaverExtKAS extends Caver {
-    private static final String URL_NODE_API = "https://node-api.klaytnapi.com/v1/klaytn";
-    private static final String URL_ANCHOR_API = "https://anchor-api.klaytnapi.com";
-    private static final String URL_TH_API = "https://th-api.klaytnapi.com";
-    private static final String URL_WALLET_API = "https://wallet-api.klaytnapi.com";
+    static final String URL_NODE_API = "https://node-api.klaytnapi.com/v1/klaytn";
+    static final String URL_ANCHOR_API = "https://anchor-api.klaytnapi.com";
+    static final String URL_TH_API = "https://th-api.klaytnapi.com";
+    static final String URL_WALLET_API = "https://wallet-api.klaytnapi.com";
 
     /**
      * The KAS instance.
      */
     public KAS kas;
 
+    /**
+     * The transport shared by the Node API and all KAS API.
+     */
+    KASTransport transport;
+
+    /**
+     * The Authorization header of the Node API, computed when the credentials are set.
+     */
+    volatile String nodeAuthorization;
+
+    /**
+     * The URL and the chain id of the Node API. They are null if the Node API is not initialized.
+     */
+    String nodeUrl;
+    String nodeChainId;
+
+    /**
+     * The HttpService of the Node API.
+     */
+    HttpService nodeHttpService;
+
+    /**
+     * The batching window and size of the Node API. The window is negative if batching is disabled.
+     */
+    long nodeBatchWindowMillis = -1;
+    int nodeMaxBatchSize;
+
+    /**
+     * The cache of the immutable Node API results. It is null if the cache is disabled.
+     */
+    volatile NodeResponseCache nodeCache;
+
     /**
      * Creates a CaverExtKAS instance.
+     * It uses the default transport shared in the JVM.
      */
     public CaverExtKAS() {
-        this.kas = new KAS();
+        this(KASTransport.getDefault());
+    }
+
+    /**
+     * Creates a CaverExtKAS instance.
+     * @param transport The transport shared by the Node API and all KAS API.
+     */
+    public CaverExtKAS(KASTransport transport) {
+        this.transport = transport;
+        this.kas = new KAS(transport);
     }
 
     /**
@@ -111,11 +158,106 @@ public class CaverExtKAS extends Caver {
             url = url + "/v1/klaytn";
         }
 
-        HttpService httpService = new HttpService(url);
+        nodeAuthorization = Credentials.basic(accessKeyId, secretAccessKey);
+        nodeUrl = url;
+        nodeChainId = chainId;
+        this.rpc = new RPC(createNodeHttpService());
+    }
+
+    /**
+     * Sends the concurrent Node API calls in JSON-RPC batches.
+     * The calls made within `windowMillis` are sent in one HTTP request, and each caller gets its own response.
+     * If the Node API is already initialized, `rpc` is replaced with a new instance using the batching service.
+     * @param windowMillis The time a call waits for other calls.
+     * @param maxBatchSize The maximum number of calls in a batch.
+     */
+    public void enableNodeBatching(long windowMillis, int maxBatchSize) {
+        if(windowMillis < 0) {
+            throw new IllegalArgumentException("windowMillis must not be negative.");
+        }
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1.");
+        }
+
+        nodeBatchWindowMillis = windowMillis;
+        nodeMaxBatchSize = maxBatchSize;
+        if(nodeUrl != null) {
+            this.rpc = new RPC(createNodeHttpService());
+        }
+    }
+
+    /**
+     * Sends each Node API call in its own HTTP request.
+     * If the Node API is already initialized, `rpc` is replaced with a new instance.
+     */
+    public void disableNodeBatching() {
+        nodeBatchWindowMillis = -1;
+        if(nodeUrl != null) {
+            this.rpc = new RPC(createNodeHttpService());
+        }
+    }
+
+    /**
+     * Getter function for the HttpService of the Node API.
+     * It is a BatchingHttpService if batching is enabled. It can be used to send an explicit batch(BatchRequest) of web3j.
+     * @return HttpService. null if the Node API is not initialized.
+     */
+    public HttpService getNodeHttpService() {
+        return nodeHttpService;
+    }
+
+    /**
+     * Caches the Node API results that never change, e.g. blocks by hash and the receipts of mined transactions.
+     * It can be enabled before or after the Node API is initialized, and replaces the existing cache.
+     * @param maxEntries The maximum number of cached results.
+     * @param maxBytes The maximum approximate size of cached results in bytes.
+     * @param confirmations The number of blocks a block or a transaction must be below the latest block to be cached.
+     */
+    public void enableNodeCache(int maxEntries, long maxBytes, long confirmations) {
+        nodeCache = new NodeResponseCache(maxEntries, maxBytes, confirmations);
+    }
 
-        httpService.addHeader("Authorization", Credentials.basic(accessKeyId, secretAccessKey));
-        httpService.addHeader("x-chain-id", chainId);
-        this.rpc = new RPC(httpService);
+    /**
+     * Sends every Node API call to KAS and drops the cached results.
+     */
+    public void disableNodeCache() {
+        nodeCache = null;
+    }
+
+    /**
+     * Getter function for the cache of the Node API results.
+     * @return NodeResponseCache. null if the cache is disabled.
+     */
+    public NodeResponseCache getNodeCache() {
+        return nodeCache;
+    }
+
+    /**
+     * Replaces the credentials of the Node API and all initialized KAS API without re-initializing them.
+     * The Authorization header is computed once here, and the requests sent after this call use it.
+     * To rotate the keys without downtime, issue the new key pair, rotate to it and then revoke the old key pair.
+     * @param accessKeyId The access key provided by KAS console.
+     * @param secretAccessKey The secret key provided by KAS console.
+     */
+    public void rotateCredentials(String accessKeyId, String secretAccessKey) {
+        kas.rotateCredentials(accessKeyId, secretAccessKey);
+        nodeAuthorization = Credentials.basic(accessKeyId, secretAccessKey);
+    }
+
+    /**
+     * Applies the rate limiter to the Node API and all KAS API.
+     * @param rateLimiter The rate limiter. If null, the rate limiter is removed.
+     */
+    public void setRateLimiter(KASRateLimiter rateLimiter) {
+        kas.setRateLimiter(rateLimiter);
+    }
+
+    /**
+     * Getter function for the rate limiter applied to the Node API and all KAS API.
+     * @return KASRateLimiter
+     */
+    public KASRateLimiter getRateLimiter() {
+        return kas.getRateLimiter();
     }
 
     /**
@@ -250,6 +392,14 @@ public class CaverExtKAS extends Caver {
         kas.initTokenHistoryAPI(chainId, accessKeyId, secretAccessKey, url);
     }
 
+    /**
+     * Getter function for transport.
+     * @return KASTransport
+     */
+    public KASTransport getTransport() {
+        return transport;
+    }
+
     /**
      * Getter function for KAS instance.
      * @return KAS
@@ -265,4 +415,43 @@ public class CaverExtKAS extends Caver {
     public void setKas(KAS kas) {
         this.kas = kas;
     }
+
+    private HttpService createNodeHttpService() {
+        HttpService httpService = nodeBatchWindowMillis < 0
+                ? new HttpService(nodeUrl, createNodeHttpClient())
+                : new BatchingHttpService(nodeUrl, createNodeHttpClient(), nodeBatchWindowMillis, nodeMaxBatchSize);
+
+        httpService.addHeader("x-chain-id", nodeChainId);
+        nodeHttpService = httpService;
+        return httpService;
+    }
+
+    OkHttpClient createNodeHttpClient() {
+        // The Authorization header is set by an interceptor instead of HttpService.addHeader(), so it can be replaced while requests are sent.
+        // The rate limiter and the cache are looked up per request, so they can be set before or after the Node API is initialized.
+        // The cache comes first, so a call served from it does not take a permit of the rate limiter.
+        return transport.getNodeHttpClient().newBuilder()
+                .addInterceptor(chain -> {
+                    NodeResponseCache cache = nodeCache;
+                    if(cache == null) {
+                        return chain.proceed(chain.request());
+                    }
+                    return cache.intercept(chain);
+                })
+                .addInterceptor(chain -> {
+                    String authorization = nodeAuthorization;
+                    if(authorization == null) {
+                        return chain.proceed(chain.request());
+                    }
+                    return chain.proceed(chain.request().newBuilder().header("Authorization", authorization).build());
+                })
+                .addInterceptor(chain -> {
+                    KASRateLimiter rateLimiter = kas.getRateLimiter();
+                    if(rateLimiter == null) {
+                        return chain.proceed(chain.request());
+                    }
+                    return rateLimiter.nodeInterceptor().intercept(chain);
+                })
+                .build();
+    }
 }
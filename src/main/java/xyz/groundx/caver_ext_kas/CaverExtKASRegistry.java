@@ -0,0 +1,463 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas;
+
+import com.klaytn.caver.rpc.RPC;
+import xyz.groundx.caver_ext_kas.kas.KASTransport;
+import xyz.groundx.caver_ext_kas.kas.anchor.Anchor;
+import xyz.groundx.caver_ext_kas.kas.tokenhistory.TokenHistory;
+import xyz.groundx.caver_ext_kas.kas.wallet.Wallet;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Representing a registry of CaverExtKAS instances of many tenants, keyed by the chain id and the credentials.
+ * A tenant is created on its first lookup, and its Wallet, Token History, Anchor and Node API are initialized on their first use,
+ * so a tenant using only the Wallet API does not create the ApiClients of the other APIs.
+ * All tenants share the transport, i.e. the connection pools, the dispatcher threads and the JSON serializer.
+ * The registry is bounded by `maxTenants`, evicting the least recently used tenant, and a tenant not looked up for `idleTimeoutMillis` is evicted too.
+ * An evicted tenant is not closed, so the requests in progress complete, and a later lookup creates a new tenant.
+ *
+ * <pre>
+ * CaverExtKASRegistry registry = new CaverExtKASRegistry(KASTransport.getDefault(), 1000, 10 * 60 * 1000);
+ * Account account = registry.get(8217, accessKeyId, secretAccessKey).getWallet().createAccount();
+ * </pre>
+ */
+public class CaverExtKASRegistry {
+    private final KASTransport transport;
+    private final int maxTenants;
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+
+    private volatile String nodeUrl = CaverExtKAS.URL_NODE_API;
+    private volatile String anchorUrl = CaverExtKAS.URL_ANCHOR_API;
+    private volatile String tokenHistoryUrl = CaverExtKAS.URL_TH_API;
+    private volatile String walletUrl = CaverExtKAS.URL_WALLET_API;
+    private volatile Consumer<CaverExtKAS> customizer;
+
+    private final LinkedHashMap<TenantKey, Tenant> tenants = new LinkedHashMap<>(16, 0.75f, true);
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a CaverExtKASRegistry instance.
+     * @param transport The transport shared by all tenants.
+     * @param maxTenants The maximum number of tenants. The least recently used tenant is evicted when it is exceeded.
+     * @param idleTimeoutMillis The time after the last lookup a tenant is evicted. If 0, a tenant is evicted only by maxTenants.
+     */
+    public CaverExtKASRegistry(KASTransport transport, int maxTenants, long idleTimeoutMillis) {
+        this(transport, maxTenants, idleTimeoutMillis, System::nanoTime);
+    }
+
+    CaverExtKASRegistry(KASTransport transport, int maxTenants, long idleTimeoutMillis, LongSupplier clock) {
+        if(transport == null) {
+            throw new IllegalArgumentException("transport is required.");
+        }
+        if(maxTenants < 1) {
+            throw new IllegalArgumentException("maxTenants must be at least 1.");
+        }
+        if(idleTimeoutMillis < 0) {
+            throw new IllegalArgumentException("idleTimeoutMillis must not be negative.");
+        }
+
+        this.transport = transport;
+        this.maxTenants = maxTenants;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the tenant of the chain id and the credentials, creating it if it does not exist.
+     * @param chainId The Klaytn network chain id.
+     * @param accessKeyId The access key provided by KAS console.
+     * @param secretAccessKey The secret key provided by KAS console.
+     * @return Tenant
+     */
+    public Tenant get(int chainId, String accessKeyId, String secretAccessKey) {
+        return get(String.valueOf(chainId), accessKeyId, secretAccessKey);
+    }
+
+    /**
+     * Returns the tenant of the chain id and the credentials, creating it if it does not exist.
+     * A different secret key of the same access key is a different tenant, so a wrong secret key cannot replace the credentials of a tenant.
+     * @param chainId The Klaytn network chain id.
+     * @param accessKeyId The access key provided by KAS console.
+     * @param secretAccessKey The secret key provided by KAS console.
+     * @return Tenant
+     */
+    public Tenant get(String chainId, String accessKeyId, String secretAccessKey) {
+        if(chainId == null || accessKeyId == null || secretAccessKey == null) {
+            throw new IllegalArgumentException("chainId, accessKeyId and secretAccessKey are required.");
+        }
+
+        TenantKey key = new TenantKey(chainId, accessKeyId, secretAccessKey);
+        synchronized (this) {
+            long now = clock.getAsLong();
+            evictIdle(now);
+
+            Tenant tenant = tenants.get(key);
+            if(tenant != null) {
+                hitCount++;
+                tenant.lastAccessNanos = now;
+                return tenant;
+            }
+        }
+
+        // The tenant is created outside the lock, so a slow customizer does not block the lookups of the other tenants.
+        Tenant created = new Tenant(this, key);
+        synchronized (this) {
+            long now = clock.getAsLong();
+            Tenant tenant = tenants.get(key);
+            if(tenant != null) {
+                // Another thread created the same tenant first, so the one created here is dropped.
+                hitCount++;
+            } else {
+                missCount++;
+                tenant = created;
+                tenants.put(key, tenant);
+
+                Iterator<Tenant> eldest = tenants.values().iterator();
+                while(tenants.size() > maxTenants && eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                    evictionCount++;
+                }
+            }
+            tenant.lastAccessNanos = now;
+            return tenant;
+        }
+    }
+
+    /**
+     * Removes the tenant of the chain id and the credentials.
+     * @param chainId The Klaytn network chain id.
+     * @param accessKeyId The access key provided by KAS console.
+     * @param secretAccessKey The secret key provided by KAS console.
+     */
+    public synchronized void invalidate(String chainId, String accessKeyId, String secretAccessKey) {
+        tenants.remove(new TenantKey(chainId, accessKeyId, secretAccessKey));
+    }
+
+    /**
+     * Removes all tenants.
+     */
+    public synchronized void invalidateAll() {
+        tenants.clear();
+    }
+
+    /**
+     * Returns the number of tenants, evicting the idle ones first.
+     * @return int
+     */
+    public synchronized int size() {
+        evictIdle(clock.getAsLong());
+        return tenants.size();
+    }
+
+    /**
+     * Returns the number of lookups that found an existing tenant.
+     * @return long
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that created a tenant.
+     * @return long
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of tenants evicted because they were idle or the registry exceeded maxTenants.
+     * @return long
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Getter function for transport.
+     * @return KASTransport
+     */
+    public KASTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Getter function for maxTenants.
+     * @return int
+     */
+    public int getMaxTenants() {
+        return maxTenants;
+    }
+
+    /**
+     * Getter function for nodeUrl.
+     * @return String
+     */
+    public String getNodeUrl() {
+        return nodeUrl;
+    }
+
+    /**
+     * Setter function for nodeUrl.
+     * It applies to the Node API initialized after this call.
+     * @param nodeUrl An URL to request Node API.
+     * @return CaverExtKASRegistry
+     */
+    public CaverExtKASRegistry setNodeUrl(String nodeUrl) {
+        this.nodeUrl = nodeUrl;
+        return this;
+    }
+
+    /**
+     * Getter function for anchorUrl.
+     * @return String
+     */
+    public String getAnchorUrl() {
+        return anchorUrl;
+    }
+
+    /**
+     * Setter function for anchorUrl.
+     * It applies to the Anchor API initialized after this call.
+     * @param anchorUrl An URL to request Anchor API.
+     * @return CaverExtKASRegistry
+     */
+    public CaverExtKASRegistry setAnchorUrl(String anchorUrl) {
+        this.anchorUrl = anchorUrl;
+        return this;
+    }
+
+    /**
+     * Getter function for tokenHistoryUrl.
+     * @return String
+     */
+    public String getTokenHistoryUrl() {
+        return tokenHistoryUrl;
+    }
+
+    /**
+     * Setter function for tokenHistoryUrl.
+     * It applies to the Token History API initialized after this call.
+     * @param tokenHistoryUrl An URL to request Token History API.
+     * @return CaverExtKASRegistry
+     */
+    public CaverExtKASRegistry setTokenHistoryUrl(String tokenHistoryUrl) {
+        this.tokenHistoryUrl = tokenHistoryUrl;
+        return this;
+    }
+
+    /**
+     * Getter function for walletUrl.
+     * @return String
+     */
+    public String getWalletUrl() {
+        return walletUrl;
+    }
+
+    /**
+     * Setter function for walletUrl.
+     * It applies to the Wallet API initialized after this call.
+     * @param walletUrl An URL to request Wallet API.
+     * @return CaverExtKASRegistry
+     */
+    public CaverExtKASRegistry setWalletUrl(String walletUrl) {
+        this.walletUrl = walletUrl;
+        return this;
+    }
+
+    /**
+     * Getter function for customizer.
+     * @return Consumer
+     */
+    public Consumer<CaverExtKAS> getCustomizer() {
+        return customizer;
+    }
+
+    /**
+     * Setter function for customizer.
+     * The customizer is called with the CaverExtKAS instance of each tenant created after this call,
+     * e.g. to set the rate limiter of the tenant or the retry policy and the metrics listener shared by all tenants.
+     * It is called without holding the lock of the registry. If threads create the same tenant at the same time,
+     * it may be called for each of them, and only one of the customized instances is kept.
+     * @param customizer The function called when a tenant is created.
+     * @return CaverExtKASRegistry
+     */
+    public CaverExtKASRegistry setCustomizer(Consumer<CaverExtKAS> customizer) {
+        this.customizer = customizer;
+        return this;
+    }
+
+    private void evictIdle(long now) {
+        if(idleTimeoutNanos == 0) {
+            return;
+        }
+
+        // The tenants are in the order of access, so the idle ones are at the head.
+        Iterator<Tenant> eldest = tenants.values().iterator();
+        while(eldest.hasNext() && now - eldest.next().lastAccessNanos >= idleTimeoutNanos) {
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Representing a tenant of CaverExtKASRegistry.
+     * Each API is initialized on its first use, and it is safe to use a tenant from multiple threads.
+     */
+    public static class Tenant {
+        private final TenantKey key;
+        private final CaverExtKAS caver;
+        private final String nodeUrl;
+        private final String anchorUrl;
+        private final String tokenHistoryUrl;
+        private final String walletUrl;
+        private boolean nodeInitialized;
+
+        volatile long lastAccessNanos;
+
+        Tenant(CaverExtKASRegistry registry, TenantKey key) {
+            this.key = key;
+            this.caver = new CaverExtKAS(registry.transport);
+            this.nodeUrl = registry.nodeUrl;
+            this.anchorUrl = registry.anchorUrl;
+            this.tokenHistoryUrl = registry.tokenHistoryUrl;
+            this.walletUrl = registry.walletUrl;
+
+            Consumer<CaverExtKAS> customizer = registry.customizer;
+            if(customizer != null) {
+                customizer.accept(caver);
+            }
+        }
+
+        /**
+         * Returns the Wallet API of the tenant, initializing it on the first call.
+         * @return Wallet
+         */
+        public synchronized Wallet getWallet() {
+            if(caver.kas.getWallet() == null) {
+                caver.initWalletAPI(key.chainId, key.accessKeyId, key.secretAccessKey, walletUrl);
+            }
+            return caver.kas.getWallet();
+        }
+
+        /**
+         * Returns the Token History API of the tenant, initializing it on the first call.
+         * @return TokenHistory
+         */
+        public synchronized TokenHistory getTokenHistory() {
+            if(caver.kas.getTokenHistory() == null) {
+                caver.initTokenHistoryAPI(key.chainId, key.accessKeyId, key.secretAccessKey, tokenHistoryUrl);
+            }
+            return caver.kas.getTokenHistory();
+        }
+
+        /**
+         * Returns the Anchor API of the tenant, initializing it on the first call.
+         * @return Anchor
+         */
+        public synchronized Anchor getAnchor() {
+            if(caver.kas.getAnchor() == null) {
+                caver.initAnchorAPI(key.chainId, key.accessKeyId, key.secretAccessKey, anchorUrl);
+            }
+            return caver.kas.getAnchor();
+        }
+
+        /**
+         * Returns the Node API of the tenant, initializing it on the first call.
+         * @return RPC
+         */
+        public synchronized RPC getRpc() {
+            // The customizer may have set the credentials of the Node API, so whether it is initialized is tracked here.
+            if(!nodeInitialized) {
+                caver.initNodeAPI(key.chainId, key.accessKeyId, key.secretAccessKey, nodeUrl);
+                nodeInitialized = true;
+            }
+            return caver.rpc;
+        }
+
+        /**
+         * Returns the CaverExtKAS instance of the tenant.
+         * Only the APIs already used through this tenant are initialized in it.
+         * @return CaverExtKAS
+         */
+        public CaverExtKAS getCaver() {
+            return caver;
+        }
+
+        /**
+         * Getter function for chainId.
+         * @return String
+         */
+        public String getChainId() {
+            return key.chainId;
+        }
+
+        /**
+         * Getter function for accessKeyId.
+         * @return String
+         */
+        public String getAccessKeyId() {
+            return key.accessKeyId;
+        }
+    }
+
+    static final class TenantKey {
+        final String chainId;
+        final String accessKeyId;
+        final String secretAccessKey;
+
+        TenantKey(String chainId, String accessKeyId, String secretAccessKey) {
+            this.chainId = chainId;
+            this.accessKeyId = accessKeyId;
+            this.secretAccessKey = secretAccessKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof TenantKey)) {
+                return false;
+            }
+            TenantKey that = (TenantKey)o;
+            return Objects.equals(chainId, that.chainId) && Objects.equals(accessKeyId, that.accessKeyId) && Objects.equals(secretAccessKey, that.secretAccessKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(chainId, accessKeyId, secretAccessKey);
+        }
+
+        @Override
+        public String toString() {
+            // The secret key is left out not to be logged.
+            return chainId + "/" + accessKeyId;
+        }
+    }
+}
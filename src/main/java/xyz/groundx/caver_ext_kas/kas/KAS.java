@@ -18,6 +18,11 @@ package xyz.groundx.caver_ext_kas.kas;
 
 import xyz.groundx.caver_ext_kas.kas.anchor.Anchor;
 import xyz.groundx.caver_ext_kas.kas.tokenhistory.TokenHistory;
+import xyz.groundx.caver_ext_kas.kas.utils.KASMetrics;
+import xyz.groundx.caver_ext_kas.kas.utils.KASMetricsListener;
+import xyz.groundx.caver_ext_kas.kas.utils.KASRateLimiter;
+import xyz.groundx.caver_ext_kas.kas.utils.KASRetryPolicy;
+import xyz.groundx.caver_ext_kas.kas.utils.LazyApiClient;
 import xyz.groundx.caver_ext_kas.kas.wallet.Wallet;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
 
@@ -40,24 +45,52 @@ public class KAS {
      */
     public Wallet wallet;
 
+    /**
+     * The transport used by all KAS API instances.
+     */
+    KASTransport transport;
+
+    /**
+     * The rate limiter applied to all KAS API instances.
+     */
+    KASRateLimiter rateLimiter;
+
+    /**
+     * The retry policy applied to all KAS API instances.
+     */
+    KASRetryPolicy retryPolicy;
+
+    /**
+     * The metrics listener applied to all KAS API instances.
+     */
+    KASMetricsListener metricsListener;
+
     /**
      * Creates a KAS instance.
+     * It uses the default transport shared in the JVM.
      */
     public KAS() {
+        this(KASTransport.getDefault());
+    }
+
+    /**
+     * Creates a KAS instance.
+     * @param transport The transport used by all KAS API instances.
+     */
+    public KAS(KASTransport transport) {
+        this.transport = transport;
     }
 
     /**
      * Initialize Anchor API.
+     * The Api client is created when the API is used first.
      * @param chainId The Klaytn network chain id.
      * @param accessKeyId The access key provided by KAS console.
      * @param secretAccessKey The secret key provided by KAS console.
      * @param url An URL to request Anchor API.
      */
     public KAS initAnchorAPI(String chainId, String accessKeyId, String secretAccessKey, String url) {
-        ApiClient apiClient = new ApiClient();
-        apiClient.setBasePath(url);
-        apiClient.setUsername(accessKeyId);
-        apiClient.setPassword(secretAccessKey);
+        LazyApiClient apiClient = new LazyApiClient(() -> createApiClient(url, accessKeyId, secretAccessKey, KASRateLimiter.Service.ANCHOR));
 
         setAnchor(new Anchor(chainId, apiClient));
         return this;
@@ -65,16 +98,14 @@ public class KAS {
 
     /**
      * Initialize Wallet API.
+     * The Api client is created when the API is used first.
      * @param chainId The Klaytn network chain id.
      * @param accessKeyId The access key provided by KAS console.
      * @param secretAccessKey The secret key provided by KAS console.
      * @param url An URL to request Wallet API.
      */
     public KAS initWalletAPI(String chainId, String accessKeyId, String secretAccessKey, String url) {
-        ApiClient apiClient = new ApiClient();
-        apiClient.setBasePath(url);
-        apiClient.setUsername(accessKeyId);
-        apiClient.setPassword(secretAccessKey);
+        LazyApiClient apiClient = new LazyApiClient(() -> createApiClient(url, accessKeyId, secretAccessKey, KASRateLimiter.Service.WALLET));
 
         setWallet(new Wallet(chainId, apiClient));
         return this;
@@ -82,22 +113,110 @@ public class KAS {
 
     /**
      * Initialize Token History API.
+     * The Api client is created when the API is used first.
      * @param chainId The Klaytn network chain id.
      * @param accessKeyId The access key provided by KAS console.
      * @param secretAccessKey The secret key provided by KAS console.
      * @param url An URL to request Token History API.
      */
     public KAS initTokenHistoryAPI(String chainId, String accessKeyId, String secretAccessKey, String url) {
-        ApiClient apiClient = new ApiClient();
-        apiClient.setBasePath(url);
-        apiClient.setUsername(accessKeyId);
-        apiClient.setPassword(secretAccessKey);
+        LazyApiClient apiClient = new LazyApiClient(() -> createApiClient(url, accessKeyId, secretAccessKey, KASRateLimiter.Service.TOKEN_HISTORY));
 
         setTokenHistory(new TokenHistory(chainId, apiClient));
 
         return this;
     }
 
+    /**
+     * Getter function for transport.
+     * @return KASTransport
+     */
+    public KASTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Getter function for rateLimiter.
+     * @return KASRateLimiter
+     */
+    public KASRateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Applies the rate limiter to the initialized KAS API instances and the ones initialized later.
+     * @param rateLimiter The rate limiter. If null, the rate limiter is removed.
+     * @return KAS
+     */
+    public KAS setRateLimiter(KASRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        applyInterceptors();
+        return this;
+    }
+
+    /**
+     * Getter function for retryPolicy.
+     * @return KASRetryPolicy
+     */
+    public KASRetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Applies the retry policy to the initialized KAS API instances and the ones initialized later.
+     * @param retryPolicy The retry policy. If null, the retry policy is removed.
+     * @return KAS
+     */
+    public KAS setRetryPolicy(KASRetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        applyInterceptors();
+        return this;
+    }
+
+    /**
+     * Getter function for metricsListener.
+     * @return KASMetricsListener
+     */
+    public KASMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Reports the requests of the initialized KAS API instances and the ones initialized later to the metrics listener.
+     * @param metricsListener The metrics listener(e.g. KASMetrics). If null, the metrics listener is removed.
+     * @return KAS
+     */
+    public KAS setMetricsListener(KASMetricsListener metricsListener) {
+        this.metricsListener = metricsListener;
+        applyInterceptors();
+        return this;
+    }
+
+    /**
+     * Replaces the credentials of the initialized KAS API instances without re-initializing them.
+     * Each API instance switches to the new credentials at once, and the requests already sent or being retried keep the old ones.
+     * To rotate the keys without downtime, issue the new key pair, rotate to it and then revoke the old key pair.
+     * @param accessKeyId The access key provided by KAS console.
+     * @param secretAccessKey The secret key provided by KAS console.
+     * @return KAS
+     */
+    public KAS rotateCredentials(String accessKeyId, String secretAccessKey) {
+        if(accessKeyId == null || secretAccessKey == null) {
+            throw new IllegalArgumentException("accessKeyId and secretAccessKey are required.");
+        }
+
+        if(anchor != null) {
+            anchor.getLazyApiClient().configure(apiClient -> apiClient.setCredentials(accessKeyId, secretAccessKey));
+        }
+        if(wallet != null) {
+            wallet.getLazyApiClient().configure(apiClient -> apiClient.setCredentials(accessKeyId, secretAccessKey));
+        }
+        if(tokenHistory != null) {
+            tokenHistory.getLazyApiClient().configure(apiClient -> apiClient.setCredentials(accessKeyId, secretAccessKey));
+        }
+        return this;
+    }
+
     /**
      * Getter function for anchor.
      * @return Anchor API
@@ -145,4 +264,46 @@ public class KAS {
     public void setWallet(Wallet wallet) {
         this.wallet = wallet;
     }
+
+    private void applyInterceptors() {
+        // An ApiClient not created yet gets the interceptors when it is created.
+        if(anchor != null) {
+            anchor.getLazyApiClient().ifCreated(apiClient -> applyInterceptors(apiClient, KASRateLimiter.Service.ANCHOR));
+        }
+        if(wallet != null) {
+            wallet.getLazyApiClient().ifCreated(apiClient -> applyInterceptors(apiClient, KASRateLimiter.Service.WALLET));
+        }
+        if(tokenHistory != null) {
+            tokenHistory.getLazyApiClient().ifCreated(apiClient -> applyInterceptors(apiClient, KASRateLimiter.Service.TOKEN_HISTORY));
+        }
+    }
+
+    private ApiClient createApiClient(String url, String accessKeyId, String secretAccessKey, KASRateLimiter.Service service) {
+        ApiClient apiClient = transport.createApiClient();
+        apiClient.setBasePath(url);
+        apiClient.setCredentials(accessKeyId, secretAccessKey);
+        applyInterceptors(apiClient, service);
+        return apiClient;
+    }
+
+    private void applyInterceptors(ApiClient apiClient, KASRateLimiter.Service service) {
+        if(rateLimiter == null) {
+            KASRateLimiter.uninstall(apiClient);
+        } else {
+            rateLimiter.install(apiClient, service);
+        }
+
+        if(retryPolicy == null) {
+            KASRetryPolicy.uninstall(apiClient);
+        } else {
+            retryPolicy.install(apiClient);
+        }
+
+        // The metrics interceptor is installed last to be placed before the retry interceptor.
+        if(metricsListener == null) {
+            KASMetrics.uninstall(apiClient);
+        } else {
+            KASMetrics.install(apiClient, service, metricsListener);
+        }
+    }
 }
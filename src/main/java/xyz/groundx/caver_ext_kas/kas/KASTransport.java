@@ -0,0 +1,408 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas;
+
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.Dispatcher;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Response;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Representing a transport shared by every KAS service(Anchor, Wallet, Token History) and the Node API.
+ * All ApiClient instances created from a transport use the same connection pool, dispatcher thread pool and JSON serializer.
+ * The Node API HttpService uses a separate connection pool(it runs on OkHttp 3), but its calls run on the same thread pool.
+ */
+public class KASTransport {
+    /**
+     * The default maximum number of idle connections kept in the connection pool.
+     */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+    /**
+     * The default time in milliseconds to keep an idle connection alive.
+     */
+    public static final long DEFAULT_KEEP_ALIVE_DURATION = 5 * 60 * 1000L;
+
+    /**
+     * The default maximum number of requests executing concurrently.
+     */
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+
+    /**
+     * The default maximum number of requests executing concurrently per host.
+     */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+
+    private static KASTransport defaultTransport;
+
+    private final ExecutorService executorService;
+
+    private final ConnectionPool connectionPool;
+    private final Dispatcher dispatcher;
+    private final OkHttpClient httpClient;
+
+    private final okhttp3.ConnectionPool nodeConnectionPool;
+    private final okhttp3.Dispatcher nodeDispatcher;
+    private final okhttp3.OkHttpClient nodeHttpClient;
+
+    private final JSON json;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong reusedRequestCount = new AtomicLong();
+    private final AtomicLong openedConnectionCount = new AtomicLong();
+    private final Set<Object> seenConnections = Collections.newSetFromMap(new WeakHashMap<Object, Boolean>());
+
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a KASTransport instance with default settings.
+     */
+    public KASTransport() {
+        this(DEFAULT_MAX_IDLE_CONNECTIONS, DEFAULT_KEEP_ALIVE_DURATION);
+    }
+
+    /**
+     * Creates a KASTransport instance.
+     * @param maxIdleConnections The maximum number of idle connections kept in the connection pool.
+     * @param keepAliveDuration The time in milliseconds to keep an idle connection alive.
+     */
+    public KASTransport(int maxIdleConnections, long keepAliveDuration) {
+        this(maxIdleConnections, keepAliveDuration, DEFAULT_MAX_REQUESTS, DEFAULT_MAX_REQUESTS_PER_HOST);
+    }
+
+    /**
+     * Creates a KASTransport instance.
+     * @param maxIdleConnections The maximum number of idle connections kept in the connection pool.
+     * @param keepAliveDuration The time in milliseconds to keep an idle connection alive.
+     * @param maxRequests The maximum number of requests executing concurrently.
+     * @param maxRequestsPerHost The maximum number of requests executing concurrently per host.
+     */
+    public KASTransport(int maxIdleConnections, long keepAliveDuration, int maxRequests, int maxRequestsPerHost) {
+        if(maxIdleConnections < 0) {
+            throw new IllegalArgumentException("maxIdleConnections must not be negative.");
+        }
+        if(keepAliveDuration <= 0) {
+            throw new IllegalArgumentException("keepAliveDuration must be positive.");
+        }
+
+        this.executorService = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<Runnable>(), new DaemonThreadFactory("KAS-Dispatcher"));
+
+        this.connectionPool = new ConnectionPool(maxIdleConnections, keepAliveDuration, TimeUnit.MILLISECONDS);
+        this.dispatcher = new Dispatcher(executorService);
+        this.httpClient = new OkHttpClient();
+        this.httpClient.setConnectionPool(connectionPool);
+        this.httpClient.setDispatcher(dispatcher);
+        this.httpClient.networkInterceptors().add(new Interceptor() {
+            @Override
+            public Response intercept(Chain chain) throws IOException {
+                recordConnection(chain.connection());
+                return chain.proceed(chain.request());
+            }
+        });
+
+        this.nodeConnectionPool = new okhttp3.ConnectionPool(maxIdleConnections, keepAliveDuration, TimeUnit.MILLISECONDS);
+        this.nodeDispatcher = new okhttp3.Dispatcher(executorService);
+        this.nodeHttpClient = new okhttp3.OkHttpClient.Builder()
+                .connectionPool(nodeConnectionPool)
+                .dispatcher(nodeDispatcher)
+                .addNetworkInterceptor(chain -> {
+                    recordConnection(chain.connection());
+                    return chain.proceed(chain.request());
+                })
+                .build();
+
+        this.json = new JSON();
+
+        setMaxRequests(maxRequests);
+        setMaxRequestsPerHost(maxRequestsPerHost);
+    }
+
+    /**
+     * Returns the transport shared by KAS and CaverExtKAS instances created without an explicit transport.
+     * @return KASTransport
+     */
+    public static synchronized KASTransport getDefault() {
+        if(defaultTransport == null || defaultTransport.isShutdown()) {
+            defaultTransport = new KASTransport();
+        }
+        return defaultTransport;
+    }
+
+    /**
+     * Creates an ApiClient that sends requests through this transport.
+     * Each ApiClient gets its own copy of the HTTP client settings(timeouts, interceptors),
+     * but shares the connection pool, dispatcher and JSON serializer of this transport.
+     * Changing the JSON settings of the ApiClient(e.g. setDateFormat()) gives it its own copy of the serializer,
+     * so it does not affect the other clients.
+     * @return ApiClient
+     */
+    public ApiClient createApiClient() {
+        checkNotShutdown();
+        return new ApiClient(httpClient.clone(), json);
+    }
+
+    /**
+     * Getter function for the HTTP client used by KAS services.
+     * @return OkHttpClient
+     */
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Getter function for the HTTP client used by the Node API.
+     * @return okhttp3.OkHttpClient
+     */
+    public okhttp3.OkHttpClient getNodeHttpClient() {
+        return nodeHttpClient;
+    }
+
+    /**
+     * Getter function for the shared JSON serializer.
+     * It is used by every ApiClient of this transport not having customized its serializer, so changing it affects all of them.
+     * @return JSON
+     */
+    public JSON getJSON() {
+        return json;
+    }
+
+    /**
+     * Getter function for the maximum number of requests executing concurrently.
+     * @return int
+     */
+    public int getMaxRequests() {
+        return dispatcher.getMaxRequests();
+    }
+
+    /**
+     * Setter function for the maximum number of requests executing concurrently.
+     * @param maxRequests The maximum number of requests.
+     * @return KASTransport
+     */
+    public KASTransport setMaxRequests(int maxRequests) {
+        dispatcher.setMaxRequests(maxRequests);
+        nodeDispatcher.setMaxRequests(maxRequests);
+        return this;
+    }
+
+    /**
+     * Getter function for the maximum number of requests executing concurrently per host.
+     * @return int
+     */
+    public int getMaxRequestsPerHost() {
+        return dispatcher.getMaxRequestsPerHost();
+    }
+
+    /**
+     * Setter function for the maximum number of requests executing concurrently per host.
+     * @param maxRequestsPerHost The maximum number of requests per host.
+     * @return KASTransport
+     */
+    public KASTransport setMaxRequestsPerHost(int maxRequestsPerHost) {
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        nodeDispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+        return this;
+    }
+
+    /**
+     * Returns a snapshot of connection usage of this transport.
+     * @return Stats
+     */
+    public Stats getStats() {
+        return new Stats(
+                requestCount.get(),
+                reusedRequestCount.get(),
+                openedConnectionCount.get(),
+                connectionPool.getConnectionCount() + nodeConnectionPool.connectionCount(),
+                connectionPool.getIdleConnectionCount() + nodeConnectionPool.idleConnectionCount(),
+                dispatcher.getRunningCallCount() + nodeDispatcher.runningCallsCount(),
+                dispatcher.getQueuedCallCount() + nodeDispatcher.queuedCallsCount()
+        );
+    }
+
+    /**
+     * Checks whether this transport is shut down.
+     * @return boolean
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Shuts down this transport.
+     * Queued calls are not executed anymore, and all idle connections are closed.
+     * ApiClient instances created from this transport cannot be used after shutting down.
+     */
+    public void shutdown() {
+        shutdown = true;
+        executorService.shutdown();
+        connectionPool.evictAll();
+        nodeConnectionPool.evictAll();
+    }
+
+    private void recordConnection(Object connection) {
+        requestCount.incrementAndGet();
+        if(connection == null) {
+            return;
+        }
+        synchronized (seenConnections) {
+            if(seenConnections.add(connection)) {
+                openedConnectionCount.incrementAndGet();
+            } else {
+                reusedRequestCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void checkNotShutdown() {
+        if(shutdown) {
+            throw new IllegalStateException("The transport is already shut down.");
+        }
+    }
+
+    /**
+     * Representing a snapshot of connection usage.
+     */
+    public static class Stats {
+        private final long requestCount;
+        private final long reusedRequestCount;
+        private final long openedConnectionCount;
+        private final int pooledConnectionCount;
+        private final int idleConnectionCount;
+        private final int runningCallCount;
+        private final int queuedCallCount;
+
+        Stats(long requestCount, long reusedRequestCount, long openedConnectionCount, int pooledConnectionCount, int idleConnectionCount, int runningCallCount, int queuedCallCount) {
+            this.requestCount = requestCount;
+            this.reusedRequestCount = reusedRequestCount;
+            this.openedConnectionCount = openedConnectionCount;
+            this.pooledConnectionCount = pooledConnectionCount;
+            this.idleConnectionCount = idleConnectionCount;
+            this.runningCallCount = runningCallCount;
+            this.queuedCallCount = queuedCallCount;
+        }
+
+        /**
+         * Getter function for the number of requests sent over the network.
+         * @return long
+         */
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        /**
+         * Getter function for the number of requests sent over an already used connection.
+         * @return long
+         */
+        public long getReusedRequestCount() {
+            return reusedRequestCount;
+        }
+
+        /**
+         * Getter function for the number of connections opened.
+         * @return long
+         */
+        public long getOpenedConnectionCount() {
+            return openedConnectionCount;
+        }
+
+        /**
+         * Getter function for the number of connections in the connection pools.
+         * @return int
+         */
+        public int getPooledConnectionCount() {
+            return pooledConnectionCount;
+        }
+
+        /**
+         * Getter function for the number of idle connections in the connection pools.
+         * @return int
+         */
+        public int getIdleConnectionCount() {
+            return idleConnectionCount;
+        }
+
+        /**
+         * Getter function for the number of asynchronous calls currently running.
+         * @return int
+         */
+        public int getRunningCallCount() {
+            return runningCallCount;
+        }
+
+        /**
+         * Getter function for the number of asynchronous calls waiting to run.
+         * @return int
+         */
+        public int getQueuedCallCount() {
+            return queuedCallCount;
+        }
+
+        /**
+         * Returns the ratio of requests sent over an already used connection.
+         * @return double
+         */
+        public double getReuseRatio() {
+            return requestCount == 0 ? 0 : (double)reusedRequestCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "requestCount=" + requestCount +
+                    ", reusedRequestCount=" + reusedRequestCount +
+                    ", openedConnectionCount=" + openedConnectionCount +
+                    ", pooledConnectionCount=" + pooledConnectionCount +
+                    ", idleConnectionCount=" + idleConnectionCount +
+                    ", runningCallCount=" + runningCallCount +
+                    ", queuedCallCount=" + queuedCallCount +
+                    '}';
+        }
+    }
+
+    static class DaemonThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
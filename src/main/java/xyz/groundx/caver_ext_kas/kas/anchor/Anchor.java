@@ -17,6 +17,9 @@
 package xyz.groundx.caver_ext_kas.kas.anchor;
 
 import com.squareup.okhttp.Call;
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.kas.utils.LazyApiClient;
+import xyz.groundx.caver_ext_kas.kas.utils.PageIterator;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
@@ -27,6 +30,7 @@ import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.
 
 import java.security.InvalidParameterException;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Representing an wrapping class tha connects Anchor APi.
@@ -36,27 +40,41 @@ public class Anchor {
     /**
      * Anchor API rest-client object.
      */
-    DataAnchoringTransactionApi dataAnchoringTransactionApi;
+    volatile DataAnchoringTransactionApi dataAnchoringTransactionApi;
 
     /**
      * Operator API rest-client object.
      */
-    OperatorApi operatorApi;
+    volatile OperatorApi operatorApi;
 
     /**
      * Klaytn network id.
      */
     String chainId;
 
+    /**
+     * The Api client for connection with KAS. It is created when an API is used first.
+     */
+    LazyApiClient apiClient;
+
     /**
      * Creates an AnchorAPI instance
      * @param chainId A Klaytn network chain id.
      * @param anchorApiClient The Api client for connecting with KAS.
      */
     public Anchor(String chainId, ApiClient anchorApiClient) {
+        this(chainId, LazyApiClient.of(anchorApiClient));
+    }
+
+    /**
+     * Creates an AnchorAPI instance.
+     * The Api client and the rest-client objects are created when they are used first.
+     * @param chainId A Klaytn network chain id.
+     * @param anchorApiClient The Api client for connecting with KAS.
+     */
+    public Anchor(String chainId, LazyApiClient anchorApiClient) {
         setChainId(chainId);
-        setDataAnchoringTransactionApi(new DataAnchoringTransactionApi(anchorApiClient));
-        setOperatorApi(new OperatorApi(anchorApiClient));
+        this.apiClient = anchorApiClient;
     }
 
     /**
@@ -118,7 +136,7 @@ public class Anchor {
      * @throws ApiException
      */
     public AnchorTransactions getAnchoringTransactionList(String operatorId, AnchorQueryOptions queryParams) throws ApiException {
-        return dataAnchoringTransactionApi.retrieveAnchorBlock(getChainId(), operatorId, queryParams.getSize(), queryParams.getCursor() , queryParams.getFromTimestamp(), queryParams.getToTimestamp());
+        return getDataAnchoringTransactionApi().retrieveAnchorBlock(getChainId(), operatorId, queryParams.getSize(), queryParams.getCursor() , queryParams.getFromTimestamp(), queryParams.getToTimestamp());
     }
 
     /**
@@ -144,7 +162,7 @@ public class Anchor {
      * @throws ApiException
      */
     public Call getAnchoringTransactionListAsync(String operatorId, AnchorQueryOptions queryParams, ApiCallback<AnchorTransactions> callback) throws ApiException {
-        return dataAnchoringTransactionApi.retrieveAnchorBlockAsync(getChainId(), operatorId, queryParams.getSize(), queryParams.getCursor() , queryParams.getFromTimestamp(), queryParams.getToTimestamp(), callback);
+        return getDataAnchoringTransactionApi().retrieveAnchorBlockAsync(getChainId(), operatorId, queryParams.getSize(), queryParams.getCursor() , queryParams.getFromTimestamp(), queryParams.getToTimestamp(), callback);
     }
 
     /**
@@ -156,7 +174,7 @@ public class Anchor {
      * @throws ApiException
      */
     public AnchorTransactionDetail getAnchoringTransactionByTxHash(String operatorId, String txHash) throws ApiException {
-        return dataAnchoringTransactionApi.getAnchorBlockByTx(getChainId(), operatorId, txHash);
+        return getDataAnchoringTransactionApi().getAnchorBlockByTx(getChainId(), operatorId, txHash);
     }
 
     /**
@@ -169,7 +187,7 @@ public class Anchor {
      * @throws ApiException
      */
     public Call getAnchoringTransactionByTxHashAsync(String operatorId, String txHash, ApiCallback<AnchorTransactionDetail> callback) throws ApiException {
-        return dataAnchoringTransactionApi.getAnchorBlockByTxAsync(getChainId(), operatorId, txHash, callback);
+        return getDataAnchoringTransactionApi().getAnchorBlockByTxAsync(getChainId(), operatorId, txHash, callback);
     }
 
     /**
@@ -181,7 +199,7 @@ public class Anchor {
      * @throws ApiException
      */
     public AnchorTransactionDetail getAnchoringTransactionByPayloadId(String operatorId, String payloadId) throws ApiException {
-        return dataAnchoringTransactionApi.getAnchorBlockByPayloadID(getChainId(), operatorId, payloadId);
+        return getDataAnchoringTransactionApi().getAnchorBlockByPayloadID(getChainId(), operatorId, payloadId);
     }
 
     /**
@@ -194,7 +212,7 @@ public class Anchor {
      * @throws ApiException
      */
     public Call getAnchoringTransactionByPayloadIdAsync(String operatorId, String payloadId, ApiCallback<AnchorTransactionDetail> callback) throws ApiException {
-        return dataAnchoringTransactionApi.getAnchorBlockByPayloadIDAsync(getChainId(), operatorId, payloadId, callback);
+        return getDataAnchoringTransactionApi().getAnchorBlockByPayloadIDAsync(getChainId(), operatorId, payloadId, callback);
     }
 
     /**
@@ -266,11 +284,100 @@ public class Anchor {
         return getOperatorApi().getOperatorAsync(chainId, operatorId, callback);
     }
 
+    /**
+     * Returns a wrapper of this Anchor API that returns a CompletableFuture for each request.
+     * The returned futures are completed on the HTTP dispatcher thread.
+     * @return AnchorAsync
+     */
+    public AnchorAsync async() {
+        return async(null);
+    }
+
+    /**
+     * Returns a wrapper of this Anchor API that returns a CompletableFuture for each request.
+     * @param completionExecutor The executor used to complete the returned futures.
+     * @return AnchorAsync
+     */
+    public AnchorAsync async(Executor completionExecutor) {
+        return new AnchorAsync(this, completionExecutor);
+    }
+
+    /**
+     * Iterates over all anchoring transactions of a specific operator.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v1/operator/{operatorId}/tx
+     * @param operatorId The operator address.
+     * @param options Filters required when retrieving data. `size`, `fromTimestamp`, `toTimestamp` and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<AnchorTransactions, AnchorTransaction> iterateAnchoringTransactionList(String operatorId, AnchorQueryOptions options) {
+        return iterateAnchoringTransactionList(operatorId, options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all anchoring transactions of a specific operator.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v1/operator/{operatorId}/tx
+     * @param operatorId The operator address.
+     * @param options Filters required when retrieving data. `size`, `fromTimestamp`, `toTimestamp` and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<AnchorTransactions, AnchorTransaction> iterateAnchoringTransactionList(String operatorId, AnchorQueryOptions options, int maxPrefetchPages) {
+        AnchorQueryOptions queryOptions = options == null ? new AnchorQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getAnchoringTransactionListAsync(operatorId, queryOptions.copyWithCursor(cursor), callback)),
+                AnchorTransactions::getItems, AnchorTransactions::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Iterates over all operators.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v1/operator
+     * @param options Filters required when retrieving data. `size`, `fromTimestamp`, `toTimestamp` and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<Operators, Operator> iterateOperatorList(AnchorQueryOptions options) {
+        return iterateOperatorList(options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all operators.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v1/operator
+     * @param options Filters required when retrieving data. `size`, `fromTimestamp`, `toTimestamp` and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<Operators, Operator> iterateOperatorList(AnchorQueryOptions options, int maxPrefetchPages) {
+        AnchorQueryOptions queryOptions = options == null ? new AnchorQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getOperatorListAsync(queryOptions.copyWithCursor(cursor), callback)),
+                Operators::getItems, Operators::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Getter function for apiClient.
+     * @return LazyApiClient
+     */
+    public LazyApiClient getLazyApiClient() {
+        return apiClient;
+    }
+
     /**
      * Getter function for dataAnchoringTransactionApi.
      * @return DataAnchoringTransactionApi
      */
     public DataAnchoringTransactionApi getDataAnchoringTransactionApi() {
+        DataAnchoringTransactionApi dataAnchoringTransactionApi = this.dataAnchoringTransactionApi;
+        if(dataAnchoringTransactionApi == null) {
+            synchronized (this) {
+                if(this.dataAnchoringTransactionApi == null) {
+                    this.dataAnchoringTransactionApi = new DataAnchoringTransactionApi(apiClient.get());
+                }
+                dataAnchoringTransactionApi = this.dataAnchoringTransactionApi;
+            }
+        }
         return dataAnchoringTransactionApi;
     }
 
@@ -279,6 +386,15 @@ public class Anchor {
      * @return OperatorApi
      */
     public OperatorApi getOperatorApi() {
+        OperatorApi operatorApi = this.operatorApi;
+        if(operatorApi == null) {
+            synchronized (this) {
+                if(this.operatorApi == null) {
+                    this.operatorApi = new OperatorApi(apiClient.get());
+                }
+                operatorApi = this.operatorApi;
+            }
+        }
         return operatorApi;
     }
 
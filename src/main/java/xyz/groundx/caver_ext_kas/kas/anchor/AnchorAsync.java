@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.anchor;
+
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Representing a Anchor API wrapper that returns a CompletableFuture for each request.
+ * Cancelling a returned future cancels the underlying HTTP call.
+ */
+public class AnchorAsync {
+    /**
+     * The Anchor API instance to send requests.
+     */
+    Anchor anchor;
+
+    /**
+     * The executor used to complete the returned futures.
+     * If it is null, the futures are completed on the HTTP dispatcher thread.
+     */
+    Executor completionExecutor;
+
+    /**
+     * Creates a AnchorAsync instance.
+     * @param anchor The Anchor API instance to send requests.
+     * @param completionExecutor The executor used to complete the returned futures. If null, the futures are completed on the HTTP dispatcher thread.
+     */
+    public AnchorAsync(Anchor anchor, Executor completionExecutor) {
+        this.anchor = anchor;
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Sends ChainDataAnchoring transaction to the Klaytn.
+     * POST /v1/anchor
+     * @param operatorId Operator address to send transaction.
+     * @param payload Data to be anchored to the Klaytn.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AnchorBlockStatus> sendAnchoringData(String operatorId, AnchorBlockPayload payload) {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.sendAnchoringDataAsync(operatorId, payload, callback));
+    }
+
+    /**
+     * Gets anchoring transaction list generated by a given operator.
+     * GET /v1/operator/{operator_id}/tx
+     * @param operatorId An operator address to query the anchoring transaction list.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AnchorTransactions> getAnchoringTransactionList(String operatorId) {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.getAnchoringTransactionListAsync(operatorId, callback));
+    }
+
+    /**
+     * Gets anchoring transaction list generated by a given operator.
+     * GET /v1/operator/{operator_id}/tx
+     * @param operatorId An operator address to query the anchoring transaction list.
+     * @param queryParams A query options object.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AnchorTransactions> getAnchoringTransactionList(String operatorId, AnchorQueryOptions queryParams) {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.getAnchoringTransactionListAsync(operatorId, queryParams, callback));
+    }
+
+    /**
+     * Get anchoring transaction with the given transaction hash.
+     * GET /v1/operator/{operator_id}/tx/{tx_hash}
+     * @param operatorId An operator address to query the anchoring transaction.
+     * @param txHash A transaction hash used for getting anchoring transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AnchorTransactionDetail> getAnchoringTransactionByTxHash(String operatorId, String txHash) {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.getAnchoringTransactionByTxHashAsync(operatorId, txHash, callback));
+    }
+
+    /**
+     * Get anchoring transaction with the given payload id.
+     * GET /v1/operator/{operator_id}/payload/{payload_id}
+     * @param operatorId An operator address to query the anchoring transaction.
+     * @param payloadId A payload id used for getting anchoring transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AnchorTransactionDetail> getAnchoringTransactionByPayloadId(String operatorId, String payloadId) {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.getAnchoringTransactionByPayloadIdAsync(operatorId, payloadId, callback));
+    }
+
+    /**
+     * Get operator list.
+     * GET /v1/operator
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Operators> getOperatorList() {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.getOperatorListAsync(callback));
+    }
+
+    /**
+     * Get operator list.
+     * GET /v1/operator
+     * @param queryParams A query options object.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Operators> getOperatorList(AnchorQueryOptions queryParams) {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.getOperatorListAsync(queryParams, callback));
+    }
+
+    /**
+     * Get operator information.
+     * GET /v1/operator/{operator_id}
+     * @param operatorId An operator address.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Operator> getOperator(String operatorId) {
+        return ApiCallFuture.of(completionExecutor, callback -> anchor.getOperatorAsync(operatorId, callback));
+    }
+
+    /**
+     * Getter function for the executor used to complete the returned futures.
+     * @return Executor
+     */
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+}
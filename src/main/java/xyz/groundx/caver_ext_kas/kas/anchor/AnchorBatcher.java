@@ -0,0 +1,471 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.anchor;
+
+import org.web3j.utils.Numeric;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockPayload;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockStatus;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorTransactionDetail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Representing a batcher that anchors many payloads with a single anchoring transaction.
+ * The added payloads are collected until `maxBatchSize` payloads are added or `maxDelayMillis` passes after the first one,
+ * and then one payload carrying the Merkle root of the batch is sent to KAS.
+ * Each caller gets an AnchorInclusionProof proving that its payload is included in the anchored root,
+ * completed after the hash of the anchoring transaction is found.
+ * If the transaction is not found within `transactionTimeoutMillis`, the future is completed exceptionally with
+ * AnchorTransactionTimeoutException, which carries the proof without the transaction hash.
+ *
+ * The leaf of a payload is SHA-256(0x00 || JSON of the payload with the keys of all nested objects sorted), see hashPayload().
+ * The anchored payload has the following fields.
+ * <pre>
+ * {
+ *     "id": "{merkleRoot}-{timestamp}",
+ *     "merkleRoot": "0x...",
+ *     "leafCount": 256,
+ *     "hashAlgorithm": "sha256"
+ * }
+ * </pre>
+ *
+ * <pre>
+ * AnchorBatcher batcher = new AnchorBatcher(caver.kas.anchor, operatorId).setMaxBatchSize(1000);
+ * CompletableFuture&lt;AnchorInclusionProof&gt; proof = batcher.add(payload);
+ * </pre>
+ */
+public class AnchorBatcher implements AutoCloseable {
+
+    /**
+     * The default maximum number of payloads in a batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    /**
+     * The default time a payload waits for other payloads before the batch is sent.
+     */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 1_000;
+
+    /**
+     * The default interval of looking up the anchoring transaction of a batch.
+     */
+    public static final long DEFAULT_TRANSACTION_POLL_INTERVAL_MILLIS = 1_000;
+
+    /**
+     * The default time to look up the anchoring transaction of a batch.
+     */
+    public static final long DEFAULT_TRANSACTION_TIMEOUT_MILLIS = 60_000;
+
+    private final Anchor anchor;
+    private final String operatorId;
+    private final JSON json;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private volatile long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+    private volatile long transactionPollIntervalMillis = DEFAULT_TRANSACTION_POLL_INTERVAL_MILLIS;
+    private volatile long transactionTimeoutMillis = DEFAULT_TRANSACTION_TIMEOUT_MILLIS;
+
+    private List<Item> batch = new ArrayList<>();
+    private ScheduledFuture<?> flushTask;
+    private int outstandingBatches;
+    private boolean closed;
+
+    /**
+     * Creates an AnchorBatcher instance.
+     * @param anchor The Anchor API used to send the batches.
+     * @param operatorId The operator address sending the anchoring transactions.
+     */
+    public AnchorBatcher(Anchor anchor, String operatorId) {
+        this.anchor = anchor;
+        this.operatorId = operatorId;
+        this.json = anchor.getDataAnchoringTransactionApi().getApiClient().getJSON();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KAS-AnchorBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds a payload to the current batch.
+     * The returned future is completed exceptionally with the ApiException if the batch could not be anchored.
+     * @param payload The data to be anchored.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AnchorInclusionProof> add(AnchorBlockPayload payload) {
+        if(payload == null) {
+            throw new IllegalArgumentException("payload is required.");
+        }
+
+        Item item = new Item(hashPayload(payload));
+        List<Item> full = null;
+        synchronized (this) {
+            if(closed) {
+                throw new IllegalStateException("The anchor batcher is already closed.");
+            }
+
+            batch.add(item);
+            if(batch.size() >= maxBatchSize) {
+                full = takeBatch();
+            } else if(batch.size() == 1) {
+                flushTask = scheduler.schedule(this::flush, maxDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if(full != null) {
+            send(full);
+        }
+        return item.future;
+    }
+
+    /**
+     * Sends the current batch without waiting for more payloads.
+     */
+    public void flush() {
+        List<Item> items;
+        synchronized (this) {
+            items = takeBatch();
+        }
+        if(items != null) {
+            send(items);
+        }
+    }
+
+    /**
+     * Sends the current batch and stops accepting payloads.
+     * The batches already sent are still completed.
+     */
+    @Override
+    public void close() {
+        List<Item> items;
+        synchronized (this) {
+            if(closed) {
+                return;
+            }
+            closed = true;
+            items = takeBatch();
+            if(items == null && outstandingBatches == 0) {
+                scheduler.shutdown();
+            }
+        }
+        if(items != null) {
+            send(items);
+        }
+    }
+
+    /**
+     * Returns the hash of the payload used as a leaf of the Merkle tree.
+     * It is SHA-256(0x00 || UTF-8 JSON of the payload with the keys of all nested objects sorted).
+     * @param payload The payload.
+     * @return String
+     */
+    public String hashPayload(AnchorBlockPayload payload) {
+        String serialized = json.serialize(canonicalize(payload));
+        return Numeric.toHexString(MerkleTree.hashLeaf(serialized.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the number of payloads waiting in the current batch.
+     * @return int
+     */
+    public synchronized int getPendingCount() {
+        return batch.size();
+    }
+
+    /**
+     * Setter function for maxBatchSize.
+     * @param maxBatchSize The maximum number of payloads in a batch.
+     * @return AnchorBatcher
+     */
+    public AnchorBatcher setMaxBatchSize(int maxBatchSize) {
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1.");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Setter function for maxDelayMillis.
+     * @param maxDelayMillis The time a payload waits for other payloads before the batch is sent.
+     * @return AnchorBatcher
+     */
+    public AnchorBatcher setMaxDelayMillis(long maxDelayMillis) {
+        if(maxDelayMillis < 0) {
+            throw new IllegalArgumentException("maxDelayMillis must not be negative.");
+        }
+        this.maxDelayMillis = maxDelayMillis;
+        return this;
+    }
+
+    /**
+     * Setter function for transactionPollIntervalMillis.
+     * @param transactionPollIntervalMillis The interval of looking up the anchoring transaction of a batch.
+     * @return AnchorBatcher
+     */
+    public AnchorBatcher setTransactionPollIntervalMillis(long transactionPollIntervalMillis) {
+        if(transactionPollIntervalMillis < 0) {
+            throw new IllegalArgumentException("transactionPollIntervalMillis must not be negative.");
+        }
+        this.transactionPollIntervalMillis = transactionPollIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Setter function for transactionTimeoutMillis.
+     * @param transactionTimeoutMillis The time to look up the anchoring transaction of a batch.
+     *                                 If 0, the proofs are completed without the transaction hash as soon as KAS accepts the batch.
+     *                                 Otherwise, the proofs are completed exceptionally with AnchorTransactionTimeoutException when it passes.
+     * @return AnchorBatcher
+     */
+    public AnchorBatcher setTransactionTimeoutMillis(long transactionTimeoutMillis) {
+        if(transactionTimeoutMillis < 0) {
+            throw new IllegalArgumentException("transactionTimeoutMillis must not be negative.");
+        }
+        this.transactionTimeoutMillis = transactionTimeoutMillis;
+        return this;
+    }
+
+    /**
+     * Getter function for operatorId.
+     * @return String
+     */
+    public String getOperatorId() {
+        return operatorId;
+    }
+
+    /**
+     * Getter function for maxBatchSize.
+     * @return int
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Getter function for maxDelayMillis.
+     * @return long
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * Getter function for transactionPollIntervalMillis.
+     * @return long
+     */
+    public long getTransactionPollIntervalMillis() {
+        return transactionPollIntervalMillis;
+    }
+
+    /**
+     * Getter function for transactionTimeoutMillis.
+     * @return long
+     */
+    public long getTransactionTimeoutMillis() {
+        return transactionTimeoutMillis;
+    }
+
+    /**
+     * Returns a copy of the value whose maps, including the ones nested in maps, collections and arrays, have their keys sorted.
+     */
+    static Object canonicalize(Object value) {
+        if(value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for(Map.Entry<?, ?> entry : ((Map<?, ?>)value).entrySet()) {
+                sorted.put(String.valueOf(entry.getKey()), canonicalize(entry.getValue()));
+            }
+            return sorted;
+        }
+        if(value instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+            for(Object element : (Collection<?>)value) {
+                list.add(canonicalize(element));
+            }
+            return list;
+        }
+        if(value instanceof Object[]) {
+            List<Object> list = new ArrayList<>();
+            for(Object element : (Object[])value) {
+                list.add(canonicalize(element));
+            }
+            return list;
+        }
+        return value;
+    }
+
+    private List<Item> takeBatch() {
+        if(flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        if(batch.isEmpty()) {
+            return null;
+        }
+
+        List<Item> items = batch;
+        batch = new ArrayList<>();
+        outstandingBatches++;
+        return items;
+    }
+
+    private void send(List<Item> items) {
+        List<byte[]> leaves = new ArrayList<>(items.size());
+        for(Item item : items) {
+            leaves.add(Numeric.hexStringToByteArray(item.leafHash));
+        }
+        MerkleTree tree = new MerkleTree(leaves);
+        String root = Numeric.toHexString(tree.root());
+
+        AnchorBlockPayload payload = new AnchorBlockPayload();
+        payload.put("id", root + "-" + System.currentTimeMillis());
+        payload.put("merkleRoot", root);
+        payload.put("leafCount", items.size());
+        payload.put("hashAlgorithm", "sha256");
+        String batchPayloadId = (String)payload.get("id");
+
+        List<AnchorInclusionProof> proofs = new ArrayList<>(items.size());
+        for(int i = 0; i < items.size(); i++) {
+            List<String> siblings = new ArrayList<>();
+            for(byte[] sibling : tree.proof(i)) {
+                siblings.add(Numeric.toHexString(sibling));
+            }
+            proofs.add(new AnchorInclusionProof(items.get(i).leafHash, i, items.size(), siblings, root, batchPayloadId, null));
+        }
+
+        try {
+            anchor.sendAnchoringDataAsync(operatorId, payload, new Callback<AnchorBlockStatus>() {
+                @Override
+                public void onSuccess(AnchorBlockStatus result, int statusCode, Map<String, List<String>> responseHeaders) {
+                    long timeout = transactionTimeoutMillis;
+                    if(timeout == 0) {
+                        complete(items, proofs, null);
+                    } else {
+                        scheduleLookup(items, proofs, batchPayloadId, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+                    }
+                }
+
+                @Override
+                public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                    fail(items, e);
+                }
+            });
+        } catch (ApiException | RuntimeException e) {
+            fail(items, e);
+        }
+    }
+
+    private void scheduleLookup(List<Item> items, List<AnchorInclusionProof> proofs, String batchPayloadId, long deadlineNanos) {
+        scheduler.schedule(() -> lookUpTransaction(items, proofs, batchPayloadId, deadlineNanos), transactionPollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void lookUpTransaction(List<Item> items, List<AnchorInclusionProof> proofs, String batchPayloadId, long deadlineNanos) {
+        Callback<AnchorTransactionDetail> callback = new Callback<AnchorTransactionDetail>() {
+            @Override
+            public void onSuccess(AnchorTransactionDetail result, int statusCode, Map<String, List<String>> responseHeaders) {
+                if(result != null && result.getTransactionHash() != null) {
+                    complete(items, proofs, result.getTransactionHash());
+                } else {
+                    retry();
+                }
+            }
+
+            @Override
+            public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                // The anchoring transaction is not found until KAS sends it.
+                retry();
+            }
+
+            private void retry() {
+                if(System.nanoTime() - deadlineNanos < 0) {
+                    scheduleLookup(items, proofs, batchPayloadId, deadlineNanos);
+                } else {
+                    timeOut(items, proofs);
+                }
+            }
+        };
+
+        try {
+            anchor.getAnchoringTransactionByPayloadIdAsync(operatorId, batchPayloadId, callback);
+        } catch (ApiException | RuntimeException e) {
+            callback.onFailure(e instanceof ApiException ? (ApiException)e : new ApiException(e), 0, null);
+        }
+    }
+
+    private void complete(List<Item> items, List<AnchorInclusionProof> proofs, String transactionHash) {
+        onBatchDone();
+        for(int i = 0; i < items.size(); i++) {
+            items.get(i).future.complete(proofs.get(i).withTransactionHash(transactionHash));
+        }
+    }
+
+    private void timeOut(List<Item> items, List<AnchorInclusionProof> proofs) {
+        onBatchDone();
+        for(int i = 0; i < items.size(); i++) {
+            AnchorInclusionProof proof = proofs.get(i);
+            items.get(i).future.completeExceptionally(new AnchorTransactionTimeoutException(
+                    "The anchoring transaction of " + proof.getBatchPayloadId() + " is not found within the timeout.", proof));
+        }
+    }
+
+    private void fail(List<Item> items, Exception e) {
+        onBatchDone();
+        for(Item item : items) {
+            item.future.completeExceptionally(e);
+        }
+    }
+
+    private synchronized void onBatchDone() {
+        outstandingBatches--;
+        if(closed && outstandingBatches == 0 && batch.isEmpty()) {
+            scheduler.shutdown();
+        }
+    }
+
+    private static class Item {
+        final String leafHash;
+        final CompletableFuture<AnchorInclusionProof> future = new CompletableFuture<>();
+
+        Item(String leafHash) {
+            this.leafHash = leafHash;
+        }
+    }
+
+    private abstract static class Callback<T> implements ApiCallback<T> {
+        @Override
+        public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+        }
+
+        @Override
+        public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+        }
+    }
+}
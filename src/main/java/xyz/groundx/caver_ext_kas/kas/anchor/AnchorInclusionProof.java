@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.anchor;
+
+import org.web3j.utils.Numeric;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representing the proof that a payload is included in an anchoring batch sent by AnchorBatcher.
+ * The Merkle root is anchored as the payload of the batch, so the payload is verified by recomputing the root from
+ * its leaf hash and the sibling hashes, and comparing it with the root anchored by the transaction.
+ */
+public class AnchorInclusionProof {
+    private final String leafHash;
+    private final int leafIndex;
+    private final int leafCount;
+    private final List<String> siblings;
+    private final String merkleRoot;
+    private final String batchPayloadId;
+    private final String transactionHash;
+
+    /**
+     * Creates an AnchorInclusionProof instance.
+     * @param leafHash The hash of the payload.
+     * @param leafIndex The position of the payload in the batch.
+     * @param leafCount The number of payloads in the batch.
+     * @param siblings The sibling hashes from the leaf up to the root.
+     * @param merkleRoot The Merkle root anchored by the batch.
+     * @param batchPayloadId The id of the payload anchoring the batch.
+     * @param transactionHash The hash of the anchoring transaction. It can be null if the transaction is not found yet.
+     */
+    public AnchorInclusionProof(String leafHash, int leafIndex, int leafCount, List<String> siblings, String merkleRoot, String batchPayloadId, String transactionHash) {
+        this.leafHash = leafHash;
+        this.leafIndex = leafIndex;
+        this.leafCount = leafCount;
+        this.siblings = Collections.unmodifiableList(new ArrayList<>(siblings));
+        this.merkleRoot = merkleRoot;
+        this.batchPayloadId = batchPayloadId;
+        this.transactionHash = transactionHash;
+    }
+
+    /**
+     * Checks whether the leaf hash and the sibling hashes lead to the Merkle root of this proof.
+     * @return boolean
+     */
+    public boolean verify() {
+        return verify(merkleRoot);
+    }
+
+    /**
+     * Checks whether the leaf hash and the sibling hashes lead to the given Merkle root.
+     * Use it with the root read from the anchored payload of the transaction.
+     * @param merkleRoot The Merkle root to compare with.
+     * @return boolean
+     */
+    public boolean verify(String merkleRoot) {
+        List<byte[]> siblingHashes = new ArrayList<>(siblings.size());
+        for(String sibling : siblings) {
+            siblingHashes.add(Numeric.hexStringToByteArray(sibling));
+        }
+
+        byte[] root = MerkleTree.computeRoot(Numeric.hexStringToByteArray(leafHash), leafIndex, leafCount, siblingHashes);
+        return root != null && Arrays.equals(root, Numeric.hexStringToByteArray(merkleRoot));
+    }
+
+    AnchorInclusionProof withTransactionHash(String transactionHash) {
+        return new AnchorInclusionProof(leafHash, leafIndex, leafCount, siblings, merkleRoot, batchPayloadId, transactionHash);
+    }
+
+    /**
+     * Getter function for leafHash.
+     * @return String
+     */
+    public String getLeafHash() {
+        return leafHash;
+    }
+
+    /**
+     * Getter function for leafIndex.
+     * @return int
+     */
+    public int getLeafIndex() {
+        return leafIndex;
+    }
+
+    /**
+     * Getter function for leafCount.
+     * @return int
+     */
+    public int getLeafCount() {
+        return leafCount;
+    }
+
+    /**
+     * Getter function for siblings.
+     * @return List
+     */
+    public List<String> getSiblings() {
+        return siblings;
+    }
+
+    /**
+     * Getter function for merkleRoot.
+     * @return String
+     */
+    public String getMerkleRoot() {
+        return merkleRoot;
+    }
+
+    /**
+     * Getter function for batchPayloadId.
+     * @return String
+     */
+    public String getBatchPayloadId() {
+        return batchPayloadId;
+    }
+
+    /**
+     * Getter function for transactionHash.
+     * @return String
+     */
+    public String getTransactionHash() {
+        return transactionHash;
+    }
+
+    @Override
+    public String toString() {
+        return "AnchorInclusionProof{" +
+                "leafHash='" + leafHash + '\'' +
+                ", leafIndex=" + leafIndex +
+                ", leafCount=" + leafCount +
+                ", siblings=" + siblings +
+                ", merkleRoot='" + merkleRoot + '\'' +
+                ", batchPayloadId='" + batchPayloadId + '\'' +
+                ", transactionHash='" + transactionHash + '\'' +
+                '}';
+    }
+}
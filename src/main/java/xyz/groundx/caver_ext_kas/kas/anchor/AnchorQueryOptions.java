@@ -144,4 +144,18 @@ public class AnchorQueryOptions {
     public void setCursor(String cursor) {
         this.cursor = cursor;
     }
+
+    /**
+     * Returns a copy of this options having the given cursor.
+     * @param cursor Information of the last retrieved cursor.
+     * @return AnchorQueryOptions
+     */
+    AnchorQueryOptions copyWithCursor(String cursor) {
+        AnchorQueryOptions options = new AnchorQueryOptions();
+        options.size = size;
+        options.fromTimestamp = fromTimestamp;
+        options.toTimestamp = toTimestamp;
+        options.cursor = cursor;
+        return options;
+    }
 }
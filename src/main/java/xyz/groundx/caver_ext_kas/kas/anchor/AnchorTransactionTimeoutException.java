@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.anchor;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Thrown when the anchoring transaction of a batch is not found within `transactionTimeoutMillis` of AnchorBatcher.
+ * KAS accepted the batch, so the proof is still valid for the anchored root, but it is not confirmed by a transaction yet.
+ */
+public class AnchorTransactionTimeoutException extends TimeoutException {
+    private static final long serialVersionUID = 1L;
+
+    private final AnchorInclusionProof proof;
+
+    /**
+     * Creates an AnchorTransactionTimeoutException instance.
+     * @param message The detail message.
+     * @param proof The inclusion proof without the transaction hash.
+     */
+    public AnchorTransactionTimeoutException(String message, AnchorInclusionProof proof) {
+        super(message);
+        this.proof = proof;
+    }
+
+    /**
+     * Getter function for proof.
+     * @return AnchorInclusionProof
+     */
+    public AnchorInclusionProof getProof() {
+        return proof;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.anchor;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Representing a binary SHA-256 Merkle tree over the payloads of an anchoring batch.
+ * A leaf is SHA-256(0x00 || data) and an inner node is SHA-256(0x01 || left || right), so a leaf cannot be passed off as an inner node.
+ * The last node of a level having an odd number of nodes is moved up to the next level unchanged.
+ */
+class MerkleTree {
+    static final byte LEAF_PREFIX = 0x00;
+    static final byte NODE_PREFIX = 0x01;
+
+    private final List<byte[][]> levels = new ArrayList<>();
+
+    MerkleTree(List<byte[]> leafHashes) {
+        if(leafHashes.isEmpty()) {
+            throw new IllegalArgumentException("A Merkle tree needs at least one leaf.");
+        }
+
+        byte[][] level = leafHashes.toArray(new byte[0][]);
+        levels.add(level);
+        while(level.length > 1) {
+            byte[][] parent = new byte[(level.length + 1) / 2][];
+            for(int i = 0; i < parent.length; i++) {
+                int left = i * 2;
+                parent[i] = left + 1 < level.length ? hashNode(level[left], level[left + 1]) : level[left];
+            }
+            levels.add(parent);
+            level = parent;
+        }
+    }
+
+    byte[] root() {
+        return levels.get(levels.size() - 1)[0];
+    }
+
+    int leafCount() {
+        return levels.get(0).length;
+    }
+
+    /**
+     * Returns the sibling hashes from the leaf up to the root. A level where the node has no sibling is skipped.
+     */
+    List<byte[]> proof(int index) {
+        List<byte[]> siblings = new ArrayList<>();
+        for(int depth = 0; depth < levels.size() - 1; depth++) {
+            byte[][] level = levels.get(depth);
+            int sibling = index ^ 1;
+            if(sibling < level.length) {
+                siblings.add(level[sibling]);
+            }
+            index /= 2;
+        }
+        return siblings;
+    }
+
+    static byte[] computeRoot(byte[] leafHash, int index, int leafCount, List<byte[]> siblings) {
+        if(index < 0 || index >= leafCount) {
+            throw new IllegalArgumentException("index is out of the range of the leaves.");
+        }
+
+        byte[] hash = leafHash;
+        int next = 0;
+        for(int width = leafCount; width > 1; width = (width + 1) / 2) {
+            int sibling = index ^ 1;
+            if(sibling < width) {
+                if(next >= siblings.size()) {
+                    return null;
+                }
+                byte[] siblingHash = siblings.get(next++);
+                hash = (index & 1) == 0 ? hashNode(hash, siblingHash) : hashNode(siblingHash, hash);
+            }
+            index /= 2;
+        }
+        return next == siblings.size() ? hash : null;
+    }
+
+    static byte[] hashLeaf(byte[] data) {
+        MessageDigest digest = sha256();
+        digest.update(LEAF_PREFIX);
+        return digest.digest(data);
+    }
+
+    static byte[] hashNode(byte[] left, byte[] right) {
+        MessageDigest digest = sha256();
+        digest.update(NODE_PREFIX);
+        digest.update(left);
+        return digest.digest(right);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
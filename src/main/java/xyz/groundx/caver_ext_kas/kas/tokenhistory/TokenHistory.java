@@ -18,6 +18,10 @@ package xyz.groundx.caver_ext_kas.kas.tokenhistory;
 
 import com.squareup.okhttp.Call;
 import xyz.groundx.caver_ext_kas.kas.utils.KASUtils;
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.kas.utils.KASCache;
+import xyz.groundx.caver_ext_kas.kas.utils.LazyApiClient;
+import xyz.groundx.caver_ext_kas.kas.utils.PageIterator;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
@@ -29,6 +33,9 @@ import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Representing an wrapping class tha connects Token history APi.
@@ -37,39 +44,79 @@ public class TokenHistory {
     /**
      * Token API rest-client object.
      */
-    TokenApi tokenApi;
+    volatile TokenApi tokenApi;
 
     /**
      * Token contract API rest-client object.
      */
-    TokenContractApi tokenContractApi;
+    volatile TokenContractApi tokenContractApi;
 
     /**
      * Token history API rest-client object.
      */
-    TokenHistoryApi tokenHistoryApi;
+    volatile TokenHistoryApi tokenHistoryApi;
 
     /**
      * Token ownership API rest-client object.
      */
-    TokenOwnershipApi tokenOwnershipApi;
+    volatile TokenOwnershipApi tokenOwnershipApi;
 
     /**
      * Klaytn network id.
      */
     String chainId;
 
+    /**
+     * The Api client for connection with KAS. It is created when an API is used first.
+     */
+    LazyApiClient apiClient;
+
+    /**
+     * The cache of FT contract information. It is null if the contract cache is disabled.
+     */
+    volatile KASCache<String, FtContractDetail> ftContractCache;
+
+    /**
+     * The cache of NFT contract information. It is null if the contract cache is disabled.
+     */
+    volatile KASCache<String, NftContractDetail> nftContractCache;
+
     /**
      * Creates an TokenHistoryAPI instance.
      * @param chainId A Klaytn network chain id.
      * @param client The Api client for connection with KAS.
      */
     public TokenHistory(String chainId, ApiClient client) {
+        this(chainId, LazyApiClient.of(client));
+    }
+
+    /**
+     * Creates an TokenHistoryAPI instance.
+     * The Api client and the rest-client objects are created when they are used first.
+     * @param chainId A Klaytn network chain id.
+     * @param client The Api client for connection with KAS.
+     */
+    public TokenHistory(String chainId, LazyApiClient client) {
         this.chainId = chainId;
-        tokenApi = new TokenApi(client);
-        tokenContractApi = new TokenContractApi(client);
-        tokenHistoryApi = new TokenHistoryApi(client);
-        tokenOwnershipApi = new TokenOwnershipApi(client);
+        this.apiClient = client;
+    }
+
+    /**
+     * Returns a wrapper of this Token History API that returns a CompletableFuture for each request.
+     * The returned futures are completed on the HTTP dispatcher thread.
+     * @return TokenHistoryAsync
+     */
+    public TokenHistoryAsync async() {
+        return async(null);
+    }
+
+    /**
+     * Returns a wrapper of this Token History API that returns a CompletableFuture for each request.
+     * @param completionExecutor The executor used to complete the returned futures.
+     * @return TokenHistoryAsync
+     */
+    public TokenHistoryAsync async(Executor completionExecutor) {
+        return new TokenHistoryAsync(this, completionExecutor);
     }
 
     /**
@@ -119,7 +166,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public PageableTransfers getTransferHistory(List<Integer> presets, TokenHistoryQueryOptions options) throws ApiException {
-        return this.tokenHistoryApi.getTransfers(chainId, KASUtils.parameterToString(presets), options.getKind(), options.getRange(), options.getSize(), options.getCursor());
+        return getTokenHistoryApi().getTransfers(chainId, KASUtils.parameterToString(presets), options.getKind(), options.getRange(), options.getSize(), options.getCursor());
     }
 
     /**
@@ -171,7 +218,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getTransferHistoryAsync(List<Integer> presets, TokenHistoryQueryOptions options, ApiCallback<PageableTransfers> callback) throws ApiException {
-        return this.tokenHistoryApi.getTransfersAsync(chainId, KASUtils.parameterToString(presets), options.getKind(), options.getRange(), options.getSize(), options.getCursor(), callback);
+        return getTokenHistoryApi().getTransfersAsync(chainId, KASUtils.parameterToString(presets), options.getKind(), options.getRange(), options.getSize(), options.getCursor(), callback);
     }
 
     /**
@@ -182,7 +229,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Transfers getTransferHistoryByTxHash(String txHash) throws ApiException {
-        return tokenHistoryApi.getTransfersByTxHash(chainId, txHash);
+        return getTokenHistoryApi().getTransfersByTxHash(chainId, txHash);
     }
 
     /**
@@ -194,7 +241,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getTransferHistoryByTxHashAsync(String txHash, ApiCallback<Transfers> callback) throws ApiException {
-        return tokenHistoryApi.getTransfersByTxHashAsync(chainId, txHash, callback);
+        return getTokenHistoryApi().getTransfersByTxHashAsync(chainId, txHash, callback);
     }
 
     /**
@@ -219,7 +266,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public PageableTransfers getTransferHistoryByAccount(String address, TokenHistoryQueryOptions options) throws ApiException {
-        return tokenHistoryApi.getTransfersByEoa(chainId, address, options.getKind(), options.getCaFilter(), options.getRange(), options.getSize(), options.getCursor());
+        return getTokenHistoryApi().getTransfersByEoa(chainId, address, options.getKind(), options.getCaFilter(), options.getRange(), options.getSize(), options.getCursor());
     }
 
     /**
@@ -246,7 +293,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getTransferHistoryAccountAsync(String address, TokenHistoryQueryOptions options, ApiCallback<PageableTransfers> callback) throws ApiException {
-        return tokenHistoryApi.getTransfersByEoaAsync(chainId, address, options.getKind(), options.getCaFilter(), options.getRange(), options.getSize(), options.getCursor(), callback);
+        return getTokenHistoryApi().getTransfersByEoaAsync(chainId, address, options.getKind(), options.getCaFilter(), options.getRange(), options.getSize(), options.getCursor(), callback);
     }
 
     /**
@@ -269,7 +316,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public PageableFtContractDetails getFTContractList(TokenHistoryQueryOptions options) throws ApiException {
-        return tokenContractApi.getListofFtContracts(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor());
+        return getTokenContractApi().getListofFtContracts(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor());
     }
 
     /**
@@ -294,22 +341,29 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getFTContractListAsync(TokenHistoryQueryOptions options, ApiCallback<PageableFtContractDetails> callback) throws ApiException {
-        return tokenContractApi.getListofFtContractsAsync(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor(), callback);
+        return getTokenContractApi().getListofFtContractsAsync(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor(), callback);
     }
 
     /**
      * Retrieves the information of the FT contract labeled with the address of the FT contract.
+     * If the contract cache is enabled, the cached information is returned.
      * GET /v2/contract/ft/{ft-address}
      * @param ftAddress The FT contract address to retrieve contract information.
      * @return FtContractDetail
      * @throws ApiException
      */
     public FtContractDetail getFTContract(String ftAddress) throws ApiException {
-        return tokenContractApi.getFtContractDetail(chainId, ftAddress);
+        KASCache<String, FtContractDetail> cache = ftContractCache;
+        if(cache == null || ftAddress == null) {
+            return getTokenContractApi().getFtContractDetail(chainId, ftAddress);
+        }
+        return cache.get(ftAddress.toLowerCase(), address -> getTokenContractApi().getFtContractDetail(chainId, ftAddress));
     }
 
     /**
      * Retrieves the information of the FT contract labeled with the address of the FT contract asynchronously.
+     * If the contract cache is enabled and the response is served from the cache or by a request of another call,
+     * it returns a Call standing for the response. Cancelling it reports the cancellation to the callback.
      * GET /v2/contract/ft/{ft-address}
      * @param ftAddress The FT contract address to retrieve contract information.
      * @param callback The callback function to handle response.
@@ -317,7 +371,11 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getFTContractAsync(String ftAddress, ApiCallback<FtContractDetail> callback) throws ApiException {
-        return tokenContractApi.getFtContractDetailAsync(chainId, ftAddress, callback);
+        KASCache<String, FtContractDetail> cache = ftContractCache;
+        if(cache == null || ftAddress == null) {
+            return getTokenContractApi().getFtContractDetailAsync(chainId, ftAddress, callback);
+        }
+        return getCachedAsync(cache, ftAddress.toLowerCase(), cb -> getTokenContractApi().getFtContractDetailAsync(chainId, ftAddress, cb), callback);
     }
 
     /**
@@ -340,7 +398,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public PageableNftContractDetails getNFTContractList(TokenHistoryQueryOptions options) throws ApiException {
-        return tokenContractApi.getListOfNftContracts(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor());
+        return getTokenContractApi().getListOfNftContracts(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor());
     }
 
     /**
@@ -365,22 +423,29 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getNFTContractListAsync(TokenHistoryQueryOptions options, ApiCallback<PageableNftContractDetails> callback) throws ApiException {
-        return tokenContractApi.getListOfNftContractsAsync(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor(), callback);
+        return getTokenContractApi().getListOfNftContractsAsync(chainId, options.getStatus(), options.getType(), options.getSize(), options.getCursor(), callback);
     }
 
     /**
      * Retrieves the information of the NFT contract labeled with the address of the NFT contract.
+     * If the contract cache is enabled, the cached information is returned.
      * GET /v2/contract/nft/{nftAddress}
      * @param nftAddress The NFT contract address to retrieve contract information.
      * @return NftContractDetail
      * @throws ApiException
      */
     public NftContractDetail getNFTContract(String nftAddress) throws ApiException {
-        return tokenContractApi.getNftContractDetail(chainId, nftAddress);
+        KASCache<String, NftContractDetail> cache = nftContractCache;
+        if(cache == null || nftAddress == null) {
+            return getTokenContractApi().getNftContractDetail(chainId, nftAddress);
+        }
+        return cache.get(nftAddress.toLowerCase(), address -> getTokenContractApi().getNftContractDetail(chainId, nftAddress));
     }
 
     /**
      * Retrieves the information of the NFT contract labeled with the address of the NFT contract asynchronously.
+     * If the contract cache is enabled and the response is served from the cache or by a request of another call,
+     * it returns a Call standing for the response. Cancelling it reports the cancellation to the callback.
      * GET /v2/contract/nft/{nftAddress}
      * @param nftAddress The NFT contract address to retrieve contract information.
      * @param callback The callback function to handle response.
@@ -388,7 +453,11 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getNFTContractAsync(String nftAddress, ApiCallback<NftContractDetail> callback) throws ApiException {
-        return tokenContractApi.getNftContractDetailAsync(chainId, nftAddress, callback);
+        KASCache<String, NftContractDetail> cache = nftContractCache;
+        if(cache == null || nftAddress == null) {
+            return getTokenContractApi().getNftContractDetailAsync(chainId, nftAddress, callback);
+        }
+        return getCachedAsync(cache, nftAddress.toLowerCase(), cb -> getTokenContractApi().getNftContractDetailAsync(chainId, nftAddress, cb), callback);
     }
 
     /**
@@ -412,7 +481,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public PageableNfts getNFTList(String nftAddress, TokenHistoryQueryOptions options) throws ApiException {
-        return tokenApi.getNftsByContractAddress(chainId, nftAddress, options.getSize(), options.getCursor());
+        return getTokenApi().getNftsByContractAddress(chainId, nftAddress, options.getSize(), options.getCursor());
     }
 
     /**
@@ -439,7 +508,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getNFTListAsync(String nftAddress, TokenHistoryQueryOptions options, ApiCallback<PageableNfts> callback) throws ApiException {
-        return tokenApi.getNftsByContractAddressAsync(chainId, nftAddress, options.getSize(), options.getCursor(), callback);
+        return getTokenApi().getNftsByContractAddressAsync(chainId, nftAddress, options.getSize(), options.getCursor(), callback);
     }
 
     /**
@@ -468,7 +537,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public PageableNfts getNFTListByOwner(String nftAddress, String ownerAddress, TokenHistoryQueryOptions options) throws ApiException {
-        return tokenApi.getNftsByOwnerAddress(chainId, nftAddress, ownerAddress, options.getSize(), options.getCursor());
+        return getTokenApi().getNftsByOwnerAddress(chainId, nftAddress, ownerAddress, options.getSize(), options.getCursor());
     }
 
     /**
@@ -499,7 +568,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getNFTListByOwnerAsync(String nftAddress, String ownerAddress, TokenHistoryQueryOptions options, ApiCallback<PageableNfts> callback) throws ApiException {
-        return tokenApi.getNftsByOwnerAddressAsync(chainId, nftAddress, ownerAddress, options.getSize(), options.getCursor(), callback);
+        return getTokenApi().getNftsByOwnerAddressAsync(chainId, nftAddress, ownerAddress, options.getSize(), options.getCursor(), callback);
     }
 
     /**
@@ -511,7 +580,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Nft getNFT(String nftAddress, String tokenId) throws ApiException {
-        return tokenApi.getNftById(chainId, nftAddress, tokenId);
+        return getTokenApi().getNftById(chainId, nftAddress, tokenId);
     }
 
     /**
@@ -524,7 +593,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getNFTAsync(String nftAddress, String tokenId, ApiCallback<Nft> callback) throws ApiException {
-        return tokenApi.getNftByIdAsync(chainId, nftAddress, tokenId, callback);
+        return getTokenApi().getNftByIdAsync(chainId, nftAddress, tokenId, callback);
     }
 
     /**
@@ -551,7 +620,7 @@ public class TokenHistory {
      * @throws ApiException
      */
     public PageableNftOwnershipChanges getNFTOwnershipHistory(String nftAddress, String tokenId, TokenHistoryQueryOptions options) throws ApiException {
-        return tokenOwnershipApi.getListOfNftOwnershipChanges(chainId, nftAddress, tokenId, options.getSize(), options.getCursor());
+        return getTokenOwnershipApi().getListOfNftOwnershipChanges(chainId, nftAddress, tokenId, options.getSize(), options.getCursor());
     }
 
     /**
@@ -580,6 +649,413 @@ public class TokenHistory {
      * @throws ApiException
      */
     public Call getNFTOwnershipHistoryAsync(String nftAddress, String tokenId, TokenHistoryQueryOptions options, ApiCallback<PageableNftOwnershipChanges> callback) throws ApiException {
-        return tokenOwnershipApi.getListOfNftOwnershipChangesAsync(chainId, nftAddress, tokenId, options.getSize(), options.getCursor(), callback);
+        return getTokenOwnershipApi().getListOfNftOwnershipChangesAsync(chainId, nftAddress, tokenId, options.getSize(), options.getCursor(), callback);
+    }
+
+    /**
+     * Iterates over all transfer history.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/transfer
+     * @param presets Preset IDs to be used for search. Preset ID can be checked in KAS console.
+     * @param options Filters required when retrieving data. `kind`, `range`, `size`, and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<PageableTransfers, AnyOfTransferArrayItems> iterateTransferHistory(List<Integer> presets, TokenHistoryQueryOptions options) {
+        return iterateTransferHistory(presets, options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all transfer history.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/transfer
+     * @param presets Preset IDs to be used for search. Preset ID can be checked in KAS console.
+     * @param options Filters required when retrieving data. `kind`, `range`, `size`, and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<PageableTransfers, AnyOfTransferArrayItems> iterateTransferHistory(List<Integer> presets, TokenHistoryQueryOptions options, int maxPrefetchPages) {
+        TokenHistoryQueryOptions queryOptions = options == null ? new TokenHistoryQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getTransferHistoryAsync(presets, queryOptions.copyWithCursor(cursor), callback)),
+                PageableTransfers::getItems, PageableTransfers::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Iterates over all transfer history of a specific account.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/transfer/account/{address}
+     * @param address Klaytn account address to be searched.
+     * @param options Filters required when retrieving data. `kind`, `caFilter`, `range`, `size`, and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<PageableTransfers, AnyOfTransferArrayItems> iterateTransferHistoryByAccount(String address, TokenHistoryQueryOptions options) {
+        return iterateTransferHistoryByAccount(address, options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all transfer history of a specific account.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/transfer/account/{address}
+     * @param address Klaytn account address to be searched.
+     * @param options Filters required when retrieving data. `kind`, `caFilter`, `range`, `size`, and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<PageableTransfers, AnyOfTransferArrayItems> iterateTransferHistoryByAccount(String address, TokenHistoryQueryOptions options, int maxPrefetchPages) {
+        TokenHistoryQueryOptions queryOptions = options == null ? new TokenHistoryQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getTransferHistoryAccountAsync(address, queryOptions.copyWithCursor(cursor), callback)),
+                PageableTransfers::getItems, PageableTransfers::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Scans all transfer history of a range by splitting it into sub-ranges paged in parallel.
+     * The items are returned from the newest one like iterateTransferHistory(), and a transfer on a shard boundary is returned only once.
+     * GET /v2/transfer
+     * @param presets Preset IDs to be used for search. Preset ID can be checked in KAS console.
+     * @param options Filters required when retrieving data. `kind`, `range`, and `size`. `range` having both bounds is required. It is not modified while scanning.
+     * @return TransferHistoryScanner
+     */
+    public TransferHistoryScanner scanTransferHistory(List<Integer> presets, TokenHistoryQueryOptions options) {
+        return scanTransferHistory(presets, options, TransferHistoryScanner.DEFAULT_SHARDS, TransferHistoryScanner.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Scans all transfer history of a range by splitting it into sub-ranges paged in parallel.
+     * The items are returned from the newest one like iterateTransferHistory(), and a transfer on a shard boundary is returned only once.
+     * GET /v2/transfer
+     * @param presets Preset IDs to be used for search. Preset ID can be checked in KAS console.
+     * @param options Filters required when retrieving data. `kind`, `range`, and `size`. `range` having both bounds is required. It is not modified while scanning.
+     * @param shards The number of sub-ranges.
+     * @param maxConcurrency The maximum number of page requests in flight across all shards.
+     * @return TransferHistoryScanner
+     */
+    public TransferHistoryScanner scanTransferHistory(List<Integer> presets, TokenHistoryQueryOptions options, int shards, int maxConcurrency) {
+        return new TransferHistoryScanner(options,
+                shardOptions -> ApiCallFuture.of(null, callback -> getTransferHistoryAsync(presets, shardOptions, callback)),
+                shards, maxConcurrency, TransferHistoryScanner.DEFAULT_MAX_BUFFERED_PAGES);
+    }
+
+    /**
+     * Scans all transfer history of a specific account in a range by splitting it into sub-ranges paged in parallel.
+     * The items are returned from the newest one like iterateTransferHistoryByAccount(), and a transfer on a shard boundary is returned only once.
+     * GET /v2/transfer/account/{address}
+     * @param address Klaytn account address to be searched.
+     * @param options Filters required when retrieving data. `kind`, `caFilter`, `range`, and `size`. `range` having both bounds is required. It is not modified while scanning.
+     * @return TransferHistoryScanner
+     */
+    public TransferHistoryScanner scanTransferHistoryByAccount(String address, TokenHistoryQueryOptions options) {
+        return scanTransferHistoryByAccount(address, options, TransferHistoryScanner.DEFAULT_SHARDS, TransferHistoryScanner.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Scans all transfer history of a specific account in a range by splitting it into sub-ranges paged in parallel.
+     * The items are returned from the newest one like iterateTransferHistoryByAccount(), and a transfer on a shard boundary is returned only once.
+     * GET /v2/transfer/account/{address}
+     * @param address Klaytn account address to be searched.
+     * @param options Filters required when retrieving data. `kind`, `caFilter`, `range`, and `size`. `range` having both bounds is required. It is not modified while scanning.
+     * @param shards The number of sub-ranges.
+     * @param maxConcurrency The maximum number of page requests in flight across all shards.
+     * @return TransferHistoryScanner
+     */
+    public TransferHistoryScanner scanTransferHistoryByAccount(String address, TokenHistoryQueryOptions options, int shards, int maxConcurrency) {
+        return new TransferHistoryScanner(options,
+                shardOptions -> ApiCallFuture.of(null, callback -> getTransferHistoryAccountAsync(address, shardOptions, callback)),
+                shards, maxConcurrency, TransferHistoryScanner.DEFAULT_MAX_BUFFERED_PAGES);
+    }
+
+    /**
+     * Iterates over all labeled FT contracts.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/ft
+     * @param options Filters required when retrieving data. `status`, `type`, `size`, and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<PageableFtContractDetails, FtContractDetail> iterateFTContractList(TokenHistoryQueryOptions options) {
+        return iterateFTContractList(options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all labeled FT contracts.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/ft
+     * @param options Filters required when retrieving data. `status`, `type`, `size`, and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<PageableFtContractDetails, FtContractDetail> iterateFTContractList(TokenHistoryQueryOptions options, int maxPrefetchPages) {
+        TokenHistoryQueryOptions queryOptions = options == null ? new TokenHistoryQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getFTContractListAsync(queryOptions.copyWithCursor(cursor), callback)),
+                PageableFtContractDetails::getItems, PageableFtContractDetails::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Iterates over all labeled NFT contracts.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft
+     * @param options Filters required when retrieving data. `status`, `type`, `size`, and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNftContractDetails, NftContractDetail> iterateNFTContractList(TokenHistoryQueryOptions options) {
+        return iterateNFTContractList(options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all labeled NFT contracts.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft
+     * @param options Filters required when retrieving data. `status`, `type`, `size`, and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNftContractDetails, NftContractDetail> iterateNFTContractList(TokenHistoryQueryOptions options, int maxPrefetchPages) {
+        TokenHistoryQueryOptions queryOptions = options == null ? new TokenHistoryQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getNFTContractListAsync(queryOptions.copyWithCursor(cursor), callback)),
+                PageableNftContractDetails::getItems, PageableNftContractDetails::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Iterates over all NFTs issued by a specific NFT contract.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft/{nft-address}/token
+     * @param nftAddress NFT contract address to be searched.
+     * @param options Filters required when retrieving data. `size`, and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNfts, Nft> iterateNFTList(String nftAddress, TokenHistoryQueryOptions options) {
+        return iterateNFTList(nftAddress, options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all NFTs issued by a specific NFT contract.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft/{nft-address}/token
+     * @param nftAddress NFT contract address to be searched.
+     * @param options Filters required when retrieving data. `size`, and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNfts, Nft> iterateNFTList(String nftAddress, TokenHistoryQueryOptions options, int maxPrefetchPages) {
+        TokenHistoryQueryOptions queryOptions = options == null ? new TokenHistoryQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getNFTListAsync(nftAddress, queryOptions.copyWithCursor(cursor), callback)),
+                PageableNfts::getItems, PageableNfts::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Iterates over all NFTs owned by a specific EOA.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft/{nft-address}/owner/{owner-address}
+     * @param nftAddress NFT contract address to be searched.
+     * @param ownerAddress Owner EOA address.
+     * @param options Filters required when retrieving data. `size`, and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNfts, Nft> iterateNFTListByOwner(String nftAddress, String ownerAddress, TokenHistoryQueryOptions options) {
+        return iterateNFTListByOwner(nftAddress, ownerAddress, options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all NFTs owned by a specific EOA.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft/{nft-address}/owner/{owner-address}
+     * @param nftAddress NFT contract address to be searched.
+     * @param ownerAddress Owner EOA address.
+     * @param options Filters required when retrieving data. `size`, and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNfts, Nft> iterateNFTListByOwner(String nftAddress, String ownerAddress, TokenHistoryQueryOptions options, int maxPrefetchPages) {
+        TokenHistoryQueryOptions queryOptions = options == null ? new TokenHistoryQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getNFTListByOwnerAsync(nftAddress, ownerAddress, queryOptions.copyWithCursor(cursor), callback)),
+                PageableNfts::getItems, PageableNfts::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Iterates over the whole record of ownership changes for a specific NFT.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft/{nft-address}/token/{token-id}/history
+     * @param nftAddress The NFT contract address to be searched.
+     * @param tokenId The NFT id to be searched.
+     * @param options Filters required when retrieving data. `size`, and `cursor`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNftOwnershipChanges, NftOwnershipChange> iterateNFTOwnershipHistory(String nftAddress, String tokenId, TokenHistoryQueryOptions options) {
+        return iterateNFTOwnershipHistory(nftAddress, tokenId, options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over the whole record of ownership changes for a specific NFT.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/contract/nft/{nft-address}/token/{token-id}/history
+     * @param nftAddress The NFT contract address to be searched.
+     * @param tokenId The NFT id to be searched.
+     * @param options Filters required when retrieving data. `size`, and `cursor`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<PageableNftOwnershipChanges, NftOwnershipChange> iterateNFTOwnershipHistory(String nftAddress, String tokenId, TokenHistoryQueryOptions options, int maxPrefetchPages) {
+        TokenHistoryQueryOptions queryOptions = options == null ? new TokenHistoryQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getNFTOwnershipHistoryAsync(nftAddress, tokenId, queryOptions.copyWithCursor(cursor), callback)),
+                PageableNftOwnershipChanges::getItems, PageableNftOwnershipChanges::getCursor, maxPrefetchPages);
+    }
+
+
+    /**
+     * Enables the cache of FT and NFT contract information used by getFTContract() and getNFTContract().
+     * The contract information is cached per address, so concurrent requests of the same address are sent to KAS only once.
+     * @param maxSize The maximum number of cached contracts of each kind.
+     * @param ttlMillis The time the contract information stays in the cache. If 0, it stays until it is evicted or invalidated.
+     */
+    public void enableContractCache(int maxSize, long ttlMillis) {
+        ftContractCache = new KASCache<>(maxSize, ttlMillis);
+        nftContractCache = new KASCache<>(maxSize, ttlMillis);
+    }
+
+    /**
+     * Disables the cache of FT and NFT contract information.
+     */
+    public void disableContractCache() {
+        ftContractCache = null;
+        nftContractCache = null;
+    }
+
+    /**
+     * Removes the cached contract information of the address.
+     * @param contractAddress The FT or NFT contract address.
+     */
+    public void invalidateContractCache(String contractAddress) {
+        KASCache<String, FtContractDetail> ftCache = ftContractCache;
+        KASCache<String, NftContractDetail> nftCache = nftContractCache;
+        if(ftCache != null) {
+            ftCache.invalidate(contractAddress.toLowerCase());
+        }
+        if(nftCache != null) {
+            nftCache.invalidate(contractAddress.toLowerCase());
+        }
+    }
+
+    /**
+     * Getter function for ftContractCache.
+     * @return KASCache. null if the contract cache is disabled.
+     */
+    public KASCache<String, FtContractDetail> getFTContractCache() {
+        return ftContractCache;
+    }
+
+    /**
+     * Getter function for nftContractCache.
+     * @return KASCache. null if the contract cache is disabled.
+     */
+    public KASCache<String, NftContractDetail> getNFTContractCache() {
+        return nftContractCache;
+    }
+
+    /**
+     * Requests the value of the key through the cache and returns the Call of the request started for it.
+     * If no request is started by this call, a Call standing for the response is returned.
+     */
+    private <T> Call getCachedAsync(KASCache<String, T> cache, String key, ApiCallFuture.AsyncCall<T> asyncCall, ApiCallback<T> callback) {
+        AtomicReference<ApiCallFuture<T>> started = new AtomicReference<>();
+        CompletableFuture<T> future = cache.getAsync(key, address -> {
+            ApiCallFuture<T> request = ApiCallFuture.of(null, asyncCall);
+            started.set(request);
+            return request;
+        });
+
+        Call call = started.get() == null ? null : started.get().getCall();
+        if(call == null) {
+            return ApiCallFuture.notify(future, callback, getTokenContractApi().getApiClient().getHttpClient());
+        }
+        ApiCallFuture.notify(future, callback);
+        return call;
+    }
+
+    /**
+     * Getter function for apiClient.
+     * @return LazyApiClient
+     */
+    public LazyApiClient getLazyApiClient() {
+        return apiClient;
+    }
+
+    /**
+     * Getter function for tokenApi.
+     * @return TokenApi
+     */
+    public TokenApi getTokenApi() {
+        TokenApi tokenApi = this.tokenApi;
+        if(tokenApi == null) {
+            synchronized (this) {
+                if(this.tokenApi == null) {
+                    this.tokenApi = new TokenApi(apiClient.get());
+                }
+                tokenApi = this.tokenApi;
+            }
+        }
+        return tokenApi;
+    }
+
+    /**
+     * Getter function for tokenContractApi.
+     * @return TokenContractApi
+     */
+    public TokenContractApi getTokenContractApi() {
+        TokenContractApi tokenContractApi = this.tokenContractApi;
+        if(tokenContractApi == null) {
+            synchronized (this) {
+                if(this.tokenContractApi == null) {
+                    this.tokenContractApi = new TokenContractApi(apiClient.get());
+                }
+                tokenContractApi = this.tokenContractApi;
+            }
+        }
+        return tokenContractApi;
+    }
+
+    /**
+     * Getter function for tokenHistoryApi.
+     * @return TokenHistoryApi
+     */
+    public TokenHistoryApi getTokenHistoryApi() {
+        TokenHistoryApi tokenHistoryApi = this.tokenHistoryApi;
+        if(tokenHistoryApi == null) {
+            synchronized (this) {
+                if(this.tokenHistoryApi == null) {
+                    this.tokenHistoryApi = new TokenHistoryApi(apiClient.get());
+                }
+                tokenHistoryApi = this.tokenHistoryApi;
+            }
+        }
+        return tokenHistoryApi;
+    }
+
+    /**
+     * Getter function for tokenOwnershipApi.
+     * @return TokenOwnershipApi
+     */
+    public TokenOwnershipApi getTokenOwnershipApi() {
+        TokenOwnershipApi tokenOwnershipApi = this.tokenOwnershipApi;
+        if(tokenOwnershipApi == null) {
+            synchronized (this) {
+                if(this.tokenOwnershipApi == null) {
+                    this.tokenOwnershipApi = new TokenOwnershipApi(apiClient.get());
+                }
+                tokenOwnershipApi = this.tokenOwnershipApi;
+            }
+        }
+        return tokenOwnershipApi;
+    }
+
+    /**
+     * Getter function for chain id.
+     * @return String
+     */
+    public String getChainId() {
+        return chainId;
     }
 }
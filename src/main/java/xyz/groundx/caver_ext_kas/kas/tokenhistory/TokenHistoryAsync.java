@@ -0,0 +1,276 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.tokenhistory;
+
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Representing a Token History API wrapper that returns a CompletableFuture for each request.
+ * Cancelling a returned future cancels the underlying HTTP call.
+ */
+public class TokenHistoryAsync {
+    /**
+     * The Token History API instance to send requests.
+     */
+    TokenHistory tokenHistory;
+
+    /**
+     * The executor used to complete the returned futures.
+     * If it is null, the futures are completed on the HTTP dispatcher thread.
+     */
+    Executor completionExecutor;
+
+    /**
+     * Creates a TokenHistoryAsync instance.
+     * @param tokenHistory The Token History API instance to send requests.
+     * @param completionExecutor The executor used to complete the returned futures. If null, the futures are completed on the HTTP dispatcher thread.
+     */
+    public TokenHistoryAsync(TokenHistory tokenHistory, Executor completionExecutor) {
+        this.tokenHistory = tokenHistory;
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Gets transfer history list.
+     * It will send a request without filter options.
+     * GET /v2/transfer
+     * @param preset Preset ID to be used for search. Preset ID can be checked in KAS console.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableTransfers> getTransferHistory(int preset) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getTransferHistoryAsync(preset, callback));
+    }
+
+    /**
+     * Gets transfer history list.
+     * It will send a request without filter options.
+     * GET /v2/transfer
+     * @param presets Preset IDs to be used for search. Preset ID can be checked in KAS console.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableTransfers> getTransferHistory(List<Integer> presets) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getTransferHistoryAsync(presets, callback));
+    }
+
+    /**
+     * Gets transfer history list.
+     * @param preset Preset ID to be used for search. Preset ID can be checked in KAS console.
+     * @param options Filters required when retrieving data. `kind`, `range`, `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableTransfers> getTransferHistory(int preset, TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getTransferHistoryAsync(preset, options, callback));
+    }
+
+    /**
+     * Gets transfer history list.
+     * @param presets Preset ID to be used for search. Preset ID can be checked in KAS console.
+     * @param options Filters required when retrieving data. `kind`, `range`, `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableTransfers> getTransferHistory(List<Integer> presets, TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getTransferHistoryAsync(presets, options, callback));
+    }
+
+    /**
+     * Gets token history list with a specific transaction hash.
+     * GET /v2/transfer/tx/{transaction-hash}
+     * @param txHash A transaction hash to get token history
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Transfers> getTransferHistoryByTxHash(String txHash) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getTransferHistoryByTxHashAsync(txHash, callback));
+    }
+
+    /**
+     * Gets token history list with a specific EOA.
+     * It will send a request without filter options.
+     * GET /v2/transfer/account/{address}
+     * @param address The EOA address used to search for token transfer history.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableTransfers> getTransferHistoryByAccount(String address) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getTransferHistoryAccountAsync(address, callback));
+    }
+
+    /**
+     * Gets token history list with a specific EOA.
+     * GET /v2/transfer/account/{address}
+     * @param address The EOA address used to search for token transfer history.
+     * @param options Filters required when retrieving data. `kind`, `caFilter`, `range`, `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableTransfers> getTransferHistoryByAccount(String address, TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getTransferHistoryAccountAsync(address, options, callback));
+    }
+
+    /**
+     * Retrieve information of all labeled FT contracts.
+     * It will send a request without filter options.
+     * GET /v2/contract/ft
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableFtContractDetails> getFTContractList() {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getFTContractListAsync(callback));
+    }
+
+    /**
+     * Retrieve information of all labeled FT contracts.
+     * GET /v2/contract/ft
+     * @param options Filters required when retrieving data. `status`, `type`, `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableFtContractDetails> getFTContractList(TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getFTContractListAsync(options, callback));
+    }
+
+    /**
+     * Retrieves the information of the FT contract labeled with the address of the FT contract.
+     * GET /v2/contract/ft/{ft-address}
+     * @param ftAddress The FT contract address to retrieve contract information.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FtContractDetail> getFTContract(String ftAddress) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getFTContractAsync(ftAddress, callback));
+    }
+
+    /**
+     * Retrieve information of all labeled NFT contracts.
+     * It will send a request without filter options.
+     * GET /v2/contract/nft
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNftContractDetails> getNFTContractList() {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTContractListAsync(callback));
+    }
+
+    /**
+     * Retrieve information of all labeled NFT contracts.
+     * GET /v2/contract/nft
+     * @param options Filters required when retrieving data. `status`, `type`, `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNftContractDetails> getNFTContractList(TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTContractListAsync(options, callback));
+    }
+
+    /**
+     * Retrieves the information of the NFT contract labeled with the address of the NFT contract.
+     * GET /v2/contract/nft/{nftAddress}
+     * @param nftAddress The NFT contract address to retrieve contract information.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<NftContractDetail> getNFTContract(String nftAddress) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTContractAsync(nftAddress, callback));
+    }
+
+    /**
+     * Retrieves information of all NFTs issued by a specific NFT contract.
+     * It will send a request without filter options.
+     * GET /v2/contract/nft/{nft-address}/token
+     * @param nftAddress The NFT contract address to search issued NFTs.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNfts> getNFTList(String nftAddress) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTListAsync(nftAddress, callback));
+    }
+
+    /**
+     * Retrieves information of all NFTs issued by a specific NFT contract.
+     * GET /v2/contract/nft/{nft-address}/token
+     * @param nftAddress The NFT contract address to search issued NFTs.
+     * @param options Filters required when retrieving data. `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNfts> getNFTList(String nftAddress, TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTListAsync(nftAddress, options, callback));
+    }
+
+    /**
+     * Among the NFTs issued from the NFT contract address,
+     * the information of the NFT owned by the EOA address received as a parameter is retrieved.
+     * It will send a request without filter options.
+     * GET /v2/contract/nft/{nft-address}/owner/{owner-address}
+     * @param nftAddress The NFT contract address to be searched issued NFTs
+     * @param ownerAddress The EOA address to be searched NFTs
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNfts> getNFTListByOwner(String nftAddress, String ownerAddress) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTListByOwnerAsync(nftAddress, ownerAddress, callback));
+    }
+
+    /**
+     * Among the NFTs issued from the NFT contract address,
+     * the information of the NFT owned by the EOA address received as a parameter is retrieved.
+     * GET /v2/contract/nft/{nft-address}/owner/{owner-address}
+     * @param nftAddress The NFT contract address to be searched issued NFTs
+     * @param ownerAddress The EOA address to be searched NFTs
+     * @param options Filters required when retrieving data. `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNfts> getNFTListByOwner(String nftAddress, String ownerAddress, TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTListByOwnerAsync(nftAddress, ownerAddress, options, callback));
+    }
+
+    /**
+     * Retrieve information of a specific NFT.
+     * GET /v2/contract/nft/{nft-address}/token/{token-id}
+     * @param nftAddress The NFT contract address to be searched.
+     * @param tokenId The NFT id to be searched.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Nft> getNFT(String nftAddress, String tokenId) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTAsync(nftAddress, tokenId, callback));
+    }
+
+    /**
+     * Retrieve the record of ownership changes for a specific NFT.
+     * It will send a request without filter options.
+     * GET /v2/contract/nft/{nft-address}/token/{token-id}/history
+     * @param nftAddress The NFT contract address to be searched.
+     * @param tokenId The NFT id to be searched.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNftOwnershipChanges> getNFTOwnershipHistory(String nftAddress, String tokenId) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTOwnershipHistoryAsync(nftAddress, tokenId, callback));
+    }
+
+    /**
+     * Retrieve the record of ownership changes for a specific NFT.
+     * GET /v2/contract/nft/{nft-address}/token/{token-id}/history
+     * @param nftAddress The NFT contract address to be searched.
+     * @param tokenId The NFT id to be searched.
+     * @param options Filters required when retrieving data. `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<PageableNftOwnershipChanges> getNFTOwnershipHistory(String nftAddress, String tokenId, TokenHistoryQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> tokenHistory.getNFTOwnershipHistoryAsync(nftAddress, tokenId, options, callback));
+    }
+
+    /**
+     * Getter function for the executor used to complete the returned futures.
+     * @return Executor
+     */
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+}
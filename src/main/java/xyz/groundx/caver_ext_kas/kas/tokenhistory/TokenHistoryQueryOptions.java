@@ -259,4 +259,22 @@ public class TokenHistoryQueryOptions {
         }
     }
 
+
+    /**
+     * Returns a copy of this options having the given cursor.
+     * @param cursor Information of the last retrieved cursor.
+     * @return TokenHistoryQueryOptions
+     */
+    TokenHistoryQueryOptions copyWithCursor(String cursor) {
+        return new TokenHistoryQueryOptions(caFilter, kind, range, size, cursor, status, type);
+    }
+
+    /**
+     * Returns a copy of this options having the given range and no cursor.
+     * @param range The date to query.
+     * @return TokenHistoryQueryOptions
+     */
+    TokenHistoryQueryOptions copyWithRange(String range) {
+        return new TokenHistoryQueryOptions(caFilter, kind, range, size, null, status, type);
+    }
 }
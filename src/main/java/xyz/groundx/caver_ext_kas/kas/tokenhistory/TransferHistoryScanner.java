@@ -0,0 +1,434 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.tokenhistory;
+
+import xyz.groundx.caver_ext_kas.kas.utils.KASUtils;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.AnyOfTransferArrayItems;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.FtTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.KlayTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.NftTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.PageableTransfers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Representing an iterator over the transfer history of a range, scanned by several shards in parallel.
+ * The `range` of the options is split into `shards` disjoint sub-ranges of the same kind(block number(hex) / timestamp(decimal)),
+ * and each shard pages through its sub-range by cursor while the other shards do the same.
+ * At most `maxConcurrency` page requests are in flight across all shards, and the shard being consumed is served first.
+ * Each shard buffers at most `maxBufferedPages` pages ahead of the consumer, so the memory used is bounded by
+ * `shards * maxBufferedPages * size` items.
+ *
+ * The items are returned in the order of KAS, i.e. from the newest one. Because the sub-ranges are disjoint,
+ * the shards are simply consumed from the newest sub-range, so an item does not need a timestamp to be merged(e.g. KlayTransfer).
+ * A transfer returned by both sides of a shard boundary is returned only once.
+ * If a page request fails, hasNext() or next() throws a CompletionException having the ApiException as the cause.
+ *
+ * <pre>
+ * TokenHistoryQueryOptions options = new TokenHistoryQueryOptions();
+ * options.setRange("2021-01-01", "2021-07-01");
+ * try(TransferHistoryScanner scanner = caver.kas.tokenHistory.scanTransferHistoryByAccount(address, options, 8, 4)) {
+ *     scanner.forEachRemaining(transfer -> ...);
+ * }
+ * </pre>
+ */
+public class TransferHistoryScanner implements Iterator<AnyOfTransferArrayItems>, AutoCloseable {
+
+    /**
+     * The default number of sub-ranges.
+     */
+    public static final int DEFAULT_SHARDS = 8;
+
+    /**
+     * The default maximum number of page requests in flight across all shards.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    /**
+     * The default number of pages buffered ahead of the consumer per shard.
+     */
+    public static final int DEFAULT_MAX_BUFFERED_PAGES = 2;
+
+    /**
+     * Representing a request of a single page of a shard.
+     */
+    @FunctionalInterface
+    public interface ShardFetcher {
+        /**
+         * Requests the page located by the range and the cursor of the options.
+         * @param options The options of the page. The range is the sub-range of the shard and the cursor is null for the first page.
+         * @return CompletableFuture
+         */
+        CompletableFuture<PageableTransfers> fetch(TokenHistoryQueryOptions options);
+    }
+
+    private final ShardFetcher fetcher;
+    private final int maxConcurrency;
+    private final int maxBufferedPages;
+    private final List<Shard> shards = new ArrayList<>();
+
+    private int shardIndex;
+    private int inFlight;
+    private long requestCount;
+    private long duplicateCount;
+    private boolean started;
+    private boolean closed;
+
+    private final Deque<String> recentKeys = new ArrayDeque<>();
+    private int window;
+    private Set<String> boundaryKeys = Collections.emptySet();
+    private int boundaryChecks;
+    private Iterator<AnyOfTransferArrayItems> current = Collections.emptyIterator();
+
+    /**
+     * Creates a TransferHistoryScanner instance.
+     * Pages are requested lazily when hasNext() is called for the first time.
+     * @param options Filters required when retrieving data. `range` having both bounds is required. `cursor` is ignored. It is not modified while scanning.
+     * @param fetcher The function requesting a page of a shard.
+     * @param shards The number of sub-ranges. It is reduced to the number of blocks or seconds in the range if it is larger.
+     * @param maxConcurrency The maximum number of page requests in flight across all shards.
+     * @param maxBufferedPages The maximum number of pages buffered ahead of the consumer per shard.
+     */
+    public TransferHistoryScanner(TokenHistoryQueryOptions options, ShardFetcher fetcher, int shards, int maxConcurrency, int maxBufferedPages) {
+        if(options == null) {
+            throw new IllegalArgumentException("options having a range is required.");
+        }
+        if(maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+        }
+        if(maxBufferedPages < 1) {
+            throw new IllegalArgumentException("maxBufferedPages must be at least 1.");
+        }
+
+        this.fetcher = fetcher;
+        this.maxConcurrency = maxConcurrency;
+        this.maxBufferedPages = maxBufferedPages;
+        for(String range : splitRange(options.getRange(), shards)) {
+            this.shards.add(new Shard(options.copyWithRange(range)));
+        }
+    }
+
+    /**
+     * Splits the range into disjoint sub-ranges ordered from the newest one.
+     * @param range The range having both bounds. e.g. "1600000000,1600086400" or "0x1,0x3e8".
+     * @param shards The maximum number of sub-ranges.
+     * @return List
+     */
+    static List<String> splitRange(String range, int shards) {
+        if(shards < 1) {
+            throw new IllegalArgumentException("shards must be at least 1.");
+        }
+        String[] bounds = range == null ? new String[0] : range.split(",");
+        if(bounds.length != 2) {
+            throw new IllegalArgumentException("The range must have both bounds('from', 'to') to be scanned.");
+        }
+
+        String from = bounds[0].trim();
+        String to = bounds[1].trim();
+        boolean blockNumber = KASUtils.isBlockNumber(from);
+        if(blockNumber != KASUtils.isBlockNumber(to) || (!blockNumber && (!KASUtils.isTimeStamp(from) || !KASUtils.isTimeStamp(to)))) {
+            throw new IllegalArgumentException("The range parameter('from', 'to') must have same type(block number(hex) / timestamp(decimal))");
+        }
+
+        long start = parseBound(from, blockNumber);
+        long end = parseBound(to, blockNumber);
+        long low = Math.min(start, end);
+        long high = Math.max(start, end);
+
+        long span = high - low + 1;
+        int count = (int)Math.min(shards, span);
+        List<String> ranges = new ArrayList<>(count);
+        for(int i = count - 1; i >= 0; i--) {
+            long shardFrom = low + span * i / count;
+            long shardTo = low + span * (i + 1) / count - 1;
+            ranges.add(formatBound(shardFrom, blockNumber) + "," + formatBound(shardTo, blockNumber));
+        }
+        return ranges;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(!current.hasNext()) {
+            List<AnyOfTransferArrayItems> page;
+            synchronized (this) {
+                if(!started) {
+                    started = true;
+                    fill();
+                }
+
+                while(true) {
+                    if(closed || shardIndex >= shards.size()) {
+                        return false;
+                    }
+
+                    Shard shard = shards.get(shardIndex);
+                    page = shard.pages.poll();
+                    if(page != null) {
+                        break;
+                    }
+
+                    if(shard.error != null) {
+                        Throwable error = shard.error;
+                        close();
+                        throw error instanceof CompletionException ? (CompletionException)error : new CompletionException(error);
+                    }
+
+                    if(shard.done) {
+                        boundaryKeys = new HashSet<>(recentKeys);
+                        boundaryChecks = window;
+                        shardIndex++;
+                        fill();
+                        continue;
+                    }
+
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CompletionException(e);
+                    }
+                }
+
+                fill();
+                current = deduplicate(page).iterator();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public AnyOfTransferArrayItems next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Returns a sequential Stream over the remaining items.
+     * Closing the stream closes this scanner.
+     * @return Stream
+     */
+    public Stream<AnyOfTransferArrayItems> stream() {
+        Spliterator<AnyOfTransferArrayItems> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Stops the scan and cancels the pending page requests.
+     */
+    @Override
+    public synchronized void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        for(Shard shard : shards) {
+            if(shard.call != null) {
+                shard.call.cancel(true);
+            }
+            shard.pages.clear();
+        }
+        current = Collections.emptyIterator();
+        notifyAll();
+    }
+
+    /**
+     * Returns the sub-ranges of the shards ordered from the newest one.
+     * @return List
+     */
+    public List<String> getShardRanges() {
+        List<String> ranges = new ArrayList<>(shards.size());
+        for(Shard shard : shards) {
+            ranges.add(shard.options.getRange());
+        }
+        return ranges;
+    }
+
+    /**
+     * Getter function for maxConcurrency
+     * @return int
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Getter function for maxBufferedPages
+     * @return int
+     */
+    public int getMaxBufferedPages() {
+        return maxBufferedPages;
+    }
+
+    /**
+     * Returns the number of page requests sent so far.
+     * @return long
+     */
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the number of transfers skipped because they were already returned by the adjacent shard.
+     * @return long
+     */
+    public synchronized long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * Returns the identity of a transfer used to find the same transfer on both sides of a shard boundary.
+     * @param item The transfer.
+     * @return String
+     */
+    static String transferKey(AnyOfTransferArrayItems item) {
+        if(item instanceof KlayTransfer) {
+            KlayTransfer transfer = (KlayTransfer)item;
+            return join("klay", transfer.getTransactionHash(), transfer.getFrom(), transfer.getTo(), transfer.getValue());
+        } else if(item instanceof FtTransfer) {
+            FtTransfer transfer = (FtTransfer)item;
+            return join("ft", transfer.getTransaction() == null ? null : transfer.getTransaction().getTransactionHash(),
+                    transfer.getContract() == null ? null : transfer.getContract().getAddress(), transfer.getFrom(), transfer.getTo(), transfer.getValue());
+        } else if(item instanceof NftTransfer) {
+            NftTransfer transfer = (NftTransfer)item;
+            return join("nft", transfer.getTransaction() == null ? null : transfer.getTransaction().getTransactionHash(),
+                    transfer.getContract() == null ? null : transfer.getContract().getAddress(), transfer.getFrom(), transfer.getTo(), transfer.getTokenId());
+        }
+        return String.valueOf(item);
+    }
+
+    /**
+     * Starts the page requests of the shards having room for them, from the shard being consumed.
+     * It must be called while holding the lock of this instance.
+     */
+    private void fill() {
+        for(int i = shardIndex; i < shards.size() && inFlight < maxConcurrency && !closed; i++) {
+            Shard shard = shards.get(i);
+            if(shard.done || shard.call != null || shard.pages.size() >= maxBufferedPages) {
+                continue;
+            }
+
+            CompletableFuture<PageableTransfers> call;
+            try {
+                call = fetcher.fetch(shard.options.copyWithCursor(shard.cursor));
+            } catch (RuntimeException e) {
+                call = new CompletableFuture<>();
+                call.completeExceptionally(e);
+            }
+
+            inFlight++;
+            requestCount++;
+            shard.call = call;
+            call.whenComplete((result, throwable) -> onPageComplete(shard, result, throwable));
+        }
+    }
+
+    private synchronized void onPageComplete(Shard shard, PageableTransfers result, Throwable throwable) {
+        inFlight--;
+        shard.call = null;
+        notifyAll();
+        if(closed) {
+            return;
+        }
+
+        if(throwable != null) {
+            shard.error = throwable;
+            shard.done = true;
+            return;
+        }
+
+        if(result != null && result.getItems() != null && !result.getItems().isEmpty()) {
+            shard.pages.add(new ArrayList<>(result.getItems()));
+        }
+
+        String cursor = result == null ? null : result.getCursor();
+        if(cursor == null || cursor.isEmpty()) {
+            shard.done = true;
+        } else {
+            shard.cursor = cursor;
+        }
+        fill();
+    }
+
+    /**
+     * Removes the transfers at the start of a shard which were already returned at the end of the previous shard.
+     * The last `window` keys, i.e. the size of the largest page, are compared with the first `window` transfers of the next shard.
+     * It must be called while holding the lock of this instance.
+     */
+    private List<AnyOfTransferArrayItems> deduplicate(List<AnyOfTransferArrayItems> page) {
+        window = Math.max(window, page.size());
+        List<AnyOfTransferArrayItems> items = new ArrayList<>(page.size());
+        for(AnyOfTransferArrayItems item : page) {
+            String key = transferKey(item);
+            if(boundaryChecks > 0) {
+                boundaryChecks--;
+                if(boundaryKeys.contains(key)) {
+                    duplicateCount++;
+                    continue;
+                }
+            }
+
+            items.add(item);
+            recentKeys.addLast(key);
+            if(recentKeys.size() > window) {
+                recentKeys.removeFirst();
+            }
+        }
+        return items;
+    }
+
+    private static long parseBound(String bound, boolean blockNumber) {
+        return blockNumber ? Long.parseLong(bound.substring(2), 16) : Long.parseLong(bound);
+    }
+
+    private static String formatBound(long bound, boolean blockNumber) {
+        return blockNumber ? "0x" + Long.toHexString(bound) : Long.toString(bound);
+    }
+
+    private static String join(String... values) {
+        return String.join("/", values).toLowerCase();
+    }
+
+    private static class Shard {
+        final TokenHistoryQueryOptions options;
+        final Deque<List<AnyOfTransferArrayItems>> pages = new ArrayDeque<>();
+
+        String cursor;
+        CompletableFuture<PageableTransfers> call;
+        boolean done;
+        Throwable error;
+
+        Shard(TokenHistoryQueryOptions options) {
+            this.options = options;
+        }
+    }
+}
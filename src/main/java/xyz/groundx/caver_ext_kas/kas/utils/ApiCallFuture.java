@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.Callback;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Representing a CompletableFuture bound to an asynchronous KAS API call.
+ * It completes when the ApiCallback of the call is invoked, and cancelling it cancels the underlying HTTP call.
+ * Note that cancelling a dependent stage(e.g. the result of thenApply()) does not cancel the HTTP call.
+ * @param <T> The type of the API response.
+ */
+public class ApiCallFuture<T> extends CompletableFuture<T> implements ApiCallback<T> {
+
+    /**
+     * Representing an asynchronous KAS API call that reports the result to the passed ApiCallback.
+     * @param <T> The type of the API response.
+     */
+    @FunctionalInterface
+    public interface AsyncCall<T> {
+        Call call(ApiCallback<T> callback) throws ApiException;
+    }
+
+    private final Executor completionExecutor;
+    private volatile Call call;
+
+    private static final Request STAND_IN_REQUEST = new Request.Builder().url("http://localhost/").build();
+
+    /**
+     * Representing a Call standing for a response served without an HTTP call.
+     * It can only be cancelled. Executing or enqueuing it throws IllegalStateException, so it never sends a request.
+     */
+    static class StandInCall extends Call {
+        StandInCall(OkHttpClient httpClient) {
+            super(httpClient, STAND_IN_REQUEST);
+        }
+
+        @Override
+        public Response execute() {
+            throw new IllegalStateException("The response is served without an HTTP call, so it cannot be executed.");
+        }
+
+        @Override
+        public void enqueue(Callback responseCallback) {
+            throw new IllegalStateException("The response is served without an HTTP call, so it cannot be enqueued.");
+        }
+    }
+
+    /**
+     * Creates an ApiCallFuture instance.
+     * @param completionExecutor The executor used to complete the future. If null, it completes on the HTTP dispatcher thread.
+     */
+    public ApiCallFuture(Executor completionExecutor) {
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Starts the given asynchronous call and returns a future bound to it.
+     * If the call cannot be started(e.g. a required parameter is missing), the returned future is completed exceptionally.
+     * @param completionExecutor The executor used to complete the future. If null, it completes on the HTTP dispatcher thread.
+     * @param asyncCall The asynchronous call to start.
+     * @param <T> The type of the API response.
+     * @return ApiCallFuture
+     */
+    public static <T> ApiCallFuture<T> of(Executor completionExecutor, AsyncCall<T> asyncCall) {
+        ApiCallFuture<T> future = new ApiCallFuture<>(completionExecutor);
+        try {
+            future.setCall(asyncCall.call(future));
+        } catch (ApiException | RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Reports the result of the future to the callback.
+     * It is used when a response is served without an HTTP call(e.g. from a cache), so the status code is reported as 200
+     * and the response headers are empty on success.
+     * @param future The future of the response.
+     * @param callback The callback function to handle response.
+     * @param <T> The type of the API response.
+     */
+    public static <T> void notify(CompletableFuture<T> future, ApiCallback<T> callback) {
+        notifyUnlessCanceled(future, callback, null);
+    }
+
+    /**
+     * Reports the result of the future to the callback and returns a Call standing for the response.
+     * It is used by the Call-returning methods whose response may be served without an HTTP call(e.g. from a cache).
+     * The returned Call cannot be executed or enqueued(IllegalStateException is thrown). Cancelling it before the future completes reports the cancellation to the callback
+     * instead of the response like cancelling an HTTP call, but it does not cancel the future.
+     * @param future The future of the response.
+     * @param callback The callback function to handle response.
+     * @param httpClient The HTTP client creating the Call.
+     * @param <T> The type of the API response.
+     * @return Call
+     */
+    public static <T> Call notify(CompletableFuture<T> future, ApiCallback<T> callback, OkHttpClient httpClient) {
+        Call call = new StandInCall(httpClient);
+        notifyUnlessCanceled(future, callback, call);
+        return call;
+    }
+
+    private static <T> void notifyUnlessCanceled(CompletableFuture<T> future, ApiCallback<T> callback, Call call) {
+        future.whenComplete((result, throwable) -> {
+            if(call != null && call.isCanceled()) {
+                callback.onFailure(new ApiException(new IOException("Canceled")), 0, null);
+                return;
+            }
+            if(throwable == null) {
+                callback.onSuccess(result, 200, Collections.<String, List<String>>emptyMap());
+                return;
+            }
+
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if(cause instanceof ApiException) {
+                ApiException e = (ApiException)cause;
+                callback.onFailure(e, e.getCode(), e.getResponseHeaders());
+            } else {
+                callback.onFailure(new ApiException(cause), 0, null);
+            }
+        });
+    }
+
+    /**
+     * Getter function for the underlying HTTP call.
+     * @return Call
+     */
+    public Call getCall() {
+        return call;
+    }
+
+    /**
+     * Binds the HTTP call to this future.
+     * If this future was already cancelled, the call is cancelled immediately.
+     * @param call The HTTP call.
+     */
+    public void setCall(Call call) {
+        this.call = call;
+        if(call != null && isCancelled()) {
+            call.cancel();
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        boolean cancelled = super.cancel(mayInterruptIfRunning);
+        Call call = this.call;
+        if(cancelled && call != null) {
+            call.cancel();
+        }
+        return cancelled;
+    }
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+        runCompletion(() -> completeExceptionally(e));
+    }
+
+    @Override
+    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+        runCompletion(() -> complete(result));
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+    }
+
+    private void runCompletion(Runnable completion) {
+        if(completionExecutor == null) {
+            completion.run();
+            return;
+        }
+
+        try {
+            completionExecutor.execute(completion);
+        } catch (RuntimeException e) {
+            completeExceptionally(e);
+        }
+    }
+}
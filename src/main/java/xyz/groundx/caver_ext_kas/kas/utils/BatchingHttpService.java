@@ -0,0 +1,298 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import okhttp3.OkHttpClient;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Representing an HttpService of the Node API that sends concurrent JSON-RPC calls in one HTTP request.
+ * A call waits up to `windowMillis` for other calls, and the calls collected in the window are sent as a JSON-RPC batch(an array of requests).
+ * A batch is sent at once when it has `maxBatchSize` calls. The responses of a batch are matched to the calls by their ids,
+ * so each caller gets its own response. A window having only one call is sent as a plain JSON-RPC request.
+ * Explicit batches of web3j(BatchRequest) are sent as they are.
+ *
+ * <pre>
+ * caver.enableNodeBatching(2, 100);
+ * Quantity blockNumber = caver.rpc.klay.getBlockNumber().send();
+ * </pre>
+ */
+public class BatchingHttpService extends HttpService {
+
+    /**
+     * The default time a call waits for other calls.
+     */
+    public static final long DEFAULT_WINDOW_MILLIS = 2;
+
+    /**
+     * The default maximum number of calls in a batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "KAS-RpcBatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final Executor executor;
+
+    private Batch current;
+    private boolean closed;
+
+    private final AtomicLong callCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /**
+     * Creates a BatchingHttpService instance.
+     * The batches are sent on the threads of the dispatcher of the client.
+     * @param url An URL to request Node API.
+     * @param httpClient The HTTP client.
+     * @param windowMillis The time a call waits for other calls. If 0, only the calls made while a batch is being prepared are sent together.
+     * @param maxBatchSize The maximum number of calls in a batch.
+     */
+    public BatchingHttpService(String url, OkHttpClient httpClient, long windowMillis, int maxBatchSize) {
+        super(url, httpClient);
+        if(windowMillis < 0) {
+            throw new IllegalArgumentException("windowMillis must not be negative.");
+        }
+        if(maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1.");
+        }
+
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = httpClient.dispatcher().executorService();
+    }
+
+    // The raw types are the ones of the signature declared by web3j.
+    @Override
+    @SuppressWarnings("rawtypes")
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        try {
+            return sendAsync(request, responseType).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response of " + request.getMethod() + ".");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        Call<T> call = new Call<>(request, responseType);
+        List<Batch> toSend = new ArrayList<>(2);
+        synchronized (this) {
+            if(closed) {
+                call.future.completeExceptionally(new IOException("The service is already closed."));
+                return call.future;
+            }
+
+            // The ids of the calls in a batch must be unique to match the responses.
+            if(current != null && current.calls.containsKey(request.getId())) {
+                toSend.add(current);
+                current = null;
+            }
+            if(current == null) {
+                Batch batch = new Batch();
+                current = batch;
+                if(windowMillis == 0) {
+                    executor.execute(() -> flush(batch));
+                } else {
+                    SCHEDULER.schedule(() -> flush(batch), windowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+
+            current.calls.put(request.getId(), call);
+            if(current.calls.size() >= maxBatchSize) {
+                toSend.add(current);
+                current = null;
+            }
+        }
+        callCount.incrementAndGet();
+
+        for(Batch batch : toSend) {
+            flush(batch);
+        }
+        return call.future;
+    }
+
+    /**
+     * Sends the calls waiting for the window and stops accepting calls.
+     * @throws IOException Thrown when the HTTP client fails to close.
+     */
+    @Override
+    public void close() throws IOException {
+        Batch batch;
+        synchronized (this) {
+            closed = true;
+            batch = current;
+            current = null;
+        }
+        if(batch != null) {
+            flush(batch);
+        }
+        super.close();
+    }
+
+    /**
+     * Returns the number of calls sent through sendAsync() and send().
+     * @return long
+     */
+    public long getCallCount() {
+        return callCount.get();
+    }
+
+    /**
+     * Returns the number of HTTP requests sent for the calls.
+     * @return long
+     */
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Getter function for windowMillis.
+     * @return long
+     */
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * Getter function for maxBatchSize.
+     * @return int
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    private void flush(Batch batch) {
+        synchronized (this) {
+            if(current == batch) {
+                current = null;
+            }
+            if(batch.sent) {
+                return;
+            }
+            batch.sent = true;
+        }
+
+        try {
+            executor.execute(() -> send(batch));
+        } catch (RuntimeException e) {
+            // The dispatcher rejects the task when it is shut down.
+            batch.failAll(e);
+        }
+    }
+
+    private void send(Batch batch) {
+        batchCount.incrementAndGet();
+        try {
+            if(batch.calls.size() == 1) {
+                Call<?> call = batch.calls.values().iterator().next();
+                call.complete(super.send(call.request, call.responseType));
+                return;
+            }
+
+            List<Request<?, ?>> requests = new ArrayList<>(batch.calls.size());
+            for(Call<?> call : batch.calls.values()) {
+                requests.add(call.request);
+            }
+
+            JsonNode responses;
+            try (InputStream in = performIO(objectMapper.writeValueAsString(requests))) {
+                responses = objectMapper.readTree(in);
+            }
+            if(responses == null || !responses.isArray()) {
+                throw new IOException("The response of a batch is not an array: " + responses);
+            }
+
+            for(JsonNode response : responses) {
+                JsonNode id = response.get("id");
+                Call<?> call = id == null ? null : batch.calls.remove(id.asLong());
+                if(call != null) {
+                    call.complete(response);
+                }
+            }
+            batch.failAll(new IOException("No response of the call in the batch."));
+        } catch (IOException | RuntimeException e) {
+            batch.failAll(e);
+        }
+    }
+
+    private class Batch {
+        final Map<Long, Call<?>> calls = new HashMap<>();
+        boolean sent;
+
+        void failAll(Throwable throwable) {
+            for(Call<?> call : calls.values()) {
+                call.future.completeExceptionally(throwable);
+            }
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private class Call<T extends Response> {
+        final Request<?, ?> request;
+        final Class<T> responseType;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        Call(Request<?, ?> request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        void complete(Object response) {
+            try {
+                T value = response instanceof JsonNode ? objectMapper.treeToValue((JsonNode)response, responseType) : responseType.cast(response);
+                future.complete(value);
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Representing a size-bounded LRU cache of KAS API responses with an optional time-to-live.
+ * It can also be bounded by the total weight(e.g. the approximate bytes) of the cached values.
+ * Concurrent misses of the same key are collapsed, so only one of them requests KAS and the others wait for its result.
+ * A failed request is not cached.
+ * @param <K> The type of the key.
+ * @param <V> The type of the cached response.
+ */
+public class KASCache<K, V> {
+
+    /**
+     * Representing a synchronous request of a value missing in the cache.
+     * @param <K> The type of the key.
+     * @param <V> The type of the value.
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+        V load(K key) throws ApiException;
+    }
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+
+    private long hitCount;
+    private long missCount;
+    private long loadFailureCount;
+    private long evictionCount;
+    private long totalWeight;
+
+    /**
+     * Creates a KASCache instance.
+     * @param maxSize The maximum number of cached values. The least recently used value is evicted when it is exceeded.
+     * @param ttlMillis The time a value stays in the cache after it is loaded. If 0, a value never expires.
+     */
+    public KASCache(int maxSize, long ttlMillis) {
+        this(maxSize, ttlMillis, Long.MAX_VALUE, value -> 0);
+    }
+
+    /**
+     * Creates a KASCache instance bounded by the total weight of the values.
+     * @param maxSize The maximum number of cached values. The least recently used value is evicted when it is exceeded.
+     * @param ttlMillis The time a value stays in the cache after it is loaded. If 0, a value never expires.
+     * @param maxWeight The maximum total weight of the cached values. The least recently used values are evicted when it is exceeded.
+     * @param weigher The function returning the weight of a value.
+     */
+    public KASCache(int maxSize, long ttlMillis, long maxWeight, ToLongFunction<V> weigher) {
+        this(maxSize, ttlMillis, maxWeight, weigher, System::nanoTime);
+    }
+
+    KASCache(int maxSize, long ttlMillis, LongSupplier clock) {
+        this(maxSize, ttlMillis, Long.MAX_VALUE, value -> 0, clock);
+    }
+
+    KASCache(int maxSize, long ttlMillis, long maxWeight, ToLongFunction<V> weigher, LongSupplier clock) {
+        if(maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1.");
+        }
+        if(ttlMillis < 0) {
+            throw new IllegalArgumentException("ttlMillis must not be negative.");
+        }
+        if(maxWeight < 0) {
+            throw new IllegalArgumentException("maxWeight must not be negative.");
+        }
+
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached value of the key, or loads it with the loader in the current thread.
+     * If the key is being loaded by another call, it waits for that call instead of loading it again.
+     * @param key The key.
+     * @param loader The function requesting the value to KAS.
+     * @return V
+     * @throws ApiException Thrown when the loader fails.
+     */
+    public V get(K key, Loader<K, V> loader) throws ApiException {
+        CompletableFuture<V> future;
+        boolean owner = false;
+        synchronized (this) {
+            Entry<V> entry = getEntry(key);
+            if(entry != null) {
+                return entry.value;
+            }
+
+            future = loading.get(key);
+            if(future == null) {
+                future = new CompletableFuture<>();
+                loading.put(key, future);
+                owner = true;
+            }
+        }
+
+        if(owner) {
+            try {
+                V value = loader.load(key);
+                onLoaded(key, future, value, null);
+                future.complete(value);
+                return value;
+            } catch (ApiException | RuntimeException | Error e) {
+                // An Error is also passed to the waiting calls, so they do not wait for the key forever.
+                onLoaded(key, future, null, e);
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(e);
+        } catch (ExecutionException e) {
+            throw toApiException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns a future of the cached value of the key, or loads it with the loader.
+     * If the key is being loaded by another call, it returns a future completed with the result of that call.
+     * Cancelling the returned future does not cancel the request shared with other calls.
+     * @param key The key.
+     * @param loader The function requesting the value to KAS asynchronously.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<V> getAsync(K key, Function<K, CompletableFuture<V>> loader) {
+        CompletableFuture<V> future;
+        synchronized (this) {
+            Entry<V> entry = getEntry(key);
+            if(entry != null) {
+                return CompletableFuture.completedFuture(entry.value);
+            }
+
+            future = loading.get(key);
+            if(future != null) {
+                return future.thenApply(Function.identity());
+            }
+            future = new CompletableFuture<>();
+            loading.put(key, future);
+        }
+
+        // The loader is started without holding the lock, so a slow loader does not block the other keys.
+        CompletableFuture<V> loadingFuture = future;
+        CompletableFuture<V> loaded;
+        try {
+            loaded = loader.apply(key);
+        } catch (RuntimeException e) {
+            onLoaded(key, loadingFuture, null, e);
+            loadingFuture.completeExceptionally(e);
+            return loadingFuture.thenApply(Function.identity());
+        } catch (Error e) {
+            onLoaded(key, loadingFuture, null, e);
+            loadingFuture.completeExceptionally(e);
+            throw e;
+        }
+
+        loaded.whenComplete((value, throwable) -> {
+            onLoaded(key, loadingFuture, value, throwable);
+            if(throwable != null) {
+                loadingFuture.completeExceptionally(throwable);
+            } else {
+                loadingFuture.complete(value);
+            }
+        });
+        return loadingFuture.thenApply(Function.identity());
+    }
+
+    /**
+     * Returns the cached value of the key without loading it.
+     * @param key The key.
+     * @return V. null if the key is not cached or expired.
+     */
+    public synchronized V getIfPresent(K key) {
+        Entry<V> entry = getEntry(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Caches the value of the key.
+     * @param key The key.
+     * @param value The value.
+     */
+    public synchronized void put(K key, V value) {
+        store(key, value);
+    }
+
+    /**
+     * Removes the cached value of the key.
+     * A request of the key in progress is not affected, and its result is cached when it completes.
+     * @param key The key.
+     */
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    /**
+     * Returns the number of cached values including the expired ones not removed yet.
+     * @return int
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total weight of the cached values.
+     * @return long
+     */
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    /**
+     * Getter function for maxSize.
+     * @return int
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the statistics of this cache.
+     * @return Stats
+     */
+    public synchronized Stats getStats() {
+        return new Stats(hitCount, missCount, loadFailureCount, evictionCount);
+    }
+
+    private Entry<V> getEntry(K key) {
+        Entry<V> entry = entries.get(key);
+        if(entry != null && entry.expiresAtNanos != 0 && clock.getAsLong() - entry.expiresAtNanos >= 0) {
+            remove(key);
+            entry = null;
+        }
+
+        if(entry == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return entry;
+    }
+
+    private synchronized void onLoaded(K key, CompletableFuture<V> future, V value, Throwable throwable) {
+        if(loading.get(key) == future) {
+            loading.remove(key);
+        }
+
+        if(throwable != null || value == null) {
+            loadFailureCount += throwable != null ? 1 : 0;
+            return;
+        }
+        store(key, value);
+    }
+
+    private void store(K key, V value) {
+        long weight = weigher.applyAsLong(value);
+        Entry<V> previous = entries.put(key, new Entry<>(value, expiresAt(), weight));
+        if(previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while((entries.size() > maxSize || totalWeight > maxWeight) && eldest.hasNext()) {
+            totalWeight -= eldest.next().weight;
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    private void remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        if(entry != null) {
+            totalWeight -= entry.weight;
+        }
+    }
+
+    private long expiresAt() {
+        if(ttlNanos == 0) {
+            return 0;
+        }
+        long expiresAt = clock.getAsLong() + ttlNanos;
+        return expiresAt == 0 ? 1 : expiresAt;
+    }
+
+    static ApiException toApiException(Throwable throwable) {
+        if(throwable instanceof CompletionException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        if(throwable instanceof ApiException) {
+            return (ApiException)throwable;
+        }
+        if(throwable instanceof RuntimeException) {
+            throw (RuntimeException)throwable;
+        }
+        if(throwable instanceof Error) {
+            throw (Error)throwable;
+        }
+        return new ApiException(throwable);
+    }
+
+    private static class Entry<V> {
+        final V value;
+        final long expiresAtNanos;
+        final long weight;
+
+        Entry(V value, long expiresAtNanos, long weight) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Representing a snapshot of the statistics of a KASCache.
+     */
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadFailureCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long loadFailureCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadFailureCount = loadFailureCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * Returns the number of lookups that found a cached value.
+         * @return long
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * Returns the number of lookups that did not find a cached value.
+         * It includes the lookups that waited for a request started by another call.
+         * @return long
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Returns the number of failed requests.
+         * @return long
+         */
+        public long getLoadFailureCount() {
+            return loadFailureCount;
+        }
+
+        /**
+         * Returns the number of values evicted because the cache exceeded maxSize or maxWeight.
+         * @return long
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Returns the ratio of hits to all lookups.
+         * @return double
+         */
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0 : (double)hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{" +
+                    "hitCount=" + hitCount +
+                    ", missCount=" + missCount +
+                    ", loadFailureCount=" + loadFailureCount +
+                    ", evictionCount=" + evictionCount +
+                    '}';
+        }
+    }
+}
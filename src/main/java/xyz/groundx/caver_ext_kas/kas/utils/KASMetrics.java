@@ -0,0 +1,407 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.squareup.okhttp.HttpUrl;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Representing the metrics of the requests sent to KAS, grouped by service, HTTP method and path template.
+ * For each endpoint, it records a latency histogram, the number of responses per status code, the number of retries
+ * and the request and response body sizes. Recording does not lock, and allocates only when an endpoint or a status code is seen first.
+ *
+ * <pre>
+ * KASMetrics metrics = new KASMetrics();
+ * caver.kas.setMetricsListener(metrics);
+ *
+ * for(KASMetrics.EndpointSnapshot endpoint : metrics.getSnapshot()) {
+ *     long p99 = endpoint.getLatency().getValueAtPercentile(99);
+ * }
+ * </pre>
+ */
+public class KASMetrics implements KASMetricsListener {
+
+    /**
+     * The status codes not less than this value are counted together under this value.
+     */
+    static final int MAX_STATUS_CODE = 600;
+
+    private final Map<KASRateLimiter.Service, ConcurrentMap<String, ConcurrentMap<String, Endpoint>>> endpoints = new EnumMap<>(KASRateLimiter.Service.class);
+
+    /**
+     * Creates a KASMetrics instance.
+     */
+    public KASMetrics() {
+        for(KASRateLimiter.Service service : KASRateLimiter.Service.values()) {
+            endpoints.put(service, new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void onRequest(KASRateLimiter.Service service, String method, String pathTemplate, int statusCode,
+                          long latencyNanos, int retries, long requestBytes, long responseBytes) {
+        Endpoint endpoint = endpoint(service, method, pathTemplate);
+        endpoint.latency.record(latencyNanos);
+        endpoint.statusCounts.incrementAndGet(statusCode >= 0 && statusCode < MAX_STATUS_CODE ? statusCode : MAX_STATUS_CODE);
+        if(retries > 0) {
+            endpoint.retries.add(retries);
+        }
+        if(requestBytes > 0) {
+            endpoint.requestBytes.add(requestBytes);
+        }
+        if(responseBytes > 0) {
+            endpoint.responseBytes.add(responseBytes);
+        }
+    }
+
+    private Endpoint endpoint(KASRateLimiter.Service service, String method, String pathTemplate) {
+        // Look up before computeIfAbsent(), which locks even if the key exists in Java 8.
+        ConcurrentMap<String, ConcurrentMap<String, Endpoint>> methods = endpoints.get(service);
+        ConcurrentMap<String, Endpoint> paths = methods.get(method);
+        if(paths == null) {
+            paths = methods.computeIfAbsent(method, m -> new ConcurrentHashMap<>());
+        }
+        Endpoint endpoint = paths.get(pathTemplate);
+        if(endpoint == null) {
+            endpoint = paths.computeIfAbsent(pathTemplate, p -> new Endpoint());
+        }
+        return endpoint;
+    }
+
+    /**
+     * Returns the metrics of all endpoints which have been requested.
+     * @return List
+     */
+    public List<EndpointSnapshot> getSnapshot() {
+        List<EndpointSnapshot> snapshots = new ArrayList<>();
+        endpoints.forEach((service, methods) ->
+                methods.forEach((method, paths) ->
+                        paths.forEach((pathTemplate, endpoint) -> snapshots.add(endpoint.snapshot(service, method, pathTemplate)))));
+        return snapshots;
+    }
+
+    /**
+     * Returns the metrics of an endpoint.
+     * @param service The KAS service.
+     * @param method The HTTP method(e.g. "GET").
+     * @param pathTemplate The path template(e.g. "/v2/tx/{transaction-hash}").
+     * @return EndpointSnapshot. null if the endpoint has not been requested.
+     */
+    public EndpointSnapshot getSnapshot(KASRateLimiter.Service service, String method, String pathTemplate) {
+        Map<String, Endpoint> paths = endpoints.get(service).get(method);
+        Endpoint endpoint = paths == null ? null : paths.get(pathTemplate);
+        return endpoint == null ? null : endpoint.snapshot(service, method, pathTemplate);
+    }
+
+    /**
+     * Removes all recorded metrics.
+     */
+    public void reset() {
+        endpoints.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns the path template of a KAS API path.
+     * A path not belonging to the KAS APIs provided by this library is grouped into "/{unknown}".
+     * @param path The path of a request(e.g. "/v2/tx/0x...").
+     * @return String
+     */
+    public static String toPathTemplate(String path) {
+        return PathTemplates.ofKAS(path);
+    }
+
+    /**
+     * Returns an interceptor reporting the requests of an ApiClient to the listener.
+     * The interceptor should be placed before the other interceptors to measure the whole call.
+     * To count the retries, use install() instead.
+     * @param service The service the ApiClient requests to.
+     * @param basePath The base path of the ApiClient, which is removed from the request path before finding its template.
+     * @param listener The listener.
+     * @return Interceptor
+     */
+    public static Interceptor interceptor(KASRateLimiter.Service service, String basePath, KASMetricsListener listener) {
+        return new MetricsInterceptor(service, basePath, listener);
+    }
+
+    /**
+     * Reports the requests of the ApiClient to the listener.
+     * The metrics interceptor is placed before the other interceptors, so the latency includes the retries and the waiting for a rate limiter permit,
+     * and an interceptor counting the attempts is placed after them. A listener previously installed to the ApiClient is replaced.
+     * @param apiClient The ApiClient. Its base path must be set before.
+     * @param service The service the ApiClient requests to.
+     * @param listener The listener.
+     */
+    public static void install(ApiClient apiClient, KASRateLimiter.Service service, KASMetricsListener listener) {
+        uninstall(apiClient);
+        apiClient.getHttpClient().interceptors().add(0, interceptor(service, apiClient.getBasePath(), listener));
+        apiClient.getHttpClient().interceptors().add(new AttemptInterceptor());
+    }
+
+    /**
+     * Removes the metrics listener installed to the ApiClient.
+     * @param apiClient The ApiClient.
+     */
+    public static void uninstall(ApiClient apiClient) {
+        apiClient.getHttpClient().interceptors().removeIf(interceptor -> interceptor instanceof MetricsInterceptor || interceptor instanceof AttemptInterceptor);
+    }
+
+    /**
+     * Representing the metrics of an endpoint at a point in time.
+     */
+    public static class EndpointSnapshot {
+        private final KASRateLimiter.Service service;
+        private final String method;
+        private final String pathTemplate;
+        private final LatencyHistogram.Snapshot latency;
+        private final Map<Integer, Long> statusCounts;
+        private final long retryCount;
+        private final long requestBytes;
+        private final long responseBytes;
+
+        EndpointSnapshot(KASRateLimiter.Service service, String method, String pathTemplate, LatencyHistogram.Snapshot latency,
+                         Map<Integer, Long> statusCounts, long retryCount, long requestBytes, long responseBytes) {
+            this.service = service;
+            this.method = method;
+            this.pathTemplate = pathTemplate;
+            this.latency = latency;
+            this.statusCounts = statusCounts;
+            this.retryCount = retryCount;
+            this.requestBytes = requestBytes;
+            this.responseBytes = responseBytes;
+        }
+
+        /**
+         * Getter function for service.
+         * @return KASRateLimiter.Service
+         */
+        public KASRateLimiter.Service getService() {
+            return service;
+        }
+
+        /**
+         * Getter function for method.
+         * @return String
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * Getter function for pathTemplate.
+         * @return String
+         */
+        public String getPathTemplate() {
+            return pathTemplate;
+        }
+
+        /**
+         * Getter function for latency.
+         * @return LatencyHistogram.Snapshot
+         */
+        public LatencyHistogram.Snapshot getLatency() {
+            return latency;
+        }
+
+        /**
+         * Returns the number of calls per status code of the last response. The key 0 counts the calls failed without a response.
+         * @return Map
+         */
+        public Map<Integer, Long> getStatusCounts() {
+            return statusCounts;
+        }
+
+        /**
+         * Returns the number of calls whose last response has the status code.
+         * @param statusCode The HTTP status code. 0 for the calls failed without a response.
+         * @return long
+         */
+        public long getStatusCount(int statusCode) {
+            return statusCounts.getOrDefault(statusCode, 0L);
+        }
+
+        /**
+         * Returns the number of calls.
+         * @return long
+         */
+        public long getCount() {
+            return latency.getCount();
+        }
+
+        /**
+         * Returns the number of calls failed without a response or with a status code other than 2xx.
+         * @return long
+         */
+        public long getErrorCount() {
+            long errors = 0;
+            for(Map.Entry<Integer, Long> entry : statusCounts.entrySet()) {
+                if(entry.getKey() < 200 || entry.getKey() >= 300) {
+                    errors += entry.getValue();
+                }
+            }
+            return errors;
+        }
+
+        /**
+         * Getter function for retryCount.
+         * @return long
+         */
+        public long getRetryCount() {
+            return retryCount;
+        }
+
+        /**
+         * Getter function for requestBytes.
+         * @return long
+         */
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        /**
+         * Getter function for responseBytes.
+         * @return long
+         */
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "EndpointSnapshot{" +
+                    "service=" + service +
+                    ", method='" + method + '\'' +
+                    ", pathTemplate='" + pathTemplate + '\'' +
+                    ", latency=" + latency +
+                    ", statusCounts=" + statusCounts +
+                    ", retryCount=" + retryCount +
+                    ", requestBytes=" + requestBytes +
+                    ", responseBytes=" + responseBytes +
+                    '}';
+        }
+    }
+
+    private static class Endpoint {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final AtomicLongArray statusCounts = new AtomicLongArray(MAX_STATUS_CODE + 1);
+        final LongAdder retries = new LongAdder();
+        final LongAdder requestBytes = new LongAdder();
+        final LongAdder responseBytes = new LongAdder();
+
+        EndpointSnapshot snapshot(KASRateLimiter.Service service, String method, String pathTemplate) {
+            Map<Integer, Long> counts = new TreeMap<>();
+            for(int status = 0; status < statusCounts.length(); status++) {
+                long count = statusCounts.get(status);
+                if(count > 0) {
+                    counts.put(status, count);
+                }
+            }
+            return new EndpointSnapshot(service, method, pathTemplate, latency.getSnapshot(), Collections.unmodifiableMap(counts),
+                    retries.sum(), requestBytes.sum(), responseBytes.sum());
+        }
+    }
+
+    /**
+     * Counts the attempts of the call being executed on the current thread.
+     * Interceptors run synchronously on the thread executing the call, including the retries of KASRetryPolicy.
+     */
+    static class AttemptInterceptor implements Interceptor {
+        static final ThreadLocal<int[]> ATTEMPTS = new ThreadLocal<>();
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            int[] attempts = ATTEMPTS.get();
+            if(attempts != null) {
+                attempts[0]++;
+            }
+            return chain.proceed(chain.request());
+        }
+    }
+
+    static class MetricsInterceptor implements Interceptor {
+        private final KASRateLimiter.Service service;
+        private final String basePath;
+        private final KASMetricsListener listener;
+
+        MetricsInterceptor(KASRateLimiter.Service service, String basePath, KASMetricsListener listener) {
+            HttpUrl url = basePath == null ? null : HttpUrl.parse(basePath);
+            String path = url == null ? "" : url.encodedPath();
+            this.service = service;
+            this.basePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+            this.listener = listener;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            Request request = chain.request();
+            int[] previous = AttemptInterceptor.ATTEMPTS.get();
+            int[] attempts = new int[1];
+            AttemptInterceptor.ATTEMPTS.set(attempts);
+
+            long start = System.nanoTime();
+            Response response = null;
+            try {
+                response = chain.proceed(request);
+                return response;
+            } finally {
+                long latencyNanos = System.nanoTime() - start;
+                AttemptInterceptor.ATTEMPTS.set(previous);
+                report(request, response, latencyNanos, Math.max(0, attempts[0] - 1));
+            }
+        }
+
+        private void report(Request request, Response response, long latencyNanos, int retries) {
+            String path = request.httpUrl().encodedPath();
+            if(!basePath.isEmpty() && path.startsWith(basePath)) {
+                path = path.substring(basePath.length());
+            }
+
+            long requestBytes = -1;
+            long responseBytes = -1;
+            try {
+                if(request.body() != null) {
+                    requestBytes = request.body().contentLength();
+                }
+                if(response != null && response.body() != null) {
+                    responseBytes = response.body().contentLength();
+                }
+            } catch (IOException ignored) {
+            }
+
+            try {
+                listener.onRequest(service, request.method(), PathTemplates.ofKAS(path), response == null ? 0 : response.code(),
+                        latencyNanos, retries, requestBytes, responseBytes);
+            } catch (RuntimeException ignored) {
+                // A failing listener must not fail the API call.
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Representing a KASMetricsListener forwarding the metrics to a meter registry such as Micrometer, without depending on it.
+ * The meters are created through a MeterFactory once per endpoint and status code, and tagged with
+ * "service", "method", "uri" and "status". The following meters are recorded.
+ * <ul>
+ *     <li>kas.client.requests : A timer of the call latency in nanoseconds.</li>
+ *     <li>kas.client.retries : A counter of the retried attempts.</li>
+ *     <li>kas.client.request.size : A distribution summary of the request body sizes in bytes.</li>
+ *     <li>kas.client.response.size : A distribution summary of the response body sizes in bytes.</li>
+ * </ul>
+ *
+ * <pre>
+ * caver.kas.setMetricsListener(new KASMetricsBridge(new KASMetricsBridge.MeterFactory() {
+ *     public LongConsumer timer(String name, Map&lt;String, String&gt; tags) {
+ *         Timer timer = Timer.builder(name).tags(toTags(tags)).publishPercentiles(0.99).register(registry);
+ *         return nanos -&gt; timer.record(nanos, TimeUnit.NANOSECONDS);
+ *     }
+ *
+ *     public LongConsumer counter(String name, Map&lt;String, String&gt; tags) {
+ *         Counter counter = registry.counter(name, toTags(tags));
+ *         return counter::increment;
+ *     }
+ *
+ *     public LongConsumer summary(String name, Map&lt;String, String&gt; tags) {
+ *         DistributionSummary summary = registry.summary(name, toTags(tags));
+ *         return summary::record;
+ *     }
+ * }));
+ * </pre>
+ */
+public class KASMetricsBridge implements KASMetricsListener {
+
+    /**
+     * The name of the timer of the call latency.
+     */
+    public static final String REQUESTS = "kas.client.requests";
+
+    /**
+     * The name of the counter of the retried attempts.
+     */
+    public static final String RETRIES = "kas.client.retries";
+
+    /**
+     * The name of the distribution summary of the request body sizes.
+     */
+    public static final String REQUEST_SIZE = "kas.client.request.size";
+
+    /**
+     * The name of the distribution summary of the response body sizes.
+     */
+    public static final String RESPONSE_SIZE = "kas.client.response.size";
+
+    /**
+     * Representing a factory creating the meters of a registry.
+     */
+    public interface MeterFactory {
+        /**
+         * Creates a timer.
+         * @param name The name of the meter.
+         * @param tags The tags of the meter.
+         * @return LongConsumer recording a latency in nanoseconds.
+         */
+        LongConsumer timer(String name, Map<String, String> tags);
+
+        /**
+         * Creates a counter.
+         * @param name The name of the meter.
+         * @param tags The tags of the meter.
+         * @return LongConsumer incrementing the counter by the given amount.
+         */
+        LongConsumer counter(String name, Map<String, String> tags);
+
+        /**
+         * Creates a distribution summary.
+         * @param name The name of the meter.
+         * @param tags The tags of the meter.
+         * @return LongConsumer recording a value.
+         */
+        LongConsumer summary(String name, Map<String, String> tags);
+    }
+
+    private final MeterFactory meterFactory;
+    private final ConcurrentMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a KASMetricsBridge instance.
+     * @param meterFactory The factory creating the meters.
+     */
+    public KASMetricsBridge(MeterFactory meterFactory) {
+        if(meterFactory == null) {
+            throw new IllegalArgumentException("meterFactory is required.");
+        }
+        this.meterFactory = meterFactory;
+    }
+
+    @Override
+    public void onRequest(KASRateLimiter.Service service, String method, String pathTemplate, int statusCode,
+                          long latencyNanos, int retries, long requestBytes, long responseBytes) {
+        String key = service + " " + method + " " + pathTemplate + " " + statusCode;
+        Meters endpoint = meters.get(key);
+        if(endpoint == null) {
+            endpoint = meters.computeIfAbsent(key, k -> new Meters(meterFactory, tags(service, method, pathTemplate, statusCode)));
+        }
+
+        endpoint.requests.accept(latencyNanos);
+        if(retries > 0) {
+            endpoint.retries.accept(retries);
+        }
+        if(requestBytes >= 0) {
+            endpoint.requestSize.accept(requestBytes);
+        }
+        if(responseBytes >= 0) {
+            endpoint.responseSize.accept(responseBytes);
+        }
+    }
+
+    static Map<String, String> tags(KASRateLimiter.Service service, String method, String pathTemplate, int statusCode) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("service", service.name().toLowerCase());
+        tags.put("method", method);
+        tags.put("uri", pathTemplate);
+        tags.put("status", statusCode == 0 ? "IO_ERROR" : String.valueOf(statusCode));
+        return Collections.unmodifiableMap(tags);
+    }
+
+    private static class Meters {
+        final LongConsumer requests;
+        final LongConsumer retries;
+        final LongConsumer requestSize;
+        final LongConsumer responseSize;
+
+        Meters(MeterFactory meterFactory, Map<String, String> tags) {
+            this.requests = meterFactory.timer(REQUESTS, tags);
+            this.retries = meterFactory.counter(RETRIES, tags);
+            this.requestSize = meterFactory.summary(REQUEST_SIZE, tags);
+            this.responseSize = meterFactory.summary(RESPONSE_SIZE, tags);
+        }
+    }
+}
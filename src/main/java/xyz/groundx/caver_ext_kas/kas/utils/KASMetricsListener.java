@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+/**
+ * Representing a listener of the requests sent to KAS.
+ * It is called once per API call after the response is received or the call fails, on the thread executing the call.
+ * An implementation must be thread-safe and should return quickly because it delays the delivery of the response.
+ *
+ * <pre>
+ * KASMetrics metrics = new KASMetrics();
+ * caver.kas.setMetricsListener(metrics);
+ * </pre>
+ */
+public interface KASMetricsListener {
+
+    /**
+     * Called when an API call is completed.
+     * @param service The KAS service called.
+     * @param method The HTTP method(e.g. "GET").
+     * @param pathTemplate The path template of the endpoint(e.g. "/v2/tx/{transaction-hash}").
+     * @param statusCode The HTTP status code of the last response. 0 if no response is received.
+     * @param latencyNanos The time of the call including the retries and the waiting for a rate limiter permit.
+     * @param retries The number of attempts after the first one.
+     * @param requestBytes The size of the request body. -1 if it is unknown.
+     * @param responseBytes The size of the response body. -1 if it is unknown.
+     */
+    void onRequest(KASRateLimiter.Service service, String method, String pathTemplate, int statusCode,
+                   long latencyNanos, int retries, long requestBytes, long responseBytes);
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Response;
+import org.threeten.bp.Instant;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeParseException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Representing a client-side rate limiter for KAS.
+ * A token bucket can be configured for each service, and optionally for each endpoint path of a service.
+ * A request takes a permit from the endpoint bucket(if any) and from the service bucket.
+ * If no permit is available, the request waits up to `maxWaitMillis` or fails with RateLimitExceededException when it is 0.
+ * When KAS responds with 429(Too Many Requests) or 503(Service Unavailable), the buckets used by the request stop issuing permits
+ * for the time given by the `Retry-After` header and halve their rate. Each successful response raises the rate back toward the configured rate.
+ *
+ * <pre>
+ * KASRateLimiter rateLimiter = new KASRateLimiter()
+ *         .setServiceLimit(KASRateLimiter.Service.WALLET, 50, 50)
+ *         .setEndpointLimit(KASRateLimiter.Service.WALLET, "/v2/tx/value", 10, 10);
+ * caver.setRateLimiter(rateLimiter);
+ * </pre>
+ */
+public class KASRateLimiter {
+
+    /**
+     * The default maximum time to wait for a permit.
+     */
+    public static final long DEFAULT_MAX_WAIT_MILLIS = 30_000;
+
+    /**
+     * The pause applied when KAS rejects a request without a `Retry-After` header.
+     */
+    public static final long DEFAULT_RETRY_AFTER_MILLIS = 1_000;
+
+    /**
+     * Representing the KAS services which can be rate limited.
+     */
+    public enum Service {
+        WALLET, ANCHOR, TOKEN_HISTORY, NODE
+    }
+
+    private final Map<Service, TokenBucket> serviceBuckets = new EnumMap<>(Service.class);
+    private final Map<Service, Map<String, TokenBucket>> endpointBuckets = new EnumMap<>(Service.class);
+    private volatile long maxWaitMillis = DEFAULT_MAX_WAIT_MILLIS;
+
+    /**
+     * Creates a KASRateLimiter instance.
+     * No service is limited until a limit is set.
+     */
+    public KASRateLimiter() {
+    }
+
+    /**
+     * Limits the requests of a service.
+     * @param service The service to limit.
+     * @param permitsPerSecond The number of requests allowed per second.
+     * @param burst The number of requests allowed at once.
+     * @return KASRateLimiter
+     */
+    public synchronized KASRateLimiter setServiceLimit(Service service, double permitsPerSecond, int burst) {
+        serviceBuckets.put(service, new TokenBucket(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * Limits the requests of a service whose path starts with the given path.
+     * If several endpoint limits match a request, the one having the longest path is used.
+     * @param service The service having the endpoint.
+     * @param path The path of the endpoint(e.g. "/v2/tx/value").
+     * @param permitsPerSecond The number of requests allowed per second.
+     * @param burst The number of requests allowed at once.
+     * @return KASRateLimiter
+     */
+    public synchronized KASRateLimiter setEndpointLimit(Service service, String path, double permitsPerSecond, int burst) {
+        endpointBuckets.computeIfAbsent(service, s -> new ConcurrentHashMap<>()).put(path, new TokenBucket(permitsPerSecond, burst));
+        return this;
+    }
+
+    /**
+     * Setter function for maxWaitMillis.
+     * @param maxWaitMillis The maximum time to wait for a permit. If 0, a request fails immediately when no permit is available.
+     * @return KASRateLimiter
+     */
+    public KASRateLimiter setMaxWaitMillis(long maxWaitMillis) {
+        if(maxWaitMillis < 0) {
+            throw new IllegalArgumentException("maxWaitMillis must not be negative.");
+        }
+        this.maxWaitMillis = maxWaitMillis;
+        return this;
+    }
+
+    /**
+     * Getter function for maxWaitMillis.
+     * @return long
+     */
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    /**
+     * Returns the bucket limiting the given service.
+     * @param service The service.
+     * @return TokenBucket. null if the service is not limited.
+     */
+    public synchronized TokenBucket getServiceBucket(Service service) {
+        return serviceBuckets.get(service);
+    }
+
+    /**
+     * Returns the bucket limiting the given endpoint.
+     * @param service The service having the endpoint.
+     * @param path The path of the endpoint used in setEndpointLimit().
+     * @return TokenBucket. null if the endpoint is not limited.
+     */
+    public synchronized TokenBucket getEndpointBucket(Service service, String path) {
+        Map<String, TokenBucket> buckets = endpointBuckets.get(service);
+        return buckets == null ? null : buckets.get(path);
+    }
+
+    /**
+     * Takes the permits needed to send a request, waiting for them if needed.
+     * @param service The service to request.
+     * @param path The path of the request.
+     * @return The buckets the permits are taken from.
+     * @throws IOException Thrown when no permit is available within maxWaitMillis or the thread is interrupted.
+     */
+    public List<TokenBucket> acquire(Service service, String path) throws IOException {
+        List<TokenBucket> buckets = findBuckets(service, path);
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        long waitNanos = 0;
+        for(int i = 0; i < buckets.size(); i++) {
+            long wait = buckets.get(i).reserve(maxWaitNanos);
+            if(wait < 0) {
+                // Return the permits already taken, so a rejected request does not drain the other buckets.
+                release(buckets.subList(0, i));
+                throw new RateLimitExceededException("The rate limit of " + service + " " + path + " is exceeded.");
+            }
+            waitNanos = Math.max(waitNanos, wait);
+        }
+
+        if(waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                release(buckets);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the rate limit.");
+            }
+        }
+        return buckets;
+    }
+
+    private static void release(List<TokenBucket> buckets) {
+        for(TokenBucket bucket : buckets) {
+            bucket.release();
+        }
+    }
+
+    /**
+     * Adjusts the rate of the buckets according to the response.
+     * @param buckets The buckets returned by acquire().
+     * @param statusCode The HTTP status code of the response.
+     * @param retryAfter The value of the `Retry-After` header. It may be null.
+     */
+    public void onResponse(List<TokenBucket> buckets, int statusCode, String retryAfter) {
+        if(statusCode == 429 || statusCode == 503) {
+            long pauseNanos = TimeUnit.MILLISECONDS.toNanos(parseRetryAfterMillis(retryAfter));
+            for(TokenBucket bucket : buckets) {
+                bucket.backOff(pauseNanos);
+            }
+        } else if(statusCode < 500) {
+            for(TokenBucket bucket : buckets) {
+                bucket.recover();
+            }
+        }
+    }
+
+    /**
+     * Returns an interceptor applying this rate limiter to the requests of an ApiClient.
+     * @param service The service the ApiClient requests to.
+     * @return Interceptor
+     */
+    public Interceptor interceptor(Service service) {
+        return new RateLimitInterceptor(this, service);
+    }
+
+    /**
+     * Returns an interceptor applying this rate limiter to the requests of the Node API.
+     * @return okhttp3.Interceptor
+     */
+    public okhttp3.Interceptor nodeInterceptor() {
+        return chain -> {
+            List<TokenBucket> buckets = acquire(Service.NODE, chain.request().url().encodedPath());
+            okhttp3.Response response = chain.proceed(chain.request());
+            onResponse(buckets, response.code(), response.header("Retry-After"));
+            return response;
+        };
+    }
+
+    /**
+     * Applies this rate limiter to the requests of the ApiClient.
+     * A rate limiter previously applied to the ApiClient is replaced.
+     * @param apiClient The ApiClient.
+     * @param service The service the ApiClient requests to.
+     */
+    public void install(ApiClient apiClient, Service service) {
+        uninstall(apiClient);
+        apiClient.getHttpClient().interceptors().add(interceptor(service));
+    }
+
+    /**
+     * Removes the rate limiter applied to the requests of the ApiClient.
+     * @param apiClient The ApiClient.
+     */
+    public static void uninstall(ApiClient apiClient) {
+        apiClient.getHttpClient().interceptors().removeIf(interceptor -> interceptor instanceof RateLimitInterceptor);
+    }
+
+    synchronized List<TokenBucket> findBuckets(Service service, String path) {
+        List<TokenBucket> buckets = new ArrayList<>(2);
+
+        Map<String, TokenBucket> endpoints = endpointBuckets.get(service);
+        if(endpoints != null && path != null) {
+            String matched = null;
+            for(String prefix : endpoints.keySet()) {
+                if(path.startsWith(prefix) && (matched == null || prefix.length() > matched.length())) {
+                    matched = prefix;
+                }
+            }
+            if(matched != null) {
+                buckets.add(endpoints.get(matched));
+            }
+        }
+
+        TokenBucket serviceBucket = serviceBuckets.get(service);
+        if(serviceBucket != null) {
+            buckets.add(serviceBucket);
+        }
+        return buckets;
+    }
+
+    static long parseRetryAfterMillis(String retryAfter) {
+        if(retryAfter == null || retryAfter.trim().isEmpty()) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+
+        String value = retryAfter.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+        }
+
+        try {
+            Instant until = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return Math.max(0, until.toEpochMilli() - System.currentTimeMillis());
+        } catch (DateTimeParseException e) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+    }
+
+    static class RateLimitInterceptor implements Interceptor {
+        private final KASRateLimiter rateLimiter;
+        private final Service service;
+
+        RateLimitInterceptor(KASRateLimiter rateLimiter, Service service) {
+            this.rateLimiter = rateLimiter;
+            this.service = service;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            List<TokenBucket> buckets = rateLimiter.acquire(service, chain.request().httpUrl().encodedPath());
+            Response response = chain.proceed(chain.request());
+            rateLimiter.onResponse(buckets, response.code(), response.header("Retry-After"));
+            return response;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Representing a retry policy for KAS API requests.
+ * A request failed with an IOException or with a 429, 500, 502, 503 or 504 response is sent again
+ * until `maxAttempts` is reached or the next attempt would start after the deadline of the call.
+ * An attempt still running at the deadline is cancelled, so a call built by ApiClient.buildCall() ends by the deadline.
+ * Only GET requests are retried by default. A POST request is retried only when its path is marked as safe by addSafePostPath().
+ * The delay between attempts follows the decorrelated jitter: a random value between `baseDelayMillis` and three times the previous delay,
+ * capped by `maxDelayMillis`. If the response has a `Retry-After` header, the delay is at least that long.
+ * Note that the delay is spent on the thread executing the call, which is a dispatcher thread for an asynchronous call.
+ *
+ * <pre>
+ * KASRetryPolicy retryPolicy = new KASRetryPolicy()
+ *         .setMaxAttempts(3)
+ *         .setDeadlineMillis(10000)
+ *         .addSafePostPath("/v2/tx/fd/anchor");
+ * caver.kas.setRetryPolicy(retryPolicy);
+ * </pre>
+ */
+public class KASRetryPolicy {
+
+    /**
+     * The default maximum number of attempts including the first one.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default base delay between attempts.
+     */
+    public static final long DEFAULT_BASE_DELAY_MILLIS = 100;
+
+    /**
+     * The default maximum delay between attempts.
+     */
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 5_000;
+
+    /**
+     * The default time limit of a call including all attempts and delays.
+     */
+    public static final long DEFAULT_DEADLINE_MILLIS = 30_000;
+
+    private static final ScheduledExecutorService DEADLINE_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "KAS-RetryDeadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private volatile long baseDelayMillis = DEFAULT_BASE_DELAY_MILLIS;
+    private volatile long maxDelayMillis = DEFAULT_MAX_DELAY_MILLIS;
+    private volatile long deadlineMillis = DEFAULT_DEADLINE_MILLIS;
+    private final List<String> safePostPaths = new CopyOnWriteArrayList<>();
+
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong giveUpCount = new AtomicLong();
+
+    /**
+     * Creates a KASRetryPolicy instance with the default settings.
+     */
+    public KASRetryPolicy() {
+    }
+
+    /**
+     * Setter function for maxAttempts.
+     * @param maxAttempts The maximum number of attempts including the first one. If 1, no request is retried.
+     * @return KASRetryPolicy
+     */
+    public KASRetryPolicy setMaxAttempts(int maxAttempts) {
+        if(maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1.");
+        }
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Setter function for baseDelayMillis.
+     * @param baseDelayMillis The minimum delay between attempts.
+     * @return KASRetryPolicy
+     */
+    public KASRetryPolicy setBaseDelayMillis(long baseDelayMillis) {
+        if(baseDelayMillis < 0) {
+            throw new IllegalArgumentException("baseDelayMillis must not be negative.");
+        }
+        this.baseDelayMillis = baseDelayMillis;
+        return this;
+    }
+
+    /**
+     * Setter function for maxDelayMillis.
+     * @param maxDelayMillis The maximum delay between attempts.
+     * @return KASRetryPolicy
+     */
+    public KASRetryPolicy setMaxDelayMillis(long maxDelayMillis) {
+        if(maxDelayMillis < 0) {
+            throw new IllegalArgumentException("maxDelayMillis must not be negative.");
+        }
+        this.maxDelayMillis = maxDelayMillis;
+        return this;
+    }
+
+    /**
+     * Setter function for deadlineMillis.
+     * @param deadlineMillis The time limit of a call including all attempts and delays.
+     * @return KASRetryPolicy
+     */
+    public KASRetryPolicy setDeadlineMillis(long deadlineMillis) {
+        if(deadlineMillis < 0) {
+            throw new IllegalArgumentException("deadlineMillis must not be negative.");
+        }
+        this.deadlineMillis = deadlineMillis;
+        return this;
+    }
+
+    /**
+     * Marks the POST requests whose path starts with the given path as safe to retry.
+     * Mark only the requests which do not make a duplicate when KAS receives them twice.
+     * @param pathPrefix The path of the endpoint(e.g. "/v2/tx/fd/anchor").
+     * @return KASRetryPolicy
+     */
+    public KASRetryPolicy addSafePostPath(String pathPrefix) {
+        safePostPaths.add(pathPrefix);
+        return this;
+    }
+
+    /**
+     * Getter function for maxAttempts.
+     * @return int
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Getter function for baseDelayMillis.
+     * @return long
+     */
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    /**
+     * Getter function for maxDelayMillis.
+     * @return long
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * Getter function for deadlineMillis.
+     * @return long
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * Returns the number of retried attempts.
+     * @return long
+     */
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    /**
+     * Returns the number of calls which failed with a retryable error but could not be retried anymore.
+     * @return long
+     */
+    public long getGiveUpCount() {
+        return giveUpCount.get();
+    }
+
+    /**
+     * Checks whether the request can be retried.
+     * @param request The request.
+     * @return boolean
+     */
+    public boolean isRetryable(Request request) {
+        String method = request.method();
+        if("GET".equals(method) || "HEAD".equals(method)) {
+            return true;
+        }
+        if("POST".equals(method)) {
+            String path = request.httpUrl().encodedPath();
+            for(String safePath : safePostPaths) {
+                if(path.startsWith(safePath)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an interceptor applying this retry policy to the requests of an ApiClient.
+     * @return Interceptor
+     */
+    public Interceptor interceptor() {
+        return new RetryInterceptor(this);
+    }
+
+    /**
+     * Applies this retry policy to the requests of the ApiClient.
+     * The retry interceptor is placed before the other interceptors, so a rate limiter is applied to each attempt.
+     * A retry policy previously applied to the ApiClient is replaced.
+     * @param apiClient The ApiClient.
+     */
+    public void install(ApiClient apiClient) {
+        uninstall(apiClient);
+        apiClient.getHttpClient().interceptors().add(0, interceptor());
+    }
+
+    /**
+     * Removes the retry policy applied to the requests of the ApiClient.
+     * @param apiClient The ApiClient.
+     */
+    public static void uninstall(ApiClient apiClient) {
+        apiClient.getHttpClient().interceptors().removeIf(interceptor -> interceptor instanceof RetryInterceptor);
+    }
+
+    static boolean isRetryableStatus(int code) {
+        return code == 429 || code == 500 || code == 502 || code == 503 || code == 504;
+    }
+
+    long nextDelayMillis(long previousDelayMillis) {
+        long base = baseDelayMillis;
+        long upper = Math.max(base, previousDelayMillis * 3);
+        long delay = upper > base ? ThreadLocalRandom.current().nextLong(base, upper + 1) : base;
+        return Math.min(maxDelayMillis, delay);
+    }
+
+    Response execute(Interceptor.Chain chain) throws IOException {
+        Request request = chain.request();
+        if(maxAttempts == 1 || !isRetryable(request)) {
+            return chain.proceed(request);
+        }
+
+        ApiClient.CallTag tag = request.tag() instanceof ApiClient.CallTag ? (ApiClient.CallTag)request.tag() : null;
+        AtomicBoolean deadlineExceeded = new AtomicBoolean();
+        ScheduledFuture<?> deadlineTask = null;
+        if(tag != null && tag.getCall() != null) {
+            deadlineTask = DEADLINE_SCHEDULER.schedule(() -> {
+                deadlineExceeded.set(true);
+                tag.getCall().cancel();
+            }, deadlineMillis, TimeUnit.MILLISECONDS);
+        }
+
+        try {
+            return execute(chain, request, tag, deadlineExceeded);
+        } finally {
+            if(deadlineTask != null) {
+                deadlineTask.cancel(false);
+            }
+        }
+    }
+
+    private Response execute(Interceptor.Chain chain, Request request, ApiClient.CallTag tag, AtomicBoolean deadlineExceeded) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        long delayMillis = baseDelayMillis;
+        for(int attempt = 1; ; attempt++) {
+            Response response = null;
+            IOException failure = null;
+            try {
+                response = chain.proceed(request);
+                if(!isRetryableStatus(response.code())) {
+                    return response;
+                }
+            } catch (RateLimitExceededException e) {
+                throw e;
+            } catch (IOException e) {
+                if(deadlineExceeded.get()) {
+                    giveUpCount.incrementAndGet();
+                    InterruptedIOException timeout = new InterruptedIOException("The call did not complete within the deadline of the retry policy.");
+                    timeout.initCause(e);
+                    throw timeout;
+                }
+                // A cancelled call or an interrupted thread is not a transient failure of KAS.
+                if(Thread.currentThread().isInterrupted() || (tag != null && tag.isCanceled())) {
+                    throw e;
+                }
+                failure = e;
+            }
+
+            delayMillis = nextDelayMillis(delayMillis);
+            if(response != null) {
+                delayMillis = Math.max(delayMillis, retryAfterMillis(response));
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if(attempt >= maxAttempts || TimeUnit.MILLISECONDS.toNanos(delayMillis) >= remainingNanos) {
+                giveUpCount.incrementAndGet();
+                if(failure != null) {
+                    throw failure;
+                }
+                return response;
+            }
+
+            if(response != null && response.body() != null) {
+                response.body().close();
+            }
+            retryCount.incrementAndGet();
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to retry.");
+            }
+        }
+    }
+
+    private static long retryAfterMillis(Response response) {
+        String retryAfter = response.header("Retry-After");
+        if(retryAfter == null) {
+            return 0;
+        }
+        return KASRateLimiter.parseRetryAfterMillis(retryAfter);
+    }
+
+    static class RetryInterceptor implements Interceptor {
+        private final KASRetryPolicy retryPolicy;
+
+        RetryInterceptor(KASRetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+        }
+
+        @Override
+        public Response intercept(Chain chain) throws IOException {
+            return retryPolicy.execute(chain);
+        }
+    }
+}
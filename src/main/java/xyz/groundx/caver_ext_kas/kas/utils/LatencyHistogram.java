@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Representing a histogram of latencies in nanoseconds.
+ * Like HdrHistogram, each power of two is divided into {@value #SUB_BUCKET_COUNT} linear buckets, so a recorded value is kept
+ * with a relative error under 1/{@value #SUB_BUCKET_COUNT}(about 3%). The buckets are allocated once, and recording a value
+ * only increments a counter without allocating or locking, so it can be called from many threads on each request.
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of buckets per power of two.
+     */
+    public static final int SUB_BUCKET_COUNT = 32;
+
+    static final int SUB_BUCKET_BITS = 5;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a LatencyHistogram instance.
+     */
+    public LatencyHistogram() {
+    }
+
+    /**
+     * Records a latency.
+     * @param nanos The latency in nanoseconds. A negative value is recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(indexOf(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        minNanos.accumulate(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     * @return long
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Returns a copy of the recorded latencies.
+     * Values recorded while taking the snapshot may or may not be included.
+     * @return Snapshot
+     */
+    public Snapshot getSnapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for(int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        long min = count == 0 ? 0 : minNanos.get();
+        return new Snapshot(copy, count, totalNanos.sum(), min, maxNanos.get());
+    }
+
+    static int indexOf(long value) {
+        if(value < SUB_BUCKET_COUNT) {
+            return (int)value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        int subBucket = (int)(value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long lowestValueAt(int index) {
+        if(index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return (long)(SUB_BUCKET_COUNT + subBucket) << shift;
+    }
+
+    static long highestValueAt(int index) {
+        if(index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        return lowestValueAt(index) + (1L << shift) - 1;
+    }
+
+    /**
+     * Representing a point-in-time copy of a LatencyHistogram.
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long minNanos;
+        private final long maxNanos;
+
+        Snapshot(long[] counts, long count, long totalNanos, long minNanos, long maxNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.minNanos = minNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        /**
+         * Returns the latency at the given percentile.
+         * It is the highest value of the bucket containing the percentile, but not larger than the maximum recorded latency.
+         * The 0th percentile is the minimum recorded latency.
+         * @param percentile The percentile between 0 and 100(e.g. 99.9).
+         * @return long The latency in nanoseconds. 0 if nothing is recorded.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if(percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100.");
+            }
+            if(count == 0) {
+                return 0;
+            }
+            if(percentile == 0) {
+                return minNanos;
+            }
+
+            long rank = Math.max(1, (long)Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for(int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if(seen >= rank) {
+                    return Math.max(minNanos, Math.min(maxNanos, highestValueAt(i)));
+                }
+            }
+            return maxNanos;
+        }
+
+        /**
+         * Getter function for count.
+         * @return long
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Getter function for minNanos.
+         * @return long
+         */
+        public long getMinNanos() {
+            return minNanos;
+        }
+
+        /**
+         * Getter function for maxNanos.
+         * @return long
+         */
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the mean latency.
+         * @return double The mean latency in nanoseconds. 0 if nothing is recorded.
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0 : (double)totalNanos / count;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "count=" + count +
+                    ", minNanos=" + minNanos +
+                    ", p50Nanos=" + getValueAtPercentile(50) +
+                    ", p99Nanos=" + getValueAtPercentile(99) +
+                    ", maxNanos=" + maxNanos +
+                    '}';
+        }
+    }
+}
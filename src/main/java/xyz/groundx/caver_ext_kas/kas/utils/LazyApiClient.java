@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Representing an ApiClient created when it is used first.
+ * The KAS API classes(e.g. Wallet) hold it instead of an ApiClient, so an API initialized but never used does not create its ApiClient.
+ * It is created only once even if it is used by multiple threads at the same time.
+ */
+public class LazyApiClient implements Supplier<ApiClient> {
+    private final Supplier<ApiClient> factory;
+    private volatile ApiClient apiClient;
+    private List<Consumer<ApiClient>> pendingConfigurers = new ArrayList<>();
+
+    /**
+     * Creates a LazyApiClient instance.
+     * @param factory The function creating the ApiClient.
+     */
+    public LazyApiClient(Supplier<ApiClient> factory) {
+        if(factory == null) {
+            throw new IllegalArgumentException("factory is required.");
+        }
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a LazyApiClient instance holding an ApiClient already created.
+     * @param apiClient The ApiClient.
+     * @return LazyApiClient
+     */
+    public static LazyApiClient of(ApiClient apiClient) {
+        if(apiClient == null) {
+            throw new IllegalArgumentException("apiClient is required.");
+        }
+        LazyApiClient lazyApiClient = new LazyApiClient(() -> apiClient);
+        lazyApiClient.get();
+        return lazyApiClient;
+    }
+
+    /**
+     * Returns the ApiClient, creating it on the first call.
+     * @return ApiClient
+     */
+    @Override
+    public ApiClient get() {
+        ApiClient apiClient = this.apiClient;
+        if(apiClient != null) {
+            return apiClient;
+        }
+
+        synchronized (this) {
+            if(this.apiClient == null) {
+                ApiClient created = factory.get();
+                for(Consumer<ApiClient> configurer : pendingConfigurers) {
+                    configurer.accept(created);
+                }
+                pendingConfigurers = null;
+                this.apiClient = created;
+            }
+            return this.apiClient;
+        }
+    }
+
+    /**
+     * Checks whether the ApiClient is created.
+     * @return boolean
+     */
+    public boolean isCreated() {
+        return apiClient != null;
+    }
+
+    /**
+     * Applies the function to the ApiClient if it is created, and does nothing otherwise.
+     * @param configurer The function applied to the ApiClient.
+     */
+    public synchronized void ifCreated(Consumer<ApiClient> configurer) {
+        if(apiClient != null) {
+            configurer.accept(apiClient);
+        }
+    }
+
+    /**
+     * Applies the function to the ApiClient now if it is created, or right after it is created otherwise.
+     * The functions are applied in the order of the calls.
+     * @param configurer The function applied to the ApiClient.
+     */
+    public synchronized void configure(Consumer<ApiClient> configurer) {
+        if(apiClient != null) {
+            configurer.accept(apiClient);
+        } else {
+            pendingConfigurers.add(configurer);
+        }
+    }
+}
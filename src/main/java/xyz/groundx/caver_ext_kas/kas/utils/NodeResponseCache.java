@@ -0,0 +1,371 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Representing a cache of the Node API results that never change, e.g. a block by its hash or the receipt of a mined transaction.
+ * It is an interceptor of the HTTP client of the Node API, so it applies to plain and batched JSON-RPC calls alike,
+ * and a call served from the cache is not counted by the rate limiter.
+ * The results are keyed by the method and the parameters, and stored as their JSON bytes.
+ * <p>
+ * A result is cached only when it is known to be final:
+ * <ul>
+ *     <li>It is not null and the call has no error.</li>
+ *     <li>A block or a transaction is included in a block at least `confirmations` blocks below the latest block.
+ *     The latest block number is taken from the results of klay_blockNumber and the blocks passing through this cache.
+ *     If `confirmations` is 0, a mined block or transaction is cached without knowing the latest block.</li>
+ *     <li>A block requested by number is requested by an explicit number, not by a tag like "latest".</li>
+ * </ul>
+ *
+ * <pre>
+ * caver.enableNodeCache(10_000, 64 * 1024 * 1024, 0);
+ * caver.rpc.klay.getBlockByHash(blockHash).send();  // Requested to KAS.
+ * caver.rpc.klay.getBlockByHash(blockHash).send();  // Served from the cache.
+ * </pre>
+ */
+public class NodeResponseCache implements Interceptor {
+
+    /**
+     * The approximate heap size of a cached result excluding its bytes and key.
+     */
+    static final long ENTRY_OVERHEAD_BYTES = 96;
+
+    /**
+     * The methods returning a block or a part of it by the block hash.
+     */
+    static final Set<String> BLOCK_HASH_METHODS = methods(
+            "klay_getBlockByHash", "klay_getBlockWithConsensusInfoByHash", "klay_getBlockReceipts",
+            "klay_getBlockTransactionCountByHash", "klay_getTransactionByBlockHashAndIndex", "klay_getHeaderByHash",
+            "eth_getBlockByHash", "eth_getBlockTransactionCountByHash", "eth_getTransactionByBlockHashAndIndex");
+
+    /**
+     * The methods returning a block or a part of it by the block number.
+     */
+    static final Set<String> BLOCK_NUMBER_METHODS = methods(
+            "klay_getBlockByNumber", "klay_getBlockWithConsensusInfoByNumber", "klay_getBlockTransactionCountByNumber",
+            "klay_getTransactionByBlockNumberAndIndex", "klay_getHeaderByNumber",
+            "eth_getBlockByNumber", "eth_getBlockTransactionCountByNumber", "eth_getTransactionByBlockNumberAndIndex");
+
+    /**
+     * The methods returning a transaction or its receipt by the transaction hash.
+     */
+    static final Set<String> TRANSACTION_METHODS = methods(
+            "klay_getTransactionByHash", "klay_getTransactionBySenderTxHash",
+            "klay_getTransactionReceipt", "klay_getTransactionReceiptBySenderTxHash",
+            "eth_getTransactionByHash", "eth_getTransactionReceipt");
+
+    /**
+     * The methods returning the latest block number.
+     */
+    static final Set<String> BLOCK_NUMBER_RESULT_METHODS = methods("klay_blockNumber", "eth_blockNumber");
+
+    private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json; charset=utf-8");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KASCache<String, byte[]> cache;
+    private final long confirmations;
+    private final AtomicLong latestBlockNumber = new AtomicLong(-1);
+
+    /**
+     * Creates a NodeResponseCache instance.
+     * @param maxEntries The maximum number of cached results.
+     * @param maxBytes The maximum approximate size of cached results in bytes.
+     * @param confirmations The number of blocks a block or a transaction must be below the latest block to be cached.
+     */
+    public NodeResponseCache(int maxEntries, long maxBytes, long confirmations) {
+        if(confirmations < 0) {
+            throw new IllegalArgumentException("confirmations must not be negative.");
+        }
+        this.cache = new KASCache<>(maxEntries, 0, maxBytes, value -> ENTRY_OVERHEAD_BYTES + value.length);
+        this.confirmations = confirmations;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if(request.body() == null || !"POST".equals(request.method())) {
+            return chain.proceed(request);
+        }
+
+        Buffer buffer = new Buffer();
+        request.body().writeTo(buffer);
+        JsonNode calls = readTree(buffer.readByteArray());
+        if(calls == null || !isCacheable(calls)) {
+            return chain.proceed(request);
+        }
+
+        byte[] cached = lookup(calls);
+        if(cached != null) {
+            return new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(cached, JSON_MEDIA_TYPE))
+                    .build();
+        }
+
+        Response response = chain.proceed(request);
+        if(!response.isSuccessful() || response.body() == null) {
+            return response;
+        }
+
+        // The body can be read only once, so the response is rebuilt with the bytes read.
+        ResponseBody body = response.body();
+        byte[] bytes = body.bytes();
+        store(calls, readTree(bytes));
+        return response.newBuilder().body(ResponseBody.create(bytes, body.contentType())).build();
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached results.
+     * @return int
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the approximate size of cached results in bytes.
+     * @return long
+     */
+    public long bytes() {
+        return cache.weight();
+    }
+
+    /**
+     * Returns the statistics of this cache.
+     * @return KASCache.Stats
+     */
+    public KASCache.Stats getStats() {
+        return cache.getStats();
+    }
+
+    /**
+     * Getter function for confirmations.
+     * @return long
+     */
+    public long getConfirmations() {
+        return confirmations;
+    }
+
+    /**
+     * Returns the latest block number seen by this cache.
+     * @return long. -1 if no latest block number is seen yet.
+     */
+    public long getLatestBlockNumber() {
+        return latestBlockNumber.get();
+    }
+
+    private boolean isCacheable(JsonNode calls) {
+        if(calls.isArray()) {
+            for(JsonNode call : calls) {
+                if(isCacheableCall(call)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isCacheableCall(calls);
+    }
+
+    private static boolean isCacheableCall(JsonNode call) {
+        String method = call.path("method").asText();
+        return BLOCK_HASH_METHODS.contains(method) || BLOCK_NUMBER_METHODS.contains(method)
+                || TRANSACTION_METHODS.contains(method) || BLOCK_NUMBER_RESULT_METHODS.contains(method);
+    }
+
+    private byte[] lookup(JsonNode calls) throws IOException {
+        // A batch is served from the cache only when all of its calls are cached.
+        if(calls.isArray()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write('[');
+            for(JsonNode call : calls) {
+                byte[] result = lookupCall(call);
+                if(result == null) {
+                    return null;
+                }
+                if(out.size() > 1) {
+                    out.write(',');
+                }
+                writeResponse(out, call, result);
+            }
+            out.write(']');
+            return out.toByteArray();
+        }
+
+        byte[] result = lookupCall(calls);
+        if(result == null) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(result.length + 64);
+        writeResponse(out, calls, result);
+        return out.toByteArray();
+    }
+
+    private byte[] lookupCall(JsonNode call) {
+        String key = cacheKey(call);
+        return key == null ? null : cache.getIfPresent(key);
+    }
+
+    private void writeResponse(ByteArrayOutputStream out, JsonNode call, byte[] result) throws IOException {
+        out.write("{\"jsonrpc\":\"2.0\",\"id\":".getBytes(StandardCharsets.UTF_8));
+        out.write(objectMapper.writeValueAsBytes(call.get("id")));
+        out.write(",\"result\":".getBytes(StandardCharsets.UTF_8));
+        out.write(result);
+        out.write('}');
+    }
+
+    private void store(JsonNode calls, JsonNode responses) throws IOException {
+        if(responses == null) {
+            return;
+        }
+
+        if(calls.isArray() && responses.isArray()) {
+            // The responses of a batch may be in any order, so they are matched to the calls by their ids.
+            for(JsonNode response : responses) {
+                for(JsonNode call : calls) {
+                    if(call.path("id").equals(response.path("id"))) {
+                        storeCall(call, response);
+                        break;
+                    }
+                }
+            }
+        } else if(calls.isObject() && responses.isObject()) {
+            storeCall(calls, responses);
+        }
+    }
+
+    private void storeCall(JsonNode call, JsonNode response) throws IOException {
+        JsonNode result = response.get("result");
+        if((response.has("error") && !response.get("error").isNull()) || result == null || result.isNull()) {
+            return;
+        }
+
+        String method = call.path("method").asText();
+        if(BLOCK_NUMBER_RESULT_METHODS.contains(method)) {
+            observe(parseQuantity(result));
+            return;
+        }
+
+        // The block of a result is not above the latest block, so it is a lower bound of the latest block number.
+        long blockNumber = blockNumberOf(result);
+        observe(blockNumber);
+
+        String key = cacheKey(call);
+        if(key != null && isFinal(method, blockNumber)) {
+            cache.put(key, objectMapper.writeValueAsBytes(result));
+        }
+    }
+
+    private boolean isFinal(String method, long blockNumber) {
+        if(blockNumber < 0) {
+            // A result without a block number, e.g. the transaction count of a block, is final only if the block is known by its hash.
+            return confirmations == 0 && BLOCK_HASH_METHODS.contains(method);
+        }
+        if(confirmations == 0) {
+            return true;
+        }
+        long latest = latestBlockNumber.get();
+        return latest >= 0 && latest - blockNumber >= confirmations;
+    }
+
+    private void observe(long blockNumber) {
+        if(blockNumber >= 0) {
+            latestBlockNumber.accumulateAndGet(blockNumber, Math::max);
+        }
+    }
+
+    private String cacheKey(JsonNode call) {
+        String method = call.path("method").asText();
+        if(BLOCK_NUMBER_RESULT_METHODS.contains(method) || !isCacheableCall(call)) {
+            return null;
+        }
+
+        JsonNode params = call.path("params");
+        if(BLOCK_NUMBER_METHODS.contains(method) && parseQuantity(params.path(0)) < 0) {
+            return null;
+        }
+        return key(method, params);
+    }
+
+    private static String key(String method, JsonNode params) {
+        // A hash is case-insensitive, so the parameters are normalized to lower case.
+        return method + params.toString().toLowerCase();
+    }
+
+    private static long blockNumberOf(JsonNode result) {
+        if(result.isArray()) {
+            return result.size() == 0 ? -1 : blockNumberOf(result.get(0));
+        }
+        if(!result.isObject()) {
+            return -1;
+        }
+        return parseQuantity(result.has("blockNumber") ? result.get("blockNumber") : result.path("number"));
+    }
+
+    private static long parseQuantity(JsonNode value) {
+        String text = value.isTextual() ? value.asText() : null;
+        if(text == null || !text.startsWith("0x") || text.length() < 3 || text.length() > 17) {
+            return -1;
+        }
+        try {
+            return new BigInteger(text.substring(2), 16).longValue();
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private JsonNode readTree(byte[] bytes) {
+        try {
+            return objectMapper.readTree(bytes);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Set<String> methods(String... methods) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(methods)));
+    }
+}
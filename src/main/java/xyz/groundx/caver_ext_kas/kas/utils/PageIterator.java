@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Representing an iterator over all items of a cursor-paginated KAS API.
+ * Pages are requested lazily and the next page is prefetched in the background while the current one is consumed.
+ * Because each request needs the cursor of the previous page, at most one request is in flight at a time
+ * and at most `maxPrefetchPages` fetched pages are buffered ahead of the consumer.
+ * If a page request fails, hasNext() or next() throws a CompletionException having the ApiException as the cause.
+ * @param <P> The type of the page(e.g. PageableTransfers).
+ * @param <T> The type of the item in the page.
+ */
+public class PageIterator<P, T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * The default number of pages buffered ahead of the consumer.
+     */
+    public static final int DEFAULT_MAX_PREFETCH_PAGES = 2;
+
+    /**
+     * Representing a request of a single page.
+     * @param <P> The type of the page.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<P> {
+        /**
+         * Requests the page located by the given cursor.
+         * @param cursor The cursor of the page. It is null for the first page.
+         * @return CompletableFuture
+         */
+        CompletableFuture<P> fetch(String cursor);
+    }
+
+    private final PageFetcher<P> fetcher;
+    private final Function<P, List<T>> itemsExtractor;
+    private final Function<P, String> cursorExtractor;
+    private final int maxPrefetchPages;
+
+    private final Deque<CompletableFuture<P>> pages = new ArrayDeque<>();
+    private CompletableFuture<P> inFlight;
+    private String nextCursor;
+    private boolean lastPageRequested;
+    private boolean closed;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    /**
+     * Creates a PageIterator instance.
+     * @param startCursor The cursor of the first page. If null or empty, it starts from the first page.
+     * @param fetcher The function requesting a page.
+     * @param itemsExtractor The function extracting the items from a page.
+     * @param cursorExtractor The function extracting the cursor of the next page from a page.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer. It must be at least 1.
+     */
+    public PageIterator(String startCursor, PageFetcher<P> fetcher, Function<P, List<T>> itemsExtractor, Function<P, String> cursorExtractor, int maxPrefetchPages) {
+        if(maxPrefetchPages < 1) {
+            throw new IllegalArgumentException("maxPrefetchPages must be at least 1.");
+        }
+        this.fetcher = fetcher;
+        this.itemsExtractor = itemsExtractor;
+        this.cursorExtractor = cursorExtractor;
+        this.maxPrefetchPages = maxPrefetchPages;
+        this.nextCursor = (startCursor == null || startCursor.isEmpty()) ? null : startCursor;
+    }
+
+    /**
+     * Getter function for maxPrefetchPages
+     * @return int
+     */
+    public int getMaxPrefetchPages() {
+        return maxPrefetchPages;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(!current.hasNext()) {
+            CompletableFuture<P> page;
+            synchronized (this) {
+                fill();
+                // The previous page may be completed before its callback requests the next page, so wait for the callback.
+                while(!closed && pages.isEmpty() && inFlight != null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CompletionException(e);
+                    }
+                }
+                if(closed) {
+                    return false;
+                }
+                page = pages.poll();
+                if(page == null) {
+                    return false;
+                }
+            }
+
+            P result = page.join();
+            synchronized (this) {
+                fill();
+            }
+
+            List<T> items = result == null ? null : itemsExtractor.apply(result);
+            current = items == null ? Collections.<T>emptyIterator() : items.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if(!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Returns a sequential Stream over the remaining items.
+     * Closing the stream closes this iterator.
+     * @return Stream
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Stops the iteration and cancels the pending page requests.
+     */
+    @Override
+    public synchronized void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        for(CompletableFuture<P> page : pages) {
+            page.cancel(true);
+        }
+        pages.clear();
+        current = Collections.emptyIterator();
+        notifyAll();
+    }
+
+    /**
+     * Starts the next page request if the pipeline has room for it.
+     * It must be called while holding the lock of this instance.
+     */
+    private void fill() {
+        if(closed || lastPageRequested || inFlight != null || pages.size() >= maxPrefetchPages) {
+            return;
+        }
+
+        CompletableFuture<P> page;
+        try {
+            page = fetcher.fetch(nextCursor);
+        } catch (RuntimeException e) {
+            page = new CompletableFuture<>();
+            page.completeExceptionally(e);
+        }
+
+        inFlight = page;
+        pages.add(page);
+        page.whenComplete(this::onPageComplete);
+    }
+
+    private synchronized void onPageComplete(P result, Throwable throwable) {
+        inFlight = null;
+        notifyAll();
+        if(throwable != null || result == null) {
+            lastPageRequested = true;
+            return;
+        }
+
+        String cursor = cursorExtractor.apply(result);
+        if(cursor == null || cursor.isEmpty()) {
+            lastPageRequested = true;
+            return;
+        }
+
+        nextCursor = cursor;
+        fill();
+    }
+}
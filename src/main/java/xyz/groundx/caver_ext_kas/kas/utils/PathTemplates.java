@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Representing the path templates of the KAS APIs, used to group the metrics of requests having different path parameters.
+ * A path is matched segment by segment, and a static segment takes precedence over a path parameter,
+ * so "/v2/tx/value" is not taken as "/v2/tx/{transaction-hash}".
+ */
+final class PathTemplates {
+
+    /**
+     * The path templates of the KAS APIs provided by this library.
+     */
+    static final List<String> KAS_TEMPLATES = Arrays.asList(
+            "/v1/anchor",
+            "/v1/operator",
+            "/v1/operator/{operator-id}",
+            "/v1/operator/{operator-id}/payload/{payload-id}",
+            "/v1/operator/{operator-id}/tx",
+            "/v1/operator/{operator-id}/tx/{transaction-hash}",
+            "/v2/account",
+            "/v2/account/{address}",
+            "/v2/account/{address}/disable",
+            "/v2/account/{address}/enable",
+            "/v2/account/{address}/multisig",
+            "/v2/account/{address}/tx/{transaction-id}/sign",
+            "/v2/contract/ft",
+            "/v2/contract/ft/{ft-address}",
+            "/v2/contract/nft",
+            "/v2/contract/nft/{nft-address}",
+            "/v2/contract/nft/{nft-address}/owner/{owner-address}",
+            "/v2/contract/nft/{nft-address}/token",
+            "/v2/contract/nft/{nft-address}/token/{token-id}",
+            "/v2/contract/nft/{nft-address}/token/{token-id}/history",
+            "/v2/multisig/account/{address}/tx",
+            "/v2/multisig/account/{address}/tx/{transaction-id}/sign",
+            "/v2/multisig/tx/{transaction-id}/sign",
+            "/v2/pubkey/{public-key}/account",
+            "/v2/stat/count",
+            "/v2/stat/count/krn",
+            "/v2/transfer",
+            "/v2/transfer/account/{address}",
+            "/v2/transfer/tx/{transaction-hash}",
+            "/v2/tx",
+            "/v2/tx/account",
+            "/v2/tx/anchor",
+            "/v2/tx/contract/deploy",
+            "/v2/tx/contract/execute",
+            "/v2/tx/fd",
+            "/v2/tx/fd-user",
+            "/v2/tx/fd-user/account",
+            "/v2/tx/fd-user/anchor",
+            "/v2/tx/fd-user/contract/deploy",
+            "/v2/tx/fd-user/contract/execute",
+            "/v2/tx/fd-user/rlp",
+            "/v2/tx/fd-user/value",
+            "/v2/tx/fd/account",
+            "/v2/tx/fd/anchor",
+            "/v2/tx/fd/contract/deploy",
+            "/v2/tx/fd/contract/execute",
+            "/v2/tx/fd/rlp",
+            "/v2/tx/fd/value",
+            "/v2/tx/legacy",
+            "/v2/tx/rlp",
+            "/v2/tx/value",
+            "/v2/tx/{transaction-hash}"
+    );
+
+    /**
+     * The template of a path not matching any template. A single template keeps the number of metrics bounded.
+     */
+    static final String UNKNOWN = "/{unknown}";
+
+    private static final PathTemplates KAS = new PathTemplates(KAS_TEMPLATES);
+
+    private final Node root = new Node();
+
+    PathTemplates(List<String> templates) {
+        for(String template : templates) {
+            Node node = root;
+            for(String segment : segments(template)) {
+                if(segment.startsWith("{")) {
+                    if(node.parameter == null) {
+                        node.parameter = new Node();
+                    }
+                    node = node.parameter;
+                } else {
+                    node = node.statics.computeIfAbsent(segment, s -> new Node());
+                }
+            }
+            node.template = template;
+        }
+    }
+
+    /**
+     * Returns the template of the path of a KAS API.
+     * @param path The path of a request(e.g. "/v2/tx/0x..."). The base path of the API must not be included.
+     * @return String The template(e.g. "/v2/tx/{transaction-hash}"), or {@link #UNKNOWN} if no template matches.
+     */
+    static String ofKAS(String path) {
+        return KAS.match(path);
+    }
+
+    String match(String path) {
+        String template = match(root, segments(path), 0);
+        return template == null ? UNKNOWN : template;
+    }
+
+    private static String match(Node node, String[] segments, int index) {
+        if(index == segments.length) {
+            return node.template;
+        }
+
+        Node next = node.statics.get(segments[index]);
+        if(next != null) {
+            String template = match(next, segments, index + 1);
+            if(template != null) {
+                return template;
+            }
+        }
+        return node.parameter == null ? null : match(node.parameter, segments, index + 1);
+    }
+
+    private static String[] segments(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.endsWith("/") && path.length() > start ? path.length() - 1 : path.length();
+        return start >= end ? new String[0] : path.substring(start, end).split("/");
+    }
+
+    private static class Node {
+        final Map<String, Node> statics = new HashMap<>();
+        Node parameter;
+        String template;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import java.io.IOException;
+
+/**
+ * Thrown when KASRateLimiter cannot issue a permit within the configured waiting time.
+ * It is an IOException, so the ApiClient reports it as an ApiException and the Node API reports it as an IOException.
+ */
+public class RateLimitExceededException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a RateLimitExceededException instance.
+     * @param message The detail message.
+     */
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Representing a token bucket used by KASRateLimiter.
+ * A permit is reserved up front, so waiting callers are served in the order they reserved
+ * and the waiting itself happens outside the lock.
+ * The rate can be lowered when KAS rejects requests and it recovers gradually up to the configured rate.
+ */
+public class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final double maxPermitsPerSecond;
+    private final double burst;
+    private final double minPermitsPerSecond;
+    private final LongSupplier clock;
+
+    private double permitsPerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * Creates a TokenBucket instance.
+     * @param permitsPerSecond The number of permits issued per second.
+     * @param burst The maximum number of permits that can be stored.
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    TokenBucket(double permitsPerSecond, int burst, LongSupplier clock) {
+        if(permitsPerSecond <= 0) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive.");
+        }
+        if(burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1.");
+        }
+
+        this.maxPermitsPerSecond = permitsPerSecond;
+        this.minPermitsPerSecond = permitsPerSecond / 10;
+        this.burst = burst;
+        this.clock = clock;
+
+        this.permitsPerSecond = permitsPerSecond;
+        this.tokens = burst;
+        this.lastRefillNanos = clock.getAsLong();
+    }
+
+    /**
+     * Reserves a permit if it becomes available within the given time.
+     * @param maxWaitNanos The maximum time to wait in nanoseconds.
+     * @return The time in nanoseconds to wait before using the permit, or -1 if no permit is available within maxWaitNanos.
+     */
+    public synchronized long reserve(long maxWaitNanos) {
+        long now = clock.getAsLong();
+        refill(now);
+
+        long availableAt = lastRefillNanos + (long)(Math.max(0, 1 - tokens) / permitsPerSecond * NANOS_PER_SECOND);
+        long waitNanos = Math.max(0, availableAt - now);
+        if(waitNanos > maxWaitNanos) {
+            return -1;
+        }
+
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    /**
+     * Returns a permit reserved by reserve() but not used.
+     * It is called when a request is rejected by another bucket after taking a permit from this bucket.
+     */
+    public synchronized void release() {
+        refill(clock.getAsLong());
+        tokens = Math.min(burst, tokens + 1);
+    }
+
+    /**
+     * Stops issuing permits until the given time passes, and lowers the rate by half.
+     * It is called when KAS responds that the quota is exceeded.
+     * @param pauseNanos The time in nanoseconds not to issue permits.
+     */
+    public synchronized void backOff(long pauseNanos) {
+        long now = clock.getAsLong();
+        refill(now);
+
+        permitsPerSecond = Math.max(minPermitsPerSecond, permitsPerSecond / 2);
+        tokens = Math.min(tokens, 0);
+        lastRefillNanos = Math.max(lastRefillNanos, now + Math.max(0, pauseNanos));
+    }
+
+    /**
+     * Raises the rate back toward the configured rate.
+     * It is called when a request passed through this bucket succeeds.
+     */
+    public synchronized void recover() {
+        if(permitsPerSecond >= maxPermitsPerSecond) {
+            return;
+        }
+        refill(clock.getAsLong());
+        permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + maxPermitsPerSecond / 20);
+    }
+
+    /**
+     * Getter function for the current rate.
+     * @return double
+     */
+    public synchronized double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Getter function for the configured rate.
+     * @return double
+     */
+    public double getMaxPermitsPerSecond() {
+        return maxPermitsPerSecond;
+    }
+
+    /**
+     * Getter function for burst.
+     * @return int
+     */
+    public int getBurst() {
+        return (int)burst;
+    }
+
+    private void refill(long now) {
+        if(now <= lastRefillNanos) {
+            return;
+        }
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Account;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Representing an append-only file of the accounts created by an AccountPool.
+ * A created account is written as "+" followed by its JSON, and a handed out account as "-" followed by its address.
+ * Each record is forced to the disk before it returns, so an account handed out before a crash is never loaded again.
+ * A record cut by a crash is ignored when the journal is loaded.
+ */
+class AccountJournal implements AutoCloseable {
+    private final Path path;
+    private final JSON json;
+    private FileChannel channel;
+
+    AccountJournal(Path path, JSON json) {
+        this.path = path;
+        this.json = json;
+    }
+
+    /**
+     * Reads the accounts not handed out yet and rewrites the journal to contain only them.
+     * @return List
+     * @throws IOException Thrown when the journal fails to be read or written.
+     */
+    synchronized List<Account> load() throws IOException {
+        Map<String, Account> accounts = new LinkedHashMap<>();
+        if(Files.exists(path)) {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                String line;
+                while((line = reader.readLine()) != null) {
+                    if(line.startsWith("+")) {
+                        Account account = parse(line.substring(1));
+                        if(account != null && account.getAddress() != null) {
+                            accounts.put(account.getAddress().toLowerCase(), account);
+                        }
+                    } else if(line.startsWith("-")) {
+                        accounts.remove(line.substring(1).trim().toLowerCase());
+                    }
+                }
+            }
+        }
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for(Account account : accounts.values()) {
+                write(out, "+" + json.serialize(account));
+            }
+            out.force(true);
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return new ArrayList<>(accounts.values());
+    }
+
+    /**
+     * Records a created account.
+     * @param account The account.
+     * @throws IOException Thrown when the record fails to be written.
+     */
+    synchronized void created(Account account) throws IOException {
+        append("+" + json.serialize(account));
+    }
+
+    /**
+     * Records a handed out account.
+     * @param account The account.
+     * @throws IOException Thrown when the record fails to be written.
+     */
+    synchronized void taken(Account account) throws IOException {
+        append("-" + account.getAddress());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if(channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void append(String record) throws IOException {
+        if(channel == null) {
+            throw new IOException("The account journal is not open.");
+        }
+        write(channel, record);
+        channel.force(false);
+    }
+
+    private static void write(FileChannel channel, String record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private Account parse(String value) {
+        try {
+            return json.deserialize(value, Account.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
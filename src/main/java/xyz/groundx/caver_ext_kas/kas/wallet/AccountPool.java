@@ -0,0 +1,375 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Account;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Representing a pool of accounts created ahead of time, so Wallet.createAccount() does not wait for KAS to generate a key.
+ * The pool keeps `size` accounts ready. An account handed out is replaced in the background through Wallet.createAccountAsync(),
+ * with at most `maxConcurrency` creations in flight. If the pool is empty, the account is created on the calling thread.
+ * A failed creation is retried after {@value #RETRY_DELAY_MILLIS} milliseconds.
+ * <p>
+ * With a journal, the accounts created but not handed out are loaded when the pool is created again,
+ * e.g. after a restart, instead of being leaked. Handing out an account writes a record to the journal before it returns.
+ *
+ * <pre>
+ * caver.kas.wallet.enableAccountPool(100, 4, Paths.get("accounts.journal"));
+ * Account account = caver.kas.wallet.createAccount();
+ * </pre>
+ */
+public class AccountPool {
+
+    /**
+     * The default maximum number of account creations in flight.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    static final long RETRY_DELAY_MILLIS = 1_000;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "KAS-AccountPool");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Wallet wallet;
+    private final int size;
+    private final int maxConcurrency;
+    private final AccountJournal journal;
+
+    private final ConcurrentLinkedQueue<Account> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger readyCount = new AtomicInteger();
+    private int inFlight;
+    private boolean retryScheduled;
+    private boolean shutdown;
+    private boolean terminated;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private volatile Exception lastError;
+
+    /**
+     * Creates an AccountPool instance and starts filling it.
+     * @param wallet The Wallet API used to create accounts.
+     * @param size The number of accounts kept ready.
+     * @param maxConcurrency The maximum number of account creations in flight.
+     */
+    public AccountPool(Wallet wallet, int size, int maxConcurrency) {
+        this(wallet, size, maxConcurrency, (AccountJournal)null);
+        refill();
+    }
+
+    /**
+     * Creates an AccountPool instance with a journal and starts filling it.
+     * The accounts not handed out in the journal are put in the pool first.
+     * @param wallet The Wallet API used to create accounts.
+     * @param size The number of accounts kept ready.
+     * @param maxConcurrency The maximum number of account creations in flight.
+     * @param journalPath The path of the journal file. It is created if it does not exist.
+     * @throws IOException Thrown when the journal fails to be loaded.
+     */
+    public AccountPool(Wallet wallet, int size, int maxConcurrency, Path journalPath) throws IOException {
+        this(wallet, size, maxConcurrency, new AccountJournal(journalPath, wallet.getAccountApi().getApiClient().getJSON()));
+        for(Account account : journal.load()) {
+            if(account.getChainId() == null || String.valueOf(account.getChainId()).equals(wallet.getChainId())) {
+                ready.offer(account);
+                readyCount.incrementAndGet();
+            }
+        }
+        refill();
+    }
+
+    private AccountPool(Wallet wallet, int size, int maxConcurrency, AccountJournal journal) {
+        if(size < 0) {
+            throw new IllegalArgumentException("size must not be negative.");
+        }
+        if(maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+        }
+
+        this.wallet = wallet;
+        this.size = size;
+        this.maxConcurrency = maxConcurrency;
+        this.journal = journal;
+    }
+
+    /**
+     * Hands out a ready account, or creates one if the pool is empty.
+     * @return Account
+     * @throws ApiException Thrown when the pool is empty and the account fails to be created.
+     */
+    public Account take() throws ApiException {
+        Account account = poll();
+        if(account != null) {
+            return account;
+        }
+
+        missCount.incrementAndGet();
+        refill();
+        return wallet.requestAccount();
+    }
+
+    /**
+     * Hands out a ready account.
+     * @return Account. null if the pool is empty.
+     */
+    public Account poll() {
+        Account account = ready.poll();
+        if(account == null) {
+            return null;
+        }
+        readyCount.decrementAndGet();
+        refill();
+
+        if(journal != null) {
+            try {
+                journal.taken(account);
+            } catch (IOException e) {
+                // The account is dropped rather than handed out twice after a restart.
+                throw new IllegalStateException("Failed to record the account handed out in the journal.", e);
+            }
+        }
+        hitCount.incrementAndGet();
+        return account;
+    }
+
+    /**
+     * Stops refilling the pool and closes the journal after the creations in flight finish.
+     * The ready accounts, including the ones created by the creations in flight, stay in the journal,
+     * so they are loaded by the next pool using it. Use awaitTermination() to wait for the journal to be closed.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if(shutdown) {
+                return;
+            }
+            shutdown = true;
+            if(inFlight > 0) {
+                // The last creation in flight closes the journal.
+                return;
+            }
+        }
+        terminate();
+    }
+
+    /**
+     * Waits for the creations in flight to finish and the journal to be closed after shutdown().
+     * @param timeout The maximum time to wait.
+     * @param unit The time unit of the timeout.
+     * @return boolean true if the pool is terminated, false if the timeout passed.
+     * @throws InterruptedException Thrown when the current thread is interrupted while waiting.
+     */
+    public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while(!terminated) {
+            long remaining = deadline - System.nanoTime();
+            if(remaining <= 0) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of ready accounts.
+     * @return int
+     */
+    public int getReadyCount() {
+        return readyCount.get();
+    }
+
+    /**
+     * Returns the number of account creations in flight.
+     * @return int
+     */
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of accounts handed out from the pool.
+     * @return long
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of accounts created on the calling thread because the pool was empty.
+     * @return long
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of accounts created in the background.
+     * @return long
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Returns the number of failed account creations in the background.
+     * @return long
+     */
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns the last error of the background account creations or the journal.
+     * @return Exception. null if there is no error.
+     */
+    public Exception getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Getter function for size.
+     * @return int
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Getter function for maxConcurrency.
+     * @return int
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    void refill() {
+        int toCreate = 0;
+        synchronized (this) {
+            if(shutdown || retryScheduled) {
+                return;
+            }
+            while(readyCount.get() + inFlight < size && inFlight < maxConcurrency) {
+                inFlight++;
+                toCreate++;
+            }
+        }
+
+        for(int i = 0; i < toCreate; i++) {
+            create();
+        }
+    }
+
+    private void create() {
+        try {
+            wallet.createAccountAsync(new ApiCallback<Account>() {
+                @Override
+                public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                    onCreated(null, e);
+                }
+
+                @Override
+                public void onSuccess(Account result, int statusCode, Map<String, List<String>> responseHeaders) {
+                    onCreated(result, null);
+                }
+
+                @Override
+                public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                }
+
+                @Override
+                public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                }
+            });
+        } catch (ApiException | RuntimeException e) {
+            onCreated(null, e);
+        }
+    }
+
+    private void onCreated(Account account, Exception error) {
+        if(account != null) {
+            if(journal != null) {
+                try {
+                    journal.created(account);
+                } catch (IOException e) {
+                    // The account is still usable, but it is leaked if the process stops before it is handed out.
+                    lastError = e;
+                }
+            }
+            ready.offer(account);
+            readyCount.incrementAndGet();
+            createdCount.incrementAndGet();
+        }
+
+        boolean terminate;
+        synchronized (this) {
+            inFlight--;
+            terminate = shutdown && inFlight == 0;
+            if(account == null) {
+                failureCount.incrementAndGet();
+                lastError = error;
+                if(!retryScheduled && !shutdown) {
+                    retryScheduled = true;
+                    SCHEDULER.schedule(this::retry, RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        if(terminate) {
+            terminate();
+        } else if(account != null) {
+            refill();
+        }
+    }
+
+    private void terminate() {
+        if(journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                lastError = e;
+            }
+        }
+        synchronized (this) {
+            terminated = true;
+            notifyAll();
+        }
+    }
+
+    private void retry() {
+        synchronized (this) {
+            retryScheduled = false;
+        }
+        refill();
+    }
+}
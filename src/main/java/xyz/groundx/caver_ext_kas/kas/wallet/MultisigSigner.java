@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.MultisigTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Signs a multisig transaction with several signers through Wallet.signMultiSigTransactionAsync().
+ * At most `maxConcurrency` signature requests are in flight. When a response shows that the signed weight reached the threshold,
+ * the requests in flight are cancelled and the signers not requested yet are skipped.
+ */
+class MultisigSigner {
+    /**
+     * The status of a multisig transaction which has enough signatures and is submitted to Klaytn.
+     */
+    static final String STATUS_SUBMITTED = "Submitted";
+
+    private final Wallet wallet;
+    private final String transactionId;
+    private final int maxConcurrency;
+    private final List<Slot> attempts = new ArrayList<>();
+    private final List<ApiCallFuture<MultisigTransactionStatus>> calls = new ArrayList<>();
+    private final CompletableFuture<MultisigSigningResult> result = new CompletableFuture<>();
+
+    private int next;
+    private int inFlight;
+    private boolean done;
+    private MultisigTransactionStatus bestStatus;
+
+    MultisigSigner(Wallet wallet, String transactionId, List<String> signers, int maxConcurrency) {
+        this.wallet = wallet;
+        this.transactionId = transactionId;
+        this.maxConcurrency = maxConcurrency;
+        for(String signer : signers) {
+            attempts.add(new Slot(signer));
+            calls.add(null);
+        }
+    }
+
+    CompletableFuture<MultisigSigningResult> start() {
+        if(attempts.isEmpty()) {
+            result.complete(new MultisigSigningResult(transactionId, new ArrayList<>(), null, false));
+            return result;
+        }
+        startNext();
+        return result;
+    }
+
+    static boolean isThresholdReached(MultisigTransactionStatus status) {
+        if(status == null) {
+            return false;
+        }
+        if(STATUS_SUBMITTED.equals(status.getStatus())) {
+            return true;
+        }
+        return status.getSignedWeight() != null && status.getThreshold() != null && status.getSignedWeight() >= status.getThreshold();
+    }
+
+    private void startNext() {
+        List<Integer> toStart = new ArrayList<>();
+        synchronized (this) {
+            while(!done && inFlight < maxConcurrency && next < attempts.size()) {
+                attempts.get(next).startedAt = System.nanoTime();
+                toStart.add(next++);
+                inFlight++;
+            }
+        }
+
+        for(int index : toStart) {
+            Slot attempt = attempts.get(index);
+            long startedAt = attempt.startedAt;
+            ApiCallFuture<MultisigTransactionStatus> call = ApiCallFuture.of(null, callback -> wallet.signMultiSigTransactionAsync(attempt.address, transactionId, callback));
+            synchronized (this) {
+                calls.set(index, call);
+                if(done) {
+                    // The threshold was reached while the request was being started.
+                    attempt.state = MultisigSigningResult.State.CANCELLED;
+                    call.cancel(true);
+                }
+            }
+            call.whenComplete((status, error) -> onCompleted(index, startedAt, status, error));
+        }
+    }
+
+    private void onCompleted(int index, long startedAt, MultisigTransactionStatus status, Throwable error) {
+        Slot attempt = attempts.get(index);
+        List<ApiCallFuture<MultisigTransactionStatus>> toCancel = new ArrayList<>();
+        boolean finished = false;
+        synchronized (this) {
+            inFlight--;
+            if(attempt.latencyNanos < 0) {
+                attempt.latencyNanos = System.nanoTime() - startedAt;
+            }
+
+            if(error == null) {
+                attempt.state = MultisigSigningResult.State.SIGNED;
+                attempt.status = status;
+                if(bestStatus == null || weight(status) >= weight(bestStatus)) {
+                    bestStatus = status;
+                }
+            } else if(attempt.state != MultisigSigningResult.State.CANCELLED) {
+                attempt.state = MultisigSigningResult.State.FAILED;
+                attempt.error = error;
+            }
+
+            if(done) {
+                // A request cancelled after the threshold was reached.
+                return;
+            }
+            if(isThresholdReached(status)) {
+                done = true;
+                finished = true;
+                for(int i = 0; i < next; i++) {
+                    ApiCallFuture<MultisigTransactionStatus> call = calls.get(i);
+                    if(call == null) {
+                        // The request is being started, and startNext() cancels it.
+                        Slot starting = attempts.get(i);
+                        starting.state = MultisigSigningResult.State.CANCELLED;
+                        starting.latencyNanos = System.nanoTime() - starting.startedAt;
+                    } else if(!call.isDone()) {
+                        attempts.get(i).state = MultisigSigningResult.State.CANCELLED;
+                        toCancel.add(call);
+                    }
+                }
+            } else if(next == attempts.size() && inFlight == 0) {
+                done = true;
+                finished = true;
+            }
+        }
+
+        // The cancelled requests complete here on this thread, so their latencies are set before the result is completed.
+        for(ApiCallFuture<MultisigTransactionStatus> call : toCancel) {
+            call.cancel(true);
+        }
+
+        if(finished) {
+            MultisigSigningResult signingResult;
+            synchronized (this) {
+                // The attempts are copied, so the requests completing after this do not change the result.
+                List<MultisigSigningResult.Attempt> snapshot = new ArrayList<>(attempts.size());
+                for(Slot slot : attempts) {
+                    snapshot.add(new MultisigSigningResult.Attempt(slot.address, slot.state, slot.latencyNanos, slot.status, slot.error));
+                }
+                signingResult = new MultisigSigningResult(transactionId, snapshot, bestStatus, isThresholdReached(bestStatus));
+            }
+            result.complete(signingResult);
+        } else {
+            startNext();
+        }
+    }
+
+    private static long weight(MultisigTransactionStatus status) {
+        return status.getSignedWeight() == null ? 0 : status.getSignedWeight();
+    }
+
+    /**
+     * Representing the signature request of a signer while signing. It is guarded by the lock of the signer.
+     */
+    private static class Slot {
+        final String address;
+        MultisigSigningResult.State state = MultisigSigningResult.State.SKIPPED;
+        long startedAt;
+        long latencyNanos = -1;
+        MultisigTransactionStatus status;
+        Throwable error;
+
+        Slot(String address) {
+            this.address = address;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.MultisigTransactionStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representing the result of signing a multisig transaction with several signers.
+ * It has the attempt of each signer in the order the signers are passed.
+ */
+public class MultisigSigningResult {
+
+    /**
+     * Representing the state of the signature of a signer.
+     */
+    public enum State {
+        /**
+         * KAS added the signature.
+         */
+        SIGNED,
+        /**
+         * The signature request failed.
+         */
+        FAILED,
+        /**
+         * The signature request was in flight when the threshold was reached, so it was cancelled.
+         * KAS may have received it before it was cancelled.
+         */
+        CANCELLED,
+        /**
+         * The signature was not requested because the threshold was reached before.
+         */
+        SKIPPED
+    }
+
+    /**
+     * Representing the signature request of a signer when the result was created.
+     * It does not change after that, even if a cancelled request completes later.
+     */
+    public static class Attempt {
+        final String address;
+        final State state;
+        final long latencyNanos;
+        final MultisigTransactionStatus status;
+        final Throwable error;
+
+        Attempt(String address, State state, long latencyNanos, MultisigTransactionStatus status, Throwable error) {
+            this.address = address;
+            this.state = state;
+            this.latencyNanos = latencyNanos;
+            this.status = status;
+            this.error = error;
+        }
+
+        /**
+         * Getter function for address.
+         * @return String
+         */
+        public String getAddress() {
+            return address;
+        }
+
+        /**
+         * Getter function for state.
+         * @return State
+         */
+        public State getState() {
+            return state;
+        }
+
+        /**
+         * Returns the time from sending the signature request to its response or cancellation in milliseconds.
+         * @return double. -1 if the signature was not requested.
+         */
+        public double getLatencyMillis() {
+            return latencyNanos < 0 ? -1 : latencyNanos / 1_000_000.0;
+        }
+
+        /**
+         * Getter function for the status returned by the signature request.
+         * @return MultisigTransactionStatus. null if the signature is not signed.
+         */
+        public MultisigTransactionStatus getStatus() {
+            return status;
+        }
+
+        /**
+         * Getter function for the error of a failed signature request.
+         * @return Throwable. null if the signature request did not fail.
+         */
+        public Throwable getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            return address + " " + state + (latencyNanos < 0 ? "" : String.format(" %.1fms", getLatencyMillis()));
+        }
+    }
+
+    private final String transactionId;
+    private final List<Attempt> attempts;
+    private final MultisigTransactionStatus status;
+    private final boolean thresholdReached;
+
+    MultisigSigningResult(String transactionId, List<Attempt> attempts, MultisigTransactionStatus status, boolean thresholdReached) {
+        this.transactionId = transactionId;
+        this.attempts = Collections.unmodifiableList(attempts);
+        this.status = status;
+        this.thresholdReached = thresholdReached;
+    }
+
+    /**
+     * Getter function for transactionId.
+     * @return String
+     */
+    public String getTransactionId() {
+        return transactionId;
+    }
+
+    /**
+     * Getter function for the attempts of the signers.
+     * @return List
+     */
+    public List<Attempt> getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Returns the status with the largest signed weight among the responses.
+     * @return MultisigTransactionStatus. null if no signer signed.
+     */
+    public MultisigTransactionStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns whether the signed weight reached the threshold.
+     * @return boolean
+     */
+    public boolean isThresholdReached() {
+        return thresholdReached;
+    }
+
+    /**
+     * Returns the number of signers whose signature was added.
+     * @return int
+     */
+    public int getSignedCount() {
+        int count = 0;
+        for(Attempt attempt : attempts) {
+            if(attempt.state == State.SIGNED) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
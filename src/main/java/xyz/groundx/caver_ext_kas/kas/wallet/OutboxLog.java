@@ -0,0 +1,260 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * Representing an append-only log of records in a memory-mapped file.
+ * A record is written as its length(4 bytes), the CRC32 of its type and payload(4 bytes), its type(1 byte) and its payload.
+ * An append only copies the record into the mapped memory. sync() forces the appended records to the disk,
+ * and the callers waiting for sync() at the same time share a single force(group commit).
+ * When the log is read, it stops at the first record that is empty or fails the CRC check, i.e. the record cut by a crash.
+ * The log grows by mapping the file again with twice the capacity, and only the current mapping is referenced,
+ * so a superseded mapping is released by the garbage collector. TransactionOutbox rolls over to a new log before it grows large.
+ */
+class OutboxLog implements Closeable {
+    static final int HEADER_BYTES = 9;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writeOffset;
+    private boolean closed;
+
+    private final Object syncLock = new Object();
+    private int durableOffset;
+    private boolean flushing;
+
+    private final AtomicLong appendCount = new AtomicLong();
+    private final AtomicLong syncCount = new AtomicLong();
+
+    /**
+     * Representing a record read from the log.
+     */
+    static class Record {
+        final byte type;
+        final byte[] payload;
+
+        Record(byte type, byte[] payload) {
+            this.type = type;
+            this.payload = payload;
+        }
+    }
+
+    OutboxLog(Path path, int initialCapacity) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long capacity = Math.max(channel.size(), initialCapacity);
+        if(capacity > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("The outbox log is too large: " + capacity);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    /**
+     * Reads all records and moves the write offset to the end of the last valid record.
+     * @return List
+     */
+    synchronized List<Record> read() {
+        List<Record> records = new ArrayList<>();
+        int offset = 0;
+        CRC32 crc = new CRC32();
+        while(offset + HEADER_BYTES <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if(length <= 0 || offset + HEADER_BYTES + length > buffer.capacity()) {
+                break;
+            }
+
+            byte type = buffer.get(offset + 8);
+            byte[] payload = new byte[length];
+            for(int i = 0; i < length; i++) {
+                payload[i] = buffer.get(offset + HEADER_BYTES + i);
+            }
+            crc.reset();
+            crc.update(type);
+            crc.update(payload);
+            if((int)crc.getValue() != buffer.getInt(offset + 4)) {
+                break;
+            }
+
+            records.add(new Record(type, payload));
+            offset += HEADER_BYTES + length;
+        }
+
+        writeOffset = offset;
+        synchronized (syncLock) {
+            durableOffset = offset;
+        }
+        return records;
+    }
+
+    /**
+     * Appends a record without forcing it to the disk.
+     * @param type The type of the record.
+     * @param payload The payload of the record.
+     * @return int The offset after the record, which is passed to sync().
+     * @throws IOException Thrown when the log is closed or fails to grow.
+     */
+    synchronized int append(byte type, byte[] payload) throws IOException {
+        if(closed) {
+            throw new IOException("The outbox log is already closed.");
+        }
+        int size = HEADER_BYTES + payload.length;
+        // An empty header must follow the last record, so the reader finds the end.
+        ensureCapacity((long)writeOffset + size + HEADER_BYTES);
+
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(payload);
+
+        // The length is written last, so a record is not visible to the reader until it is complete.
+        buffer.position(writeOffset + 4);
+        buffer.putInt((int)crc.getValue());
+        buffer.put(type);
+        buffer.put(payload);
+        buffer.putInt(writeOffset + size, 0);
+        buffer.putInt(writeOffset, payload.length);
+
+        writeOffset += size;
+        appendCount.incrementAndGet();
+        return writeOffset;
+    }
+
+    /**
+     * Waits until the records up to the offset are forced to the disk.
+     * If another caller is forcing the log, this waits for it and forces the records appended in the meantime in one go.
+     * @param offset The offset returned by append().
+     * @throws IOException Thrown when the log fails to be forced.
+     */
+    void sync(int offset) throws IOException {
+        while(true) {
+            synchronized (syncLock) {
+                while(flushing && durableOffset < offset) {
+                    try {
+                        syncLock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException("Interrupted while waiting for the outbox log to be forced.");
+                    }
+                }
+                if(durableOffset >= offset) {
+                    return;
+                }
+                flushing = true;
+            }
+
+            int target;
+            MappedByteBuffer toForce;
+            synchronized (this) {
+                if(closed) {
+                    endFlush(-1);
+                    // close() forces the records appended before it, e.g. when the outbox rolls over to a new log.
+                    synchronized (syncLock) {
+                        if(durableOffset >= offset) {
+                            return;
+                        }
+                    }
+                    throw new IOException("The outbox log is already closed.");
+                }
+                target = writeOffset;
+                toForce = buffer;
+            }
+
+            boolean forced = false;
+            try {
+                toForce.force();
+                syncCount.incrementAndGet();
+                forced = true;
+            } finally {
+                endFlush(forced ? target : -1);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of appended records.
+     * @return long
+     */
+    long getAppendCount() {
+        return appendCount.get();
+    }
+
+    /**
+     * Returns the number of times the log is forced to the disk.
+     * @return long
+     */
+    long getSyncCount() {
+        return syncCount.get();
+    }
+
+    /**
+     * Returns the size of the records in bytes.
+     * @return int
+     */
+    synchronized int size() {
+        return writeOffset;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        buffer.force();
+        channel.close();
+        buffer = null;
+        endFlush(writeOffset);
+    }
+
+    private void endFlush(int target) {
+        synchronized (syncLock) {
+            flushing = false;
+            if(target > durableOffset) {
+                durableOffset = target;
+            }
+            syncLock.notifyAll();
+        }
+    }
+
+    private void ensureCapacity(long required) throws IOException {
+        if(required <= buffer.capacity()) {
+            return;
+        }
+
+        long capacity = buffer.capacity();
+        while(capacity < required) {
+            capacity *= 2;
+        }
+        if(capacity > Integer.MAX_VALUE) {
+            throw new IOException("The outbox log is full.");
+        }
+        // The records in the current mapping are forced first, because sync() only forces the new mapping afterwards.
+        buffer.force();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+}
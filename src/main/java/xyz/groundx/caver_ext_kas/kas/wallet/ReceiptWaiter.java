@@ -0,0 +1,440 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import com.squareup.okhttp.Call;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Representing a shared waiter of transaction receipts.
+ * Instead of each caller sleeping in its own polling loop, a single scheduler thread polls the receipts of all pending transactions
+ * through Wallet.getTransactionAsync(). The interval of a transaction starts at `initialIntervalMillis` and grows by half up to
+ * `maxIntervalMillis` each time the receipt is not finalized yet. At most `maxConcurrency` polling requests are in flight at a time.
+ * A transaction is polled again while KAS reports it as not found(404) or fails transiently(an IOException, 408, 429 or 5xx),
+ * and any other error(e.g. 400 for a malformed hash, 401 or 403) fails the waiting immediately.
+ * The memory used is proportional to the number of pending transactions, and a transaction is dropped when its receipt is finalized,
+ * it fails, it times out or all of its waiters cancel their futures. The request in flight of a dropped transaction is cancelled.
+ *
+ * <pre>
+ * TransactionResult result = caver.kas.wallet.requestValueTransfer(request);
+ * TransactionReceipt receipt = caver.kas.wallet.awaitReceipt(result.getTransactionHash()).join();
+ * </pre>
+ */
+public class ReceiptWaiter {
+
+    /**
+     * The default delay of the first polling.
+     */
+    public static final long DEFAULT_INITIAL_INTERVAL_MILLIS = 1_000;
+
+    /**
+     * The default maximum interval of polling.
+     */
+    public static final long DEFAULT_MAX_INTERVAL_MILLIS = 5_000;
+
+    /**
+     * The default time to wait for a receipt.
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 60_000;
+
+    /**
+     * The default maximum number of polling requests in flight.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    static final long TICK_MILLIS = 50;
+
+    private final Wallet wallet;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile long initialIntervalMillis = DEFAULT_INITIAL_INTERVAL_MILLIS;
+    private volatile long maxIntervalMillis = DEFAULT_MAX_INTERVAL_MILLIS;
+    private volatile long timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
+    private volatile int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    private final Map<String, Pending> pending = new HashMap<>();
+    private final PriorityQueue<Pending> schedule = new PriorityQueue<>(Comparator.comparingLong((Pending p) -> p.nextPollAtNanos));
+    private final List<Pending> polling = new ArrayList<>();
+    private ScheduledFuture<?> ticker;
+    private boolean shutdown;
+
+    /**
+     * Creates a ReceiptWaiter instance.
+     * @param wallet The Wallet API used to get receipts.
+     */
+    public ReceiptWaiter(Wallet wallet) {
+        this.wallet = wallet;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KAS-ReceiptWaiter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Waits for the finalized receipt of the transaction with the default timeout.
+     * @param transactionHash The transaction hash.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt> await(String transactionHash) {
+        return await(transactionHash, timeoutMillis);
+    }
+
+    /**
+     * Waits for the finalized receipt of the transaction.
+     * The returned future is completed exceptionally with a TimeoutException if the receipt is not finalized within the timeout.
+     * Waiting for a transaction already being waited for shares the polling, and its timeout is not extended.
+     * Cancelling the returned future stops the polling when no other caller waits for the transaction.
+     * @param transactionHash The transaction hash.
+     * @param timeoutMillis The time to wait for the receipt.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt> await(String transactionHash, long timeoutMillis) {
+        if(transactionHash == null) {
+            throw new IllegalArgumentException("transactionHash is required.");
+        }
+
+        Pending entry;
+        synchronized (this) {
+            if(shutdown) {
+                throw new IllegalStateException("The receipt waiter is already shut down.");
+            }
+
+            String key = transactionHash.toLowerCase();
+            entry = pending.get(key);
+            if(entry == null) {
+                long now = System.nanoTime();
+                entry = new Pending(key, transactionHash, now + TimeUnit.MILLISECONDS.toNanos(timeoutMillis), initialIntervalMillis);
+                entry.nextPollAtNanos = Math.min(now + TimeUnit.MILLISECONDS.toNanos(initialIntervalMillis), entry.deadlineNanos);
+                pending.put(key, entry);
+                schedule.add(entry);
+                startTicker();
+            }
+            entry.waiters++;
+        }
+
+        // Each caller gets its own future, so cancelling it does not affect the other callers.
+        Pending waited = entry;
+        CompletableFuture<TransactionReceipt> future = entry.future.thenApply(Function.identity());
+        future.whenComplete((receipt, throwable) -> {
+            if(future.isCancelled()) {
+                onWaiterCancelled(waited);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Returns the number of transactions waiting for the receipt.
+     * @return int
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Stops polling and completes the pending futures exceptionally.
+     */
+    public void shutdown() {
+        List<Pending> cancelled;
+        synchronized (this) {
+            shutdown = true;
+            if(ticker != null) {
+                ticker.cancel(false);
+                ticker = null;
+            }
+            cancelled = new ArrayList<>(pending.values());
+            pending.clear();
+            schedule.clear();
+            for(Pending entry : polling) {
+                cancelCall(entry);
+            }
+        }
+        scheduler.shutdown();
+
+        for(Pending entry : cancelled) {
+            entry.future.completeExceptionally(new IllegalStateException("The receipt waiter is shut down."));
+        }
+    }
+
+    /**
+     * Setter function for initialIntervalMillis.
+     * @param initialIntervalMillis The delay of the first polling.
+     * @return ReceiptWaiter
+     */
+    public ReceiptWaiter setInitialIntervalMillis(long initialIntervalMillis) {
+        this.initialIntervalMillis = initialIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Setter function for maxIntervalMillis.
+     * @param maxIntervalMillis The maximum interval of polling.
+     * @return ReceiptWaiter
+     */
+    public ReceiptWaiter setMaxIntervalMillis(long maxIntervalMillis) {
+        this.maxIntervalMillis = maxIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Setter function for timeoutMillis.
+     * @param timeoutMillis The default time to wait for a receipt.
+     * @return ReceiptWaiter
+     */
+    public ReceiptWaiter setTimeoutMillis(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        return this;
+    }
+
+    /**
+     * Setter function for maxConcurrency.
+     * @param maxConcurrency The maximum number of polling requests in flight.
+     * @return ReceiptWaiter
+     */
+    public ReceiptWaiter setMaxConcurrency(int maxConcurrency) {
+        if(maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+        }
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    /**
+     * Getter function for initialIntervalMillis.
+     * @return long
+     */
+    public long getInitialIntervalMillis() {
+        return initialIntervalMillis;
+    }
+
+    /**
+     * Getter function for maxIntervalMillis.
+     * @return long
+     */
+    public long getMaxIntervalMillis() {
+        return maxIntervalMillis;
+    }
+
+    /**
+     * Getter function for timeoutMillis.
+     * @return long
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Getter function for maxConcurrency.
+     * @return int
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    private void startTicker() {
+        if(ticker == null) {
+            ticker = scheduler.scheduleWithFixedDelay(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    void tick() {
+        List<Pending> due = new ArrayList<>();
+        List<Pending> timedOut = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            // A transaction times out at its deadline even if its request is still in flight.
+            for(Iterator<Pending> iterator = polling.iterator(); iterator.hasNext(); ) {
+                Pending entry = iterator.next();
+                if(now - entry.deadlineNanos >= 0) {
+                    iterator.remove();
+                    pending.remove(entry.key, entry);
+                    cancelCall(entry);
+                    timedOut.add(entry);
+                }
+            }
+
+            // The due transactions are all taken out to find the timed out ones, and the ones over the concurrency are put back.
+            List<Pending> deferred = new ArrayList<>();
+            while(!schedule.isEmpty() && schedule.peek().nextPollAtNanos - now <= 0) {
+                Pending entry = schedule.poll();
+                if(entry.future.isDone()) {
+                    pending.remove(entry.key);
+                } else if(now - entry.deadlineNanos >= 0) {
+                    pending.remove(entry.key);
+                    timedOut.add(entry);
+                } else if(polling.size() < maxConcurrency) {
+                    polling.add(entry);
+                    due.add(entry);
+                } else {
+                    deferred.add(entry);
+                }
+            }
+            schedule.addAll(deferred);
+
+            if(pending.isEmpty() && ticker != null) {
+                ticker.cancel(false);
+                ticker = null;
+            }
+        }
+
+        for(Pending entry : timedOut) {
+            TimeoutException exception = new TimeoutException("Timed out waiting for the receipt of " + entry.transactionHash + ".");
+            if(entry.lastError != null) {
+                exception.initCause(entry.lastError);
+            }
+            entry.future.completeExceptionally(exception);
+        }
+
+        for(Pending entry : due) {
+            poll(entry);
+        }
+    }
+
+    private void poll(Pending entry) {
+        try {
+            Call call = wallet.getTransactionAsync(entry.transactionHash, new ApiCallback<TransactionReceipt>() {
+                @Override
+                public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                    onPolled(entry, null, e);
+                }
+
+                @Override
+                public void onSuccess(TransactionReceipt result, int statusCode, Map<String, List<String>> responseHeaders) {
+                    onPolled(entry, result, null);
+                }
+
+                @Override
+                public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                }
+
+                @Override
+                public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                }
+            });
+            synchronized (this) {
+                if(polling.contains(entry)) {
+                    entry.call = call;
+                } else if(call != null) {
+                    // The transaction was dropped while the request was being started.
+                    call.cancel();
+                }
+            }
+        } catch (ApiException | RuntimeException e) {
+            onPolled(entry, null, e);
+        }
+    }
+
+    private void onPolled(Pending entry, TransactionReceipt receipt, Exception error) {
+        boolean finalized = TransactionReceiptCache.isFinalized(receipt);
+        boolean failed = !finalized && error != null && !isRetryable(error);
+        synchronized (this) {
+            polling.remove(entry);
+            entry.call = null;
+            if(pending.get(entry.key) != entry) {
+                // The transaction timed out, was cancelled or the waiter was shut down while polling.
+                return;
+            }
+
+            if(finalized || failed) {
+                pending.remove(entry.key);
+            } else if(!shutdown) {
+                // A transaction not included in a block yet is reported as not found by KAS, so it is polled again until the deadline.
+                entry.lastError = error;
+                entry.intervalMillis = Math.min(maxIntervalMillis, entry.intervalMillis + entry.intervalMillis / 2);
+                entry.nextPollAtNanos = Math.min(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(entry.intervalMillis), entry.deadlineNanos);
+                schedule.add(entry);
+            }
+        }
+
+        if(finalized) {
+            entry.future.complete(receipt);
+        } else if(failed) {
+            entry.future.completeExceptionally(error);
+        }
+    }
+
+    private void onWaiterCancelled(Pending entry) {
+        synchronized (this) {
+            entry.waiters--;
+            if(entry.waiters > 0 || pending.get(entry.key) != entry) {
+                return;
+            }
+            pending.remove(entry.key);
+            schedule.remove(entry);
+            polling.remove(entry);
+            cancelCall(entry);
+        }
+        entry.future.cancel(false);
+    }
+
+    /**
+     * Cancels the request in flight of the transaction.
+     * It must be called while holding the lock of this instance.
+     */
+    private void cancelCall(Pending entry) {
+        if(entry.call != null) {
+            entry.call.cancel();
+            entry.call = null;
+        }
+    }
+
+    static boolean isRetryable(Exception error) {
+        if(!(error instanceof ApiException)) {
+            return !(error instanceof RuntimeException);
+        }
+        int code = ((ApiException)error).getCode();
+        return code == 0 || code == 404 || code == 408 || code == 429 || code >= 500;
+    }
+
+    private static class Pending {
+        final String key;
+        final String transactionHash;
+        final long deadlineNanos;
+        final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+
+        long intervalMillis;
+        long nextPollAtNanos;
+        Exception lastError;
+        int waiters;
+        Call call;
+
+        Pending(String key, String transactionHash, long deadlineNanos, long intervalMillis) {
+            this.key = key;
+            this.transactionHash = transactionHash;
+            this.deadlineNanos = deadlineNanos;
+            this.intervalMillis = intervalMillis;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ContractExecutionTransactionRequest;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionResult;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ValueTransferTransactionRequest;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Representing a scheduler of transaction requests having a lane per sender address.
+ * The requests of a sender are sent one at a time in the order they are submitted, so they do not race for the nonce of the sender.
+ * The requests of different senders are sent in parallel by at most `maxConcurrency` worker threads.
+ * A lane runs one request per turn of a worker, so a sender having many requests does not hold a worker while other senders wait.
+ * <p>
+ * The lanes are spread over {@value #STRIPES} stripes by the address, and each stripe has its own lock.
+ * A lane exists only while it has requests. A failed request completes its future exceptionally, and the lane goes on with the next request.
+ *
+ * <pre>
+ * CompletableFuture&lt;TransactionResult&gt; first = caver.kas.wallet.getSenderLanes().requestValueTransfer(firstRequest);
+ * CompletableFuture&lt;TransactionResult&gt; second = caver.kas.wallet.getSenderLanes().requestValueTransfer(secondRequest);
+ * </pre>
+ */
+public class SenderLaneScheduler {
+
+    /**
+     * The default maximum number of requests sent at a time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    static final int STRIPES = 64;
+
+    /**
+     * Representing a synchronous request of a sender.
+     * @param <R> The type of the result.
+     */
+    @FunctionalInterface
+    public interface Task<R> {
+        R run() throws ApiException;
+    }
+
+    private final Wallet wallet;
+    private final int maxConcurrency;
+    private final ExecutorService executor;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    /**
+     * Creates a SenderLaneScheduler instance.
+     * @param wallet The Wallet API used to send requests.
+     * @param maxConcurrency The maximum number of requests sent at a time.
+     */
+    public SenderLaneScheduler(Wallet wallet, int maxConcurrency) {
+        if(maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+        }
+
+        this.wallet = wallet;
+        this.maxConcurrency = maxConcurrency;
+        for(int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "KAS-SenderLane-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sends a value transfer request in the lane of its sender.
+     * @param request The value transfer request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestValueTransfer(ValueTransferTransactionRequest request) {
+        return submit(request.getFrom(), () -> wallet.requestValueTransfer(request));
+    }
+
+    /**
+     * Sends a smart contract execution request in the lane of its sender.
+     * @param request The smart contract execution request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestSmartContractExecution(ContractExecutionTransactionRequest request) {
+        return submit(request.getFrom(), () -> wallet.requestSmartContractExecution(request));
+    }
+
+    /**
+     * Runs the task in the lane of the sender.
+     * The task runs after the tasks of the sender submitted before it are completed.
+     * @param from The sender address.
+     * @param task The task sending a request of the sender.
+     * @param <R> The type of the result.
+     * @return CompletableFuture
+     */
+    public <R> CompletableFuture<R> submit(String from, Task<R> task) {
+        if(from == null) {
+            throw new IllegalArgumentException("from is required.");
+        }
+
+        String address = from.toLowerCase();
+        Stripe stripe = stripeOf(address);
+        Job<R> job = new Job<>(task);
+        Lane lane;
+        boolean schedule = false;
+        synchronized (stripe) {
+            lane = stripe.lanes.get(address);
+            if(lane == null) {
+                lane = new Lane(address, stripe);
+                stripe.lanes.put(address, lane);
+            }
+            lane.jobs.add(job);
+            if(!lane.scheduled) {
+                lane.scheduled = true;
+                schedule = true;
+            }
+        }
+
+        if(schedule) {
+            schedule(lane);
+        }
+        return job.future;
+    }
+
+    /**
+     * Returns the number of senders having requests waiting or being sent.
+     * @return int
+     */
+    public int getLaneCount() {
+        int count = 0;
+        for(Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.lanes.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of requests waiting in the lanes, excluding the ones being sent.
+     * @return int
+     */
+    public int getQueuedCount() {
+        int count = 0;
+        for(Stripe stripe : stripes) {
+            synchronized (stripe) {
+                for(Lane lane : stripe.lanes.values()) {
+                    count += lane.jobs.size();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Getter function for maxConcurrency.
+     * @return int
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Stops the workers. The requests waiting in the lanes are completed exceptionally.
+     */
+    public void shutdown() {
+        executor.shutdown();
+        for(Stripe stripe : stripes) {
+            ArrayDeque<Job<?>> dropped = new ArrayDeque<>();
+            synchronized (stripe) {
+                for(Lane lane : stripe.lanes.values()) {
+                    dropped.addAll(lane.jobs);
+                    lane.jobs.clear();
+                }
+            }
+            for(Job<?> job : dropped) {
+                job.future.completeExceptionally(new IllegalStateException("The sender lanes are shut down."));
+            }
+        }
+    }
+
+    private Stripe stripeOf(String address) {
+        int hash = address.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private void schedule(Lane lane) {
+        try {
+            executor.execute(() -> runNext(lane));
+        } catch (RejectedExecutionException e) {
+            // The workers are shut down, so the requests left in the lane are dropped.
+            ArrayDeque<Job<?>> dropped;
+            synchronized (lane.stripe) {
+                dropped = new ArrayDeque<>(lane.jobs);
+                lane.jobs.clear();
+                lane.scheduled = false;
+                lane.stripe.lanes.remove(lane.address);
+            }
+            for(Job<?> job : dropped) {
+                job.future.completeExceptionally(new IllegalStateException("The sender lanes are shut down."));
+            }
+        }
+    }
+
+    private void runNext(Lane lane) {
+        Job<?> job;
+        synchronized (lane.stripe) {
+            job = lane.jobs.poll();
+        }
+        try {
+            if(job != null) {
+                job.run();
+            }
+        } finally {
+            // The lane advances even if the request throws an Error, so it is not left scheduled without a worker.
+            boolean more;
+            synchronized (lane.stripe) {
+                more = !lane.jobs.isEmpty();
+                if(!more) {
+                    lane.scheduled = false;
+                    lane.stripe.lanes.remove(lane.address);
+                }
+            }
+            // The lane goes back to the end of the queue of the workers, so the other senders get their turn.
+            if(more) {
+                schedule(lane);
+            }
+        }
+    }
+
+    private static class Stripe {
+        final Map<String, Lane> lanes = new HashMap<>();
+    }
+
+    private static class Lane {
+        final String address;
+        final Stripe stripe;
+        final ArrayDeque<Job<?>> jobs = new ArrayDeque<>();
+        boolean scheduled;
+
+        Lane(String address, Stripe stripe) {
+            this.address = address;
+            this.stripe = stripe;
+        }
+    }
+
+    private static class Job<R> {
+        final Task<R> task;
+        final CompletableFuture<R> future = new CompletableFuture<>();
+
+        Job(Task<R> task) {
+            this.task = task;
+        }
+
+        void run() {
+            try {
+                future.complete(task.run());
+            } catch (ApiException | RuntimeException e) {
+                future.completeExceptionally(e);
+            } catch (Error e) {
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,743 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Representing a durable outbox of the transaction requests sent through the Wallet.request* functions.
+ * The intent of a request is forced to a local log before the request is sent to KAS, and its result is forced before the returned future completes.
+ * When an outbox is opened again after a crash, the entries without a result are loaded, and replay() sends them again.
+ * A request is sent at least once, so a request sent right before a crash may be sent twice. To have KAS reject the second one,
+ * set the nonce of the request.
+ * <p>
+ * Each entry has a key. It is the SHA-256 hash of the request by default, and submitting a request having the key of an existing entry
+ * returns the future of that entry instead of sending it again. The keys of the last `maxCompletedEntries` completed entries are kept.
+ * <p>
+ * The log is a memory-mapped file, so an append is a memory copy. The requests submitted at the same time share a single force of the log(group commit).
+ * It is compacted when the outbox is opened, keeping the unfinished entries and the results of the retained completed entries.
+ * While the outbox is open, the log rolls over to a compacted one when it grows to twice the size of the last compacted log
+ * (at least {@value #INITIAL_CAPACITY} bytes), so it does not grow without bound.
+ *
+ * <pre>
+ * TransactionOutbox outbox = caver.kas.wallet.enableOutbox(Paths.get("wallet.outbox"));
+ * outbox.replay();
+ * CompletableFuture&lt;TransactionResult&gt; result = outbox.submit(valueTransferTransactionRequest);
+ * </pre>
+ */
+public class TransactionOutbox implements AutoCloseable {
+
+    /**
+     * The default maximum number of requests sent to KAS at a time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 16;
+
+    /**
+     * The default number of completed entries kept for the duplicate detection.
+     */
+    public static final int DEFAULT_MAX_COMPLETED_ENTRIES = 100_000;
+
+    static final int INITIAL_CAPACITY = 4 * 1024 * 1024;
+
+    static final byte INTENT = 1;
+    static final byte SUBMITTED = 2;
+    static final byte RESULT = 3;
+    static final byte FAILED = 4;
+
+    /**
+     * Representing the state of an entry.
+     */
+    public enum State {
+        /**
+         * The intent is recorded, and the request is not sent yet.
+         */
+        PENDING,
+        /**
+         * The request is sent, and its result is not recorded yet. KAS may or may not have received it.
+         */
+        SUBMITTED,
+        /**
+         * The result is recorded.
+         */
+        COMPLETED,
+        /**
+         * KAS rejected the request. A failed entry is not sent again.
+         */
+        FAILED
+    }
+
+    /**
+     * Representing a function of Wallet sending a request.
+     * @param <Q> The type of the request.
+     * @param <R> The type of the result.
+     */
+    @FunctionalInterface
+    interface Submitter<Q, R> {
+        R submit(Wallet wallet, Q request) throws ApiException;
+    }
+
+    static class Binding<Q, R> {
+        final Class<Q> requestType;
+        final Class<R> resultType;
+        final Submitter<Q, R> submitter;
+
+        Binding(Class<Q> requestType, Class<R> resultType, Submitter<Q, R> submitter) {
+            this.requestType = requestType;
+            this.resultType = resultType;
+            this.submitter = submitter;
+        }
+
+        Object submit(Wallet wallet, Object request) throws ApiException {
+            return submitter.submit(wallet, requestType.cast(request));
+        }
+    }
+
+    static final Map<String, Binding<?, ?>> BINDINGS = new HashMap<>();
+
+    static {
+        bind(LegacyTransactionRequest.class, TransactionResult.class, Wallet::requestLegacyTransaction);
+        bind(ValueTransferTransactionRequest.class, TransactionResult.class, Wallet::requestValueTransfer);
+        bind(ContractDeployTransactionRequest.class, TransactionResult.class, Wallet::requestSmartContractDeploy);
+        bind(ContractExecutionTransactionRequest.class, TransactionResult.class, Wallet::requestSmartContractExecution);
+        bind(CancelTransactionRequest.class, TransactionResult.class, Wallet::requestCancel);
+        bind(AnchorTransactionRequest.class, TransactionResult.class, Wallet::requestChainDataAnchoring);
+        bind(ProcessRLPRequest.class, TransactionResult.class, Wallet::requestRawTransaction);
+        bind(AccountUpdateTransactionRequest.class, TransactionResult.class, Wallet::requestAccountUpdate);
+        bind(FDValueTransferTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDValueTransferPaidByGlobalFeePayer);
+        bind(FDContractDeployTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDSmartContractDeployPaidByGlobalFeePayer);
+        bind(FDContractExecutionTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDSmartContractExecutionPaidByGlobalFeePayer);
+        bind(FDCancelTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDCancelPaidByGlobalFeePayer);
+        bind(FDAnchorTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDChainDataAnchoringPaidByGlobalFeePayer);
+        bind(FDProcessRLPRequest.class, FDTransactionResult.class, Wallet::requestFDRawTransactionPaidByGlobalFeePayer);
+        bind(FDAccountUpdateTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDAccountUpdatePaidByGlobalFeePayer);
+        bind(FDUserValueTransferTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDValueTransferPaidByUser);
+        bind(FDUserContractDeployTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDSmartContractDeployPaidByUser);
+        bind(FDUserContractExecutionTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDSmartContractExecutionPaidByUser);
+        bind(FDUserCancelTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDCancelPaidByUser);
+        bind(FDUserAnchorTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDChainDataAnchoringPaidByUser);
+        bind(FDUserProcessRLPRequest.class, FDTransactionResult.class, Wallet::requestFDRawTransactionPaidByUser);
+        bind(FDUserAccountUpdateTransactionRequest.class, FDTransactionResult.class, Wallet::requestFDAccountUpdatePaidByUser);
+    }
+
+    private final Wallet wallet;
+    private final Path path;
+    private final JSON json;
+    private final int maxCompletedEntries;
+    private final ExecutorService executor;
+    private final Object logLock = new Object();
+    private final int minRollBytes;
+    private OutboxLog log;
+    private int rollBytes;
+    private long rolledAppendCount;
+    private long rolledSyncCount;
+    private long rollCount;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final LinkedHashMap<String, Entry> completed = new LinkedHashMap<>();
+    private long nextId;
+    private boolean closed;
+
+    /**
+     * Representing an entry of the outbox.
+     */
+    public static class Entry {
+        final long id;
+        final String key;
+        final String requestType;
+        String requestJson;
+
+        State state = State.PENDING;
+        Object result;
+        String error;
+        boolean inFlight;
+        CompletableFuture<Object> future = new CompletableFuture<>();
+
+        Entry(long id, String key, String requestType, String requestJson) {
+            this.id = id;
+            this.key = key;
+            this.requestType = requestType;
+            this.requestJson = requestJson;
+        }
+
+        /**
+         * Getter function for id.
+         * @return long
+         */
+        public long getId() {
+            return id;
+        }
+
+        /**
+         * Getter function for key.
+         * @return String
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Getter function for the class name of the request.
+         * @return String
+         */
+        public String getRequestType() {
+            return requestType;
+        }
+
+        /**
+         * Getter function for state.
+         * @return State
+         */
+        public synchronized State getState() {
+            return state;
+        }
+
+        /**
+         * Getter function for result.
+         * @return Object. TransactionResult or FDTransactionResult. null if the entry is not completed.
+         */
+        public synchronized Object getResult() {
+            return result;
+        }
+
+        /**
+         * Getter function for the error of a failed entry.
+         * @return String. null if the entry is not failed.
+         */
+        public synchronized String getError() {
+            return error;
+        }
+
+        /**
+         * Returns the future of the last attempt to send the request.
+         * @return CompletableFuture
+         */
+        public synchronized CompletableFuture<Object> getFuture() {
+            return future;
+        }
+    }
+
+    /**
+     * Creates a TransactionOutbox instance using the log file.
+     * @param wallet The Wallet API used to send requests.
+     * @param path The path of the log file. It is created if it does not exist.
+     * @throws IOException Thrown when the log fails to be loaded.
+     */
+    public TransactionOutbox(Wallet wallet, Path path) throws IOException {
+        this(wallet, path, DEFAULT_MAX_CONCURRENCY, DEFAULT_MAX_COMPLETED_ENTRIES);
+    }
+
+    /**
+     * Creates a TransactionOutbox instance using the log file.
+     * The unfinished entries in the log are loaded, and they are sent again by replay().
+     * @param wallet The Wallet API used to send requests.
+     * @param path The path of the log file. It is created if it does not exist.
+     * @param maxConcurrency The maximum number of requests sent to KAS at a time.
+     * @param maxCompletedEntries The number of completed entries kept for the duplicate detection.
+     * @throws IOException Thrown when the log fails to be loaded.
+     */
+    public TransactionOutbox(Wallet wallet, Path path, int maxConcurrency, int maxCompletedEntries) throws IOException {
+        this(wallet, path, maxConcurrency, maxCompletedEntries, INITIAL_CAPACITY);
+    }
+
+    TransactionOutbox(Wallet wallet, Path path, int maxConcurrency, int maxCompletedEntries, int minRollBytes) throws IOException {
+        if(maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+        }
+        if(maxCompletedEntries < 0) {
+            throw new IllegalArgumentException("maxCompletedEntries must not be negative.");
+        }
+
+        this.wallet = wallet;
+        this.path = path;
+        this.json = wallet.getBasicTransactionApi().getApiClient().getJSON();
+        this.maxCompletedEntries = maxCompletedEntries;
+        this.minRollBytes = minRollBytes;
+
+        load();
+        synchronized (this) {
+            synchronized (logLock) {
+                this.log = compact();
+                this.rollBytes = nextRollBytes(log.size());
+            }
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "KAS-Outbox-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Records the request and sends it through the Wallet function of its type.
+     * The key of the entry is the SHA-256 hash of the request, so submitting the same request again returns the future of the existing entry.
+     * @param request The transaction request, e.g. ValueTransferTransactionRequest.
+     * @param <R> TransactionResult or FDTransactionResult depending on the request.
+     * @return CompletableFuture
+     */
+    public <R> CompletableFuture<R> submit(Object request) {
+        return submit(null, request);
+    }
+
+    /**
+     * Records the request with the key and sends it through the Wallet function of its type.
+     * If an entry having the key exists, its future is returned. An unfinished entry not being sent is sent again.
+     * @param key The key of the entry. If null, the SHA-256 hash of the request is used.
+     * @param request The transaction request, e.g. ValueTransferTransactionRequest.
+     * @param <R> TransactionResult or FDTransactionResult depending on the request.
+     * @return CompletableFuture
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<R> submit(String key, Object request) {
+        if(request == null) {
+            throw new IllegalArgumentException("request is required.");
+        }
+        Binding<?, ?> binding = BINDINGS.get(request.getClass().getName());
+        if(binding == null) {
+            throw new IllegalArgumentException("The request type is not supported: " + request.getClass().getName());
+        }
+
+        String requestJson = json.serialize(request);
+        String entryKey = key != null ? key : hash(request.getClass().getName(), requestJson);
+
+        Entry entry;
+        CompletableFuture<Object> future;
+        synchronized (this) {
+            if(closed) {
+                throw new IllegalStateException("The outbox is already closed.");
+            }
+
+            entry = entries.get(entryKey);
+            if(entry == null) {
+                entry = new Entry(nextId++, entryKey, request.getClass().getName(), requestJson);
+                try {
+                    synchronized (logLock) {
+                        log.append(INTENT, encode(entry.id, entry.key, entry.requestType, entry.requestJson));
+                    }
+                    entries.put(entryKey, entry);
+                    rollIfFull();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            future = start(entry);
+        }
+        return (CompletableFuture<R>)(CompletableFuture<?>)future;
+    }
+
+    /**
+     * Sends the unfinished entries loaded from the log or left by transient failures again.
+     * @return List The entries sent again.
+     */
+    public List<Entry> replay() {
+        List<Entry> replayed = new ArrayList<>();
+        synchronized (this) {
+            if(closed) {
+                throw new IllegalStateException("The outbox is already closed.");
+            }
+            for(Entry entry : entries.values()) {
+                synchronized (entry) {
+                    if(entry.inFlight || entry.state == State.COMPLETED || entry.state == State.FAILED) {
+                        continue;
+                    }
+                }
+                start(entry);
+                replayed.add(entry);
+            }
+        }
+        replayed.sort((a, b) -> Long.compare(a.id, b.id));
+        return replayed;
+    }
+
+    /**
+     * Returns the entry having the key.
+     * @param key The key of the entry.
+     * @return Entry. null if there is no entry having the key.
+     */
+    public synchronized Entry getEntry(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns the entries without a result, in the order they are submitted.
+     * @return List
+     */
+    public synchronized List<Entry> getUnfinishedEntries() {
+        List<Entry> unfinished = new ArrayList<>();
+        for(Entry entry : entries.values()) {
+            State state = entry.getState();
+            if(state == State.PENDING || state == State.SUBMITTED) {
+                unfinished.add(entry);
+            }
+        }
+        unfinished.sort((a, b) -> Long.compare(a.id, b.id));
+        return unfinished;
+    }
+
+    /**
+     * Returns the number of records appended to the log.
+     * @return long
+     */
+    public long getAppendCount() {
+        synchronized (logLock) {
+            return rolledAppendCount + log.getAppendCount();
+        }
+    }
+
+    /**
+     * Returns the number of times the log is forced to the disk. With group commit, it is smaller than the number of appends.
+     * @return long
+     */
+    public long getSyncCount() {
+        synchronized (logLock) {
+            return rolledSyncCount + log.getSyncCount();
+        }
+    }
+
+    /**
+     * Returns the number of times the log rolled over to a compacted one while the outbox is open.
+     * @return long
+     */
+    public long getRollCount() {
+        synchronized (logLock) {
+            return rollCount;
+        }
+    }
+
+    /**
+     * Getter function for path.
+     * @return Path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Stops sending requests and closes the log.
+     * The requests being sent are waited for up to 10 seconds, and the entries without a result are sent by replay() after the outbox is opened again.
+     * @throws IOException Thrown when the log fails to be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if(closed) {
+                return;
+            }
+            closed = true;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (logLock) {
+            log.close();
+        }
+    }
+
+    private CompletableFuture<Object> start(Entry entry) {
+        CompletableFuture<Object> future;
+        synchronized (entry) {
+            if(entry.inFlight || entry.state == State.COMPLETED || entry.state == State.FAILED) {
+                return entry.future;
+            }
+            if(entry.future.isDone()) {
+                entry.future = new CompletableFuture<>();
+            }
+            entry.inFlight = true;
+            future = entry.future;
+        }
+        executor.execute(() -> send(entry));
+        return future;
+    }
+
+    private void send(Entry entry) {
+        Binding<?, ?> binding = BINDINGS.get(entry.requestType);
+        try {
+            // The intent is forced before the request leaves the process.
+            record(entry, SUBMITTED, encode(entry.id), State.SUBMITTED, null);
+
+            Object result;
+            try {
+                result = binding.submit(wallet, json.deserialize(entry.requestJson, binding.requestType));
+            } catch (ApiException e) {
+                if(isTransient(e)) {
+                    finish(entry, null, null, e);
+                    return;
+                }
+                String error = e.getCode() + " " + (e.getResponseBody() != null ? e.getResponseBody() : e.getMessage());
+                record(entry, FAILED, encode(entry.id, error), State.FAILED, error);
+                finish(entry, State.FAILED, error, e);
+                return;
+            }
+
+            record(entry, RESULT, encode(entry.id, json.serialize(result)), State.COMPLETED, result);
+            finish(entry, State.COMPLETED, result, null);
+        } catch (IOException | RuntimeException e) {
+            finish(entry, null, null, e);
+            return;
+        }
+
+        try {
+            rollIfFull();
+        } catch (IOException | RuntimeException e) {
+            // The entry is already finished. The rollover is tried again by the next append, and submit() reports its failure.
+        }
+    }
+
+    /**
+     * Appends the record of the entry and updates its state in the same critical section,
+     * so the compacted log written by a rollover has the records appended before it. Then it waits for the record to be forced.
+     */
+    private void record(Entry entry, byte type, byte[] payload, State state, Object value) throws IOException {
+        OutboxLog appended;
+        int offset;
+        synchronized (logLock) {
+            appended = log;
+            offset = log.append(type, payload);
+            synchronized (entry) {
+                entry.state = state;
+                if(state == State.COMPLETED) {
+                    entry.result = value;
+                } else if(state == State.FAILED) {
+                    entry.error = (String)value;
+                }
+            }
+        }
+        // If the log rolled over in the meantime, the record is in the compacted log, and the closed log reports it as forced.
+        appended.sync(offset);
+    }
+
+    /**
+     * Rolls over to a compacted log if the log reached rollBytes.
+     * The lock of the outbox is taken before the one of the log, like submit() does.
+     */
+    private void rollIfFull() throws IOException {
+        synchronized (this) {
+            if(closed) {
+                return;
+            }
+            synchronized (logLock) {
+                if(log.size() < rollBytes) {
+                    return;
+                }
+
+                OutboxLog previous = log;
+                log = compact();
+                rollBytes = nextRollBytes(log.size());
+                rolledAppendCount += previous.getAppendCount();
+                rolledSyncCount += previous.getSyncCount();
+                rollCount++;
+                // The records of the previous log are in the compacted log, so closing it completes the syncs waiting for it.
+                previous.close();
+            }
+        }
+    }
+
+    private int nextRollBytes(int compactedBytes) {
+        return (int)Math.min(Integer.MAX_VALUE / 2, Math.max(minRollBytes, 2L * compactedBytes));
+    }
+
+    private void finish(Entry entry, State state, Object value, Throwable error) {
+        CompletableFuture<Object> future;
+        synchronized (entry) {
+            entry.inFlight = false;
+            if(state == State.COMPLETED) {
+                entry.result = value;
+            } else if(state == State.FAILED) {
+                entry.error = (String)value;
+            }
+            if(state != null) {
+                entry.state = state;
+            }
+            future = entry.future;
+        }
+
+        if(state != null) {
+            synchronized (this) {
+                retain(entry);
+            }
+        }
+
+        if(error == null) {
+            future.complete(value);
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private void retain(Entry entry) {
+        // A finished entry is never sent again, so only its key and result are kept.
+        entry.requestJson = "";
+        completed.put(entry.key, entry);
+        Iterator<Entry> iterator = completed.values().iterator();
+        while(completed.size() > maxCompletedEntries && iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            iterator.remove();
+            entries.remove(eldest.key);
+        }
+    }
+
+    static boolean isTransient(ApiException e) {
+        // The status code is 0 when the request failed before a response, e.g. a timeout.
+        return e.getCode() == 0 || e.getCode() == 429 || e.getCode() >= 500;
+    }
+
+    private void load() throws IOException {
+        Map<Long, Entry> byId = new LinkedHashMap<>();
+        try (OutboxLog existing = new OutboxLog(path, INITIAL_CAPACITY)) {
+            for(OutboxLog.Record record : existing.read()) {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.payload));
+                long id = in.readLong();
+                if(record.type == INTENT) {
+                    byId.put(id, new Entry(id, readString(in), readString(in), readString(in)));
+                    nextId = Math.max(nextId, id + 1);
+                    continue;
+                }
+
+                Entry entry = byId.get(id);
+                if(entry == null) {
+                    continue;
+                }
+                if(record.type == SUBMITTED) {
+                    entry.state = State.SUBMITTED;
+                } else if(record.type == RESULT) {
+                    entry.state = State.COMPLETED;
+                    Binding<?, ?> binding = BINDINGS.get(entry.requestType);
+                    entry.result = binding == null ? null : json.deserialize(readString(in), binding.resultType);
+                    entry.future.complete(entry.result);
+                } else if(record.type == FAILED) {
+                    entry.state = State.FAILED;
+                    entry.error = readString(in);
+                    entry.future.completeExceptionally(new IllegalStateException("The request was rejected: " + entry.error));
+                }
+            }
+        }
+
+        for(Entry entry : byId.values()) {
+            entries.put(entry.key, entry);
+            if(entry.state == State.COMPLETED || entry.state == State.FAILED) {
+                retain(entry);
+            }
+        }
+    }
+
+    /**
+     * Writes the entries to a new log and replaces the log file with it.
+     * It must be called while holding the lock of the outbox and the lock of the log.
+     */
+    private OutboxLog compact() throws IOException {
+        List<Entry> kept = new ArrayList<>(entries.values());
+        kept.sort((a, b) -> Long.compare(a.id, b.id));
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(compacted);
+        try (OutboxLog out = new OutboxLog(compacted, INITIAL_CAPACITY)) {
+            int offset = 0;
+            for(Entry entry : kept) {
+                synchronized (entry) {
+                    offset = out.append(INTENT, encode(entry.id, entry.key, entry.requestType, entry.requestJson));
+                    if(entry.state == State.SUBMITTED) {
+                        offset = out.append(SUBMITTED, encode(entry.id));
+                    } else if(entry.state == State.COMPLETED) {
+                        offset = out.append(RESULT, encode(entry.id, json.serialize(entry.result)));
+                    } else if(entry.state == State.FAILED) {
+                        offset = out.append(FAILED, encode(entry.id, entry.error));
+                    }
+                }
+            }
+            out.sync(offset);
+        }
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        OutboxLog opened = new OutboxLog(path, INITIAL_CAPACITY);
+        opened.read();
+        return opened;
+    }
+
+    static byte[] encode(long id, String... values) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(id);
+            for(String value : values) {
+                byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // A ByteArrayOutputStream does not throw IOException.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static String hash(String requestType, String requestJson) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(requestType.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte)'\n');
+            byte[] hash = digest.digest(requestJson.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder builder = new StringBuilder("0x");
+            for(byte b : hash) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <Q, R> void bind(Class<Q> requestType, Class<R> resultType, Submitter<Q, R> submitter) {
+        BINDINGS.put(requestType.getName(), new Binding<>(requestType, resultType, submitter));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.kas.utils.KASCache;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Representing a cache of finalized transaction receipts used by Wallet.getTransaction().
+ * A receipt having a status and a block number never changes, so it is cached without a time-to-live.
+ * The cache is bounded by the number of receipts and by their approximate size in bytes.
+ * In the compact form, a receipt is stored as UTF-8 JSON bytes and deserialized on each hit,
+ * which takes much less heap than a TransactionReceipt object holding a String per field at the cost of the deserialization.
+ * A cached receipt is never handed out as is, so a caller modifying its receipt does not affect the other callers.
+ * In the default form, each hit returns a copy of the cached receipt made through a JSON tree without parsing text.
+ */
+public class TransactionReceiptCache {
+    /**
+     * The approximate heap size of a TransactionReceipt object excluding the characters of its fields.
+     */
+    static final long RECEIPT_OVERHEAD_BYTES = 1024;
+
+    /**
+     * The approximate heap size of a compact receipt excluding its bytes.
+     */
+    static final long COMPACT_OVERHEAD_BYTES = 32;
+
+    private final KASCache<String, Object> cache;
+    private final boolean compact;
+    private final JSON json;
+
+    /**
+     * Creates a TransactionReceiptCache instance.
+     * @param maxEntries The maximum number of cached receipts.
+     * @param maxBytes The maximum approximate size of cached receipts in bytes.
+     * @param compact If true, receipts are stored in the compact serialized form.
+     * @param json The JSON used to serialize a receipt in the compact form.
+     */
+    public TransactionReceiptCache(int maxEntries, long maxBytes, boolean compact, JSON json) {
+        this.cache = new KASCache<>(maxEntries, 0, maxBytes, TransactionReceiptCache::approximateBytes);
+        this.compact = compact;
+        this.json = json;
+    }
+
+    /**
+     * Checks whether the receipt is final, i.e. it is included in a block and has an execution status.
+     * @param receipt The transaction receipt.
+     * @return boolean
+     */
+    public static boolean isFinalized(TransactionReceipt receipt) {
+        return receipt != null && receipt.getStatus() != null && receipt.getBlockNumber() != null && receipt.getBlockHash() != null;
+    }
+
+    /**
+     * Returns the cached receipt of the transaction.
+     * A new TransactionReceipt instance is returned for each call.
+     * @param transactionHash The transaction hash.
+     * @return TransactionReceipt. null if it is not cached.
+     */
+    public TransactionReceipt get(String transactionHash) {
+        Object value = cache.getIfPresent(key(transactionHash));
+        if(value instanceof byte[]) {
+            return json.deserialize(new InputStreamReader(new ByteArrayInputStream((byte[])value), StandardCharsets.UTF_8), TransactionReceipt.class);
+        }
+        return value == null ? null : copy((TransactionReceipt)value);
+    }
+
+    /**
+     * Caches the receipt if it is finalized.
+     * @param transactionHash The transaction hash.
+     * @param receipt The transaction receipt.
+     * @return boolean true if the receipt is cached.
+     */
+    public boolean put(String transactionHash, TransactionReceipt receipt) {
+        if(!isFinalized(receipt)) {
+            return false;
+        }
+
+        if(compact) {
+            cache.put(key(transactionHash), json.serialize(receipt).getBytes(StandardCharsets.UTF_8));
+        } else {
+            cache.put(key(transactionHash), copy(receipt));
+        }
+        return true;
+    }
+
+    /**
+     * Removes the cached receipt of the transaction.
+     * @param transactionHash The transaction hash.
+     */
+    public void invalidate(String transactionHash) {
+        cache.invalidate(key(transactionHash));
+    }
+
+    /**
+     * Removes all cached receipts.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached receipts.
+     * @return int
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the approximate size of cached receipts in bytes.
+     * @return long
+     */
+    public long bytes() {
+        return cache.weight();
+    }
+
+    /**
+     * Getter function for compact.
+     * @return boolean
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Returns the statistics of this cache.
+     * @return KASCache.Stats
+     */
+    public KASCache.Stats getStats() {
+        return cache.getStats();
+    }
+
+    private TransactionReceipt copy(TransactionReceipt receipt) {
+        return json.getGson().fromJson(json.getGson().toJsonTree(receipt), TransactionReceipt.class);
+    }
+
+    static long approximateBytes(Object value) {
+        if(value instanceof byte[]) {
+            return COMPACT_OVERHEAD_BYTES + ((byte[])value).length;
+        }
+
+        TransactionReceipt receipt = (TransactionReceipt)value;
+        long chars = length(receipt.getBlockHash()) + length(receipt.getBlockNumber()) + length(receipt.getFrom())
+                + length(receipt.getGas()) + length(receipt.getGasPrice()) + length(receipt.getGasUsed())
+                + length(receipt.getHash()) + length(receipt.getInput()) + length(receipt.getLogsBloom())
+                + length(receipt.getNonce()) + length(receipt.getSenderTxHash()) + length(receipt.getStatus())
+                + length(receipt.getTo()) + length(receipt.getTransactionHash()) + length(receipt.getTransactionIndex())
+                + length(receipt.getType()) + length(receipt.getValue()) + length(receipt.getContractAddress())
+                + length(receipt.getCodeFormat()) + length(receipt.getFeePayer());
+        long logs = receipt.getLogs() == null ? 0 : receipt.getLogs().stream()
+                .mapToLong(log -> 256 + 2L * (length(log.getAddress()) + length(log.getData())
+                        + (log.getTopics() == null ? 0 : log.getTopics().stream().mapToLong(topic -> 40 + length(topic)).sum())))
+                .sum();
+        int signatures = (receipt.getSignatures() == null ? 0 : receipt.getSignatures().size())
+                + (receipt.getFeePayerSignatures() == null ? 0 : receipt.getFeePayerSignatures().size());
+        return RECEIPT_OVERHEAD_BYTES + 2 * chars + logs + 512L * signatures;
+    }
+
+    private static long length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static String key(String transactionHash) {
+        return transactionHash.toLowerCase();
+    }
+}
@@ -18,17 +18,28 @@ package xyz.groundx.caver_ext_kas.kas.wallet;
 
 import com.klaytn.caver.account.AccountKeyWeightedMultiSig;
 import com.squareup.okhttp.Call;
+import com.squareup.okhttp.OkHttpClient;
 import xyz.groundx.caver_ext_kas.kas.utils.KASUtils;
 import xyz.groundx.caver_ext_kas.kas.wallet.accountkey.KeyTypeMultiSig;
 import xyz.groundx.caver_ext_kas.kas.wallet.accountkey.KeyTypePublic;
 import xyz.groundx.caver_ext_kas.kas.wallet.accountkey.KeyTypeRoleBased;
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.kas.utils.LazyApiClient;
+import xyz.groundx.caver_ext_kas.kas.utils.PageIterator;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.api.*;
 import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.*;
 
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -39,61 +50,105 @@ public class Wallet {
     /**
      * Account API rest client object.
      */
-    AccountApi accountApi;
+    volatile AccountApi accountApi;
 
     /**
      * Basic transaction API rest client object.
      */
-    BasicTransactionApi basicTransactionApi;
+    volatile BasicTransactionApi basicTransactionApi;
 
     /**
      * Fee delegated transaction(fee paid by KAS) API rest client object.
      */
-    FeeDelegatedTransactionPaidByKasApi feeDelegatedTransactionPaidByKasApi;
+    volatile FeeDelegatedTransactionPaidByKasApi feeDelegatedTransactionPaidByKasApi;
 
     /**
      * Fee delegated transaction(fee paid by user) API rest client object.
      */
-    FeeDelegatedTransactionPaidByUserApi feeDelegatedTransactionPaidByUserApi;
+    volatile FeeDelegatedTransactionPaidByUserApi feeDelegatedTransactionPaidByUserApi;
 
     /**
      * Multiple signature transaction management API rest client object.
      */
-    MultisigTransactionManagementApi multisigTransactionManagementApi;
+    volatile MultisigTransactionManagementApi multisigTransactionManagementApi;
 
     /**
      * Statistics API rest client object.
      */
-    StatisticsApi statisticsApi;
+    volatile StatisticsApi statisticsApi;
 
     /**
      * Klaytn network id.
      */
     String chainId;
 
+    /**
+     * The Api client for connection with KAS. It is created when an API is used first.
+     */
+    LazyApiClient apiClient;
+
+    /**
+     * The cache of finalized transaction receipts. It is null if the receipt cache is disabled.
+     */
+    volatile TransactionReceiptCache receiptCache;
+
+    /**
+     * The shared waiter of transaction receipts. It is created when it is used first.
+     */
+    ReceiptWaiter receiptWaiter;
+
+    /**
+     * The scheduler sending the transaction requests of each sender in order. It is created when it is used first.
+     */
+    SenderLaneScheduler senderLanes;
+
+    /**
+     * The pool of accounts created ahead of time. It is null if the account pool is disabled.
+     */
+    volatile AccountPool accountPool;
+
+    /**
+     * The durable outbox of transaction requests. It is null if the outbox is disabled.
+     */
+    volatile TransactionOutbox outbox;
+
     /**
      * Creates an WalletAPI instnace.
      * @param chainId A Klaytn network chain id.
      * @param walletApiClient The Api client for connection with KAS.
      */
     public Wallet(String chainId, ApiClient walletApiClient) {
+        this(chainId, LazyApiClient.of(walletApiClient));
+    }
+
+    /**
+     * Creates an WalletAPI instance.
+     * The Api client and the rest client objects are created when they are used first.
+     * @param chainId A Klaytn network chain id.
+     * @param walletApiClient The Api client for connection with KAS.
+     */
+    public Wallet(String chainId, LazyApiClient walletApiClient) {
         setChainId(chainId);
-        setAccountApi(new AccountApi(walletApiClient));
-        setBasicTransactionApi(new BasicTransactionApi(walletApiClient));
-        setFeeDelegatedTransactionPaidByKasApi(new FeeDelegatedTransactionPaidByKasApi(walletApiClient));
-        setFeeDelegatedTransactionPaidByUserApi(new FeeDelegatedTransactionPaidByUserApi(walletApiClient));
-        setMultisigTransactionManagementApi(new MultisigTransactionManagementApi(walletApiClient));
-        setStatisticsApi(new StatisticsApi(walletApiClient));
+        this.apiClient = walletApiClient;
     }
 
     /**
      * Creates a Klaytn account.
      * It generates Klaytn address and private key, public key pair.
+     * If the account pool is enabled, an account created ahead of time is returned.
      * POST /v2/account
      * @return Account
      * @throws ApiException
      */
     public Account createAccount() throws ApiException {
+        AccountPool pool = accountPool;
+        if(pool != null) {
+            return pool.take();
+        }
+        return requestAccount();
+    }
+
+    Account requestAccount() throws ApiException {
         return getAccountApi().createAccount(chainId);
     }
 
@@ -510,23 +565,68 @@ public class Wallet {
 
     /**
      * Get a transaction receipt.
+     * If the receipt cache is enabled, a finalized receipt is served from the cache.
      * @param transactionHash A transaction hash to get a transaction receipt.
      * @return TransactionReceipt
      * @throws ApiException
      */
     public TransactionReceipt getTransaction(String transactionHash) throws ApiException {
-        return getBasicTransactionApi().transactionReceipt(chainId, transactionHash);
+        TransactionReceiptCache cache = receiptCache;
+        if(cache == null || transactionHash == null) {
+            return getBasicTransactionApi().transactionReceipt(chainId, transactionHash);
+        }
+
+        TransactionReceipt receipt = cache.get(transactionHash);
+        if(receipt == null) {
+            receipt = getBasicTransactionApi().transactionReceipt(chainId, transactionHash);
+            cache.put(transactionHash, receipt);
+        }
+        return receipt;
     }
 
     /**
      * Get a transaction receipt asynchronously.
+     * If the receipt cache is enabled and the finalized receipt is cached, the callback is called on a dispatcher thread of the HTTP client
+     * without a request, and it returns a Call standing for the response. Cancelling it reports the cancellation to the callback.
      * @param transactionHash A transaction hash to get a transaction receipt.
      * @param callback The callback function to handle response.
      * @return Call
      * @throws ApiException
      */
     public Call getTransactionAsync(String transactionHash, ApiCallback<TransactionReceipt> callback) throws ApiException {
-        return getBasicTransactionApi().transactionReceiptAsync(chainId, transactionHash, callback);
+        TransactionReceiptCache cache = receiptCache;
+        if(cache == null || transactionHash == null) {
+            return getBasicTransactionApi().transactionReceiptAsync(chainId, transactionHash, callback);
+        }
+
+        TransactionReceipt receipt = cache.get(transactionHash);
+        if(receipt != null) {
+            OkHttpClient httpClient = getBasicTransactionApi().getApiClient().getHttpClient();
+            return ApiCallFuture.notify(CompletableFuture.supplyAsync(() -> receipt, httpClient.getDispatcher().getExecutorService()), callback, httpClient);
+        }
+
+        return getBasicTransactionApi().transactionReceiptAsync(chainId, transactionHash, new ApiCallback<TransactionReceipt>() {
+            @Override
+            public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                callback.onFailure(e, statusCode, responseHeaders);
+            }
+
+            @Override
+            public void onSuccess(TransactionReceipt result, int statusCode, Map<String, List<String>> responseHeaders) {
+                cache.put(transactionHash, result);
+                callback.onSuccess(result, statusCode, responseHeaders);
+            }
+
+            @Override
+            public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                callback.onUploadProgress(bytesWritten, contentLength, done);
+            }
+
+            @Override
+            public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                callback.onDownloadProgress(bytesRead, contentLength, done);
+            }
+        });
     }
 
     /**
@@ -938,6 +1038,40 @@ public class Wallet {
         return getMultisigTransactionManagementApi().signPendingTransaction(chainId, address, transactionId);
     }
 
+    /**
+     * Sign a pending transaction with several signers concurrently.
+     * It stops when the signed weight reaches the threshold: the signature requests in flight are cancelled and the other signers are skipped.
+     * The result reports the state and the latency of each signer.
+     * @param addresses The signer addresses to sign.
+     * @param transactionId The pending transaction id.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MultisigSigningResult> signMultiSigTransaction(List<String> addresses, String transactionId) {
+        return signMultiSigTransaction(addresses, transactionId, Math.max(1, addresses == null ? 1 : addresses.size()));
+    }
+
+    /**
+     * Sign a pending transaction with several signers, sending at most `maxConcurrency` signature requests at a time.
+     * It stops when the signed weight reaches the threshold: the signature requests in flight are cancelled and the other signers are skipped.
+     * The result reports the state and the latency of each signer.
+     * @param addresses The signer addresses to sign, in the order they are requested.
+     * @param transactionId The pending transaction id.
+     * @param maxConcurrency The maximum number of signature requests in flight.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MultisigSigningResult> signMultiSigTransaction(List<String> addresses, String transactionId, int maxConcurrency) {
+        if(addresses == null) {
+            throw new IllegalArgumentException("addresses is required.");
+        }
+        if(transactionId == null) {
+            throw new IllegalArgumentException("transactionId is required.");
+        }
+        if(maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1.");
+        }
+        return new MultisigSigner(this, transactionId, addresses, maxConcurrency).start();
+    }
+
     /**
      * Sign a pending transaction asynchronously.
      * @param address The singer address to sign.
@@ -1041,11 +1175,284 @@ public class Wallet {
     }
 
 
+    /**
+     * Returns a wrapper of this Wallet API that returns a CompletableFuture for each request.
+     * The returned futures are completed on the HTTP dispatcher thread.
+     * @return WalletAsync
+     */
+    public WalletAsync async() {
+        return async(null);
+    }
+
+    /**
+     * Returns a wrapper of this Wallet API that returns a CompletableFuture for each request.
+     * @param completionExecutor The executor used to complete the returned futures.
+     * @return WalletAsync
+     */
+    public WalletAsync async(Executor completionExecutor) {
+        return new WalletAsync(this, completionExecutor);
+    }
+
+    /**
+     * Iterates over all accounts.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/account
+     * @param options Filters required when retrieving data. `size`, `cursor`, `fromTimestamp` and `toTimestamp`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<Accounts, Account> iterateAccountList(WalletQueryOptions options) {
+        return iterateAccountList(options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all accounts.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/account
+     * @param options Filters required when retrieving data. `size`, `cursor`, `fromTimestamp` and `toTimestamp`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<Accounts, Account> iterateAccountList(WalletQueryOptions options, int maxPrefetchPages) {
+        WalletQueryOptions queryOptions = options == null ? new WalletQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getAccountListAsync(queryOptions.copyWithCursor(cursor), callback)),
+                Accounts::getItems, Accounts::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Iterates over all pending multisig transactions of a specific account.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/multisig/account/{address}/tx
+     * @param address An account address.
+     * @param options Filters required when retrieving data. `size`, `cursor`, `fromTimestamp` and `toTimestamp`. It is not modified while iterating.
+     * @return PageIterator
+     */
+    public PageIterator<MultisigTransactions, PendedTransaction> iterateMultiSigTransactionList(String address, WalletQueryOptions options) {
+        return iterateMultiSigTransactionList(address, options, PageIterator.DEFAULT_MAX_PREFETCH_PAGES);
+    }
+
+    /**
+     * Iterates over all pending multisig transactions of a specific account.
+     * Pages are requested lazily starting from the cursor of `options`, and the next page is prefetched while the current one is consumed.
+     * GET /v2/multisig/account/{address}/tx
+     * @param address An account address.
+     * @param options Filters required when retrieving data. `size`, `cursor`, `fromTimestamp` and `toTimestamp`. It is not modified while iterating.
+     * @param maxPrefetchPages The maximum number of pages buffered ahead of the consumer.
+     * @return PageIterator
+     */
+    public PageIterator<MultisigTransactions, PendedTransaction> iterateMultiSigTransactionList(String address, WalletQueryOptions options, int maxPrefetchPages) {
+        WalletQueryOptions queryOptions = options == null ? new WalletQueryOptions() : options.copyWithCursor(options.getCursor());
+        return new PageIterator<>(queryOptions.getCursor(),
+                cursor -> ApiCallFuture.of(null, callback -> getMultiSigTransactionListAsync(address, queryOptions.copyWithCursor(cursor), callback)),
+                MultisigTransactions::getItems, MultisigTransactions::getCursor, maxPrefetchPages);
+    }
+
+    /**
+     * Waits for the finalized receipt of the transaction.
+     * The receipts of all waiting transactions are polled by a single scheduler shared in this Wallet instance.
+     * The returned future is completed exceptionally with a TimeoutException if the receipt is not finalized within the default timeout of the ReceiptWaiter.
+     * @param transactionHash A transaction hash to get a transaction receipt.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt> awaitReceipt(String transactionHash) {
+        return getReceiptWaiter().await(transactionHash);
+    }
+
+    /**
+     * Waits for the finalized receipt of the transaction.
+     * The receipts of all waiting transactions are polled by a single scheduler shared in this Wallet instance.
+     * The returned future is completed exceptionally with a TimeoutException if the receipt is not finalized within the timeout.
+     * @param transactionHash A transaction hash to get a transaction receipt.
+     * @param timeoutMillis The time to wait for the receipt.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt> awaitReceipt(String transactionHash, long timeoutMillis) {
+        return getReceiptWaiter().await(transactionHash, timeoutMillis);
+    }
+
+    /**
+     * Getter function for receiptWaiter.
+     * It creates the receipt waiter with the default settings if it is not set.
+     * @return ReceiptWaiter
+     */
+    public synchronized ReceiptWaiter getReceiptWaiter() {
+        if(receiptWaiter == null) {
+            receiptWaiter = new ReceiptWaiter(this);
+        }
+        return receiptWaiter;
+    }
+
+    /**
+     * Setter function for receiptWaiter.
+     * @param receiptWaiter The receipt waiter used by awaitReceipt().
+     */
+    public synchronized void setReceiptWaiter(ReceiptWaiter receiptWaiter) {
+        this.receiptWaiter = receiptWaiter;
+    }
+
+    /**
+     * Getter function for senderLanes.
+     * If it is not set, a scheduler with the default maximum concurrency is created.
+     * @return SenderLaneScheduler
+     */
+    public synchronized SenderLaneScheduler getSenderLanes() {
+        if(senderLanes == null) {
+            senderLanes = new SenderLaneScheduler(this, SenderLaneScheduler.DEFAULT_MAX_CONCURRENCY);
+        }
+        return senderLanes;
+    }
+
+    /**
+     * Setter function for senderLanes.
+     * @param senderLanes The scheduler sending the transaction requests of each sender in order.
+     */
+    public synchronized void setSenderLanes(SenderLaneScheduler senderLanes) {
+        this.senderLanes = senderLanes;
+    }
+
+    /**
+     * Enables the pool of accounts created ahead of time used by createAccount().
+     * It replaces the existing account pool.
+     * @param size The number of accounts kept ready.
+     * @param maxConcurrency The maximum number of account creations in flight.
+     * @return AccountPool
+     */
+    public synchronized AccountPool enableAccountPool(int size, int maxConcurrency) {
+        disableAccountPool();
+        accountPool = new AccountPool(this, size, maxConcurrency);
+        return accountPool;
+    }
+
+    /**
+     * Enables the pool of accounts created ahead of time used by createAccount().
+     * The accounts not handed out are kept in the journal, so they are reused after a restart.
+     * It replaces the existing account pool after waiting for its creations in flight to finish,
+     * so the accounts they create are recorded in its journal before the journal is loaded again.
+     * @param size The number of accounts kept ready.
+     * @param maxConcurrency The maximum number of account creations in flight.
+     * @param journalPath The path of the journal file.
+     * @return AccountPool
+     * @throws IOException Thrown when the journal fails to be loaded, or the thread is interrupted while waiting for the existing account pool.
+     */
+    public synchronized AccountPool enableAccountPool(int size, int maxConcurrency, Path journalPath) throws IOException {
+        // The existing pool is shut down first, because it may use the same journal.
+        AccountPool previous = accountPool;
+        disableAccountPool();
+        if(previous != null) {
+            try {
+                // The creations are bounded by the timeouts of the HTTP client.
+                previous.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the existing account pool to shut down.");
+            }
+        }
+        accountPool = new AccountPool(this, size, maxConcurrency, journalPath);
+        return accountPool;
+    }
+
+    /**
+     * Disables the account pool. The ready accounts stay in its journal if it has one,
+     * and the accounts created by its creations in flight are added to the journal when they finish.
+     */
+    public synchronized void disableAccountPool() {
+        AccountPool previous = accountPool;
+        accountPool = null;
+        if(previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    /**
+     * Getter function for accountPool.
+     * @return AccountPool. null if the account pool is disabled.
+     */
+    public AccountPool getAccountPool() {
+        return accountPool;
+    }
+
+    /**
+     * Enables the durable outbox of transaction requests using the log file.
+     * The requests submitted to the outbox are recorded before they are sent, and the unfinished ones are sent again by TransactionOutbox.replay().
+     * It replaces the existing outbox.
+     * @param path The path of the log file.
+     * @return TransactionOutbox
+     * @throws IOException Thrown when the log fails to be loaded.
+     */
+    public synchronized TransactionOutbox enableOutbox(Path path) throws IOException {
+        // The existing outbox is closed first, because it may use the same log file.
+        disableOutbox();
+        outbox = new TransactionOutbox(this, path);
+        return outbox;
+    }
+
+    /**
+     * Closes and disables the outbox. Its unfinished entries stay in its log file.
+     * @throws IOException Thrown when the log fails to be closed.
+     */
+    public synchronized void disableOutbox() throws IOException {
+        TransactionOutbox previous = outbox;
+        outbox = null;
+        if(previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Getter function for outbox.
+     * @return TransactionOutbox. null if the outbox is disabled.
+     */
+    public TransactionOutbox getOutbox() {
+        return outbox;
+    }
+
+    /**
+     * Enables the cache of finalized transaction receipts used by getTransaction().
+     * @param maxEntries The maximum number of cached receipts.
+     * @param maxBytes The maximum approximate size of cached receipts in bytes.
+     * @param compact If true, receipts are stored as serialized JSON bytes to reduce the heap usage.
+     */
+    public void enableReceiptCache(int maxEntries, long maxBytes, boolean compact) {
+        receiptCache = new TransactionReceiptCache(maxEntries, maxBytes, compact, getBasicTransactionApi().getApiClient().getJSON());
+    }
+
+    /**
+     * Disables the cache of finalized transaction receipts.
+     */
+    public void disableReceiptCache() {
+        receiptCache = null;
+    }
+
+    /**
+     * Getter function for receiptCache.
+     * @return TransactionReceiptCache. null if the receipt cache is disabled.
+     */
+    public TransactionReceiptCache getReceiptCache() {
+        return receiptCache;
+    }
+
+    /**
+     * Getter function for apiClient.
+     * @return LazyApiClient
+     */
+    public LazyApiClient getLazyApiClient() {
+        return apiClient;
+    }
+
     /**
      * Getter function for accountApi.
       * @return AccountApi
      */
     public AccountApi getAccountApi() {
+        AccountApi accountApi = this.accountApi;
+        if(accountApi == null) {
+            synchronized (this) {
+                if(this.accountApi == null) {
+                    this.accountApi = new AccountApi(apiClient.get());
+                }
+                accountApi = this.accountApi;
+            }
+        }
         return accountApi;
     }
 
@@ -1054,6 +1461,15 @@ public class Wallet {
      * @return BasicTransactionApi
      */
     public BasicTransactionApi getBasicTransactionApi() {
+        BasicTransactionApi basicTransactionApi = this.basicTransactionApi;
+        if(basicTransactionApi == null) {
+            synchronized (this) {
+                if(this.basicTransactionApi == null) {
+                    this.basicTransactionApi = new BasicTransactionApi(apiClient.get());
+                }
+                basicTransactionApi = this.basicTransactionApi;
+            }
+        }
         return basicTransactionApi;
     }
 
@@ -1062,6 +1478,15 @@ public class Wallet {
      * @return FeeDelegatedTransactionPaidByKasApi
      */
     public FeeDelegatedTransactionPaidByKasApi getFeeDelegatedTransactionPaidByKasApi() {
+        FeeDelegatedTransactionPaidByKasApi feeDelegatedTransactionPaidByKasApi = this.feeDelegatedTransactionPaidByKasApi;
+        if(feeDelegatedTransactionPaidByKasApi == null) {
+            synchronized (this) {
+                if(this.feeDelegatedTransactionPaidByKasApi == null) {
+                    this.feeDelegatedTransactionPaidByKasApi = new FeeDelegatedTransactionPaidByKasApi(apiClient.get());
+                }
+                feeDelegatedTransactionPaidByKasApi = this.feeDelegatedTransactionPaidByKasApi;
+            }
+        }
         return feeDelegatedTransactionPaidByKasApi;
     }
 
@@ -1070,6 +1495,15 @@ public class Wallet {
      * @return FeeDelegatedTransactionPaidByUserApi
      */
     public FeeDelegatedTransactionPaidByUserApi getFeeDelegatedTransactionPaidByUserApi() {
+        FeeDelegatedTransactionPaidByUserApi feeDelegatedTransactionPaidByUserApi = this.feeDelegatedTransactionPaidByUserApi;
+        if(feeDelegatedTransactionPaidByUserApi == null) {
+            synchronized (this) {
+                if(this.feeDelegatedTransactionPaidByUserApi == null) {
+                    this.feeDelegatedTransactionPaidByUserApi = new FeeDelegatedTransactionPaidByUserApi(apiClient.get());
+                }
+                feeDelegatedTransactionPaidByUserApi = this.feeDelegatedTransactionPaidByUserApi;
+            }
+        }
         return feeDelegatedTransactionPaidByUserApi;
     }
 
@@ -1078,6 +1512,15 @@ public class Wallet {
      * @return MultisigTransactionManagementApi
      */
     public MultisigTransactionManagementApi getMultisigTransactionManagementApi() {
+        MultisigTransactionManagementApi multisigTransactionManagementApi = this.multisigTransactionManagementApi;
+        if(multisigTransactionManagementApi == null) {
+            synchronized (this) {
+                if(this.multisigTransactionManagementApi == null) {
+                    this.multisigTransactionManagementApi = new MultisigTransactionManagementApi(apiClient.get());
+                }
+                multisigTransactionManagementApi = this.multisigTransactionManagementApi;
+            }
+        }
         return multisigTransactionManagementApi;
     }
 
@@ -1086,6 +1529,15 @@ public class Wallet {
      * @return StatisticsApi
      */
     public StatisticsApi getStatisticsApi() {
+        StatisticsApi statisticsApi = this.statisticsApi;
+        if(statisticsApi == null) {
+            synchronized (this) {
+                if(this.statisticsApi == null) {
+                    this.statisticsApi = new StatisticsApi(apiClient.get());
+                }
+                statisticsApi = this.statisticsApi;
+            }
+        }
         return statisticsApi;
     }
 
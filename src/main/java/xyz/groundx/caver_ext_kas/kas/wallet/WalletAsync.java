@@ -0,0 +1,473 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Representing a Wallet API wrapper that returns a CompletableFuture for each request.
+ * Cancelling a returned future cancels the underlying HTTP call.
+ */
+public class WalletAsync {
+    /**
+     * The Wallet API instance to send requests.
+     */
+    Wallet wallet;
+
+    /**
+     * The executor used to complete the returned futures.
+     * If it is null, the futures are completed on the HTTP dispatcher thread.
+     */
+    Executor completionExecutor;
+
+    /**
+     * Creates a WalletAsync instance.
+     * @param wallet The Wallet API instance to send requests.
+     * @param completionExecutor The executor used to complete the returned futures. If null, the futures are completed on the HTTP dispatcher thread.
+     */
+    public WalletAsync(Wallet wallet, Executor completionExecutor) {
+        this.wallet = wallet;
+        this.completionExecutor = completionExecutor;
+    }
+
+    /**
+     * Creates a Klaytn account.
+     * It generates Klaytn address and private key, public key pair.
+     * POST /v2/account
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Account> createAccount() {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.createAccountAsync(callback));
+    }
+
+    /**
+     * Get the list of accounts created previously.
+     * It will send a request without filter options.
+     * GET /v2/account
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Accounts> getAccountList() {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getAccountListAsync(callback));
+    }
+
+    /**
+     * Get the list of accounts created previously.
+     * GET /v2/account
+     * @param options Filters required when retrieving data. `to-timestamp`, `from-timestamp`, `size`, and `cursor`.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Accounts> getAccountList(WalletQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getAccountListAsync(options, callback));
+    }
+
+    /**
+     * Get the account information passed as a parameter.
+     * GET /v2/account/{address}
+     * @param address The address to get account information.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Account> getAccount(String address) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getAccountAsync(address, callback));
+    }
+
+    /**
+     * Delete an account.
+     * DELETE /v2/account/{address}
+     * @param address The address to delete.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AccountStatus> deleteAccount(String address) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.deleteAccountAsync(address, callback));
+    }
+
+    /**
+     * Disable an account.
+     * The disabled account will not be retrieved account information.
+     * PUT /v2/account/{address}/disable
+     * @param address The address to disable
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AccountSummary> disableAccount(String address) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.disableAccountAsync(address, callback));
+    }
+
+    /**
+     * Enable an account.
+     * PUT /v2/account/{address}/enable
+     * @param address The address to enable.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AccountSummary> enableAccount(String address) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.enableAccountAsync(address, callback));
+    }
+
+    /**
+     * Signs the transaction corresponding to the passed TransactionID with the key of the passed address.
+     * POST /v2/account/{address}/tx/{transaction-id}/sign
+     * @param address The address to sign transaction.
+     * @param transactionId The transaction id to get transaction for sign.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<Signature> signTransaction(String address, String transactionId) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.signTransactionAsync(address, transactionId, callback));
+    }
+
+    /**
+     * Updates an account to MultiSig Account.
+     * PUT /v2/account/{address}/multisig
+     * @param address The address to update multisig account.
+     * @param request The MultisigAccountUpdateRequest instance required for updating account.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MultisigAccount> updateToMultiSigAccount(String address, MultisigAccountUpdateRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.updateToMultiSigAccountAsync(address, request, callback));
+    }
+
+    /**
+     * Get list of accounts that has a public key passed as a parameter.
+     * GET /v2/pubkey/{public-key}/account
+     * @param publicKey A public key to get list of accounts.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AccountsByPubkey> getAccountListByPublicKey(String publicKey) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getAccountListByPublicKeyAsync(publicKey, callback));
+    }
+
+    /**
+     * Send a Legacy transaction.
+     * POST /v2/tx/legacy
+     * @param request The LegacyTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestLegacyTransaction(LegacyTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestLegacyTransactionAsync(request, callback));
+    }
+
+    /**
+     * Send a ValueTransfer transaction.
+     * POST /v2/tx/value
+     * @param request The ValueTransferTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestValueTransfer(ValueTransferTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestValueTransferAsync(request, callback));
+    }
+
+    /**
+     * Send a SmartContractDeploy transaction.
+     * POST /v2/tx/contract/deploy
+     * @param request The ContractDeployTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestSmartContractDeploy(ContractDeployTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestSmartContractDeployAsync(request, callback));
+    }
+
+    /**
+     * Send a SmartContractExecution transaction.
+     * POST /v2/tx/contract/execute
+     * @param request The ContractExecutionTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestSmartContractExecution(ContractExecutionTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestSmartContractExecutionAsync(request, callback));
+    }
+
+    /**
+     * Send a Cancel transaction.
+     * DELETE /v2/tx
+     * @param request The CancelTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestCancel(CancelTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestCancelAsync(request, callback));
+    }
+
+    /**
+     * Send a ChainDataAnchoring transaction.
+     * POST /v2/tx/anchor
+     * @param request The AnchorTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestChainDataAnchoring(AnchorTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestChainDataAnchoringAsync(request, callback));
+    }
+
+    /**
+     * Send a raw transaction.
+     * POST /v2/tx/rlp
+     * @param request The ProcessRLPRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestRawTransaction(ProcessRLPRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestRawTransactionAsync(request, callback));
+    }
+
+    /**
+     * Send a AccountUpdate transaction.
+     * POST /v2/tx/account
+     * @param request The AccountUpdateTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionResult> requestAccountUpdate(AccountUpdateTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestAccountUpdateAsync(request, callback));
+    }
+
+    /**
+     * Get a transaction receipt.
+     * @param transactionHash A transaction hash to get a transaction receipt.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<TransactionReceipt> getTransaction(String transactionHash) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getTransactionAsync(transactionHash, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedValueTransfer(WithRatio) transaction.
+     * KAS pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDValueTransferTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDValueTransferPaidByGlobalFeePayer(FDValueTransferTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDValueTransferPaidByGlobalFeePayerAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedSmartContractDeploy(WithRatio) transaction.
+     * KAS pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDContractDeployTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDSmartContractDeployPaidByGlobalFeePayer(FDContractDeployTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDSmartContractDeployPaidByGlobalFeePayerAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedSmartContractExecution(WithRatio) transaction.
+     * KAS pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDContractExecutionTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDSmartContractExecutionPaidByGlobalFeePayer(FDContractExecutionTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDSmartContractExecutionPaidByGlobalFeePayerAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedCancelTransaction(WithRatio) transaction.
+     * KAS pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDCancelTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDCancelPaidByGlobalFeePayer(FDCancelTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDCancelPaidByGlobalFeePayerAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedChainDataAnchoring(WithRatio) transaction.
+     * KAS pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDAnchorTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDChainDataAnchoringPaidByGlobalFeePayer(FDAnchorTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDChainDataAnchoringPaidByGlobalFeePayerAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegated(WithRatio) type raw transaction.
+     * KAS pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDProcessRLPRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDRawTransactionPaidByGlobalFeePayer(FDProcessRLPRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDRawTransactionPaidByGlobalFeePayerAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedAccountUpdate(WithRatio) transaction.
+     * KAS pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDAccountUpdateTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDAccountUpdatePaidByGlobalFeePayer(FDAccountUpdateTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDAccountUpdatePaidByGlobalFeePayerAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedValueTransfer(WithRatio) transaction.
+     * The feePayer defined by the user pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDUserValueTransferTransactionRequest instance to send a transaction.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDValueTransferPaidByUser(FDUserValueTransferTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDValueTransferPaidByUserAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedSmartContractDeploy(WithRatio) transaction.
+     * The feePayer defined by the user pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDUserContractDeployTransactionRequest instance to send a request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDSmartContractDeployPaidByUser(FDUserContractDeployTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDSmartContractDeployPaidByUserAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedSmartContractExecution(WithRatio) transaction.
+     * The feePayer defined by the user pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDUserContractExecutionTransactionRequest instance to send a request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDSmartContractExecutionPaidByUser(FDUserContractExecutionTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDSmartContractExecutionPaidByUserAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedCancel(WithRatio) transaction.
+     * The feePayer defined by the user pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDUserCancelTransactionRequest instance to send a request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDCancelPaidByUser(FDUserCancelTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDCancelPaidByUserAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedChainDataAnchoring(WithRatio) transaction.
+     * The feePayer defined by the user pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDUserAnchorTransactionRequest instance to send a request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDChainDataAnchoringPaidByUser(FDUserAnchorTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDChainDataAnchoringPaidByUserAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegated(WithRatio) raw transaction.
+     * The feePayer defined by the user pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDUserProcessRLPRequest instance to send a request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDRawTransactionPaidByUser(FDUserProcessRLPRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDRawTransactionPaidByUserAsync(request, callback));
+    }
+
+    /**
+     * Send a FeeDelegatedAccountUpdate(WithRatio) transaction.
+     * The feePayer defined by the user pays the fee for this transaction.
+     * If you want to send withRatio Transaction, you can set feeRatio field in request.
+     * @param request The FDUserAccountUpdateTransactionRequest instance to send a request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<FDTransactionResult> requestFDAccountUpdatePaidByUser(FDUserAccountUpdateTransactionRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.requestFDAccountUpdatePaidByUserAsync(request, callback));
+    }
+
+    /**
+     * Get pending transaction list.
+     * It will send a request without filter options.
+     * @param address The sender address to get pending transaction list.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MultisigTransactions> getMultiSigTransactionList(String address) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getMultiSigTransactionListAsync(address, callback));
+    }
+
+    /**
+     * Get pending transaction list.
+     * @param address The sender address to retrieve pending transaction list.
+     * @param options Filter required when retrieving data. `cursor`, `to-timestamp`, `from-timestamp`
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MultisigTransactions> getMultiSigTransactionList(String address, WalletQueryOptions options) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getMultiSigTransactionListAsync(address, options, callback));
+    }
+
+    /**
+     * Sign a pending transaction.
+     * @param address The singer address to sign.
+     * @param transactionId The pending transaction id.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MultisigTransactionStatus> signMultiSigTransaction(String address, String transactionId) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.signMultiSigTransactionAsync(address, transactionId, callback));
+    }
+
+    /**
+     * Append a signature to pending transaction.
+     * @param transactionId The transaction id to append signature.
+     * @param request The SignPendingTransactionBySigRequest instance to send a request.
+     * @return CompletableFuture
+     */
+    public CompletableFuture<MultisigTransactionStatus> appendSignatures(String transactionId, SignPendingTransactionBySigRequest request) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.appendSignaturesAsync(transactionId, request, callback));
+    }
+
+    /**
+     * Return the number of accounts in KAS.
+     * GET /v2/stat/count
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AccountCountByAccountID> getAccountCount() {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getAccountCountAsync(callback));
+    }
+
+    /**
+     * Return the number of accounts by passed as KRN in KAS.
+     * It use default krn.
+     * GET /v2/stat/count/krn
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AccountCountByKRN> getAccountCountByKRN() {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getAccountCountByKRNAsync(callback));
+    }
+
+    /**
+     * Return the number of accounts by passed as KRN in KAS.
+     * GET /v2/stat/count/krn
+     * @param krn The krn string to search
+     * @return CompletableFuture
+     */
+    public CompletableFuture<AccountCountByKRN> getAccountCountByKRN(String krn) {
+        return ApiCallFuture.of(completionExecutor, callback -> wallet.getAccountCountByKRNAsync(krn, callback));
+    }
+
+    /**
+     * Getter function for the executor used to complete the returned futures.
+     * @return Executor
+     */
+    public Executor getCompletionExecutor() {
+        return completionExecutor;
+    }
+}
@@ -143,4 +143,13 @@ public class WalletQueryOptions {
     public void setToTimestamp(Long toTimestamp) {
         this.toTimestamp = toTimestamp;
     }
+
+    /**
+     * Returns a copy of this options having the given cursor.
+     * @param cursor Information of the last retrieved cursor.
+     * @return WalletQueryOptions
+     */
+    WalletQueryOptions copyWithCursor(String cursor) {
+        return new WalletQueryOptions(size, cursor, fromTimestamp, toTimestamp);
+    }
 }
@@ -69,6 +69,7 @@ public class ApiClient {
 
     private OkHttpClient httpClient;
     private JSON json;
+    private boolean jsonShared;
 
     private HttpLoggingInterceptor loggingInterceptor;
 
@@ -76,12 +77,27 @@ public class ApiClient {
      * Constructor for ApiClient
      */
     public ApiClient() {
-        httpClient = new OkHttpClient();
+        this(new OkHttpClient(), new JSON());
+        this.jsonShared = false;
+    }
+
+    /**
+     * Constructor for ApiClient that uses the given HTTP client and JSON serializer.
+     * It allows several ApiClient instances to share a connection pool, a dispatcher and a Gson instance.
+     * The JSON serializer is copied on the first call of a setter changing it(e.g. setDateFormat()),
+     * so customizing the serializer of this client does not affect the other clients sharing it.
+     *
+     * @param httpClient An instance of OkHttpClient
+     * @param json An instance of JSON
+     */
+    public ApiClient(OkHttpClient httpClient, JSON json) {
+        this.httpClient = httpClient;
 
 
         verifyingSsl = true;
 
-        json = new JSON();
+        this.json = json;
+        this.jsonShared = true;
 
         // Set default User-Agent.
         setUserAgent("Swagger-Codegen/1.0.0/java");
@@ -150,6 +166,7 @@ public class ApiClient {
      */
     public ApiClient setJSON(JSON json) {
         this.json = json;
+        this.jsonShared = false;
         return this;
     }
 
@@ -220,30 +237,43 @@ public class ApiClient {
     }
 
     public ApiClient setDateFormat(DateFormat dateFormat) {
-        this.json.setDateFormat(dateFormat);
+        ownJSON().setDateFormat(dateFormat);
         return this;
     }
 
     public ApiClient setSqlDateFormat(DateFormat dateFormat) {
-        this.json.setSqlDateFormat(dateFormat);
+        ownJSON().setSqlDateFormat(dateFormat);
         return this;
     }
 
     public ApiClient setOffsetDateTimeFormat(DateTimeFormatter dateFormat) {
-        this.json.setOffsetDateTimeFormat(dateFormat);
+        ownJSON().setOffsetDateTimeFormat(dateFormat);
         return this;
     }
 
     public ApiClient setLocalDateFormat(DateTimeFormatter dateFormat) {
-        this.json.setLocalDateFormat(dateFormat);
+        ownJSON().setLocalDateFormat(dateFormat);
         return this;
     }
 
     public ApiClient setLenientOnJson(boolean lenientOnJson) {
-        this.json.setLenientOnJson(lenientOnJson);
+        ownJSON().setLenientOnJson(lenientOnJson);
         return this;
     }
 
+    /**
+     * Returns the JSON serializer of this client, copying it first if it is shared with other clients.
+     *
+     * @return JSON object
+     */
+    private synchronized JSON ownJSON() {
+        if (jsonShared) {
+            json = json.copy();
+            jsonShared = false;
+        }
+        return json;
+    }
+
     /**
      * Get authentications (key: authentication name, value: authentication).
      *
@@ -293,6 +323,22 @@ public class ApiClient {
         throw new RuntimeException("No HTTP basic authentication configured!");
     }
 
+    /**
+     * Helper method to replace the username and password of the first HTTP basic authentication at once.
+     *
+     * @param username Username
+     * @param password Password
+     */
+    public void setCredentials(String username, String password) {
+        for (Authentication auth : authentications.values()) {
+            if (auth instanceof HttpBasicAuth) {
+                ((HttpBasicAuth) auth).setCredentials(username, password);
+                return;
+            }
+        }
+        throw new RuntimeException("No HTTP basic authentication configured!");
+    }
+
     /**
      * Helper method to set API key value for the first API key authentication.
      *
@@ -687,6 +733,31 @@ public class ApiClient {
             return (T) downloadFileFromResponse(response);
         }
 
+        String contentType = response.headers().get("Content-Type");
+        if (contentType == null) {
+            // ensuring a default content type
+            contentType = "application/json";
+        }
+
+        if (isJsonMime(contentType) && !returnType.equals(String.class)) {
+            // Stream the JSON body straight into Gson instead of buffering it as a String first.
+            ResponseBody body = response.body();
+            if (body == null) {
+                return null;
+            }
+            try {
+                return json.deserialize(body.charStream(), returnType);
+            } catch (IOException e) {
+                throw new ApiException(e);
+            } finally {
+                try {
+                    body.close();
+                } catch (IOException e) {
+                    // ignore, the body is already consumed.
+                }
+            }
+        }
+
         String respBody;
         try {
             if (response.body() != null)
@@ -701,11 +772,6 @@ public class ApiClient {
             return null;
         }
 
-        String contentType = response.headers().get("Content-Type");
-        if (contentType == null) {
-            // ensuring a default content type
-            contentType = "application/json";
-        }
         if (isJsonMime(contentType)) {
             return json.deserialize(respBody, returnType);
         } else if (returnType.equals(String.class)) {
@@ -943,7 +1009,37 @@ public class ApiClient {
     public Call buildCall(String path, String method, List<Pair> queryParams, List<Pair> collectionQueryParams, Object body, Map<String, String> headerParams, Map<String, Object> formParams, String[] authNames, ProgressRequestBody.ProgressRequestListener progressRequestListener) throws ApiException {
         Request request = buildRequest(path, method, queryParams, collectionQueryParams, body, headerParams, formParams, authNames, progressRequestListener);
 
-        return httpClient.newCall(request);
+        CallTag tag = new CallTag();
+        Call call = httpClient.newCall(request.newBuilder().tag(tag).build());
+        tag.call = call;
+        return call;
+    }
+
+    /**
+     * The tag of a request built by buildCall().
+     * It gives the interceptors access to the call sending the request, which OkHttp 2 does not expose to them.
+     */
+    public static class CallTag {
+        private volatile Call call;
+
+        /**
+         * Get the call sending the request
+         *
+         * @return The HTTP call
+         */
+        public Call getCall() {
+            return call;
+        }
+
+        /**
+         * Check whether the call sending the request is canceled
+         *
+         * @return True if the call is canceled
+         */
+        public boolean isCanceled() {
+            Call call = this.call;
+            return call != null && call.isCanceled();
+        }
     }
 
     /**
@@ -22,6 +22,7 @@ import org.threeten.bp.OffsetDateTime;
 import org.threeten.bp.format.DateTimeFormatter;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.text.DateFormat;
@@ -61,7 +62,12 @@ public class JSON {
     }
 
     public JSON() {
-        gson = createGson()
+        GsonBuilder builder = createGson();
+        // The generated adapters of the models take precedence over the reflective adapters of Gson.
+        for (TypeAdapterFactory factory : ModelTypeAdapters.FACTORIES) {
+            builder.registerTypeAdapterFactory(factory);
+        }
+        gson = builder
             .registerTypeAdapter(Date.class, dateTypeAdapter)
             .registerTypeAdapter(java.sql.Date.class, sqlDateTypeAdapter)
             .registerTypeAdapter(OffsetDateTime.class, offsetDateTimeTypeAdapter)
@@ -89,6 +95,22 @@ public class JSON {
         return this;
     }
 
+    /**
+     * Creates a copy having the same lenient setting and date formats.
+     * A Gson set by setGson() is not copied.
+     *
+     * @return JSON
+     */
+    public JSON copy() {
+        JSON copy = new JSON();
+        copy.isLenientOnJson = isLenientOnJson;
+        copy.dateTypeAdapter.setFormat(dateTypeAdapter.dateFormat);
+        copy.sqlDateTypeAdapter.setFormat(sqlDateTypeAdapter.dateFormat);
+        copy.offsetDateTimeTypeAdapter.setFormat(offsetDateTimeTypeAdapter.formatter);
+        copy.localDateTypeAdapter.setFormat(localDateTypeAdapter.formatter);
+        return copy;
+    }
+
     public JSON setLenientOnJson(boolean lenientOnJson) {
         isLenientOnJson = lenientOnJson;
         return this;
@@ -132,6 +154,27 @@ public class JSON {
         }
     }
 
+    /**
+     * Deserialize the JSON read from the given reader to Java object.
+     * The body is parsed while it is read, so it is never buffered as a whole String.
+     * Returns null if the reader is empty.
+     *
+     * @param <T>        Type
+     * @param body       The reader supplying the JSON
+     * @param returnType The type to deserialize into
+     * @return The deserialized Java object
+     */
+    public <T> T deserialize(Reader body, Type returnType) {
+        if (isLenientOnJson) {
+            JsonReader jsonReader = new JsonReader(body);
+            // see https://google-gson.googlecode.com/svn/trunk/gson/docs/javadocs/com/google/gson/stream/JsonReader.html#setLenient(boolean)
+            jsonReader.setLenient(true);
+            return gson.fromJson(jsonReader, returnType);
+        } else {
+            return gson.fromJson(body, returnType);
+        }
+    }
+
     /**
      * Gson TypeAdapter for JSR310 OffsetDateTime type
      */
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorModelTypeAdapters;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.TokenHistoryModelTypeAdapters;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.WalletModelTypeAdapters;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Representing the helpers used by the generated TypeAdapters of the KAS models.
+ * The scalar fields are read and written with the same conversions as the built-in adapters of Gson,
+ * e.g. a number in a string is accepted for a Long field, without looking up an adapter or boxing an intermediate value.
+ */
+public final class ModelTypeAdapters {
+
+    /**
+     * The TypeAdapterFactories of all model packages.
+     */
+    public static final List<TypeAdapterFactory> FACTORIES = Collections.unmodifiableList(Arrays.<TypeAdapterFactory>asList(
+            new AnchorModelTypeAdapters(),
+            new TokenHistoryModelTypeAdapters(),
+            new WalletModelTypeAdapters()
+    ));
+
+    private ModelTypeAdapters() {
+    }
+
+    /**
+     * Consumes a null value.
+     * @param in The reader.
+     * @return boolean true if the next value was null.
+     * @throws IOException
+     */
+    public static boolean nextNull(JsonReader in) throws IOException {
+        if(in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Consumes the beginning of an object.
+     * Like the reflective adapter of Gson, another value is reported with a JsonSyntaxException.
+     * @param in The reader.
+     * @throws IOException
+     */
+    public static void beginObject(JsonReader in) throws IOException {
+        try {
+            in.beginObject();
+        } catch (IllegalStateException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Reads a String field.
+     * @param in The reader.
+     * @return String
+     * @throws IOException
+     */
+    public static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if(token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if(token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+        return in.nextString();
+    }
+
+    /**
+     * Reads a Long field.
+     * @param in The reader.
+     * @return Long
+     * @throws IOException
+     */
+    public static Long readLong(JsonReader in) throws IOException {
+        if(nextNull(in)) {
+            return null;
+        }
+        try {
+            return in.nextLong();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Reads an Integer field.
+     * @param in The reader.
+     * @return Integer
+     * @throws IOException
+     */
+    public static Integer readInteger(JsonReader in) throws IOException {
+        if(nextNull(in)) {
+            return null;
+        }
+        try {
+            return in.nextInt();
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Reads a Boolean field.
+     * @param in The reader.
+     * @return Boolean
+     * @throws IOException
+     */
+    public static Boolean readBoolean(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if(token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if(token == JsonToken.STRING) {
+            return Boolean.parseBoolean(in.nextString());
+        }
+        return in.nextBoolean();
+    }
+
+    /**
+     * Writes a String field.
+     * @param out The writer.
+     * @param value The value.
+     * @throws IOException
+     */
+    public static void writeString(JsonWriter out, String value) throws IOException {
+        out.value(value);
+    }
+
+    /**
+     * Writes a Long field.
+     * @param out The writer.
+     * @param value The value.
+     * @throws IOException
+     */
+    public static void writeLong(JsonWriter out, Long value) throws IOException {
+        if(value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.longValue());
+        }
+    }
+
+    /**
+     * Writes an Integer field.
+     * @param out The writer.
+     * @param value The value.
+     * @throws IOException
+     */
+    public static void writeInteger(JsonWriter out, Integer value) throws IOException {
+        if(value == null) {
+            out.nullValue();
+        } else {
+            out.value(value.longValue());
+        }
+    }
+
+    /**
+     * Writes a Boolean field.
+     * @param out The writer.
+     * @param value The value.
+     * @throws IOException
+     */
+    public static void writeBoolean(JsonWriter out, Boolean value) throws IOException {
+        out.value(value);
+    }
+
+    /**
+     * Writes a field with the adapter of the runtime type of the value if it is a subclass of the declared type, like Gson does.
+     * @param gson The Gson instance.
+     * @param out The writer.
+     * @param declaredAdapter The adapter of the declared type of the field.
+     * @param declaredType The declared type of the field.
+     * @param value The value.
+     * @param <T> The declared type of the field.
+     * @throws IOException
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void writeRuntimeType(Gson gson, JsonWriter out, TypeAdapter<T> declaredAdapter, Class<T> declaredType, T value) throws IOException {
+        if(value == null) {
+            out.nullValue();
+            return;
+        }
+        TypeAdapter<T> adapter = value.getClass() == declaredType ? declaredAdapter : (TypeAdapter<T>)gson.getAdapter(value.getClass());
+        adapter.write(out, value);
+    }
+}
@@ -0,0 +1,519 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ModelTypeAdapters;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Representing the TypeAdapters of the models in this package, which read and write the fields through the accessors instead of reflection.
+ * The JSON is the same as the one of the reflective adapters of Gson.
+ * NOTE: This class is generated by ModelTypeAdapterGenerator in the test sources. Do not edit the class manually.
+ */
+public final class AnchorModelTypeAdapters implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if(rawType == AnchorBlockRequest.class) {
+            return (TypeAdapter<T>)new AnchorBlockRequestAdapter(gson);
+        } else if(rawType == AnchorBlockStatus.class) {
+            return (TypeAdapter<T>)new AnchorBlockStatusAdapter(gson);
+        } else if(rawType == AnchorBlockTransactions.class) {
+            return (TypeAdapter<T>)new AnchorBlockTransactionsAdapter(gson);
+        } else if(rawType == AnchorTransaction.class) {
+            return (TypeAdapter<T>)new AnchorTransactionAdapter(gson);
+        } else if(rawType == AnchorTransactionDetail.class) {
+            return (TypeAdapter<T>)new AnchorTransactionDetailAdapter(gson);
+        } else if(rawType == AnchorTransactions.class) {
+            return (TypeAdapter<T>)new AnchorTransactionsAdapter(gson);
+        } else if(rawType == ErrorResponse.class) {
+            return (TypeAdapter<T>)new ErrorResponseAdapter(gson);
+        } else if(rawType == Operator.class) {
+            return (TypeAdapter<T>)new OperatorAdapter(gson);
+        } else if(rawType == OperatorSetting.class) {
+            return (TypeAdapter<T>)new OperatorSettingAdapter(gson);
+        } else if(rawType == Operators.class) {
+            return (TypeAdapter<T>)new OperatorsAdapter(gson);
+        }
+        return null;
+    }
+
+    static final class AnchorBlockRequestAdapter extends TypeAdapter<AnchorBlockRequest> {
+        private final Gson gson;
+        private final TypeAdapter<AnchorBlockPayload> payloadAdapter;
+
+        AnchorBlockRequestAdapter(Gson gson) {
+            this.gson = gson;
+            this.payloadAdapter = gson.getAdapter(TypeToken.get(AnchorBlockPayload.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, AnchorBlockRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("operator");
+            ModelTypeAdapters.writeString(out, value.getOperator());
+            out.name("payload");
+            ModelTypeAdapters.writeRuntimeType(gson, out, payloadAdapter, AnchorBlockPayload.class, value.getPayload());
+            out.endObject();
+        }
+
+        @Override
+        public AnchorBlockRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AnchorBlockRequest value = new AnchorBlockRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "operator":
+                        value.setOperator(ModelTypeAdapters.readString(in));
+                        break;
+                    case "payload":
+                        value.setPayload(payloadAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AnchorBlockStatusAdapter extends TypeAdapter<AnchorBlockStatus> {
+        AnchorBlockStatusAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AnchorBlockStatus value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.endObject();
+        }
+
+        @Override
+        public AnchorBlockStatus read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AnchorBlockStatus value = new AnchorBlockStatus();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AnchorBlockTransactionsAdapter extends TypeAdapter<AnchorBlockTransactions> {
+        private final Gson gson;
+        private final TypeAdapter<AnchorBlockPayload> payloadAdapter;
+
+        AnchorBlockTransactionsAdapter(Gson gson) {
+            this.gson = gson;
+            this.payloadAdapter = gson.getAdapter(TypeToken.get(AnchorBlockPayload.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, AnchorBlockTransactions value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("payload");
+            ModelTypeAdapters.writeRuntimeType(gson, out, payloadAdapter, AnchorBlockPayload.class, value.getPayload());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.endObject();
+        }
+
+        @Override
+        public AnchorBlockTransactions read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AnchorBlockTransactions value = new AnchorBlockTransactions();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "payload":
+                        value.setPayload(payloadAdapter.read(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AnchorTransactionAdapter extends TypeAdapter<AnchorTransaction> {
+        AnchorTransactionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AnchorTransaction value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("createdAt");
+            ModelTypeAdapters.writeLong(out, value.getCreatedAt());
+            out.name("payloadId");
+            ModelTypeAdapters.writeString(out, value.getPayloadId());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.endObject();
+        }
+
+        @Override
+        public AnchorTransaction read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AnchorTransaction value = new AnchorTransaction();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "createdAt":
+                        value.setCreatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "payloadId":
+                        value.setPayloadId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AnchorTransactionDetailAdapter extends TypeAdapter<AnchorTransactionDetail> {
+        private final Gson gson;
+        private final TypeAdapter<AnchorBlockPayload> payloadAdapter;
+
+        AnchorTransactionDetailAdapter(Gson gson) {
+            this.gson = gson;
+            this.payloadAdapter = gson.getAdapter(TypeToken.get(AnchorBlockPayload.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, AnchorTransactionDetail value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("payload");
+            ModelTypeAdapters.writeRuntimeType(gson, out, payloadAdapter, AnchorBlockPayload.class, value.getPayload());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.endObject();
+        }
+
+        @Override
+        public AnchorTransactionDetail read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AnchorTransactionDetail value = new AnchorTransactionDetail();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "payload":
+                        value.setPayload(payloadAdapter.read(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AnchorTransactionsAdapter extends TypeAdapter<AnchorTransactions> {
+        private final Gson gson;
+        private final TypeAdapter<List<AnchorTransaction>> itemsAdapter;
+
+        AnchorTransactionsAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<AnchorTransaction>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, AnchorTransactions value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.endObject();
+        }
+
+        @Override
+        public AnchorTransactions read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AnchorTransactions value = new AnchorTransactions();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ErrorResponseAdapter extends TypeAdapter<ErrorResponse> {
+        ErrorResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ErrorResponse value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("code");
+            ModelTypeAdapters.writeLong(out, value.getCode());
+            out.name("message");
+            ModelTypeAdapters.writeString(out, value.getMessage());
+            out.endObject();
+        }
+
+        @Override
+        public ErrorResponse read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            ErrorResponse value = new ErrorResponse();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "code":
+                        value.setCode(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "message":
+                        value.setMessage(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class OperatorAdapter extends TypeAdapter<Operator> {
+        private final Gson gson;
+        private final TypeAdapter<OperatorSetting> settingAdapter;
+
+        OperatorAdapter(Gson gson) {
+            this.gson = gson;
+            this.settingAdapter = gson.getAdapter(TypeToken.get(OperatorSetting.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, Operator value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("createdAt");
+            ModelTypeAdapters.writeLong(out, value.getCreatedAt());
+            out.name("operator");
+            ModelTypeAdapters.writeString(out, value.getOperator());
+            out.name("setting");
+            ModelTypeAdapters.writeRuntimeType(gson, out, settingAdapter, OperatorSetting.class, value.getSetting());
+            out.endObject();
+        }
+
+        @Override
+        public Operator read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Operator value = new Operator();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "createdAt":
+                        value.setCreatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "operator":
+                        value.setOperator(ModelTypeAdapters.readString(in));
+                        break;
+                    case "setting":
+                        value.setSetting(settingAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class OperatorSettingAdapter extends TypeAdapter<OperatorSetting> {
+        OperatorSettingAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, OperatorSetting value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("useGlobalFeePayer");
+            ModelTypeAdapters.writeBoolean(out, value.isUseGlobalFeePayer());
+            out.name("useOperator");
+            ModelTypeAdapters.writeBoolean(out, value.isUseOperator());
+            out.endObject();
+        }
+
+        @Override
+        public OperatorSetting read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            OperatorSetting value = new OperatorSetting();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "useGlobalFeePayer":
+                        value.setUseGlobalFeePayer(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "useOperator":
+                        value.setUseOperator(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class OperatorsAdapter extends TypeAdapter<Operators> {
+        private final Gson gson;
+        private final TypeAdapter<List<Operator>> itemsAdapter;
+
+        OperatorsAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<Operator>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, Operators value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.endObject();
+        }
+
+        @Override
+        public Operators read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Operators value = new Operators();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
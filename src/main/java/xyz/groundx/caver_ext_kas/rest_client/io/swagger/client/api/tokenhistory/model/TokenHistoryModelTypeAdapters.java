@@ -0,0 +1,1130 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ModelTypeAdapters;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Representing the TypeAdapters of the models in this package, which read and write the fields through the accessors instead of reflection.
+ * The JSON is the same as the one of the reflective adapters of Gson.
+ * NOTE: This class is generated by ModelTypeAdapterGenerator in the test sources. Do not edit the class manually.
+ */
+public final class TokenHistoryModelTypeAdapters implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if(rawType == FtContract.class) {
+            return (TypeAdapter<T>)new FtContractAdapter(gson);
+        } else if(rawType == FtContractDetail.class) {
+            return (TypeAdapter<T>)new FtContractDetailAdapter(gson);
+        } else if(rawType == FtTransfer.class) {
+            return (TypeAdapter<T>)new FtTransferAdapter(gson);
+        } else if(rawType == InvalidQueryParameterValue.class) {
+            return (TypeAdapter<T>)new InvalidQueryParameterValueAdapter(gson);
+        } else if(rawType == KlayTransfer.class) {
+            return (TypeAdapter<T>)new KlayTransferAdapter(gson);
+        } else if(rawType == Link.class) {
+            return (TypeAdapter<T>)new LinkAdapter(gson);
+        } else if(rawType == Nft.class) {
+            return (TypeAdapter<T>)new NftAdapter(gson);
+        } else if(rawType == NftContract.class) {
+            return (TypeAdapter<T>)new NftContractAdapter(gson);
+        } else if(rawType == NftContractDetail.class) {
+            return (TypeAdapter<T>)new NftContractDetailAdapter(gson);
+        } else if(rawType == NftOwnershipChange.class) {
+            return (TypeAdapter<T>)new NftOwnershipChangeAdapter(gson);
+        } else if(rawType == NftTransfer.class) {
+            return (TypeAdapter<T>)new NftTransferAdapter(gson);
+        } else if(rawType == PageableFtContractDetails.class) {
+            return (TypeAdapter<T>)new PageableFtContractDetailsAdapter(gson);
+        } else if(rawType == PageableNftContractDetails.class) {
+            return (TypeAdapter<T>)new PageableNftContractDetailsAdapter(gson);
+        } else if(rawType == PageableNftOwnershipChanges.class) {
+            return (TypeAdapter<T>)new PageableNftOwnershipChangesAdapter(gson);
+        } else if(rawType == PageableNfts.class) {
+            return (TypeAdapter<T>)new PageableNftsAdapter(gson);
+        } else if(rawType == PageableTransfers.class) {
+            return (TypeAdapter<T>)new PageableTransfersAdapter(gson);
+        } else if(rawType == Transaction.class) {
+            return (TypeAdapter<T>)new TransactionAdapter(gson);
+        } else if(rawType == Transfers.class) {
+            return (TypeAdapter<T>)new TransfersAdapter(gson);
+        }
+        return null;
+    }
+
+    static final class FtContractAdapter extends TypeAdapter<FtContract> {
+        FtContractAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FtContract value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("decimals");
+            ModelTypeAdapters.writeLong(out, value.getDecimals());
+            out.name("name");
+            ModelTypeAdapters.writeString(out, value.getName());
+            out.name("symbol");
+            ModelTypeAdapters.writeString(out, value.getSymbol());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.endObject();
+        }
+
+        @Override
+        public FtContract read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FtContract value = new FtContract();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "decimals":
+                        value.setDecimals(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "name":
+                        value.setName(ModelTypeAdapters.readString(in));
+                        break;
+                    case "symbol":
+                        value.setSymbol(ModelTypeAdapters.readString(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FtContractDetailAdapter extends TypeAdapter<FtContractDetail> {
+        private final Gson gson;
+        private final TypeAdapter<Link> linkAdapter;
+
+        FtContractDetailAdapter(Gson gson) {
+            this.gson = gson;
+            this.linkAdapter = gson.getAdapter(TypeToken.get(Link.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, FtContractDetail value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("decimals");
+            ModelTypeAdapters.writeInteger(out, value.getDecimals());
+            out.name("name");
+            ModelTypeAdapters.writeString(out, value.getName());
+            out.name("symbol");
+            ModelTypeAdapters.writeString(out, value.getSymbol());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.name("totalSupply");
+            ModelTypeAdapters.writeString(out, value.getTotalSupply());
+            out.name("createdAt");
+            ModelTypeAdapters.writeLong(out, value.getCreatedAt());
+            out.name("updatedAt");
+            ModelTypeAdapters.writeLong(out, value.getUpdatedAt());
+            out.name("deletedAt");
+            ModelTypeAdapters.writeLong(out, value.getDeletedAt());
+            out.name("link");
+            ModelTypeAdapters.writeRuntimeType(gson, out, linkAdapter, Link.class, value.getLink());
+            out.name("type");
+            ModelTypeAdapters.writeString(out, value.getType());
+            out.endObject();
+        }
+
+        @Override
+        public FtContractDetail read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FtContractDetail value = new FtContractDetail();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "decimals":
+                        value.setDecimals(ModelTypeAdapters.readInteger(in));
+                        break;
+                    case "name":
+                        value.setName(ModelTypeAdapters.readString(in));
+                        break;
+                    case "symbol":
+                        value.setSymbol(ModelTypeAdapters.readString(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    case "totalSupply":
+                        value.setTotalSupply(ModelTypeAdapters.readString(in));
+                        break;
+                    case "createdAt":
+                        value.setCreatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "updatedAt":
+                        value.setUpdatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "deletedAt":
+                        value.setDeletedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "link":
+                        value.setLink(linkAdapter.read(in));
+                        break;
+                    case "type":
+                        value.setType(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FtTransferAdapter extends TypeAdapter<FtTransfer> {
+        private final Gson gson;
+        private final TypeAdapter<FtContract> contractAdapter;
+        private final TypeAdapter<Transaction> transactionAdapter;
+
+        FtTransferAdapter(Gson gson) {
+            this.gson = gson;
+            this.contractAdapter = gson.getAdapter(TypeToken.get(FtContract.class));
+            this.transactionAdapter = gson.getAdapter(TypeToken.get(Transaction.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, FtTransfer value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("contract");
+            ModelTypeAdapters.writeRuntimeType(gson, out, contractAdapter, FtContract.class, value.getContract());
+            out.name("formattedValue");
+            ModelTypeAdapters.writeString(out, value.getFormattedValue());
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("transaction");
+            ModelTypeAdapters.writeRuntimeType(gson, out, transactionAdapter, Transaction.class, value.getTransaction());
+            out.name("transferType");
+            ModelTypeAdapters.writeString(out, value.getTransferType());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.endObject();
+        }
+
+        @Override
+        public FtTransfer read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FtTransfer value = new FtTransfer();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "contract":
+                        value.setContract(contractAdapter.read(in));
+                        break;
+                    case "formattedValue":
+                        value.setFormattedValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transaction":
+                        value.setTransaction(transactionAdapter.read(in));
+                        break;
+                    case "transferType":
+                        value.setTransferType(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class InvalidQueryParameterValueAdapter extends TypeAdapter<InvalidQueryParameterValue> {
+        InvalidQueryParameterValueAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, InvalidQueryParameterValue value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("code");
+            ModelTypeAdapters.writeLong(out, value.getCode());
+            out.name("message");
+            ModelTypeAdapters.writeString(out, value.getMessage());
+            out.endObject();
+        }
+
+        @Override
+        public InvalidQueryParameterValue read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            InvalidQueryParameterValue value = new InvalidQueryParameterValue();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "code":
+                        value.setCode(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "message":
+                        value.setMessage(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class KlayTransferAdapter extends TypeAdapter<KlayTransfer> {
+        KlayTransferAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, KlayTransfer value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeInteger(out, value.getFeeRatio());
+            out.name("fee");
+            ModelTypeAdapters.writeString(out, value.getFee());
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("transactionIndex");
+            ModelTypeAdapters.writeInteger(out, value.getTransactionIndex());
+            out.name("transferType");
+            ModelTypeAdapters.writeString(out, value.getTransferType());
+            out.name("typeInt");
+            ModelTypeAdapters.writeInteger(out, value.getTypeInt());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.endObject();
+        }
+
+        @Override
+        public KlayTransfer read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            KlayTransfer value = new KlayTransfer();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readInteger(in));
+                        break;
+                    case "fee":
+                        value.setFee(ModelTypeAdapters.readString(in));
+                        break;
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionIndex":
+                        value.setTransactionIndex(ModelTypeAdapters.readInteger(in));
+                        break;
+                    case "transferType":
+                        value.setTransferType(ModelTypeAdapters.readString(in));
+                        break;
+                    case "typeInt":
+                        value.setTypeInt(ModelTypeAdapters.readInteger(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LinkAdapter extends TypeAdapter<Link> {
+        LinkAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Link value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("website");
+            ModelTypeAdapters.writeString(out, value.getWebsite());
+            out.name("icon");
+            ModelTypeAdapters.writeString(out, value.getIcon());
+            out.endObject();
+        }
+
+        @Override
+        public Link read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Link value = new Link();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "website":
+                        value.setWebsite(ModelTypeAdapters.readString(in));
+                        break;
+                    case "icon":
+                        value.setIcon(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NftAdapter extends TypeAdapter<Nft> {
+        NftAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Nft value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("owner");
+            ModelTypeAdapters.writeString(out, value.getOwner());
+            out.name("previousOwner");
+            ModelTypeAdapters.writeString(out, value.getPreviousOwner());
+            out.name("tokenId");
+            ModelTypeAdapters.writeString(out, value.getTokenId());
+            out.name("tokenUri");
+            ModelTypeAdapters.writeString(out, value.getTokenUri());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("createdAt");
+            ModelTypeAdapters.writeLong(out, value.getCreatedAt());
+            out.name("updatedAt");
+            ModelTypeAdapters.writeLong(out, value.getUpdatedAt());
+            out.endObject();
+        }
+
+        @Override
+        public Nft read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Nft value = new Nft();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "owner":
+                        value.setOwner(ModelTypeAdapters.readString(in));
+                        break;
+                    case "previousOwner":
+                        value.setPreviousOwner(ModelTypeAdapters.readString(in));
+                        break;
+                    case "tokenId":
+                        value.setTokenId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "tokenUri":
+                        value.setTokenUri(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "createdAt":
+                        value.setCreatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "updatedAt":
+                        value.setUpdatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NftContractAdapter extends TypeAdapter<NftContract> {
+        NftContractAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NftContract value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("name");
+            ModelTypeAdapters.writeString(out, value.getName());
+            out.name("symbol");
+            ModelTypeAdapters.writeString(out, value.getSymbol());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.endObject();
+        }
+
+        @Override
+        public NftContract read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            NftContract value = new NftContract();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "name":
+                        value.setName(ModelTypeAdapters.readString(in));
+                        break;
+                    case "symbol":
+                        value.setSymbol(ModelTypeAdapters.readString(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NftContractDetailAdapter extends TypeAdapter<NftContractDetail> {
+        NftContractDetailAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NftContractDetail value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("name");
+            ModelTypeAdapters.writeString(out, value.getName());
+            out.name("symbol");
+            ModelTypeAdapters.writeString(out, value.getSymbol());
+            out.name("totalSupply");
+            ModelTypeAdapters.writeString(out, value.getTotalSupply());
+            out.name("createdAt");
+            ModelTypeAdapters.writeLong(out, value.getCreatedAt());
+            out.name("updatedAt");
+            ModelTypeAdapters.writeLong(out, value.getUpdatedAt());
+            out.name("deletedAt");
+            ModelTypeAdapters.writeLong(out, value.getDeletedAt());
+            out.name("type");
+            ModelTypeAdapters.writeString(out, value.getType());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.endObject();
+        }
+
+        @Override
+        public NftContractDetail read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            NftContractDetail value = new NftContractDetail();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "name":
+                        value.setName(ModelTypeAdapters.readString(in));
+                        break;
+                    case "symbol":
+                        value.setSymbol(ModelTypeAdapters.readString(in));
+                        break;
+                    case "totalSupply":
+                        value.setTotalSupply(ModelTypeAdapters.readString(in));
+                        break;
+                    case "createdAt":
+                        value.setCreatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "updatedAt":
+                        value.setUpdatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "deletedAt":
+                        value.setDeletedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "type":
+                        value.setType(ModelTypeAdapters.readString(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NftOwnershipChangeAdapter extends TypeAdapter<NftOwnershipChange> {
+        NftOwnershipChangeAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, NftOwnershipChange value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("timestamp");
+            ModelTypeAdapters.writeLong(out, value.getTimestamp());
+            out.endObject();
+        }
+
+        @Override
+        public NftOwnershipChange read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            NftOwnershipChange value = new NftOwnershipChange();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "timestamp":
+                        value.setTimestamp(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class NftTransferAdapter extends TypeAdapter<NftTransfer> {
+        private final Gson gson;
+        private final TypeAdapter<NftContract> contractAdapter;
+        private final TypeAdapter<Transaction> transactionAdapter;
+
+        NftTransferAdapter(Gson gson) {
+            this.gson = gson;
+            this.contractAdapter = gson.getAdapter(TypeToken.get(NftContract.class));
+            this.transactionAdapter = gson.getAdapter(TypeToken.get(Transaction.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, NftTransfer value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("contract");
+            ModelTypeAdapters.writeRuntimeType(gson, out, contractAdapter, NftContract.class, value.getContract());
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("transaction");
+            ModelTypeAdapters.writeRuntimeType(gson, out, transactionAdapter, Transaction.class, value.getTransaction());
+            out.name("transferType");
+            ModelTypeAdapters.writeString(out, value.getTransferType());
+            out.name("tokenId");
+            ModelTypeAdapters.writeString(out, value.getTokenId());
+            out.endObject();
+        }
+
+        @Override
+        public NftTransfer read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            NftTransfer value = new NftTransfer();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "contract":
+                        value.setContract(contractAdapter.read(in));
+                        break;
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transaction":
+                        value.setTransaction(transactionAdapter.read(in));
+                        break;
+                    case "transferType":
+                        value.setTransferType(ModelTypeAdapters.readString(in));
+                        break;
+                    case "tokenId":
+                        value.setTokenId(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PageableFtContractDetailsAdapter extends TypeAdapter<PageableFtContractDetails> {
+        private final Gson gson;
+        private final TypeAdapter<List<FtContractDetail>> itemsAdapter;
+
+        PageableFtContractDetailsAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<FtContractDetail>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, PageableFtContractDetails value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.endObject();
+        }
+
+        @Override
+        public PageableFtContractDetails read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            PageableFtContractDetails value = new PageableFtContractDetails();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PageableNftContractDetailsAdapter extends TypeAdapter<PageableNftContractDetails> {
+        private final Gson gson;
+        private final TypeAdapter<List<NftContractDetail>> itemsAdapter;
+
+        PageableNftContractDetailsAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<NftContractDetail>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, PageableNftContractDetails value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.endObject();
+        }
+
+        @Override
+        public PageableNftContractDetails read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            PageableNftContractDetails value = new PageableNftContractDetails();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PageableNftOwnershipChangesAdapter extends TypeAdapter<PageableNftOwnershipChanges> {
+        private final Gson gson;
+        private final TypeAdapter<List<NftOwnershipChange>> itemsAdapter;
+
+        PageableNftOwnershipChangesAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<NftOwnershipChange>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, PageableNftOwnershipChanges value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.endObject();
+        }
+
+        @Override
+        public PageableNftOwnershipChanges read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            PageableNftOwnershipChanges value = new PageableNftOwnershipChanges();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PageableNftsAdapter extends TypeAdapter<PageableNfts> {
+        private final Gson gson;
+        private final TypeAdapter<List<Nft>> itemsAdapter;
+
+        PageableNftsAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<Nft>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, PageableNfts value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.endObject();
+        }
+
+        @Override
+        public PageableNfts read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            PageableNfts value = new PageableNfts();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PageableTransfersAdapter extends TypeAdapter<PageableTransfers> {
+        private final Gson gson;
+        private final TypeAdapter<TransferArray> itemsAdapter;
+
+        PageableTransfersAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(TypeToken.get(TransferArray.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, PageableTransfers value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("items");
+            ModelTypeAdapters.writeRuntimeType(gson, out, itemsAdapter, TransferArray.class, value.getItems());
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.endObject();
+        }
+
+        @Override
+        public PageableTransfers read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            PageableTransfers value = new PageableTransfers();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TransactionAdapter extends TypeAdapter<Transaction> {
+        TransactionAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Transaction value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeInteger(out, value.getFeeRatio());
+            out.name("fee");
+            ModelTypeAdapters.writeString(out, value.getFee());
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("timestamp");
+            ModelTypeAdapters.writeLong(out, value.getTimestamp());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("typeInt");
+            ModelTypeAdapters.writeInteger(out, value.getTypeInt());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.endObject();
+        }
+
+        @Override
+        public Transaction read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Transaction value = new Transaction();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readInteger(in));
+                        break;
+                    case "fee":
+                        value.setFee(ModelTypeAdapters.readString(in));
+                        break;
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "timestamp":
+                        value.setTimestamp(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "typeInt":
+                        value.setTypeInt(ModelTypeAdapters.readInteger(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TransfersAdapter extends TypeAdapter<Transfers> {
+        private final Gson gson;
+        private final TypeAdapter<TransferArray> itemsAdapter;
+
+        TransfersAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(TypeToken.get(TransferArray.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, Transfers value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("items");
+            ModelTypeAdapters.writeRuntimeType(gson, out, itemsAdapter, TransferArray.class, value.getItems());
+            out.endObject();
+        }
+
+        @Override
+        public Transfers read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Transfers value = new Transfers();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -1,26 +1,188 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
 package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model;
 
-import com.google.gson.*;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ModelTypeAdapters;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
+/**
+ * Representing the TypeAdapter of AnyOfTransferArrayItems, which is a FtTransfer, NftTransfer or KlayTransfer according to `transferType`.
+ * KAS writes `transferType` after most of the fields, so the item is read in a single pass into the union of the fields of the three types
+ * and the transfer is created when the object ends, without buffering the item as a JsonElement tree.
+ * The fields not belonging to the type of the item are dropped. The contract is read as a FtContract, whose fields include the ones of NftContract.
+ * An item is written by the adapter of its runtime type.
+ * The fields are listed by hand, and TransferItemAdapterTest fails when a field of the models is not read here.
+ */
+public class TransferItemAdapter implements TypeAdapterFactory {
 
-public class TransferItemAdapter implements JsonDeserializer {
     @Override
-    public Object deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
-        JsonObject jsonObject = json.getAsJsonObject();
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        return (TypeAdapter<T>)new Adapter(gson).nullSafe();
+    }
+
+    static class Adapter extends TypeAdapter<AnyOfTransferArrayItems> {
+        private final Gson gson;
+        private final TypeAdapter<FtContract> contractAdapter;
+        private final TypeAdapter<Transaction> transactionAdapter;
 
-        String type = jsonObject.getAsJsonPrimitive("transferType").getAsString();
+        Adapter(Gson gson) {
+            this.gson = gson;
+            this.contractAdapter = gson.getAdapter(FtContract.class);
+            this.transactionAdapter = gson.getAdapter(Transaction.class);
+        }
 
-        if(type.equals("ft")) {
-            return context.deserialize(json, FtTransfer.class);
-        } else if(type.equals("nft")) {
-            return context.deserialize(json, NftTransfer.class);
-        } else if (type.equals("klay")) {
-            return context.deserialize(json, KlayTransfer.class);
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, AnyOfTransferArrayItems value) throws IOException {
+            ((TypeAdapter<AnyOfTransferArrayItems>)gson.getAdapter(value.getClass())).write(out, value);
         }
 
-        return null;
+        @Override
+        public AnyOfTransferArrayItems read(JsonReader in) throws IOException {
+            String transferType = null;
+            FtContract contract = null;
+            Transaction transaction = null;
+            String from = null;
+            String to = null;
+            String value = null;
+            String formattedValue = null;
+            String tokenId = null;
+            String feePayer = null;
+            Integer feeRatio = null;
+            String fee = null;
+            String transactionHash = null;
+            Integer transactionIndex = null;
+            Integer typeInt = null;
+
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "transferType":
+                        transferType = ModelTypeAdapters.readString(in);
+                        break;
+                    case "contract":
+                        contract = contractAdapter.read(in);
+                        break;
+                    case "transaction":
+                        transaction = transactionAdapter.read(in);
+                        break;
+                    case "from":
+                        from = ModelTypeAdapters.readString(in);
+                        break;
+                    case "to":
+                        to = ModelTypeAdapters.readString(in);
+                        break;
+                    case "value":
+                        value = ModelTypeAdapters.readString(in);
+                        break;
+                    case "formattedValue":
+                        formattedValue = ModelTypeAdapters.readString(in);
+                        break;
+                    case "tokenId":
+                        tokenId = ModelTypeAdapters.readString(in);
+                        break;
+                    case "feePayer":
+                        feePayer = ModelTypeAdapters.readString(in);
+                        break;
+                    case "feeRatio":
+                        feeRatio = ModelTypeAdapters.readInteger(in);
+                        break;
+                    case "fee":
+                        fee = ModelTypeAdapters.readString(in);
+                        break;
+                    case "transactionHash":
+                        transactionHash = ModelTypeAdapters.readString(in);
+                        break;
+                    case "transactionIndex":
+                        transactionIndex = ModelTypeAdapters.readInteger(in);
+                        break;
+                    case "typeInt":
+                        typeInt = ModelTypeAdapters.readInteger(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+
+            if(transferType == null) {
+                throw new JsonParseException("The transfer item has no transferType.");
+            }
+
+            switch(transferType) {
+                case "ft": {
+                    FtTransfer transfer = new FtTransfer();
+                    transfer.setContract(contract);
+                    transfer.setFormattedValue(formattedValue);
+                    transfer.setFrom(from);
+                    transfer.setTo(to);
+                    transfer.setTransaction(transaction);
+                    transfer.setTransferType(transferType);
+                    transfer.setValue(value);
+                    return transfer;
+                }
+                case "nft": {
+                    NftTransfer transfer = new NftTransfer();
+                    transfer.setContract(toNftContract(contract));
+                    transfer.setFrom(from);
+                    transfer.setTo(to);
+                    transfer.setTransaction(transaction);
+                    transfer.setTransferType(transferType);
+                    transfer.setTokenId(tokenId);
+                    return transfer;
+                }
+                case "klay": {
+                    KlayTransfer transfer = new KlayTransfer();
+                    transfer.setFeePayer(feePayer);
+                    transfer.setFeeRatio(feeRatio);
+                    transfer.setFee(fee);
+                    transfer.setFrom(from);
+                    transfer.setTo(to);
+                    transfer.setTransactionHash(transactionHash);
+                    transfer.setTransactionIndex(transactionIndex);
+                    transfer.setTransferType(transferType);
+                    transfer.setTypeInt(typeInt);
+                    transfer.setValue(value);
+                    return transfer;
+                }
+                default:
+                    return null;
+            }
+        }
+
+        private static NftContract toNftContract(FtContract contract) {
+            if(contract == null) {
+                return null;
+            }
+            NftContract nftContract = new NftContract();
+            nftContract.setAddress(contract.getAddress());
+            nftContract.setName(contract.getName());
+            nftContract.setSymbol(contract.getSymbol());
+            nftContract.setStatus(contract.getStatus());
+            return nftContract;
+        }
     }
 }
-
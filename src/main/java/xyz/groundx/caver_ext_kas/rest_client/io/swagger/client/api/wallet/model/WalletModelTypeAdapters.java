@@ -0,0 +1,3466 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ModelTypeAdapters;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Representing the TypeAdapters of the models in this package, which read and write the fields through the accessors instead of reflection.
+ * The JSON is the same as the one of the reflective adapters of Gson.
+ * NOTE: This class is generated by ModelTypeAdapterGenerator in the test sources. Do not edit the class manually.
+ */
+public final class WalletModelTypeAdapters implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if(rawType == Account.class) {
+            return (TypeAdapter<T>)new AccountAdapter(gson);
+        } else if(rawType == AccountByPubkey.class) {
+            return (TypeAdapter<T>)new AccountByPubkeyAdapter(gson);
+        } else if(rawType == AccountCountByAccountID.class) {
+            return (TypeAdapter<T>)new AccountCountByAccountIDAdapter(gson);
+        } else if(rawType == AccountCountByKRN.class) {
+            return (TypeAdapter<T>)new AccountCountByKRNAdapter(gson);
+        } else if(rawType == AccountKey.class) {
+            return (TypeAdapter<T>)new AccountKeyAdapter(gson);
+        } else if(rawType == AccountStatus.class) {
+            return (TypeAdapter<T>)new AccountStatusAdapter(gson);
+        } else if(rawType == AccountSummary.class) {
+            return (TypeAdapter<T>)new AccountSummaryAdapter(gson);
+        } else if(rawType == AccountUpdateKey.class) {
+            return (TypeAdapter<T>)new AccountUpdateKeyAdapter(gson);
+        } else if(rawType == AccountUpdateTransactionRequest.class) {
+            return (TypeAdapter<T>)new AccountUpdateTransactionRequestAdapter(gson);
+        } else if(rawType == Accounts.class) {
+            return (TypeAdapter<T>)new AccountsAdapter(gson);
+        } else if(rawType == AccountsByPubkey.class) {
+            return (TypeAdapter<T>)new AccountsByPubkeyAdapter(gson);
+        } else if(rawType == AnchorTransactionRequest.class) {
+            return (TypeAdapter<T>)new AnchorTransactionRequestAdapter(gson);
+        } else if(rawType == CancelTransactionRequest.class) {
+            return (TypeAdapter<T>)new CancelTransactionRequestAdapter(gson);
+        } else if(rawType == ContractDeployTransactionRequest.class) {
+            return (TypeAdapter<T>)new ContractDeployTransactionRequestAdapter(gson);
+        } else if(rawType == ContractExecutionTransactionRequest.class) {
+            return (TypeAdapter<T>)new ContractExecutionTransactionRequestAdapter(gson);
+        } else if(rawType == EmptyUpdateKeyType.class) {
+            return (TypeAdapter<T>)new EmptyUpdateKeyTypeAdapter(gson);
+        } else if(rawType == ErrorResponse.class) {
+            return (TypeAdapter<T>)new ErrorResponseAdapter(gson);
+        } else if(rawType == EventLog.class) {
+            return (TypeAdapter<T>)new EventLogAdapter(gson);
+        } else if(rawType == FDAccountUpdateTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDAccountUpdateTransactionRequestAdapter(gson);
+        } else if(rawType == FDAnchorTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDAnchorTransactionRequestAdapter(gson);
+        } else if(rawType == FDCancelTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDCancelTransactionRequestAdapter(gson);
+        } else if(rawType == FDContractDeployTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDContractDeployTransactionRequestAdapter(gson);
+        } else if(rawType == FDContractExecutionTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDContractExecutionTransactionRequestAdapter(gson);
+        } else if(rawType == FDProcessRLPRequest.class) {
+            return (TypeAdapter<T>)new FDProcessRLPRequestAdapter(gson);
+        } else if(rawType == FDTransactionResult.class) {
+            return (TypeAdapter<T>)new FDTransactionResultAdapter(gson);
+        } else if(rawType == FDUserAccountUpdateTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDUserAccountUpdateTransactionRequestAdapter(gson);
+        } else if(rawType == FDUserAnchorTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDUserAnchorTransactionRequestAdapter(gson);
+        } else if(rawType == FDUserCancelTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDUserCancelTransactionRequestAdapter(gson);
+        } else if(rawType == FDUserContractDeployTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDUserContractDeployTransactionRequestAdapter(gson);
+        } else if(rawType == FDUserContractExecutionTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDUserContractExecutionTransactionRequestAdapter(gson);
+        } else if(rawType == FDUserProcessRLPRequest.class) {
+            return (TypeAdapter<T>)new FDUserProcessRLPRequestAdapter(gson);
+        } else if(rawType == FDUserValueTransferTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDUserValueTransferTransactionRequestAdapter(gson);
+        } else if(rawType == FDValueTransferTransactionRequest.class) {
+            return (TypeAdapter<T>)new FDValueTransferTransactionRequestAdapter(gson);
+        } else if(rawType == FeePayerSignaturesObj.class) {
+            return (TypeAdapter<T>)new FeePayerSignaturesObjAdapter(gson);
+        } else if(rawType == Key.class) {
+            return (TypeAdapter<T>)new KeyAdapter(gson);
+        } else if(rawType == KeyObj.class) {
+            return (TypeAdapter<T>)new KeyObjAdapter(gson);
+        } else if(rawType == LegacyTransactionRequest.class) {
+            return (TypeAdapter<T>)new LegacyTransactionRequestAdapter(gson);
+        } else if(rawType == MultisigAccount.class) {
+            return (TypeAdapter<T>)new MultisigAccountAdapter(gson);
+        } else if(rawType == MultisigAccountUpdateRequest.class) {
+            return (TypeAdapter<T>)new MultisigAccountUpdateRequestAdapter(gson);
+        } else if(rawType == MultisigAddress.class) {
+            return (TypeAdapter<T>)new MultisigAddressAdapter(gson);
+        } else if(rawType == MultisigKey.class) {
+            return (TypeAdapter<T>)new MultisigKeyAdapter(gson);
+        } else if(rawType == MultisigTransactionStatus.class) {
+            return (TypeAdapter<T>)new MultisigTransactionStatusAdapter(gson);
+        } else if(rawType == MultisigTransactions.class) {
+            return (TypeAdapter<T>)new MultisigTransactionsAdapter(gson);
+        } else if(rawType == MultisigUpdateKey.class) {
+            return (TypeAdapter<T>)new MultisigUpdateKeyAdapter(gson);
+        } else if(rawType == MultisigUpdateKeyType.class) {
+            return (TypeAdapter<T>)new MultisigUpdateKeyTypeAdapter(gson);
+        } else if(rawType == PendedTransaction.class) {
+            return (TypeAdapter<T>)new PendedTransactionAdapter(gson);
+        } else if(rawType == ProcessRLPRequest.class) {
+            return (TypeAdapter<T>)new ProcessRLPRequestAdapter(gson);
+        } else if(rawType == PubkeyUpdateKeyType.class) {
+            return (TypeAdapter<T>)new PubkeyUpdateKeyTypeAdapter(gson);
+        } else if(rawType == RoleBasedUpdateKeyType.class) {
+            return (TypeAdapter<T>)new RoleBasedUpdateKeyTypeAdapter(gson);
+        } else if(rawType == SignPendingTransactionBySigRequest.class) {
+            return (TypeAdapter<T>)new SignPendingTransactionBySigRequestAdapter(gson);
+        } else if(rawType == Signature.class) {
+            return (TypeAdapter<T>)new SignatureAdapter(gson);
+        } else if(rawType == TransactionReceipt.class) {
+            return (TypeAdapter<T>)new TransactionReceiptAdapter(gson);
+        } else if(rawType == TransactionResult.class) {
+            return (TypeAdapter<T>)new TransactionResultAdapter(gson);
+        } else if(rawType == TxData.class) {
+            return (TypeAdapter<T>)new TxDataAdapter(gson);
+        } else if(rawType == ValueTransferTransactionRequest.class) {
+            return (TypeAdapter<T>)new ValueTransferTransactionRequestAdapter(gson);
+        }
+        return null;
+    }
+
+    static final class AccountAdapter extends TypeAdapter<Account> {
+        private final Gson gson;
+        private final TypeAdapter<List<MultisigKey>> multiSigKeysAdapter;
+
+        AccountAdapter(Gson gson) {
+            this.gson = gson;
+            this.multiSigKeysAdapter = gson.getAdapter(new TypeToken<List<MultisigKey>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, Account value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("chainId");
+            ModelTypeAdapters.writeLong(out, value.getChainId());
+            out.name("createdAt");
+            ModelTypeAdapters.writeLong(out, value.getCreatedAt());
+            out.name("keyId");
+            ModelTypeAdapters.writeString(out, value.getKeyId());
+            out.name("krn");
+            ModelTypeAdapters.writeString(out, value.getKrn());
+            out.name("publicKey");
+            ModelTypeAdapters.writeString(out, value.getPublicKey());
+            out.name("updatedAt");
+            ModelTypeAdapters.writeLong(out, value.getUpdatedAt());
+            out.name("multiSigKeys");
+            multiSigKeysAdapter.write(out, value.getMultiSigKeys());
+            out.name("threshold");
+            ModelTypeAdapters.writeLong(out, value.getThreshold());
+            out.endObject();
+        }
+
+        @Override
+        public Account read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Account value = new Account();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "chainId":
+                        value.setChainId(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "createdAt":
+                        value.setCreatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "keyId":
+                        value.setKeyId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "krn":
+                        value.setKrn(ModelTypeAdapters.readString(in));
+                        break;
+                    case "publicKey":
+                        value.setPublicKey(ModelTypeAdapters.readString(in));
+                        break;
+                    case "updatedAt":
+                        value.setUpdatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "multiSigKeys":
+                        value.setMultiSigKeys(multiSigKeysAdapter.read(in));
+                        break;
+                    case "threshold":
+                        value.setThreshold(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountByPubkeyAdapter extends TypeAdapter<AccountByPubkey> {
+        AccountByPubkeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountByPubkey value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("chainId");
+            ModelTypeAdapters.writeLong(out, value.getChainId());
+            out.endObject();
+        }
+
+        @Override
+        public AccountByPubkey read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountByPubkey value = new AccountByPubkey();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "chainId":
+                        value.setChainId(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountCountByAccountIDAdapter extends TypeAdapter<AccountCountByAccountID> {
+        AccountCountByAccountIDAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountCountByAccountID value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("accountId");
+            ModelTypeAdapters.writeString(out, value.getAccountId());
+            out.name("count");
+            ModelTypeAdapters.writeLong(out, value.getCount());
+            out.endObject();
+        }
+
+        @Override
+        public AccountCountByAccountID read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountCountByAccountID value = new AccountCountByAccountID();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "accountId":
+                        value.setAccountId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "count":
+                        value.setCount(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountCountByKRNAdapter extends TypeAdapter<AccountCountByKRN> {
+        AccountCountByKRNAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountCountByKRN value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("accountId");
+            ModelTypeAdapters.writeString(out, value.getAccountId());
+            out.name("count");
+            ModelTypeAdapters.writeLong(out, value.getCount());
+            out.name("krn");
+            ModelTypeAdapters.writeString(out, value.getKrn());
+            out.endObject();
+        }
+
+        @Override
+        public AccountCountByKRN read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountCountByKRN value = new AccountCountByKRN();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "accountId":
+                        value.setAccountId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "count":
+                        value.setCount(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "krn":
+                        value.setKrn(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountKeyAdapter extends TypeAdapter<AccountKey> {
+        private final Gson gson;
+        private final TypeAdapter<List<KeyObj>> keyAdapter;
+
+        AccountKeyAdapter(Gson gson) {
+            this.gson = gson;
+            this.keyAdapter = gson.getAdapter(new TypeToken<List<KeyObj>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountKey value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("key_type");
+            ModelTypeAdapters.writeLong(out, value.getKeyType());
+            out.name("key");
+            keyAdapter.write(out, value.getKey());
+            out.endObject();
+        }
+
+        @Override
+        public AccountKey read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountKey value = new AccountKey();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "key_type":
+                        value.setKeyType(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "key":
+                        value.setKey(keyAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountStatusAdapter extends TypeAdapter<AccountStatus> {
+        AccountStatusAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountStatus value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.endObject();
+        }
+
+        @Override
+        public AccountStatus read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountStatus value = new AccountStatus();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountSummaryAdapter extends TypeAdapter<AccountSummary> {
+        AccountSummaryAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountSummary value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("krn");
+            ModelTypeAdapters.writeString(out, value.getKrn());
+            out.name("updatedAt");
+            ModelTypeAdapters.writeLong(out, value.getUpdatedAt());
+            out.endObject();
+        }
+
+        @Override
+        public AccountSummary read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountSummary value = new AccountSummary();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "krn":
+                        value.setKrn(ModelTypeAdapters.readString(in));
+                        break;
+                    case "updatedAt":
+                        value.setUpdatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountUpdateKeyAdapter extends TypeAdapter<AccountUpdateKey> {
+        AccountUpdateKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountUpdateKey value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public AccountUpdateKey read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountUpdateKey value = new AccountUpdateKey();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountUpdateTransactionRequestAdapter extends TypeAdapter<AccountUpdateTransactionRequest> {
+        private final Gson gson;
+        private final TypeAdapter<AccountUpdateKey> accountKeyAdapter;
+
+        AccountUpdateTransactionRequestAdapter(Gson gson) {
+            this.gson = gson;
+            this.accountKeyAdapter = gson.getAdapter(TypeToken.get(AccountUpdateKey.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountUpdateTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("accountKey");
+            ModelTypeAdapters.writeRuntimeType(gson, out, accountKeyAdapter, AccountUpdateKey.class, value.getAccountKey());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public AccountUpdateTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountUpdateTransactionRequest value = new AccountUpdateTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "accountKey":
+                        value.setAccountKey(accountKeyAdapter.read(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountsAdapter extends TypeAdapter<Accounts> {
+        private final Gson gson;
+        private final TypeAdapter<List<Account>> itemsAdapter;
+
+        AccountsAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<Account>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, Accounts value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.endObject();
+        }
+
+        @Override
+        public Accounts read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Accounts value = new Accounts();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AccountsByPubkeyAdapter extends TypeAdapter<AccountsByPubkey> {
+        private final Gson gson;
+        private final TypeAdapter<List<AccountByPubkey>> itemsAdapter;
+
+        AccountsByPubkeyAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<AccountByPubkey>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, AccountsByPubkey value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.endObject();
+        }
+
+        @Override
+        public AccountsByPubkey read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AccountsByPubkey value = new AccountsByPubkey();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class AnchorTransactionRequestAdapter extends TypeAdapter<AnchorTransactionRequest> {
+        AnchorTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, AnchorTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public AnchorTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            AnchorTransactionRequest value = new AnchorTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class CancelTransactionRequestAdapter extends TypeAdapter<CancelTransactionRequest> {
+        CancelTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, CancelTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public CancelTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            CancelTransactionRequest value = new CancelTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContractDeployTransactionRequestAdapter extends TypeAdapter<ContractDeployTransactionRequest> {
+        ContractDeployTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ContractDeployTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public ContractDeployTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            ContractDeployTransactionRequest value = new ContractDeployTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ContractExecutionTransactionRequestAdapter extends TypeAdapter<ContractExecutionTransactionRequest> {
+        ContractExecutionTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ContractExecutionTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public ContractExecutionTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            ContractExecutionTransactionRequest value = new ContractExecutionTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EmptyUpdateKeyTypeAdapter extends TypeAdapter<EmptyUpdateKeyType> {
+        EmptyUpdateKeyTypeAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, EmptyUpdateKeyType value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("keyType");
+            ModelTypeAdapters.writeLong(out, value.getKeyType());
+            out.endObject();
+        }
+
+        @Override
+        public EmptyUpdateKeyType read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            EmptyUpdateKeyType value = new EmptyUpdateKeyType();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "keyType":
+                        value.setKeyType(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ErrorResponseAdapter extends TypeAdapter<ErrorResponse> {
+        ErrorResponseAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ErrorResponse value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("code");
+            ModelTypeAdapters.writeLong(out, value.getCode());
+            out.name("message");
+            ModelTypeAdapters.writeString(out, value.getMessage());
+            out.endObject();
+        }
+
+        @Override
+        public ErrorResponse read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            ErrorResponse value = new ErrorResponse();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "code":
+                        value.setCode(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "message":
+                        value.setMessage(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class EventLogAdapter extends TypeAdapter<EventLog> {
+        private final Gson gson;
+        private final TypeAdapter<List<String>> topicsAdapter;
+
+        EventLogAdapter(Gson gson) {
+            this.gson = gson;
+            this.topicsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, EventLog value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("blockHash");
+            ModelTypeAdapters.writeString(out, value.getBlockHash());
+            out.name("blockNumber");
+            ModelTypeAdapters.writeString(out, value.getBlockNumber());
+            out.name("data");
+            ModelTypeAdapters.writeString(out, value.getData());
+            out.name("logIndex");
+            ModelTypeAdapters.writeString(out, value.getLogIndex());
+            out.name("removed");
+            ModelTypeAdapters.writeBoolean(out, value.isRemoved());
+            out.name("topics");
+            topicsAdapter.write(out, value.getTopics());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("transactionIndex");
+            ModelTypeAdapters.writeString(out, value.getTransactionIndex());
+            out.endObject();
+        }
+
+        @Override
+        public EventLog read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            EventLog value = new EventLog();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "blockHash":
+                        value.setBlockHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "blockNumber":
+                        value.setBlockNumber(ModelTypeAdapters.readString(in));
+                        break;
+                    case "data":
+                        value.setData(ModelTypeAdapters.readString(in));
+                        break;
+                    case "logIndex":
+                        value.setLogIndex(ModelTypeAdapters.readString(in));
+                        break;
+                    case "removed":
+                        value.setRemoved(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "topics":
+                        value.setTopics(topicsAdapter.read(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionIndex":
+                        value.setTransactionIndex(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDAccountUpdateTransactionRequestAdapter extends TypeAdapter<FDAccountUpdateTransactionRequest> {
+        private final Gson gson;
+        private final TypeAdapter<AccountUpdateKey> accountKeyAdapter;
+
+        FDAccountUpdateTransactionRequestAdapter(Gson gson) {
+            this.gson = gson;
+            this.accountKeyAdapter = gson.getAdapter(TypeToken.get(AccountUpdateKey.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, FDAccountUpdateTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("accountKey");
+            ModelTypeAdapters.writeRuntimeType(gson, out, accountKeyAdapter, AccountUpdateKey.class, value.getAccountKey());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDAccountUpdateTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDAccountUpdateTransactionRequest value = new FDAccountUpdateTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "accountKey":
+                        value.setAccountKey(accountKeyAdapter.read(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDAnchorTransactionRequestAdapter extends TypeAdapter<FDAnchorTransactionRequest> {
+        FDAnchorTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDAnchorTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDAnchorTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDAnchorTransactionRequest value = new FDAnchorTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDCancelTransactionRequestAdapter extends TypeAdapter<FDCancelTransactionRequest> {
+        FDCancelTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDCancelTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDCancelTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDCancelTransactionRequest value = new FDCancelTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDContractDeployTransactionRequestAdapter extends TypeAdapter<FDContractDeployTransactionRequest> {
+        FDContractDeployTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDContractDeployTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDContractDeployTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDContractDeployTransactionRequest value = new FDContractDeployTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDContractExecutionTransactionRequestAdapter extends TypeAdapter<FDContractExecutionTransactionRequest> {
+        FDContractExecutionTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDContractExecutionTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDContractExecutionTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDContractExecutionTransactionRequest value = new FDContractExecutionTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDProcessRLPRequestAdapter extends TypeAdapter<FDProcessRLPRequest> {
+        FDProcessRLPRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDProcessRLPRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rlp");
+            ModelTypeAdapters.writeString(out, value.getRlp());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDProcessRLPRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDProcessRLPRequest value = new FDProcessRLPRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "rlp":
+                        value.setRlp(ModelTypeAdapters.readString(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDTransactionResultAdapter extends TypeAdapter<FDTransactionResult> {
+        private final Gson gson;
+        private final TypeAdapter<List<Signature>> signaturesAdapter;
+
+        FDTransactionResultAdapter(Gson gson) {
+            this.gson = gson;
+            this.signaturesAdapter = gson.getAdapter(new TypeToken<List<Signature>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, FDTransactionResult value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("gasPrice");
+            ModelTypeAdapters.writeString(out, value.getGasPrice());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("rlp");
+            ModelTypeAdapters.writeString(out, value.getRlp());
+            out.name("signatures");
+            signaturesAdapter.write(out, value.getSignatures());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("typeInt");
+            ModelTypeAdapters.writeLong(out, value.getTypeInt());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.name("transactionId");
+            ModelTypeAdapters.writeString(out, value.getTransactionId());
+            out.name("accountKey");
+            ModelTypeAdapters.writeString(out, value.getAccountKey());
+            out.endObject();
+        }
+
+        @Override
+        public FDTransactionResult read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDTransactionResult value = new FDTransactionResult();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gasPrice":
+                        value.setGasPrice(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "rlp":
+                        value.setRlp(ModelTypeAdapters.readString(in));
+                        break;
+                    case "signatures":
+                        value.setSignatures(signaturesAdapter.read(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "typeInt":
+                        value.setTypeInt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "transactionId":
+                        value.setTransactionId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "accountKey":
+                        value.setAccountKey(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDUserAccountUpdateTransactionRequestAdapter extends TypeAdapter<FDUserAccountUpdateTransactionRequest> {
+        private final Gson gson;
+        private final TypeAdapter<AccountUpdateKey> accountKeyAdapter;
+
+        FDUserAccountUpdateTransactionRequestAdapter(Gson gson) {
+            this.gson = gson;
+            this.accountKeyAdapter = gson.getAdapter(TypeToken.get(AccountUpdateKey.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, FDUserAccountUpdateTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("accountKey");
+            ModelTypeAdapters.writeRuntimeType(gson, out, accountKeyAdapter, AccountUpdateKey.class, value.getAccountKey());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDUserAccountUpdateTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDUserAccountUpdateTransactionRequest value = new FDUserAccountUpdateTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "accountKey":
+                        value.setAccountKey(accountKeyAdapter.read(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDUserAnchorTransactionRequestAdapter extends TypeAdapter<FDUserAnchorTransactionRequest> {
+        FDUserAnchorTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDUserAnchorTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDUserAnchorTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDUserAnchorTransactionRequest value = new FDUserAnchorTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDUserCancelTransactionRequestAdapter extends TypeAdapter<FDUserCancelTransactionRequest> {
+        FDUserCancelTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDUserCancelTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDUserCancelTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDUserCancelTransactionRequest value = new FDUserCancelTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDUserContractDeployTransactionRequestAdapter extends TypeAdapter<FDUserContractDeployTransactionRequest> {
+        FDUserContractDeployTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDUserContractDeployTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDUserContractDeployTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDUserContractDeployTransactionRequest value = new FDUserContractDeployTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDUserContractExecutionTransactionRequestAdapter extends TypeAdapter<FDUserContractExecutionTransactionRequest> {
+        FDUserContractExecutionTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDUserContractExecutionTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDUserContractExecutionTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDUserContractExecutionTransactionRequest value = new FDUserContractExecutionTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDUserProcessRLPRequestAdapter extends TypeAdapter<FDUserProcessRLPRequest> {
+        FDUserProcessRLPRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDUserProcessRLPRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rlp");
+            ModelTypeAdapters.writeString(out, value.getRlp());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public FDUserProcessRLPRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDUserProcessRLPRequest value = new FDUserProcessRLPRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "rlp":
+                        value.setRlp(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDUserValueTransferTransactionRequestAdapter extends TypeAdapter<FDUserValueTransferTransactionRequest> {
+        FDUserValueTransferTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDUserValueTransferTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("memo");
+            ModelTypeAdapters.writeString(out, value.getMemo());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDUserValueTransferTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDUserValueTransferTransactionRequest value = new FDUserValueTransferTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "memo":
+                        value.setMemo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FDValueTransferTransactionRequestAdapter extends TypeAdapter<FDValueTransferTransactionRequest> {
+        FDValueTransferTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FDValueTransferTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("memo");
+            ModelTypeAdapters.writeString(out, value.getMemo());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("feeRatio");
+            ModelTypeAdapters.writeLong(out, value.getFeeRatio());
+            out.endObject();
+        }
+
+        @Override
+        public FDValueTransferTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FDValueTransferTransactionRequest value = new FDValueTransferTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "memo":
+                        value.setMemo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "feeRatio":
+                        value.setFeeRatio(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class FeePayerSignaturesObjAdapter extends TypeAdapter<FeePayerSignaturesObj> {
+        FeePayerSignaturesObjAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, FeePayerSignaturesObj value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("R");
+            ModelTypeAdapters.writeString(out, value.getR());
+            out.name("S");
+            ModelTypeAdapters.writeString(out, value.getS());
+            out.name("V");
+            ModelTypeAdapters.writeString(out, value.getV());
+            out.endObject();
+        }
+
+        @Override
+        public FeePayerSignaturesObj read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            FeePayerSignaturesObj value = new FeePayerSignaturesObj();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "R":
+                        value.setR(ModelTypeAdapters.readString(in));
+                        break;
+                    case "S":
+                        value.setS(ModelTypeAdapters.readString(in));
+                        break;
+                    case "V":
+                        value.setV(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class KeyAdapter extends TypeAdapter<Key> {
+        KeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Key value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.endObject();
+        }
+
+        @Override
+        public Key read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Key value = new Key();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                in.nextName();
+                in.skipValue();
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class KeyObjAdapter extends TypeAdapter<KeyObj> {
+        private final Gson gson;
+        private final TypeAdapter<Key> keyAdapter;
+
+        KeyObjAdapter(Gson gson) {
+            this.gson = gson;
+            this.keyAdapter = gson.getAdapter(TypeToken.get(Key.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, KeyObj value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("key_type");
+            ModelTypeAdapters.writeLong(out, value.getKeyType());
+            out.name("key");
+            ModelTypeAdapters.writeRuntimeType(gson, out, keyAdapter, Key.class, value.getKey());
+            out.endObject();
+        }
+
+        @Override
+        public KeyObj read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            KeyObj value = new KeyObj();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "key_type":
+                        value.setKeyType(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "key":
+                        value.setKey(keyAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class LegacyTransactionRequestAdapter extends TypeAdapter<LegacyTransactionRequest> {
+        LegacyTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, LegacyTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public LegacyTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            LegacyTransactionRequest value = new LegacyTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigAccountAdapter extends TypeAdapter<MultisigAccount> {
+        private final Gson gson;
+        private final TypeAdapter<List<MultisigKey>> multiSigKeysAdapter;
+
+        MultisigAccountAdapter(Gson gson) {
+            this.gson = gson;
+            this.multiSigKeysAdapter = gson.getAdapter(new TypeToken<List<MultisigKey>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigAccount value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("krn");
+            ModelTypeAdapters.writeString(out, value.getKrn());
+            out.name("multiSigKeys");
+            multiSigKeysAdapter.write(out, value.getMultiSigKeys());
+            out.name("threshold");
+            ModelTypeAdapters.writeLong(out, value.getThreshold());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("updatedAt");
+            ModelTypeAdapters.writeLong(out, value.getUpdatedAt());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigAccount read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigAccount value = new MultisigAccount();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "krn":
+                        value.setKrn(ModelTypeAdapters.readString(in));
+                        break;
+                    case "multiSigKeys":
+                        value.setMultiSigKeys(multiSigKeysAdapter.read(in));
+                        break;
+                    case "threshold":
+                        value.setThreshold(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "updatedAt":
+                        value.setUpdatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigAccountUpdateRequestAdapter extends TypeAdapter<MultisigAccountUpdateRequest> {
+        private final Gson gson;
+        private final TypeAdapter<List<MultisigKey>> weightedKeysAdapter;
+
+        MultisigAccountUpdateRequestAdapter(Gson gson) {
+            this.gson = gson;
+            this.weightedKeysAdapter = gson.getAdapter(new TypeToken<List<MultisigKey>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigAccountUpdateRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("threshold");
+            ModelTypeAdapters.writeLong(out, value.getThreshold());
+            out.name("weightedKeys");
+            weightedKeysAdapter.write(out, value.getWeightedKeys());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigAccountUpdateRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigAccountUpdateRequest value = new MultisigAccountUpdateRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "threshold":
+                        value.setThreshold(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "weightedKeys":
+                        value.setWeightedKeys(weightedKeysAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigAddressAdapter extends TypeAdapter<MultisigAddress> {
+        MultisigAddressAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigAddress value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("weight");
+            ModelTypeAdapters.writeLong(out, value.getWeight());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigAddress read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigAddress value = new MultisigAddress();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "weight":
+                        value.setWeight(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigKeyAdapter extends TypeAdapter<MultisigKey> {
+        MultisigKeyAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigKey value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("publicKey");
+            ModelTypeAdapters.writeString(out, value.getPublicKey());
+            out.name("weight");
+            ModelTypeAdapters.writeLong(out, value.getWeight());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigKey read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigKey value = new MultisigKey();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "publicKey":
+                        value.setPublicKey(ModelTypeAdapters.readString(in));
+                        break;
+                    case "weight":
+                        value.setWeight(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigTransactionStatusAdapter extends TypeAdapter<MultisigTransactionStatus> {
+        private final Gson gson;
+        private final TypeAdapter<List<String>> remindersAdapter;
+
+        MultisigTransactionStatusAdapter(Gson gson) {
+            this.gson = gson;
+            this.remindersAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigTransactionStatus value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("signedWeight");
+            ModelTypeAdapters.writeLong(out, value.getSignedWeight());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.name("threshold");
+            ModelTypeAdapters.writeLong(out, value.getThreshold());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("transactionId");
+            ModelTypeAdapters.writeString(out, value.getTransactionId());
+            out.name("weight");
+            ModelTypeAdapters.writeLong(out, value.getWeight());
+            out.name("reminders");
+            remindersAdapter.write(out, value.getReminders());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigTransactionStatus read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigTransactionStatus value = new MultisigTransactionStatus();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "signedWeight":
+                        value.setSignedWeight(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    case "threshold":
+                        value.setThreshold(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionId":
+                        value.setTransactionId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "weight":
+                        value.setWeight(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "reminders":
+                        value.setReminders(remindersAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigTransactionsAdapter extends TypeAdapter<MultisigTransactions> {
+        private final Gson gson;
+        private final TypeAdapter<List<PendedTransaction>> itemsAdapter;
+
+        MultisigTransactionsAdapter(Gson gson) {
+            this.gson = gson;
+            this.itemsAdapter = gson.getAdapter(new TypeToken<List<PendedTransaction>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigTransactions value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("cursor");
+            ModelTypeAdapters.writeString(out, value.getCursor());
+            out.name("items");
+            itemsAdapter.write(out, value.getItems());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigTransactions read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigTransactions value = new MultisigTransactions();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "cursor":
+                        value.setCursor(ModelTypeAdapters.readString(in));
+                        break;
+                    case "items":
+                        value.setItems(itemsAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigUpdateKeyAdapter extends TypeAdapter<MultisigUpdateKey> {
+        private final Gson gson;
+        private final TypeAdapter<List<MultisigKey>> weightedKeysAdapter;
+
+        MultisigUpdateKeyAdapter(Gson gson) {
+            this.gson = gson;
+            this.weightedKeysAdapter = gson.getAdapter(new TypeToken<List<MultisigKey>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigUpdateKey value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("threshold");
+            ModelTypeAdapters.writeLong(out, value.getThreshold());
+            out.name("weightedKeys");
+            weightedKeysAdapter.write(out, value.getWeightedKeys());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigUpdateKey read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigUpdateKey value = new MultisigUpdateKey();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "threshold":
+                        value.setThreshold(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "weightedKeys":
+                        value.setWeightedKeys(weightedKeysAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class MultisigUpdateKeyTypeAdapter extends TypeAdapter<MultisigUpdateKeyType> {
+        private final Gson gson;
+        private final TypeAdapter<MultisigUpdateKey> keyAdapter;
+
+        MultisigUpdateKeyTypeAdapter(Gson gson) {
+            this.gson = gson;
+            this.keyAdapter = gson.getAdapter(TypeToken.get(MultisigUpdateKey.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, MultisigUpdateKeyType value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("keyType");
+            ModelTypeAdapters.writeLong(out, value.getKeyType());
+            out.name("key");
+            ModelTypeAdapters.writeRuntimeType(gson, out, keyAdapter, MultisigUpdateKey.class, value.getKey());
+            out.endObject();
+        }
+
+        @Override
+        public MultisigUpdateKeyType read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            MultisigUpdateKeyType value = new MultisigUpdateKeyType();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "keyType":
+                        value.setKeyType(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "key":
+                        value.setKey(keyAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PendedTransactionAdapter extends TypeAdapter<PendedTransaction> {
+        private final Gson gson;
+        private final TypeAdapter<List<MultisigAddress>> multiSigKeysAdapter;
+        private final TypeAdapter<TxData> txDataAdapter;
+
+        PendedTransactionAdapter(Gson gson) {
+            this.gson = gson;
+            this.multiSigKeysAdapter = gson.getAdapter(new TypeToken<List<MultisigAddress>>() {});
+            this.txDataAdapter = gson.getAdapter(TypeToken.get(TxData.class));
+        }
+
+        @Override
+        public void write(JsonWriter out, PendedTransaction value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("address");
+            ModelTypeAdapters.writeString(out, value.getAddress());
+            out.name("chainId");
+            ModelTypeAdapters.writeLong(out, value.getChainId());
+            out.name("createdAt");
+            ModelTypeAdapters.writeLong(out, value.getCreatedAt());
+            out.name("multiSigKeys");
+            multiSigKeysAdapter.write(out, value.getMultiSigKeys());
+            out.name("status");
+            ModelTypeAdapters.writeLong(out, value.getStatus());
+            out.name("threshold");
+            ModelTypeAdapters.writeLong(out, value.getThreshold());
+            out.name("transactionId");
+            ModelTypeAdapters.writeString(out, value.getTransactionId());
+            out.name("txData");
+            ModelTypeAdapters.writeRuntimeType(gson, out, txDataAdapter, TxData.class, value.getTxData());
+            out.name("type");
+            ModelTypeAdapters.writeString(out, value.getType());
+            out.name("updatedAt");
+            ModelTypeAdapters.writeLong(out, value.getUpdatedAt());
+            out.endObject();
+        }
+
+        @Override
+        public PendedTransaction read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            PendedTransaction value = new PendedTransaction();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "address":
+                        value.setAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "chainId":
+                        value.setChainId(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "createdAt":
+                        value.setCreatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "multiSigKeys":
+                        value.setMultiSigKeys(multiSigKeysAdapter.read(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "threshold":
+                        value.setThreshold(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "transactionId":
+                        value.setTransactionId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "txData":
+                        value.setTxData(txDataAdapter.read(in));
+                        break;
+                    case "type":
+                        value.setType(ModelTypeAdapters.readString(in));
+                        break;
+                    case "updatedAt":
+                        value.setUpdatedAt(ModelTypeAdapters.readLong(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ProcessRLPRequestAdapter extends TypeAdapter<ProcessRLPRequest> {
+        ProcessRLPRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ProcessRLPRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("rlp");
+            ModelTypeAdapters.writeString(out, value.getRlp());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.endObject();
+        }
+
+        @Override
+        public ProcessRLPRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            ProcessRLPRequest value = new ProcessRLPRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "rlp":
+                        value.setRlp(ModelTypeAdapters.readString(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class PubkeyUpdateKeyTypeAdapter extends TypeAdapter<PubkeyUpdateKeyType> {
+        PubkeyUpdateKeyTypeAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, PubkeyUpdateKeyType value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("keyType");
+            ModelTypeAdapters.writeLong(out, value.getKeyType());
+            out.name("key");
+            ModelTypeAdapters.writeString(out, value.getKey());
+            out.endObject();
+        }
+
+        @Override
+        public PubkeyUpdateKeyType read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            PubkeyUpdateKeyType value = new PubkeyUpdateKeyType();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "keyType":
+                        value.setKeyType(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "key":
+                        value.setKey(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class RoleBasedUpdateKeyTypeAdapter extends TypeAdapter<RoleBasedUpdateKeyType> {
+        private final Gson gson;
+        private final TypeAdapter<List<AccountUpdateKey>> keyAdapter;
+
+        RoleBasedUpdateKeyTypeAdapter(Gson gson) {
+            this.gson = gson;
+            this.keyAdapter = gson.getAdapter(new TypeToken<List<AccountUpdateKey>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, RoleBasedUpdateKeyType value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("keyType");
+            ModelTypeAdapters.writeLong(out, value.getKeyType());
+            out.name("key");
+            keyAdapter.write(out, value.getKey());
+            out.endObject();
+        }
+
+        @Override
+        public RoleBasedUpdateKeyType read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            RoleBasedUpdateKeyType value = new RoleBasedUpdateKeyType();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "keyType":
+                        value.setKeyType(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "key":
+                        value.setKey(keyAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SignPendingTransactionBySigRequestAdapter extends TypeAdapter<SignPendingTransactionBySigRequest> {
+        private final Gson gson;
+        private final TypeAdapter<List<Signature>> signaturesAdapter;
+
+        SignPendingTransactionBySigRequestAdapter(Gson gson) {
+            this.gson = gson;
+            this.signaturesAdapter = gson.getAdapter(new TypeToken<List<Signature>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, SignPendingTransactionBySigRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("signatures");
+            signaturesAdapter.write(out, value.getSignatures());
+            out.endObject();
+        }
+
+        @Override
+        public SignPendingTransactionBySigRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            SignPendingTransactionBySigRequest value = new SignPendingTransactionBySigRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "signatures":
+                        value.setSignatures(signaturesAdapter.read(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class SignatureAdapter extends TypeAdapter<Signature> {
+        SignatureAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, Signature value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("R");
+            ModelTypeAdapters.writeString(out, value.getR());
+            out.name("S");
+            ModelTypeAdapters.writeString(out, value.getS());
+            out.name("V");
+            ModelTypeAdapters.writeString(out, value.getV());
+            out.endObject();
+        }
+
+        @Override
+        public Signature read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            Signature value = new Signature();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "R":
+                        value.setR(ModelTypeAdapters.readString(in));
+                        break;
+                    case "S":
+                        value.setS(ModelTypeAdapters.readString(in));
+                        break;
+                    case "V":
+                        value.setV(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TransactionReceiptAdapter extends TypeAdapter<TransactionReceipt> {
+        private final Gson gson;
+        private final TypeAdapter<List<EventLog>> logsAdapter;
+        private final TypeAdapter<List<Signature>> signaturesAdapter;
+        private final TypeAdapter<List<FeePayerSignaturesObj>> feePayerSignaturesAdapter;
+
+        TransactionReceiptAdapter(Gson gson) {
+            this.gson = gson;
+            this.logsAdapter = gson.getAdapter(new TypeToken<List<EventLog>>() {});
+            this.signaturesAdapter = gson.getAdapter(new TypeToken<List<Signature>>() {});
+            this.feePayerSignaturesAdapter = gson.getAdapter(new TypeToken<List<FeePayerSignaturesObj>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, TransactionReceipt value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("blockHash");
+            ModelTypeAdapters.writeString(out, value.getBlockHash());
+            out.name("blockNumber");
+            ModelTypeAdapters.writeString(out, value.getBlockNumber());
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("gas");
+            ModelTypeAdapters.writeString(out, value.getGas());
+            out.name("gasPrice");
+            ModelTypeAdapters.writeString(out, value.getGasPrice());
+            out.name("gasUsed");
+            ModelTypeAdapters.writeString(out, value.getGasUsed());
+            out.name("hash");
+            ModelTypeAdapters.writeString(out, value.getHash());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("logs");
+            logsAdapter.write(out, value.getLogs());
+            out.name("logsBloom");
+            ModelTypeAdapters.writeString(out, value.getLogsBloom());
+            out.name("nonce");
+            ModelTypeAdapters.writeString(out, value.getNonce());
+            out.name("senderTxHash");
+            ModelTypeAdapters.writeString(out, value.getSenderTxHash());
+            out.name("signatures");
+            signaturesAdapter.write(out, value.getSignatures());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("transactionIndex");
+            ModelTypeAdapters.writeString(out, value.getTransactionIndex());
+            out.name("type");
+            ModelTypeAdapters.writeString(out, value.getType());
+            out.name("typeInt");
+            ModelTypeAdapters.writeLong(out, value.getTypeInt());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("contractAddress");
+            ModelTypeAdapters.writeString(out, value.getContractAddress());
+            out.name("codeFormat");
+            ModelTypeAdapters.writeString(out, value.getCodeFormat());
+            out.name("feePayer");
+            ModelTypeAdapters.writeString(out, value.getFeePayer());
+            out.name("feePayerSignatures");
+            feePayerSignaturesAdapter.write(out, value.getFeePayerSignatures());
+            out.name("humanReadable");
+            ModelTypeAdapters.writeBoolean(out, value.isHumanReadable());
+            out.endObject();
+        }
+
+        @Override
+        public TransactionReceipt read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            TransactionReceipt value = new TransactionReceipt();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "blockHash":
+                        value.setBlockHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "blockNumber":
+                        value.setBlockNumber(ModelTypeAdapters.readString(in));
+                        break;
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readString(in));
+                        break;
+                    case "gasPrice":
+                        value.setGasPrice(ModelTypeAdapters.readString(in));
+                        break;
+                    case "gasUsed":
+                        value.setGasUsed(ModelTypeAdapters.readString(in));
+                        break;
+                    case "hash":
+                        value.setHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "logs":
+                        value.setLogs(logsAdapter.read(in));
+                        break;
+                    case "logsBloom":
+                        value.setLogsBloom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readString(in));
+                        break;
+                    case "senderTxHash":
+                        value.setSenderTxHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "signatures":
+                        value.setSignatures(signaturesAdapter.read(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionIndex":
+                        value.setTransactionIndex(ModelTypeAdapters.readString(in));
+                        break;
+                    case "type":
+                        value.setType(ModelTypeAdapters.readString(in));
+                        break;
+                    case "typeInt":
+                        value.setTypeInt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "contractAddress":
+                        value.setContractAddress(ModelTypeAdapters.readString(in));
+                        break;
+                    case "codeFormat":
+                        value.setCodeFormat(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feePayer":
+                        value.setFeePayer(ModelTypeAdapters.readString(in));
+                        break;
+                    case "feePayerSignatures":
+                        value.setFeePayerSignatures(feePayerSignaturesAdapter.read(in));
+                        break;
+                    case "humanReadable":
+                        value.setHumanReadable(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TransactionResultAdapter extends TypeAdapter<TransactionResult> {
+        private final Gson gson;
+        private final TypeAdapter<List<Signature>> signaturesAdapter;
+
+        TransactionResultAdapter(Gson gson) {
+            this.gson = gson;
+            this.signaturesAdapter = gson.getAdapter(new TypeToken<List<Signature>>() {});
+        }
+
+        @Override
+        public void write(JsonWriter out, TransactionResult value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("gasPrice");
+            ModelTypeAdapters.writeString(out, value.getGasPrice());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("rlp");
+            ModelTypeAdapters.writeString(out, value.getRlp());
+            out.name("signatures");
+            signaturesAdapter.write(out, value.getSignatures());
+            out.name("status");
+            ModelTypeAdapters.writeString(out, value.getStatus());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("transactionHash");
+            ModelTypeAdapters.writeString(out, value.getTransactionHash());
+            out.name("typeInt");
+            ModelTypeAdapters.writeLong(out, value.getTypeInt());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("code");
+            ModelTypeAdapters.writeLong(out, value.getCode());
+            out.name("message");
+            ModelTypeAdapters.writeString(out, value.getMessage());
+            out.name("transactionId");
+            ModelTypeAdapters.writeString(out, value.getTransactionId());
+            out.name("accountKey");
+            ModelTypeAdapters.writeString(out, value.getAccountKey());
+            out.endObject();
+        }
+
+        @Override
+        public TransactionResult read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            TransactionResult value = new TransactionResult();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gasPrice":
+                        value.setGasPrice(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "rlp":
+                        value.setRlp(ModelTypeAdapters.readString(in));
+                        break;
+                    case "signatures":
+                        value.setSignatures(signaturesAdapter.read(in));
+                        break;
+                    case "status":
+                        value.setStatus(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionHash":
+                        value.setTransactionHash(ModelTypeAdapters.readString(in));
+                        break;
+                    case "typeInt":
+                        value.setTypeInt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "code":
+                        value.setCode(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "message":
+                        value.setMessage(ModelTypeAdapters.readString(in));
+                        break;
+                    case "transactionId":
+                        value.setTransactionId(ModelTypeAdapters.readString(in));
+                        break;
+                    case "accountKey":
+                        value.setAccountKey(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class TxDataAdapter extends TypeAdapter<TxData> {
+        TxDataAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, TxData value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("gasPrice");
+            ModelTypeAdapters.writeString(out, value.getGasPrice());
+            out.name("input");
+            ModelTypeAdapters.writeString(out, value.getInput());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("typeInt");
+            ModelTypeAdapters.writeLong(out, value.getTypeInt());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.endObject();
+        }
+
+        @Override
+        public TxData read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            TxData value = new TxData();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gasPrice":
+                        value.setGasPrice(ModelTypeAdapters.readString(in));
+                        break;
+                    case "input":
+                        value.setInput(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "typeInt":
+                        value.setTypeInt(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+
+    static final class ValueTransferTransactionRequestAdapter extends TypeAdapter<ValueTransferTransactionRequest> {
+        ValueTransferTransactionRequestAdapter(Gson gson) {
+        }
+
+        @Override
+        public void write(JsonWriter out, ValueTransferTransactionRequest value) throws IOException {
+            if(value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("from");
+            ModelTypeAdapters.writeString(out, value.getFrom());
+            out.name("value");
+            ModelTypeAdapters.writeString(out, value.getValue());
+            out.name("to");
+            ModelTypeAdapters.writeString(out, value.getTo());
+            out.name("memo");
+            ModelTypeAdapters.writeString(out, value.getMemo());
+            out.name("nonce");
+            ModelTypeAdapters.writeLong(out, value.getNonce());
+            out.name("gas");
+            ModelTypeAdapters.writeLong(out, value.getGas());
+            out.name("submit");
+            ModelTypeAdapters.writeBoolean(out, value.isSubmit());
+            out.endObject();
+        }
+
+        @Override
+        public ValueTransferTransactionRequest read(JsonReader in) throws IOException {
+            if(ModelTypeAdapters.nextNull(in)) {
+                return null;
+            }
+            ValueTransferTransactionRequest value = new ValueTransferTransactionRequest();
+            ModelTypeAdapters.beginObject(in);
+            while(in.hasNext()) {
+                switch(in.nextName()) {
+                    case "from":
+                        value.setFrom(ModelTypeAdapters.readString(in));
+                        break;
+                    case "value":
+                        value.setValue(ModelTypeAdapters.readString(in));
+                        break;
+                    case "to":
+                        value.setTo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "memo":
+                        value.setMemo(ModelTypeAdapters.readString(in));
+                        break;
+                    case "nonce":
+                        value.setNonce(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "gas":
+                        value.setGas(ModelTypeAdapters.readLong(in));
+                        break;
+                    case "submit":
+                        value.setSubmit(ModelTypeAdapters.readBoolean(in));
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
+}
@@ -20,32 +20,69 @@ import java.util.Map;
 import java.util.List;
 
 public class HttpBasicAuth implements Authentication {
-    private String username;
-    private String password;
+    /**
+     * The credentials and the Authorization header computed from them.
+     * They are replaced together, so a request never sees the username of one credential with the password of another.
+     */
+    private volatile Credential credential = Credential.EMPTY;
 
     public String getUsername() {
-        return username;
+        return credential.username;
     }
 
-    public void setUsername(String username) {
-        this.username = username;
+    public synchronized void setUsername(String username) {
+        this.credential = new Credential(username, credential.password);
     }
 
     public String getPassword() {
-        return password;
+        return credential.password;
     }
 
-    public void setPassword(String password) {
-        this.password = password;
+    public synchronized void setPassword(String password) {
+        this.credential = new Credential(credential.username, password);
+    }
+
+    /**
+     * Replaces the username and the password at once.
+     * The requests sent after this call use the new Authorization header, while the requests already built keep the old one.
+     *
+     * @param username Username
+     * @param password Password
+     */
+    public synchronized void setCredentials(String username, String password) {
+        this.credential = new Credential(username, password);
+    }
+
+    /**
+     * Returns the value of the Authorization header, which is computed when the credentials are set.
+     *
+     * @return The header value, or null if neither the username nor the password is set.
+     */
+    public String getAuthorization() {
+        return credential.authorization;
     }
 
     @Override
     public void applyToParams(List<Pair> queryParams, Map<String, String> headerParams) {
-        if (username == null && password == null) {
-            return;
+        String authorization = credential.authorization;
+        if (authorization != null) {
+            headerParams.put("Authorization", authorization);
+        }
+    }
+
+    private static final class Credential {
+        static final Credential EMPTY = new Credential(null, null);
+
+        final String username;
+        final String password;
+        final String authorization;
+
+        Credential(String username, String password) {
+            this.username = username;
+            this.password = password;
+            this.authorization = username == null && password == null ? null : Credentials.basic(
+                username == null ? "" : username,
+                password == null ? "" : password);
         }
-        headerParams.put("Authorization", Credentials.basic(
-            username == null ? "" : username,
-            password == null ? "" : password));
     }
 }
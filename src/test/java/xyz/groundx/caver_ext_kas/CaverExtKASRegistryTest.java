@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas;
+
+import com.klaytn.caver.rpc.RPC;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.kas.KASTransport;
+import xyz.groundx.caver_ext_kas.kas.utils.KASRetryPolicy;
+import xyz.groundx.caver_ext_kas.kas.wallet.Wallet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class CaverExtKASRegistryTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    FakeKASServer server;
+    KASTransport transport;
+    AtomicLong now = new AtomicLong();
+    CaverExtKASRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(42).setDatasetSize(10).start();
+        server.addCredentials("tenant1", "secret1").addCredentials("tenant2", "secret2");
+
+        transport = new KASTransport();
+        registry = new CaverExtKASRegistry(transport, 2, 60_000, now::get)
+                .setWalletUrl(server.getUrl())
+                .setTokenHistoryUrl(server.getUrl())
+                .setAnchorUrl(server.getUrl())
+                .setNodeUrl(server.getNodeUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+        transport.shutdown();
+    }
+
+    @Test
+    public void createTenantLazily() throws Exception {
+        CaverExtKASRegistry.Tenant tenant = registry.get(1001, "tenant1", "secret1");
+        assertSame(tenant, registry.get("1001", "tenant1", "secret1"));
+        assertNull(tenant.getCaver().kas.getWallet());
+        assertNull(tenant.getCaver().kas.getTokenHistory());
+
+        Wallet wallet = tenant.getWallet();
+        wallet.getAccountList();
+        assertSame(wallet, tenant.getWallet());
+        assertNull(tenant.getCaver().kas.getTokenHistory());
+        assertNull(tenant.getCaver().kas.getAnchor());
+
+        tenant.getTokenHistory().getFTContractList();
+        assertSame(transport.getJSON(), tenant.getWallet().getAccountApi().getApiClient().getJSON());
+        assertSame(transport.getHttpClient().getConnectionPool(), tenant.getTokenHistory().getTokenHistoryApi().getApiClient().getHttpClient().getConnectionPool());
+
+        assertEquals(1, registry.getMissCount());
+        assertEquals(1, registry.getHitCount());
+    }
+
+    @Test
+    public void separateTenants() throws Exception {
+        CaverExtKASRegistry.Tenant tenant1 = registry.get(1001, "tenant1", "secret1");
+        CaverExtKASRegistry.Tenant tenant2 = registry.get(1001, "tenant2", "secret2");
+        CaverExtKASRegistry.Tenant mainnet = registry.get(8217, "tenant1", "secret1");
+
+        assertNotSame(tenant1, tenant2);
+        assertNotSame(tenant1, mainnet);
+        assertEquals("8217", mainnet.getChainId());
+        assertEquals("tenant2", tenant2.getAccessKeyId());
+
+        tenant1.getWallet().getAccountList();
+        tenant2.getWallet().getAccountList();
+    }
+
+    @Test
+    public void differentSecret() {
+        CaverExtKASRegistry.Tenant tenant = registry.get(1001, "tenant1", "secret1");
+        assertNotSame(tenant, registry.get(1001, "tenant1", "wrong"));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        CaverExtKASRegistry.Tenant tenant1 = registry.get(1001, "tenant1", "secret1");
+        CaverExtKASRegistry.Tenant tenant2 = registry.get(1001, "tenant2", "secret2");
+        registry.get(1001, "tenant1", "secret1");
+        registry.get(1001, "tenant3", "secret3");
+
+        assertEquals(2, registry.size());
+        assertEquals(1, registry.getEvictionCount());
+        assertSame(tenant1, registry.get(1001, "tenant1", "secret1"));
+        assertNotSame(tenant2, registry.get(1001, "tenant2", "secret2"));
+    }
+
+    @Test
+    public void evictIdle() {
+        CaverExtKASRegistry.Tenant tenant1 = registry.get(1001, "tenant1", "secret1");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        CaverExtKASRegistry.Tenant tenant2 = registry.get(1001, "tenant2", "secret2");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertEquals(1, registry.size());
+        assertSame(tenant2, registry.get(1001, "tenant2", "secret2"));
+        assertNotSame(tenant1, registry.get(1001, "tenant1", "secret1"));
+        assertEquals(1, registry.getEvictionCount());
+    }
+
+    @Test
+    public void customize() {
+        KASRetryPolicy retryPolicy = new KASRetryPolicy();
+        registry.setCustomizer(caver -> caver.kas.setRetryPolicy(retryPolicy));
+
+        assertSame(retryPolicy, registry.get(1001, "tenant1", "secret1").getCaver().kas.getRetryPolicy());
+    }
+
+    @Test
+    public void initNodeAPIAfterCustomizerRotatesCredentials() {
+        registry.setCustomizer(caver -> caver.rotateCredentials("tenant1", "secret1"));
+
+        CaverExtKASRegistry.Tenant tenant = registry.get(1001, "tenant1", "secret1");
+        RPC initial = tenant.getCaver().rpc;
+
+        // The Node API is initialized on the first call, although the customizer already set its credentials.
+        RPC rpc = tenant.getRpc();
+        assertNotNull(rpc);
+        assertNotSame(initial, rpc);
+        assertSame(rpc, tenant.getRpc());
+    }
+
+    @Test
+    public void customizeOutsideLock() throws Exception {
+        CompletableFuture<Void> customizing = new CompletableFuture<>();
+        CompletableFuture<Void> release = new CompletableFuture<>();
+        registry.setCustomizer(caver -> {
+            if(customizing.complete(null)) {
+                release.join();
+            }
+        });
+
+        CompletableFuture<CaverExtKASRegistry.Tenant> slow = CompletableFuture.supplyAsync(() -> registry.get(1001, "tenant1", "secret1"));
+        customizing.get(5, TimeUnit.SECONDS);
+
+        // The lookup of another tenant is not blocked by the customizer of tenant1.
+        CompletableFuture<CaverExtKASRegistry.Tenant> other = CompletableFuture.supplyAsync(() -> registry.get(1001, "tenant2", "secret2"));
+        assertEquals("tenant2", other.get(5, TimeUnit.SECONDS).getAccessKeyId());
+
+        release.complete(null);
+        assertEquals("tenant1", slow.get(5, TimeUnit.SECONDS).getAccessKeyId());
+    }
+
+    @Test
+    public void concurrentLookups() {
+        List<CompletableFuture<CaverExtKASRegistry.Tenant>> futures = new ArrayList<>();
+        for(int i = 0; i < 16; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                CaverExtKASRegistry.Tenant tenant = registry.get(1001, "tenant1", "secret1");
+                tenant.getWallet();
+                return tenant;
+            }));
+        }
+
+        CaverExtKASRegistry.Tenant tenant = futures.get(0).join();
+        for(CompletableFuture<CaverExtKASRegistry.Tenant> future : futures) {
+            assertSame(tenant, future.join());
+            assertSame(tenant.getWallet(), future.join().getWallet());
+        }
+        assertEquals(1, registry.getMissCount());
+    }
+
+    @Test
+    public void requireCredentials() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("chainId, accessKeyId and secretAccessKey are required.");
+
+        registry.get(1001, "tenant1", null);
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas;
+
+import okhttp3.Credentials;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.auth.HttpBasicAuth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class CredentialRotationTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    FakeKASServer server;
+    CaverExtKAS caver;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(42).setDatasetSize(10).start();
+        server.addCredentials("oldAccessKeyId", "oldSecretAccessKey");
+
+        caver = new CaverExtKAS();
+        caver.initNodeAPI(1001, "oldAccessKeyId", "oldSecretAccessKey", server.getNodeUrl());
+        caver.initWalletAPI(1001, "oldAccessKeyId", "oldSecretAccessKey", server.getUrl());
+        caver.initTokenHistoryAPI(1001, "oldAccessKeyId", "oldSecretAccessKey", server.getUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void rotate() throws Exception {
+        caver.kas.wallet.getAccountList();
+        assertEquals(200, blockNumber(caver.createNodeHttpClient()));
+
+        server.addCredentials("newAccessKeyId", "newSecretAccessKey");
+        caver.rotateCredentials("newAccessKeyId", "newSecretAccessKey");
+        server.revokeCredentials("oldAccessKeyId", "oldSecretAccessKey");
+
+        caver.kas.wallet.getAccountList();
+        caver.kas.tokenHistory.getFTContractList();
+        assertEquals(200, blockNumber(caver.createNodeHttpClient()));
+
+        HttpBasicAuth auth = (HttpBasicAuth)caver.kas.wallet.getAccountApi().getApiClient().getAuthentication("basic");
+        assertEquals("newAccessKeyId", auth.getUsername());
+        assertEquals(Credentials.basic("newAccessKeyId", "newSecretAccessKey"), auth.getAuthorization());
+        assertEquals(auth.getAuthorization(), caver.nodeAuthorization);
+    }
+
+    @Test
+    public void rotateNodeClientInUse() throws Exception {
+        OkHttpClient nodeClient = caver.createNodeHttpClient();
+
+        caver.rotateCredentials("newAccessKeyId", "newSecretAccessKey");
+        assertEquals(401, blockNumber(nodeClient));
+
+        server.addCredentials("newAccessKeyId", "newSecretAccessKey");
+        assertEquals(200, blockNumber(nodeClient));
+    }
+
+    @Test
+    public void revokedCredentials() throws Exception {
+        expectedException.expect(ApiException.class);
+        expectedException.expectMessage("Unauthorized");
+
+        server.revokeCredentials("oldAccessKeyId", "oldSecretAccessKey");
+        server.addCredentials("newAccessKeyId", "newSecretAccessKey");
+        caver.kas.wallet.getAccountList();
+    }
+
+    @Test
+    public void rotateWhileRequesting() throws Exception {
+        server.addCredentials("newAccessKeyId", "newSecretAccessKey");
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<CompletableFuture<Integer>> workers = new ArrayList<>();
+        for(int i = 0; i < 4; i++) {
+            workers.add(CompletableFuture.supplyAsync(() -> {
+                int count = 0;
+                try {
+                    while(running.get()) {
+                        caver.kas.wallet.getAccountList();
+                        count++;
+                    }
+                } catch (ApiException e) {
+                    throw new IllegalStateException(e.getCode() + " " + e.getResponseBody(), e);
+                }
+                return count;
+            }));
+        }
+
+        for(int i = 0; i < 200; i++) {
+            if(i % 2 == 0) {
+                caver.rotateCredentials("newAccessKeyId", "newSecretAccessKey");
+            } else {
+                caver.rotateCredentials("oldAccessKeyId", "oldSecretAccessKey");
+            }
+            Thread.sleep(1);
+        }
+        running.set(false);
+
+        for(CompletableFuture<Integer> worker : workers) {
+            assertTrue(worker.join() > 0);
+        }
+    }
+
+    @Test
+    public void rotateWithoutSecret() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("accessKeyId and secretAccessKey are required.");
+
+        caver.rotateCredentials("newAccessKeyId", null);
+    }
+
+    int blockNumber(OkHttpClient client) throws Exception {
+        Request request = new Request.Builder()
+                .url(server.getNodeUrl())
+                .post(RequestBody.create("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"klay_blockNumber\",\"params\":[]}", MediaType.get("application/json")))
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+}
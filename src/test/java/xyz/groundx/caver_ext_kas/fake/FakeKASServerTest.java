@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.fake;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.kas.anchor.AnchorBatcher;
+import xyz.groundx.caver_ext_kas.kas.anchor.AnchorInclusionProof;
+import xyz.groundx.caver_ext_kas.kas.tokenhistory.TokenHistoryQueryOptions;
+import xyz.groundx.caver_ext_kas.kas.utils.KASRetryPolicy;
+import xyz.groundx.caver_ext_kas.kas.utils.PageIterator;
+import xyz.groundx.caver_ext_kas.kas.wallet.WalletQueryOptions;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockPayload;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.AnyOfTransferArrayItems;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.FtTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.PageableTransfers;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Account;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Accounts;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionResult;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ValueTransferTransactionRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class FakeKASServerTest {
+    FakeKASServer server;
+    CaverExtKAS caver;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(42).setDatasetSize(25).start();
+        caver = new CaverExtKAS();
+        caver.initWalletAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+        caver.initAnchorAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+        caver.initTokenHistoryAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void paginateDeterministically() throws Exception {
+        WalletQueryOptions options = new WalletQueryOptions();
+        options.setSize(10L);
+
+        List<String> addresses = new ArrayList<>();
+        try (PageIterator<Accounts, Account> iterator = caver.kas.wallet.iterateAccountList(options)) {
+            iterator.forEachRemaining(account -> addresses.add(account.getAddress()));
+        }
+        assertEquals(25, addresses.size());
+        assertEquals(25, addresses.stream().distinct().count());
+
+        try (FakeKASServer other = new FakeKASServer(42).setDatasetSize(25).start()) {
+            CaverExtKAS otherCaver = new CaverExtKAS();
+            otherCaver.initWalletAPI(1001, "accessKeyId", "secretAccessKey", other.getUrl());
+            Accounts firstPage = otherCaver.kas.wallet.getAccountList(options);
+            assertEquals(addresses.subList(0, 10), firstPage.getItems().stream().map(Account::getAddress).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void transactionReceipt() throws Exception {
+        server.setReceiptDelayMillis(200);
+
+        ValueTransferTransactionRequest request = new ValueTransferTransactionRequest();
+        request.setFrom("0x6a3edfad6d1126020d5369e9097db39281876c5d");
+        request.setTo("0xd4c7ff6a6a1b2e3b8d1f1b2c6d7e1f2a3b4c5d6e");
+        request.setValue("0x1");
+        request.setSubmit(true);
+        TransactionResult result = caver.kas.wallet.requestValueTransfer(request);
+
+        try {
+            caver.kas.wallet.getTransaction(result.getTransactionHash());
+            fail("The receipt must not exist before the receipt delay.");
+        } catch (ApiException e) {
+            assertEquals(404, e.getCode());
+        }
+
+        caver.kas.wallet.getReceiptWaiter().setInitialIntervalMillis(50);
+        TransactionReceipt receipt = caver.kas.wallet.awaitReceipt(result.getTransactionHash()).get(5, TimeUnit.SECONDS);
+        assertEquals("0x1", receipt.getStatus());
+    }
+
+    @Test
+    public void anchor() throws Exception {
+        String operator = "0x2b11d9c1fd3e5e6e5d0ad8bd2c4ff3f4b2f6a7e8";
+        AnchorBatcher batcher = new AnchorBatcher(caver.kas.anchor, operator).setMaxBatchSize(3).setTransactionPollIntervalMillis(10);
+
+        List<CompletableFuture<AnchorInclusionProof>> futures = new ArrayList<>();
+        for(int i = 0; i < 3; i++) {
+            AnchorBlockPayload payload = new AnchorBlockPayload();
+            payload.put("id", "item-" + i);
+            futures.add(batcher.add(payload));
+        }
+
+        List<AnchorInclusionProof> proofs = new ArrayList<>();
+        for(CompletableFuture<AnchorInclusionProof> future : futures) {
+            proofs.add(future.get(5, TimeUnit.SECONDS));
+        }
+
+        for(AnchorInclusionProof proof : proofs) {
+            assertTrue(proof.verify());
+            assertNotNull(proof.getTransactionHash());
+        }
+        assertEquals(proofs.get(0).getMerkleRoot(),
+                caver.kas.anchor.getAnchoringTransactionByPayloadId(operator, proofs.get(0).getBatchPayloadId()).getPayload().get("merkleRoot"));
+        assertEquals(1, caver.kas.anchor.getAnchoringTransactionList(operator).getItems().size());
+    }
+
+    @Test
+    public void transferHistoryRange() throws Exception {
+        long from = FakeKASRoutes.BASE_TIMESTAMP + 5 * FakeKASRoutes.TIMESTAMP_STEP;
+        long to = FakeKASRoutes.BASE_TIMESTAMP + 14 * FakeKASRoutes.TIMESTAMP_STEP;
+
+        TokenHistoryQueryOptions options = new TokenHistoryQueryOptions();
+        options.setRange(String.valueOf(from), String.valueOf(to));
+        options.setKind("ft");
+        PageableTransfers transfers = caver.kas.tokenHistory.getTransferHistory(Collections.singletonList(1), options);
+
+        assertFalse(transfers.getItems().isEmpty());
+        for(AnyOfTransferArrayItems item : transfers.getItems()) {
+            long timestamp = ((FtTransfer)item).getTransaction().getTimestamp();
+            assertTrue(timestamp >= from && timestamp <= to);
+        }
+    }
+
+    @Test
+    public void injectErrors() throws Exception {
+        server.failNext(503, 1);
+        try {
+            caver.kas.tokenHistory.getFTContractList();
+            fail("The injected error must be thrown.");
+        } catch (ApiException e) {
+            assertEquals(503, e.getCode());
+        }
+
+        KASRetryPolicy retryPolicy = new KASRetryPolicy().setBaseDelayMillis(1).setMaxDelayMillis(1);
+        caver.kas.setRetryPolicy(retryPolicy);
+        server.failNext(429, 1);
+        assertEquals(25, caver.kas.tokenHistory.getFTContractList().getItems().size());
+        assertEquals(1, retryPolicy.getRetryCount());
+        assertEquals(2, server.getInjectedErrorCount());
+    }
+
+    @Test
+    public void injectLatency() throws Exception {
+        server.setLatency("/v2/contract", FakeKASServer.LatencyModel.fixed(150));
+
+        long start = System.nanoTime();
+        caver.kas.tokenHistory.getFTContractList();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150);
+
+        start = System.nanoTime();
+        caver.kas.wallet.getAccountList();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 150);
+    }
+
+    @Test
+    public void nodeJsonRpc() throws Exception {
+        OkHttpClient client = new OkHttpClient();
+        String batch = "[{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"klay_blockNumber\",\"params\":[]},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"klay_unknown\",\"params\":[]}]";
+        Request request = new Request.Builder()
+                .url(server.getNodeUrl())
+                .header("x-chain-id", "1001")
+                .post(RequestBody.create(batch, MediaType.get("application/json")))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            JsonArray results = new JsonParser().parse(response.body().string()).getAsJsonArray();
+            assertEquals(Long.toHexString(FakeKASRoutes.BLOCK_NUMBER), results.get(0).getAsJsonObject().get("result").getAsString().substring(2));
+            assertEquals(-32601, results.get(1).getAsJsonObject().getAsJsonObject("error").get("code").getAsInt());
+        }
+    }
+
+    @Test
+    public void unsupportedRoute() throws Exception {
+        OkHttpClient client = new OkHttpClient();
+        try (Response response = client.newCall(new Request.Builder().url(server.getUrl() + "/v2/unknown").build()).execute()) {
+            assertEquals(404, response.code());
+        }
+        assertEquals(1, server.getRequestCount());
+        assertTrue(server.getRouteCounts().isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas;
+
+import org.junit.After;
+import org.junit.Test;
+import xyz.groundx.caver_ext_kas.kas.utils.KASRateLimiter;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.auth.HttpBasicAuth;
+
+import static org.junit.Assert.*;
+
+public class KASTest {
+    KASTransport transport = new KASTransport();
+
+    @After
+    public void tearDown() {
+        transport.shutdown();
+    }
+
+    @Test
+    public void initLazily() {
+        KAS kas = new KAS(transport);
+        kas.initWalletAPI("1001", "accessKey", "secretAccessKey", "http://localhost");
+        kas.initAnchorAPI("1001", "accessKey", "secretAccessKey", "http://localhost");
+        kas.initTokenHistoryAPI("1001", "accessKey", "secretAccessKey", "http://localhost");
+
+        assertFalse(kas.getWallet().getLazyApiClient().isCreated());
+        assertFalse(kas.getAnchor().getLazyApiClient().isCreated());
+        assertFalse(kas.getTokenHistory().getLazyApiClient().isCreated());
+
+        ApiClient apiClient = kas.getWallet().getAccountApi().getApiClient();
+        assertTrue(kas.getWallet().getLazyApiClient().isCreated());
+        assertFalse(kas.getAnchor().getLazyApiClient().isCreated());
+        assertEquals("http://localhost", apiClient.getBasePath());
+        assertSame(kas.getWallet().getAccountApi(), kas.getWallet().getAccountApi());
+        assertSame(apiClient, kas.getWallet().getStatisticsApi().getApiClient());
+    }
+
+    @Test
+    public void configureBeforeFirstUse() {
+        KAS kas = new KAS(transport);
+        kas.initWalletAPI("1001", "accessKey", "secretAccessKey", "http://localhost");
+        kas.setRateLimiter(new KASRateLimiter());
+        kas.rotateCredentials("newAccessKey", "newSecretAccessKey");
+
+        ApiClient apiClient = kas.getWallet().getAccountApi().getApiClient();
+        int interceptors = transport.createApiClient().getHttpClient().interceptors().size();
+        assertEquals(interceptors + 1, apiClient.getHttpClient().interceptors().size());
+        assertEquals("newAccessKey", ((HttpBasicAuth)apiClient.getAuthentication("basic")).getUsername());
+
+        kas.setRateLimiter(null);
+        assertEquals(interceptors, apiClient.getHttpClient().interceptors().size());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static org.junit.Assert.*;
+
+public class KASTransportTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void shareConnectionPoolAndDispatcher() {
+        KASTransport transport = new KASTransport(10, 30000, 32, 8);
+
+        ApiClient client1 = transport.createApiClient();
+        ApiClient client2 = transport.createApiClient();
+
+        assertNotSame(client1.getHttpClient(), client2.getHttpClient());
+        assertSame(client1.getHttpClient().getConnectionPool(), client2.getHttpClient().getConnectionPool());
+        assertSame(client1.getHttpClient().getDispatcher(), client2.getHttpClient().getDispatcher());
+        assertSame(client1.getJSON(), client2.getJSON());
+
+        assertEquals(32, transport.getMaxRequests());
+        assertEquals(8, transport.getMaxRequestsPerHost());
+        assertEquals(8, transport.getNodeHttpClient().dispatcher().getMaxRequestsPerHost());
+
+        transport.shutdown();
+    }
+
+    @Test
+    public void kasUsesTransport() {
+        KASTransport transport = new KASTransport();
+        KAS kas = new KAS(transport);
+        kas.initWalletAPI("1001", "accessKey", "secretAccessKey", "http://localhost");
+
+        assertSame(transport.getHttpClient().getConnectionPool(), kas.getWallet().getAccountApi().getApiClient().getHttpClient().getConnectionPool());
+
+        transport.shutdown();
+    }
+
+    @Test
+    public void debuggingDoesNotAffectOtherClients() {
+        KASTransport transport = new KASTransport();
+        ApiClient client1 = transport.createApiClient();
+        ApiClient client2 = transport.createApiClient();
+
+        client1.setDebugging(true);
+        assertNotEquals(client1.getHttpClient().interceptors().size(), client2.getHttpClient().interceptors().size());
+
+        transport.shutdown();
+    }
+
+    @Test
+    public void jsonSettingsDoNotAffectOtherClients() {
+        KASTransport transport = new KASTransport();
+        ApiClient client1 = transport.createApiClient();
+        ApiClient client2 = transport.createApiClient();
+
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+        client1.setDateFormat(format);
+        assertNotSame(transport.getJSON(), client1.getJSON());
+        assertSame(transport.getJSON(), client2.getJSON());
+
+        Date date = new Date(0);
+        assertEquals("\"" + format.format(date) + "\"", client1.getJSON().serialize(date));
+        assertNotEquals(client1.getJSON().serialize(date), client2.getJSON().serialize(date));
+
+        transport.shutdown();
+    }
+
+    @Test
+    public void defaultTransport() {
+        assertSame(KASTransport.getDefault(), KASTransport.getDefault());
+        assertSame(KASTransport.getDefault(), new KAS().getTransport());
+    }
+
+    @Test
+    public void createApiClientAfterShutdown() {
+        expectedException.expect(IllegalStateException.class);
+        expectedException.expectMessage("The transport is already shut down.");
+
+        KASTransport transport = new KASTransport();
+        transport.shutdown();
+        transport.createApiClient();
+    }
+
+    @Test
+    public void statsWithoutRequest() {
+        KASTransport transport = new KASTransport();
+        KASTransport.Stats stats = transport.getStats();
+
+        assertEquals(0, stats.getRequestCount());
+        assertEquals(0, stats.getReusedRequestCount());
+        assertEquals(0, stats.getPooledConnectionCount());
+        assertEquals(0.0, stats.getReuseRatio(), 0);
+
+        transport.shutdown();
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.anchor;
+
+import com.squareup.okhttp.Call;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockPayload;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockStatus;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorTransactionDetail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class AnchorBatcherTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static class FakeAnchor extends Anchor {
+        final List<AnchorBlockPayload> sent = new CopyOnWriteArrayList<>();
+        final AtomicInteger lookups = new AtomicInteger();
+        volatile boolean failSend;
+        volatile boolean neverFound;
+
+        FakeAnchor() {
+            super("1001", new ApiClient());
+        }
+
+        @Override
+        public Call sendAnchoringDataAsync(String operatorId, AnchorBlockPayload payload, ApiCallback<AnchorBlockStatus> callback) throws ApiException {
+            if(failSend) {
+                callback.onFailure(new ApiException(400, "bad request"), 400, Collections.<String, List<String>>emptyMap());
+                return null;
+            }
+            sent.add(payload);
+            callback.onSuccess(new AnchorBlockStatus().status("succeed"), 200, Collections.<String, List<String>>emptyMap());
+            return null;
+        }
+
+        @Override
+        public Call getAnchoringTransactionByPayloadIdAsync(String operatorId, String payloadId, ApiCallback<AnchorTransactionDetail> callback) throws ApiException {
+            // The transaction is found from the second lookup.
+            if(lookups.incrementAndGet() % 2 == 1 || neverFound) {
+                callback.onFailure(new ApiException(404, "not found"), 404, Collections.<String, List<String>>emptyMap());
+            } else {
+                callback.onSuccess(new AnchorTransactionDetail().transactionHash("0xabcd"), 200, Collections.<String, List<String>>emptyMap());
+            }
+            return null;
+        }
+    }
+
+    static AnchorBlockPayload payload(int i) {
+        AnchorBlockPayload payload = new AnchorBlockPayload();
+        payload.put("id", "payload-" + i);
+        payload.put("value", i);
+        return payload;
+    }
+
+    static AnchorBatcher batcher(Anchor anchor) {
+        return new AnchorBatcher(anchor, "0xoperator")
+                .setMaxDelayMillis(50)
+                .setTransactionPollIntervalMillis(10);
+    }
+
+    @Test
+    public void flushOnSize() throws Exception {
+        FakeAnchor anchor = new FakeAnchor();
+        AnchorBatcher batcher = batcher(anchor).setMaxBatchSize(5).setMaxDelayMillis(60_000);
+
+        List<CompletableFuture<AnchorInclusionProof>> futures = new ArrayList<>();
+        for(int i = 0; i < 10; i++) {
+            futures.add(batcher.add(payload(i)));
+        }
+
+        for(int i = 0; i < futures.size(); i++) {
+            AnchorInclusionProof proof = futures.get(i).get(5, TimeUnit.SECONDS);
+            assertTrue(proof.verify());
+            assertEquals(i % 5, proof.getLeafIndex());
+            assertEquals(5, proof.getLeafCount());
+            assertEquals("0xabcd", proof.getTransactionHash());
+            assertEquals(batcher.hashPayload(payload(i)), proof.getLeafHash());
+        }
+
+        assertEquals(2, anchor.sent.size());
+        AnchorBlockPayload sent = anchor.sent.get(0);
+        assertEquals(futures.get(0).get().getMerkleRoot(), sent.get("merkleRoot"));
+        assertEquals(futures.get(0).get().getBatchPayloadId(), sent.get("id"));
+    }
+
+    @Test
+    public void flushOnTime() throws Exception {
+        FakeAnchor anchor = new FakeAnchor();
+        AnchorBatcher batcher = batcher(anchor).setTransactionTimeoutMillis(0);
+
+        CompletableFuture<AnchorInclusionProof> first = batcher.add(payload(1));
+        CompletableFuture<AnchorInclusionProof> second = batcher.add(payload(2));
+
+        AnchorInclusionProof proof = first.get(5, TimeUnit.SECONDS);
+        assertTrue(proof.verify());
+        assertNull(proof.getTransactionHash());
+        assertEquals(proof.getMerkleRoot(), second.get(5, TimeUnit.SECONDS).getMerkleRoot());
+        assertEquals(1, anchor.sent.size());
+        assertEquals(0, batcher.getPendingCount());
+    }
+
+    @Test
+    public void rejectTamperedProof() throws Exception {
+        FakeAnchor anchor = new FakeAnchor();
+        AnchorBatcher batcher = batcher(anchor).setMaxBatchSize(3);
+
+        batcher.add(payload(1));
+        AnchorInclusionProof proof = batcher.add(payload(2)).thenCombine(batcher.add(payload(3)), (a, b) -> a).get(5, TimeUnit.SECONDS);
+
+        AnchorInclusionProof wrongLeaf = new AnchorInclusionProof(batcher.hashPayload(payload(4)), proof.getLeafIndex(), proof.getLeafCount(),
+                proof.getSiblings(), proof.getMerkleRoot(), proof.getBatchPayloadId(), proof.getTransactionHash());
+        AnchorInclusionProof wrongIndex = new AnchorInclusionProof(proof.getLeafHash(), 0, proof.getLeafCount(),
+                proof.getSiblings(), proof.getMerkleRoot(), proof.getBatchPayloadId(), proof.getTransactionHash());
+
+        assertTrue(proof.verify());
+        assertFalse(wrongLeaf.verify());
+        assertFalse(wrongIndex.verify());
+    }
+
+    @Test
+    public void verifyAllSizes() {
+        for(int count = 1; count <= 17; count++) {
+            List<byte[]> leaves = new ArrayList<>();
+            for(int i = 0; i < count; i++) {
+                leaves.add(MerkleTree.hashLeaf(new byte[]{(byte)i}));
+            }
+
+            MerkleTree tree = new MerkleTree(leaves);
+            for(int i = 0; i < count; i++) {
+                assertArrayEquals(tree.root(), MerkleTree.computeRoot(leaves.get(i), i, count, tree.proof(i)));
+            }
+        }
+    }
+
+    @Test
+    public void failBatch() throws Exception {
+        expectedException.expect(ExecutionException.class);
+        expectedException.expectCause(org.hamcrest.CoreMatchers.instanceOf(ApiException.class));
+
+        FakeAnchor anchor = new FakeAnchor();
+        anchor.failSend = true;
+        AnchorBatcher batcher = batcher(anchor);
+
+        CompletableFuture<AnchorInclusionProof> future = batcher.add(payload(1));
+        batcher.flush();
+        future.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void timeOutTransactionLookup() throws Exception {
+        FakeAnchor anchor = new FakeAnchor();
+        anchor.neverFound = true;
+        AnchorBatcher batcher = batcher(anchor).setTransactionTimeoutMillis(100);
+
+        CompletableFuture<AnchorInclusionProof> future = batcher.add(payload(1));
+        batcher.flush();
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AnchorTransactionTimeoutException);
+            AnchorInclusionProof proof = ((AnchorTransactionTimeoutException)e.getCause()).getProof();
+            assertTrue(proof.verify());
+            assertNull(proof.getTransactionHash());
+        }
+        assertTrue(anchor.lookups.get() >= 2);
+    }
+
+    @Test
+    public void hashNestedPayloadCanonically() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("a", 1);
+        first.put("b", 2);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("b", 2);
+        second.put("a", 1);
+
+        AnchorBlockPayload payload1 = new AnchorBlockPayload();
+        payload1.put("id", "nested");
+        payload1.put("data", first);
+        payload1.put("list", Arrays.asList(first, second));
+        AnchorBlockPayload payload2 = new AnchorBlockPayload();
+        payload2.put("list", Arrays.asList(second, first));
+        payload2.put("data", second);
+        payload2.put("id", "nested");
+
+        AnchorBatcher batcher = batcher(new FakeAnchor());
+        assertEquals(batcher.hashPayload(payload1), batcher.hashPayload(payload2));
+
+        first.put("a", 3);
+        assertNotEquals(batcher.hashPayload(payload1), batcher.hashPayload(payload2));
+    }
+
+    @Test
+    public void close() throws Exception {
+        FakeAnchor anchor = new FakeAnchor();
+        AnchorBatcher batcher = batcher(anchor).setMaxDelayMillis(60_000);
+
+        CompletableFuture<AnchorInclusionProof> future = batcher.add(payload(1));
+        batcher.close();
+        assertTrue(future.get(5, TimeUnit.SECONDS).verify());
+
+        expectedException.expect(IllegalStateException.class);
+        batcher.add(payload(2));
+    }
+}
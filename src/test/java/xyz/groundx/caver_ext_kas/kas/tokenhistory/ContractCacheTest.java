@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.tokenhistory;
+
+import com.squareup.okhttp.Call;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.FtContractDetail;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ContractCacheTest {
+    static final String FT_ADDRESS = "0xa35fc8998eee155ec1a9a693f83c7d6c5a3ef927";
+
+    FakeKASServer server;
+    TokenHistory tokenHistory;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(3).start();
+        CaverExtKAS caver = new CaverExtKAS();
+        caver.initTokenHistoryAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+        tokenHistory = caver.kas.tokenHistory;
+        tokenHistory.enableContractCache(10, 0);
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void returnCallOnMissAndHit() throws Exception {
+        ApiCallFuture<FtContractDetail> miss = new ApiCallFuture<>(null);
+        Call missCall = tokenHistory.getFTContractAsync(FT_ADDRESS, miss);
+        assertNotNull(missCall);
+        FtContractDetail detail = miss.get(5, TimeUnit.SECONDS);
+
+        ApiCallFuture<FtContractDetail> hit = new ApiCallFuture<>(null);
+        Call hitCall = tokenHistory.getFTContractAsync(FT_ADDRESS, hit);
+        assertNotNull(hitCall);
+        assertNotSame(missCall, hitCall);
+        assertSame(detail, hit.get(5, TimeUnit.SECONDS));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void cancelCallOfSharedRequest() throws Exception {
+        server.setLatency("/v2/contract", random -> 300);
+
+        ApiCallFuture<FtContractDetail> first = new ApiCallFuture<>(null);
+        tokenHistory.getFTContractAsync(FT_ADDRESS, first);
+        ApiCallFuture<FtContractDetail> second = new ApiCallFuture<>(null);
+        Call secondCall = tokenHistory.getFTContractAsync(FT_ADDRESS, second);
+        secondCall.cancel();
+
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        try {
+            second.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+        }
+        assertEquals(1, server.getRequestCount());
+    }
+}
@@ -413,6 +413,25 @@ public class TokenHistoryAPITest {
         }
     }
 
+    @Test
+    public void getContractWithCache() {
+        String ftAddress = "0xa35fc8998eee155ec1a9a693f83c7d6c5a3ef927";
+        TokenHistory tokenHistory = new TokenHistory(chainId, kas.getTokenHistory().getTokenContractApi().getApiClient());
+        tokenHistory.enableContractCache(100, 60000);
+        try {
+            FtContractDetail detail = tokenHistory.getFTContract(ftAddress);
+            Assert.assertSame(detail, tokenHistory.getFTContract(ftAddress.toUpperCase().replace("0X", "0x")));
+            Assert.assertSame(detail, tokenHistory.async().getFTContract(ftAddress).join());
+            Assert.assertEquals(2, tokenHistory.getFTContractCache().getStats().getHitCount());
+
+            tokenHistory.invalidateContractCache(ftAddress);
+            Assert.assertNull(tokenHistory.getFTContractCache().getIfPresent(ftAddress));
+        } catch (ApiException e) {
+            e.printStackTrace();
+            fail();
+        }
+    }
+
     @Test
     public void getNFTList() {
         String contractAddress = "0xb50ebdb5026a1df752c69d8a6ce7140c99a426db";
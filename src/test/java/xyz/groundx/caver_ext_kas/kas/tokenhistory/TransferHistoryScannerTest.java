@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.tokenhistory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.kas.utils.PageIterator;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.AnyOfTransferArrayItems;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.KlayTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.PageableTransfers;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.TransferArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class TransferHistoryScannerTest {
+    static final String ADDRESS = "0x76c6b1f34562ed7a843786e1d7f57d0d7948a6f1";
+
+    // The fake server generates transfers from this timestamp every minute.
+    static final long BASE_TIMESTAMP = 1_600_000_000L;
+    static final long TIMESTAMP_STEP = 60;
+    static final int DATASET_SIZE = 250;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    FakeKASServer server;
+    CaverExtKAS caver;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(7).setDatasetSize(DATASET_SIZE).start();
+        caver = new CaverExtKAS();
+        caver.initTokenHistoryAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    TokenHistoryQueryOptions wholeRange() {
+        TokenHistoryQueryOptions options = new TokenHistoryQueryOptions();
+        options.setRange(Long.toString(BASE_TIMESTAMP), Long.toString(BASE_TIMESTAMP + (DATASET_SIZE - 1) * TIMESTAMP_STEP));
+        options.setSize(10L);
+        return options;
+    }
+
+    List<String> serialKeys(TokenHistoryQueryOptions options) {
+        try(PageIterator<PageableTransfers, AnyOfTransferArrayItems> iterator = caver.kas.tokenHistory.iterateTransferHistoryByAccount(ADDRESS, options)) {
+            List<String> keys = new ArrayList<>();
+            iterator.forEachRemaining(item -> keys.add(TransferHistoryScanner.transferKey(item)));
+            return keys;
+        }
+    }
+
+    @Test
+    public void splitRange() {
+        assertEquals(Arrays.asList("16,19", "13,15", "10,12"), TransferHistoryScanner.splitRange("10,19", 3));
+        assertEquals(Arrays.asList("16,19", "13,15", "10,12"), TransferHistoryScanner.splitRange("19, 10", 3));
+        assertEquals(Arrays.asList("0x1f,0x20", "0x1d,0x1e", "0x1b,0x1c", "0x19,0x1a"), TransferHistoryScanner.splitRange("0x19,0x20", 4));
+        assertEquals(Arrays.asList("12,12", "11,11", "10,10"), TransferHistoryScanner.splitRange("10,12", 8));
+    }
+
+    @Test
+    public void splitRangeWithoutUpperBound() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The range must have both bounds('from', 'to') to be scanned.");
+
+        TransferHistoryScanner.splitRange("1600000000", 4);
+    }
+
+    @Test
+    public void splitRangeOfMixedKinds() {
+        expectedException.expect(IllegalArgumentException.class);
+
+        TransferHistoryScanner.splitRange("0x10,1600000000", 4);
+    }
+
+    @Test
+    public void scanInOrderOfSerialIteration() {
+        TokenHistoryQueryOptions options = wholeRange();
+        List<String> expected = serialKeys(options);
+        assertEquals(DATASET_SIZE, expected.size());
+
+        try(TransferHistoryScanner scanner = caver.kas.tokenHistory.scanTransferHistoryByAccount(ADDRESS, options, 6, 3)) {
+            List<String> keys = scanner.stream().map(TransferHistoryScanner::transferKey).collect(Collectors.toList());
+            assertEquals(expected, keys);
+            assertEquals(6, scanner.getShardRanges().size());
+            assertEquals(0, scanner.getDuplicateCount());
+            assertTrue(scanner.getRequestCount() >= DATASET_SIZE / 10);
+        }
+        assertEquals(Long.toString(BASE_TIMESTAMP) + "," + (BASE_TIMESTAMP + (DATASET_SIZE - 1) * TIMESTAMP_STEP), options.getRange());
+    }
+
+    @Test
+    public void deduplicateOverlappingShardBoundaries() {
+        TokenHistoryQueryOptions options = wholeRange();
+        List<String> expected = serialKeys(options);
+
+        // Widens each sub-range by a transfer on both sides, so the transfers next to a boundary are returned by both shards.
+        TransferHistoryScanner.ShardFetcher overlapping = shardOptions -> {
+            String[] bounds = shardOptions.getRange().split(",");
+            TokenHistoryQueryOptions widened = shardOptions.copyWithRange((Long.parseLong(bounds[0]) - TIMESTAMP_STEP) + "," + (Long.parseLong(bounds[1]) + TIMESTAMP_STEP));
+            widened.setCursor(shardOptions.getCursor());
+            return ApiCallFuture.of(null, callback -> caver.kas.tokenHistory.getTransferHistoryAccountAsync(ADDRESS, widened, callback));
+        };
+
+        try(TransferHistoryScanner scanner = new TransferHistoryScanner(options, overlapping, 5, 2, 2)) {
+            List<String> keys = new ArrayList<>();
+            scanner.forEachRemaining(item -> keys.add(TransferHistoryScanner.transferKey(item)));
+            assertEquals(expected, keys);
+            assertEquals(2 * 4, scanner.getDuplicateCount());
+        }
+    }
+
+    @Test
+    public void limitConcurrencyAcrossShards() {
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        TransferHistoryScanner.ShardFetcher fetcher = shardOptions -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<PageableTransfers> future = new CompletableFuture<>();
+            executor.schedule(() -> {
+                inFlight.decrementAndGet();
+                future.complete(page(shardOptions));
+            }, 20, TimeUnit.MILLISECONDS);
+            return future;
+        };
+
+        TokenHistoryQueryOptions options = new TokenHistoryQueryOptions();
+        options.setRange("0x1", "0x8");
+        try(TransferHistoryScanner scanner = new TransferHistoryScanner(options, fetcher, 8, 3, 2)) {
+            List<String> hashes = scanner.stream().map(item -> ((KlayTransfer)item).getTransactionHash()).collect(Collectors.toList());
+            assertEquals(8 * 3 * 2, hashes.size());
+            assertEquals("0x8/0/0", hashes.get(0));
+            assertEquals("0x1/2/1", hashes.get(hashes.size() - 1));
+            assertEquals(8 * 3, scanner.getRequestCount());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(maxInFlight.get() <= 3);
+        assertTrue(maxInFlight.get() > 1);
+    }
+
+    @Test
+    public void failedShard() {
+        expectedException.expect(CompletionException.class);
+        expectedException.expectCause(org.hamcrest.CoreMatchers.instanceOf(ApiException.class));
+
+        TokenHistoryQueryOptions options = new TokenHistoryQueryOptions();
+        options.setRange("0x1", "0x4");
+        TransferHistoryScanner scanner = new TransferHistoryScanner(options, shardOptions -> {
+            CompletableFuture<PageableTransfers> future = new CompletableFuture<>();
+            if(shardOptions.getRange().equals("0x3,0x3")) {
+                future.completeExceptionally(new ApiException(500, "error"));
+            } else {
+                future.complete(page(shardOptions));
+            }
+            return future;
+        }, 4, 2, 2);
+
+        scanner.forEachRemaining(item -> {});
+    }
+
+    /**
+     * Returns two transfers of a page of a sub-range having a single block. Each sub-range has three pages.
+     */
+    static PageableTransfers page(TokenHistoryQueryOptions options) {
+        String block = options.getRange().split(",")[0];
+        int index = options.getCursor() == null ? 0 : Integer.parseInt(options.getCursor());
+
+        PageableTransfers page = new PageableTransfers();
+        page.setItems(new TransferArray());
+        for(int i = 0; i < 2; i++) {
+            KlayTransfer transfer = new KlayTransfer();
+            transfer.setTransactionHash(block + "/" + index + "/" + i);
+            transfer.setTransferType("klay");
+            page.getItems().add(transfer);
+        }
+        page.setCursor(index < 2 ? Integer.toString(index + 1) : "");
+        return page;
+    }
+}
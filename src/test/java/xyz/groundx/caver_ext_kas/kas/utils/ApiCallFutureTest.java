@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Request;
+import org.junit.Test;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class ApiCallFutureTest {
+    static Call newCall() {
+        return new OkHttpClient().newCall(new Request.Builder().url("http://localhost").build());
+    }
+
+    @Test
+    public void cancelPropagatesToCall() {
+        Call call = newCall();
+        ApiCallFuture<String> future = ApiCallFuture.of(null, callback -> call);
+
+        assertTrue(future.cancel(true));
+        assertTrue(call.isCanceled());
+    }
+
+    @Test
+    public void standInCallIsNotSent() throws IOException {
+        AtomicReference<Object> reported = new AtomicReference<>();
+        ApiCallback<String> callback = new ApiCallback<String>() {
+            @Override
+            public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                reported.set(e);
+            }
+
+            @Override
+            public void onSuccess(String result, int statusCode, Map<String, List<String>> responseHeaders) {
+                reported.set(result);
+            }
+
+            @Override
+            public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+            }
+
+            @Override
+            public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+            }
+        };
+
+        CompletableFuture<String> response = new CompletableFuture<>();
+        Call call = ApiCallFuture.notify(response, callback, new OkHttpClient());
+        try {
+            call.execute();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            call.enqueue(null);
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+
+        call.cancel();
+        response.complete("A");
+        assertTrue(call.isCanceled());
+        assertTrue(reported.get() instanceof ApiException);
+    }
+
+    @Test
+    public void cancelBeforeCallIsBound() {
+        ApiCallFuture<String> future = new ApiCallFuture<>(null);
+        future.cancel(true);
+
+        Call call = newCall();
+        future.setCall(call);
+        assertTrue(call.isCanceled());
+    }
+
+    @Test
+    public void completeOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "completion"));
+        ApiCallFuture<String> future = new ApiCallFuture<>(executor);
+        CompletableFuture<String> threadName = future.thenApply(result -> Thread.currentThread().getName());
+
+        future.onSuccess("result", 200, null);
+
+        assertEquals("completion", threadName.get(5, TimeUnit.SECONDS));
+        assertEquals("result", future.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void failedToStartCall() throws InterruptedException {
+        ApiCallFuture<String> future = ApiCallFuture.of(null, callback -> {
+            throw new ApiException("Missing the required parameter");
+        });
+
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+        }
+    }
+
+    @Test
+    public void failure() {
+        ApiCallFuture<String> future = new ApiCallFuture<>(null);
+        future.onFailure(new ApiException("error", 500, null, null), 500, null);
+
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
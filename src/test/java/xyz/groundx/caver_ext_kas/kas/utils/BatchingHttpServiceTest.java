@@ -0,0 +1,191 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGasPrice;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.kas.KASTransport;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.Assert.*;
+
+public class BatchingHttpServiceTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    FakeKASServer server;
+    KASTransport transport;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(42).start();
+        transport = new KASTransport();
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+        transport.shutdown();
+    }
+
+    BatchingHttpService createService(long windowMillis, int maxBatchSize) {
+        BatchingHttpService service = new BatchingHttpService(server.getNodeUrl(), transport.getNodeHttpClient(), windowMillis, maxBatchSize);
+        service.addHeader("x-chain-id", "1001");
+        return service;
+    }
+
+    static Request<?, EthBlockNumber> blockNumber(BatchingHttpService service) {
+        return new Request<>("klay_blockNumber", Collections.emptyList(), service, EthBlockNumber.class);
+    }
+
+    static Request<?, EthGasPrice> gasPrice(BatchingHttpService service) {
+        return new Request<>("klay_gasPrice", Collections.emptyList(), service, EthGasPrice.class);
+    }
+
+    @Test
+    public void coalesceConcurrentCalls() throws Exception {
+        BatchingHttpService service = createService(50, 100);
+        BigInteger expectedBlockNumber = blockNumber(createService(0, 1)).send().getBlockNumber();
+        long requests = server.getRequestCount();
+
+        List<CompletableFuture<EthBlockNumber>> blockNumbers = new ArrayList<>();
+        List<CompletableFuture<EthGasPrice>> gasPrices = new ArrayList<>();
+        for(int i = 0; i < 20; i++) {
+            blockNumbers.add(blockNumber(service).sendAsync());
+            gasPrices.add(gasPrice(service).sendAsync());
+        }
+
+        for(CompletableFuture<EthBlockNumber> future : blockNumbers) {
+            assertEquals(expectedBlockNumber, future.join().getBlockNumber());
+        }
+        for(CompletableFuture<EthGasPrice> future : gasPrices) {
+            assertEquals(new BigInteger("5d21dba00", 16), future.join().getGasPrice());
+        }
+        assertEquals(40, service.getCallCount());
+        assertEquals(1, service.getBatchCount());
+        assertEquals(requests + 1, server.getRequestCount());
+    }
+
+    @Test
+    public void sendSynchronously() throws Exception {
+        BatchingHttpService service = createService(1, 100);
+        NetVersion version = new Request<>("net_version", Collections.emptyList(), service, NetVersion.class).send();
+
+        assertEquals("1001", version.getNetVersion());
+        assertEquals(1, service.getBatchCount());
+    }
+
+    @Test
+    public void limitBatchSize() {
+        BatchingHttpService service = createService(10_000, 4);
+
+        List<CompletableFuture<EthBlockNumber>> futures = new ArrayList<>();
+        for(int i = 0; i < 8; i++) {
+            futures.add(blockNumber(service).sendAsync());
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertEquals(2, service.getBatchCount());
+    }
+
+    @Test
+    public void duplicateId() {
+        BatchingHttpService service = createService(20, 100);
+        Request<?, EthBlockNumber> request = blockNumber(service);
+
+        CompletableFuture<EthBlockNumber> first = request.sendAsync();
+        CompletableFuture<EthBlockNumber> second = request.sendAsync();
+
+        assertEquals(first.join().getBlockNumber(), second.join().getBlockNumber());
+        assertEquals(2, service.getBatchCount());
+    }
+
+    @Test
+    public void failAllCallsOfBatch() {
+        BatchingHttpService service = createService(20, 100);
+        server.failNext(503, 1);
+
+        CompletableFuture<EthBlockNumber> first = blockNumber(service).sendAsync();
+        CompletableFuture<EthGasPrice> second = gasPrice(service).sendAsync();
+
+        assertTrue(isFailed(first));
+        assertTrue(isFailed(second));
+    }
+
+    @Test
+    public void explicitBatch() throws Exception {
+        BatchingHttpService service = createService(20, 100);
+        BatchResponse response = new BatchRequest(service).add(blockNumber(service)).add(gasPrice(service)).send();
+
+        assertEquals(2, response.getResponses().size());
+        assertTrue(response.getResponses().get(1) instanceof EthGasPrice);
+    }
+
+    @Test
+    public void sendAfterClose() throws Exception {
+        expectedException.expect(IOException.class);
+        expectedException.expectMessage("The service is already closed.");
+
+        BatchingHttpService service = createService(20, 100);
+        service.close();
+        blockNumber(service).send();
+    }
+
+    @Test
+    public void enableNodeBatching() throws Exception {
+        server.addCredentials("accessKeyId", "secretAccessKey");
+        CaverExtKAS caver = new CaverExtKAS(transport);
+        caver.initNodeAPI(1001, "accessKeyId", "secretAccessKey", server.getNodeUrl());
+        assertFalse(caver.getNodeHttpService() instanceof BatchingHttpService);
+
+        caver.enableNodeBatching(5, 50);
+        BatchingHttpService service = (BatchingHttpService)caver.getNodeHttpService();
+        assertEquals(5, service.getWindowMillis());
+        assertEquals(50, service.getMaxBatchSize());
+        assertNotNull(blockNumber(service).send().getBlockNumber());
+
+        caver.disableNodeBatching();
+        assertFalse(caver.getNodeHttpService() instanceof BatchingHttpService);
+    }
+
+    static boolean isFailed(CompletableFuture<?> future) {
+        try {
+            future.join();
+            return false;
+        } catch (CompletionException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class KASCacheTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void hitAndMiss() throws ApiException {
+        KASCache<String, String> cache = new KASCache<>(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("A", cache.get("a", key -> { loads.incrementAndGet(); return "A"; }));
+        assertEquals("A", cache.get("a", key -> { loads.incrementAndGet(); return "B"; }));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getHitCount());
+        assertEquals(1, cache.getStats().getMissCount());
+        assertEquals(0.5, cache.getStats().getHitRate(), 0);
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() throws ApiException {
+        KASCache<String, String> cache = new KASCache<>(2, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.getIfPresent("a");
+        cache.put("c", "C");
+
+        assertEquals("A", cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void evictByWeight() {
+        KASCache<String, String> cache = new KASCache<>(10, 0, 5, value -> value.length());
+        cache.put("a", "AA");
+        cache.put("b", "BB");
+        assertEquals(4, cache.weight());
+
+        cache.put("c", "CC");
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(4, cache.weight());
+
+        cache.put("b", "B");
+        assertEquals(3, cache.weight());
+
+        cache.invalidate("c");
+        assertEquals(1, cache.weight());
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void expire() {
+        AtomicLong now = new AtomicLong(1);
+        KASCache<String, String> cache = new KASCache<>(10, 1000, now::get);
+        cache.put("a", "A");
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals("A", cache.getIfPresent("a"));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNull(cache.getIfPresent("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidate() {
+        KASCache<String, String> cache = new KASCache<>(10, 0);
+        cache.put("a", "A");
+        cache.put("b", "B");
+
+        cache.invalidate("a");
+        assertNull(cache.getIfPresent("a"));
+        assertEquals("B", cache.getIfPresent("b"));
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void failureIsNotCached() throws ApiException {
+        KASCache<String, String> cache = new KASCache<>(10, 0);
+        try {
+            cache.get("a", key -> { throw new ApiException(500, "error"); });
+            fail();
+        } catch (ApiException e) {
+            assertEquals(500, e.getCode());
+        }
+
+        assertEquals("A", cache.get("a", key -> "A"));
+        assertEquals(1, cache.getStats().getLoadFailureCount());
+    }
+
+    @Test
+    public void collapseConcurrentMisses() throws Exception {
+        KASCache<String, String> cache = new KASCache<>(10, 0);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> cache.get("a", key -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new ApiException(e);
+                }
+                return "A";
+            }));
+            loading.await();
+
+            Future<String> second = executor.submit(() -> cache.get("a", key -> { loads.incrementAndGet(); return "B"; }));
+            CompletableFuture<String> third = cache.getAsync("a", key -> { loads.incrementAndGet(); return CompletableFuture.completedFuture("C"); });
+
+            release.countDown();
+            assertEquals("A", first.get(5, TimeUnit.SECONDS));
+            assertEquals("A", second.get(5, TimeUnit.SECONDS));
+            assertEquals("A", third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void releaseWaitersWhenLoaderThrowsError() throws Exception {
+        KASCache<String, String> cache = new KASCache<>(10, 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = executor.submit(() -> cache.get("a", key -> {
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new ApiException(e);
+                }
+                throw new StackOverflowError();
+            }));
+            loading.await();
+
+            FutureTask<String> second = new FutureTask<>(() -> cache.get("a", key -> "B"));
+            Thread waiter = new Thread(second);
+            waiter.start();
+            while(waiter.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+            CompletableFuture<String> third = cache.getAsync("a", key -> CompletableFuture.completedFuture("C"));
+
+            release.countDown();
+            for(Future<String> future : Arrays.asList(first, second, third)) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                    fail();
+                } catch (ExecutionException e) {
+                    assertTrue(e.getCause() instanceof StackOverflowError);
+                }
+            }
+            assertEquals("A", cache.get("a", key -> "A"));
+            assertEquals(1, cache.getStats().getLoadFailureCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void collapseAsyncMisses() throws Exception {
+        KASCache<String, String> cache = new KASCache<>(10, 0);
+        CompletableFuture<String> request = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        CompletableFuture<String> first = cache.getAsync("a", key -> { loads.incrementAndGet(); return request; });
+        CompletableFuture<String> second = cache.getAsync("a", key -> { loads.incrementAndGet(); return new CompletableFuture<>(); });
+
+        // Cancelling a returned future does not affect the shared request.
+        second.cancel(true);
+        assertFalse(request.isCancelled());
+
+        request.complete("A");
+        assertEquals("A", first.get());
+        assertEquals("A", cache.getIfPresent("a"));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void loadAsyncWithoutLock() throws Exception {
+        KASCache<String, String> cache = new KASCache<>(10, 0);
+        AtomicBoolean locked = new AtomicBoolean(true);
+
+        CompletableFuture<String> future = cache.getAsync("a", key -> {
+            locked.set(Thread.holdsLock(cache));
+            return CompletableFuture.completedFuture("A");
+        });
+        assertEquals("A", future.get());
+        assertFalse(locked.get());
+        assertEquals("A", cache.getIfPresent("a"));
+    }
+
+    @Test
+    public void invalidSize() {
+        expectedException.expect(IllegalArgumentException.class);
+        new KASCache<String, String>(0, 0);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+import static org.junit.Assert.*;
+
+public class KASMetricsTest {
+    FakeKASServer server;
+    CaverExtKAS caver;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(1).setDatasetSize(5).start();
+        caver = new CaverExtKAS();
+        caver.initWalletAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+        caver.initTokenHistoryAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void pathTemplate() {
+        assertEquals("/v2/tx/{transaction-hash}", KASMetrics.toPathTemplate("/v2/tx/0x6a3edfad6d1126020d5369e9097db39281876c5d"));
+        assertEquals("/v2/tx/value", KASMetrics.toPathTemplate("/v2/tx/value"));
+        assertEquals("/v2/tx/fd-user/value", KASMetrics.toPathTemplate("/v2/tx/fd-user/value/"));
+        assertEquals("/v2/contract/nft/{nft-address}/token/{token-id}/history", KASMetrics.toPathTemplate("/v2/contract/nft/0xab/token/0x1/history"));
+        assertEquals("/v1/operator/{operator-id}/payload/{payload-id}", KASMetrics.toPathTemplate("/v1/operator/0xab/payload/payload"));
+        assertEquals("/{unknown}", KASMetrics.toPathTemplate("/v2/unknown/path"));
+        assertEquals("/{unknown}", KASMetrics.toPathTemplate("/"));
+    }
+
+    @Test
+    public void recordRequests() throws Exception {
+        KASMetrics metrics = new KASMetrics();
+        caver.kas.setMetricsListener(metrics);
+
+        caver.kas.wallet.getAccount("0x6a3edfad6d1126020d5369e9097db39281876c5d");
+        caver.kas.wallet.getAccount("0xd4c7ff6a6a1b2e3b8d1f1b2c6d7e1f2a3b4c5d6e");
+        server.failNext(500, 1);
+        try {
+            caver.kas.wallet.getAccount("0x6a3edfad6d1126020d5369e9097db39281876c5d");
+            fail("The injected error must be thrown.");
+        } catch (ApiException e) {
+            assertEquals(500, e.getCode());
+        }
+        caver.kas.tokenHistory.getFTContractList();
+
+        KASMetrics.EndpointSnapshot account = metrics.getSnapshot(KASRateLimiter.Service.WALLET, "GET", "/v2/account/{address}");
+        assertEquals(3, account.getCount());
+        assertEquals(2, account.getStatusCount(200));
+        assertEquals(1, account.getStatusCount(500));
+        assertEquals(1, account.getErrorCount());
+        assertEquals(0, account.getRetryCount());
+        assertTrue(account.getResponseBytes() > 0);
+        assertTrue(account.getLatency().getValueAtPercentile(99) > 0);
+
+        assertEquals(1, metrics.getSnapshot(KASRateLimiter.Service.TOKEN_HISTORY, "GET", "/v2/contract/ft").getCount());
+        assertEquals(2, metrics.getSnapshot().size());
+
+        metrics.reset();
+        assertTrue(metrics.getSnapshot().isEmpty());
+    }
+
+    @Test
+    public void countRetries() throws Exception {
+        KASMetrics metrics = new KASMetrics();
+        caver.kas.setMetricsListener(metrics);
+        // The retry policy set after the metrics listener must not be placed before the metrics interceptor.
+        caver.kas.setRetryPolicy(new KASRetryPolicy().setBaseDelayMillis(1).setMaxDelayMillis(1));
+
+        server.failNext(503, 2);
+        caver.kas.wallet.getAccountList();
+
+        KASMetrics.EndpointSnapshot accounts = metrics.getSnapshot(KASRateLimiter.Service.WALLET, "GET", "/v2/account");
+        assertEquals(1, accounts.getCount());
+        assertEquals(1, accounts.getStatusCount(200));
+        assertEquals(2, accounts.getRetryCount());
+    }
+
+    @Test
+    public void removeListener() throws Exception {
+        KASMetrics metrics = new KASMetrics();
+        caver.kas.setMetricsListener(metrics);
+        caver.kas.setMetricsListener(null);
+
+        caver.kas.wallet.getAccountList();
+        assertTrue(metrics.getSnapshot().isEmpty());
+        assertTrue(caver.kas.wallet.getAccountApi().getApiClient().getHttpClient().interceptors().isEmpty());
+    }
+
+    @Test
+    public void bridge() throws Exception {
+        List<String> created = new ArrayList<>();
+        List<Long> latencies = new ArrayList<>();
+        List<Long> responseSizes = new ArrayList<>();
+        caver.kas.setMetricsListener(new KASMetricsBridge(new KASMetricsBridge.MeterFactory() {
+            @Override
+            public LongConsumer timer(String name, Map<String, String> tags) {
+                created.add(name + tags);
+                return latencies::add;
+            }
+
+            @Override
+            public LongConsumer counter(String name, Map<String, String> tags) {
+                return amount -> {};
+            }
+
+            @Override
+            public LongConsumer summary(String name, Map<String, String> tags) {
+                return name.equals(KASMetricsBridge.RESPONSE_SIZE) ? responseSizes::add : value -> {};
+            }
+        }));
+
+        caver.kas.wallet.getAccountList();
+        caver.kas.wallet.getAccountList();
+
+        assertEquals(1, created.size());
+        assertEquals("kas.client.requests{service=wallet, method=GET, uri=/v2/account, status=200}", created.get(0));
+        assertEquals(2, latencies.size());
+        assertEquals(2, responseSizes.size());
+    }
+}
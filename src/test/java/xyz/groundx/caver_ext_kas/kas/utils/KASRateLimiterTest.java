@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.squareup.okhttp.Connection;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.Response;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class KASRateLimiterTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static class FakeChain implements Interceptor.Chain {
+        Request request;
+        int code;
+        String retryAfter;
+
+        FakeChain(String url, int code, String retryAfter) {
+            this.request = new Request.Builder().url(url).build();
+            this.code = code;
+            this.retryAfter = retryAfter;
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public Response proceed(Request request) {
+            Response.Builder builder = new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code(code);
+            if(retryAfter != null) {
+                builder.header("Retry-After", retryAfter);
+            }
+            return builder.build();
+        }
+
+        @Override
+        public Connection connection() {
+            return null;
+        }
+    }
+
+    @Test
+    public void findBuckets() {
+        KASRateLimiter rateLimiter = new KASRateLimiter()
+                .setServiceLimit(KASRateLimiter.Service.WALLET, 10, 10)
+                .setEndpointLimit(KASRateLimiter.Service.WALLET, "/v2/tx", 5, 5)
+                .setEndpointLimit(KASRateLimiter.Service.WALLET, "/v2/tx/value", 1, 1);
+
+        List<TokenBucket> buckets = rateLimiter.findBuckets(KASRateLimiter.Service.WALLET, "/v2/tx/value");
+        assertEquals(2, buckets.size());
+        assertSame(rateLimiter.getEndpointBucket(KASRateLimiter.Service.WALLET, "/v2/tx/value"), buckets.get(0));
+        assertSame(rateLimiter.getServiceBucket(KASRateLimiter.Service.WALLET), buckets.get(1));
+
+        buckets = rateLimiter.findBuckets(KASRateLimiter.Service.WALLET, "/v2/account");
+        assertEquals(1, buckets.size());
+
+        assertTrue(rateLimiter.findBuckets(KASRateLimiter.Service.ANCHOR, "/v1/operator").isEmpty());
+    }
+
+    @Test
+    public void failFast() throws IOException {
+        expectedException.expect(RateLimitExceededException.class);
+
+        KASRateLimiter rateLimiter = new KASRateLimiter()
+                .setServiceLimit(KASRateLimiter.Service.TOKEN_HISTORY, 1, 1)
+                .setMaxWaitMillis(0);
+        Interceptor interceptor = rateLimiter.interceptor(KASRateLimiter.Service.TOKEN_HISTORY);
+
+        interceptor.intercept(new FakeChain("https://th-api.klaytnapi.com/v2/transfer", 200, null));
+        interceptor.intercept(new FakeChain("https://th-api.klaytnapi.com/v2/transfer", 200, null));
+    }
+
+    @Test
+    public void keepEndpointPermitsWhenServiceLimitExceeded() throws IOException {
+        KASRateLimiter rateLimiter = new KASRateLimiter()
+                .setServiceLimit(KASRateLimiter.Service.WALLET, 0.001, 1)
+                .setEndpointLimit(KASRateLimiter.Service.WALLET, "/v2/tx/value", 0.001, 2)
+                .setMaxWaitMillis(0);
+        Interceptor interceptor = rateLimiter.interceptor(KASRateLimiter.Service.WALLET);
+
+        interceptor.intercept(new FakeChain("https://wallet-api.klaytnapi.com/v2/account", 200, null));
+        for(int i = 0; i < 3; i++) {
+            try {
+                interceptor.intercept(new FakeChain("https://wallet-api.klaytnapi.com/v2/tx/value", 200, null));
+                fail();
+            } catch(RateLimitExceededException expected) {
+            }
+        }
+
+        TokenBucket endpointBucket = rateLimiter.getEndpointBucket(KASRateLimiter.Service.WALLET, "/v2/tx/value");
+        assertEquals(0, endpointBucket.reserve(0));
+        assertEquals(0, endpointBucket.reserve(0));
+        assertEquals(-1, endpointBucket.reserve(0));
+    }
+
+    @Test
+    public void queue() throws IOException {
+        KASRateLimiter rateLimiter = new KASRateLimiter()
+                .setServiceLimit(KASRateLimiter.Service.TOKEN_HISTORY, 20, 1);
+        Interceptor interceptor = rateLimiter.interceptor(KASRateLimiter.Service.TOKEN_HISTORY);
+
+        long start = System.nanoTime();
+        for(int i = 0; i < 3; i++) {
+            assertEquals(200, interceptor.intercept(new FakeChain("https://th-api.klaytnapi.com/v2/transfer", 200, null)).code());
+        }
+        assertTrue(System.nanoTime() - start >= 90_000_000L);
+    }
+
+    @Test
+    public void adaptToTooManyRequests() throws IOException {
+        KASRateLimiter rateLimiter = new KASRateLimiter()
+                .setServiceLimit(KASRateLimiter.Service.WALLET, 100, 100)
+                .setMaxWaitMillis(0);
+        Interceptor interceptor = rateLimiter.interceptor(KASRateLimiter.Service.WALLET);
+
+        interceptor.intercept(new FakeChain("https://wallet-api.klaytnapi.com/v2/tx/value", 429, "60"));
+        assertEquals(50.0, rateLimiter.getServiceBucket(KASRateLimiter.Service.WALLET).getPermitsPerSecond(), 0);
+
+        try {
+            interceptor.intercept(new FakeChain("https://wallet-api.klaytnapi.com/v2/tx/value", 200, null));
+            fail();
+        } catch (RateLimitExceededException expected) {
+        }
+    }
+
+    @Test
+    public void parseRetryAfter() {
+        assertEquals(3000, KASRateLimiter.parseRetryAfterMillis("3"));
+        assertEquals(KASRateLimiter.DEFAULT_RETRY_AFTER_MILLIS, KASRateLimiter.parseRetryAfterMillis(null));
+        assertEquals(KASRateLimiter.DEFAULT_RETRY_AFTER_MILLIS, KASRateLimiter.parseRetryAfterMillis("soon"));
+        assertEquals(0, KASRateLimiter.parseRetryAfterMillis("Wed, 21 Oct 2015 07:28:00 GMT"));
+    }
+
+    @Test
+    public void installReplacesPrevious() {
+        ApiClient apiClient = new ApiClient();
+        int interceptors = apiClient.getHttpClient().interceptors().size();
+
+        new KASRateLimiter().install(apiClient, KASRateLimiter.Service.WALLET);
+        new KASRateLimiter().install(apiClient, KASRateLimiter.Service.WALLET);
+        assertEquals(interceptors + 1, apiClient.getHttpClient().interceptors().size());
+
+        KASRateLimiter.uninstall(apiClient);
+        assertEquals(interceptors, apiClient.getHttpClient().interceptors().size());
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.Connection;
+import com.squareup.okhttp.Interceptor;
+import com.squareup.okhttp.MediaType;
+import com.squareup.okhttp.Protocol;
+import com.squareup.okhttp.Request;
+import com.squareup.okhttp.RequestBody;
+import com.squareup.okhttp.Response;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Accounts;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class KASRetryPolicyTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static class ScriptedChain implements Interceptor.Chain {
+        Request request;
+        Deque<Object> outcomes;
+        int attempts;
+
+        ScriptedChain(Request request, Object... outcomes) {
+            this.request = request;
+            this.outcomes = new ArrayDeque<>(Arrays.asList(outcomes));
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public Response proceed(Request request) throws IOException {
+            attempts++;
+            Object outcome = outcomes.poll();
+            if(outcome instanceof IOException) {
+                throw (IOException)outcome;
+            }
+            return new Response.Builder().request(request).protocol(Protocol.HTTP_1_1).code((Integer)outcome).build();
+        }
+
+        @Override
+        public Connection connection() {
+            return null;
+        }
+    }
+
+    static Request get() {
+        return new Request.Builder().url("https://wallet-api.klaytnapi.com/v2/tx/0x01").build();
+    }
+
+    static Request post(String path) {
+        return new Request.Builder().url("https://wallet-api.klaytnapi.com" + path).post(RequestBody.create(MediaType.parse("application/json"), "{}")).build();
+    }
+
+    static KASRetryPolicy fastPolicy() {
+        return new KASRetryPolicy().setBaseDelayMillis(1).setMaxDelayMillis(5);
+    }
+
+    @Test
+    public void retryServerError() throws IOException {
+        KASRetryPolicy retryPolicy = fastPolicy();
+        ScriptedChain chain = new ScriptedChain(get(), 503, 500, 200);
+
+        assertEquals(200, retryPolicy.interceptor().intercept(chain).code());
+        assertEquals(3, chain.attempts);
+        assertEquals(2, retryPolicy.getRetryCount());
+        assertEquals(0, retryPolicy.getGiveUpCount());
+    }
+
+    @Test
+    public void retryIOException() throws IOException {
+        KASRetryPolicy retryPolicy = fastPolicy();
+        ScriptedChain chain = new ScriptedChain(get(), new IOException("reset"), 200);
+
+        assertEquals(200, retryPolicy.interceptor().intercept(chain).code());
+        assertEquals(2, chain.attempts);
+    }
+
+    @Test
+    public void giveUpAfterMaxAttempts() throws IOException {
+        KASRetryPolicy retryPolicy = fastPolicy().setMaxAttempts(2);
+        ScriptedChain chain = new ScriptedChain(get(), 502, 502, 200);
+
+        assertEquals(502, retryPolicy.interceptor().intercept(chain).code());
+        assertEquals(2, chain.attempts);
+        assertEquals(1, retryPolicy.getGiveUpCount());
+    }
+
+    @Test
+    public void giveUpAtDeadline() throws IOException {
+        expectedException.expect(IOException.class);
+
+        KASRetryPolicy retryPolicy = new KASRetryPolicy().setBaseDelayMillis(50).setDeadlineMillis(10);
+        ScriptedChain chain = new ScriptedChain(get(), new IOException("reset"), 200);
+        try {
+            retryPolicy.interceptor().intercept(chain);
+        } finally {
+            assertEquals(1, chain.attempts);
+            assertEquals(1, retryPolicy.getGiveUpCount());
+        }
+    }
+
+    @Test
+    public void cancelAttemptAtDeadline() throws Exception {
+        try(FakeKASServer server = new FakeKASServer().setLatency("/v2/account", random -> 2000).start()) {
+            CaverExtKAS caver = new CaverExtKAS();
+            caver.initWalletAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+            KASRetryPolicy retryPolicy = fastPolicy().setDeadlineMillis(200);
+            caver.kas.setRetryPolicy(retryPolicy);
+
+            long start = System.nanoTime();
+            try {
+                caver.kas.wallet.getAccountList();
+                fail();
+            } catch (ApiException e) {
+                assertTrue(e.getCause() instanceof InterruptedIOException);
+            }
+            assertTrue(System.nanoTime() - start < 1_500_000_000L);
+            assertEquals(1, retryPolicy.getGiveUpCount());
+        }
+    }
+
+    @Test
+    public void notRetryCanceledCall() throws Exception {
+        try(FakeKASServer server = new FakeKASServer().setLatency("/v2/account", random -> 300).start()) {
+            CaverExtKAS caver = new CaverExtKAS();
+            caver.initWalletAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+            KASRetryPolicy retryPolicy = fastPolicy();
+            caver.kas.setRetryPolicy(retryPolicy);
+
+            Call call = caver.kas.wallet.getAccountListAsync(new ApiCallback<Accounts>() {
+                @Override
+                public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                }
+
+                @Override
+                public void onSuccess(Accounts result, int statusCode, Map<String, List<String>> responseHeaders) {
+                }
+
+                @Override
+                public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                }
+
+                @Override
+                public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                }
+            });
+            Thread.sleep(100);
+            call.cancel();
+            Thread.sleep(500);
+
+            assertEquals(0, retryPolicy.getRetryCount());
+            assertEquals(1, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void notRetryClientError() throws IOException {
+        KASRetryPolicy retryPolicy = fastPolicy();
+        ScriptedChain chain = new ScriptedChain(get(), 400, 200);
+
+        assertEquals(400, retryPolicy.interceptor().intercept(chain).code());
+        assertEquals(1, chain.attempts);
+    }
+
+    @Test
+    public void notRetryPost() throws IOException {
+        KASRetryPolicy retryPolicy = fastPolicy();
+        ScriptedChain chain = new ScriptedChain(post("/v2/tx/value"), 503, 200);
+
+        assertEquals(503, retryPolicy.interceptor().intercept(chain).code());
+        assertEquals(1, chain.attempts);
+    }
+
+    @Test
+    public void retrySafePost() throws IOException {
+        KASRetryPolicy retryPolicy = fastPolicy().addSafePostPath("/v2/tx/fd/anchor");
+        ScriptedChain chain = new ScriptedChain(post("/v2/tx/fd/anchor"), 503, 200);
+
+        assertEquals(200, retryPolicy.interceptor().intercept(chain).code());
+        assertEquals(2, chain.attempts);
+    }
+
+    @Test
+    public void notRetryRateLimitExceeded() throws IOException {
+        expectedException.expect(RateLimitExceededException.class);
+
+        ScriptedChain chain = new ScriptedChain(get(), new RateLimitExceededException("exceeded"), 200);
+        fastPolicy().interceptor().intercept(chain);
+    }
+
+    @Test
+    public void decorrelatedJitter() {
+        KASRetryPolicy retryPolicy = new KASRetryPolicy().setBaseDelayMillis(100).setMaxDelayMillis(1000);
+        for(int i = 0; i < 100; i++) {
+            long delay = retryPolicy.nextDelayMillis(200);
+            assertTrue(delay >= 100 && delay <= 600);
+            assertTrue(retryPolicy.nextDelayMillis(10000) <= 1000);
+        }
+    }
+
+    @Test
+    public void installBeforeOtherInterceptors() {
+        ApiClient apiClient = new ApiClient();
+        new KASRateLimiter().install(apiClient, KASRateLimiter.Service.WALLET);
+        new KASRetryPolicy().install(apiClient);
+        new KASRetryPolicy().install(apiClient);
+
+        assertTrue(apiClient.getHttpClient().interceptors().get(0) instanceof KASRetryPolicy.RetryInterceptor);
+        assertEquals(1, apiClient.getHttpClient().interceptors().stream().filter(i -> i instanceof KASRetryPolicy.RetryInterceptor).count());
+    }
+}
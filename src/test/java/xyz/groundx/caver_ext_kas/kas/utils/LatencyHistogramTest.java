@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.Assert.*;
+
+public class LatencyHistogramTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void bucketBoundaries() {
+        for(long value : new long[] {0, 1, 31, 32, 33, 63, 64, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+            assertTrue(LatencyHistogram.lowestValueAt(index) <= value);
+            assertTrue(LatencyHistogram.highestValueAt(index) >= value);
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for(long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(1_000_000, snapshot.getMinNanos());
+        assertEquals(1_000_000_000, snapshot.getMaxNanos());
+        assertEquals(500.5 * 1_000_000, snapshot.getMeanNanos(), 1);
+        assertRelativeError(500_000_000, snapshot.getValueAtPercentile(50));
+        assertRelativeError(990_000_000, snapshot.getValueAtPercentile(99));
+        assertEquals(1_000_000_000, snapshot.getValueAtPercentile(100));
+        assertEquals(1_000_000, snapshot.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void randomValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = ThreadLocalRandom.current().longs(10_000, 1, 10_000_000_000L).sorted().toArray();
+        for(long value : values) {
+            histogram.record(value);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.getSnapshot();
+        for(double percentile : new double[] {10, 50, 90, 99, 99.9}) {
+            long expected = values[(int)Math.ceil(percentile / 100 * values.length) - 1];
+            assertRelativeError(expected, snapshot.getValueAtPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void empty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().getSnapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMinNanos());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+        assertEquals(0, snapshot.getMeanNanos(), 0);
+    }
+
+    @Test
+    public void invalidPercentile() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("percentile must be between 0 and 100.");
+        new LatencyHistogram().getSnapshot().getValueAtPercentile(101);
+    }
+
+    private static void assertRelativeError(long expected, long actual) {
+        assertTrue("expected " + expected + " but was " + actual,
+                Math.abs(actual - expected) <= expected / LatencyHistogram.SUB_BUCKET_COUNT);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LazyApiClientTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void createOnFirstUse() {
+        AtomicInteger created = new AtomicInteger();
+        LazyApiClient lazyApiClient = new LazyApiClient(() -> {
+            created.incrementAndGet();
+            return new ApiClient();
+        });
+
+        assertFalse(lazyApiClient.isCreated());
+        assertEquals(0, created.get());
+
+        ApiClient apiClient = lazyApiClient.get();
+        assertTrue(lazyApiClient.isCreated());
+        assertSame(apiClient, lazyApiClient.get());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void createOnceConcurrently() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        LazyApiClient lazyApiClient = new LazyApiClient(() -> {
+            created.incrementAndGet();
+            return new ApiClient();
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<ApiClient>> futures = new ArrayList<>();
+        for(int i = 0; i < 8; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return lazyApiClient.get();
+            }));
+        }
+        start.countDown();
+
+        for(CompletableFuture<ApiClient> future : futures) {
+            assertSame(lazyApiClient.get(), future.join());
+        }
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void configureBeforeCreation() {
+        LazyApiClient lazyApiClient = new LazyApiClient(ApiClient::new);
+        lazyApiClient.configure(apiClient -> apiClient.setBasePath("http://first"));
+        lazyApiClient.configure(apiClient -> apiClient.setBasePath("http://second"));
+        lazyApiClient.ifCreated(apiClient -> apiClient.setBasePath("http://ignored"));
+
+        assertEquals("http://second", lazyApiClient.get().getBasePath());
+
+        lazyApiClient.configure(apiClient -> apiClient.setBasePath("http://third"));
+        assertEquals("http://third", lazyApiClient.get().getBasePath());
+        lazyApiClient.ifCreated(apiClient -> apiClient.setBasePath("http://fourth"));
+        assertEquals("http://fourth", lazyApiClient.get().getBasePath());
+    }
+
+    @Test
+    public void of() {
+        ApiClient apiClient = new ApiClient();
+        LazyApiClient lazyApiClient = LazyApiClient.of(apiClient);
+
+        assertTrue(lazyApiClient.isCreated());
+        assertSame(apiClient, lazyApiClient.get());
+    }
+
+    @Test
+    public void requireFactory() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("factory is required.");
+
+        new LazyApiClient(null);
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.kas.KASTransport;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.*;
+
+public class NodeResponseCacheTest {
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    FakeKASServer server;
+    KASTransport transport;
+    CaverExtKAS caver;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new FakeKASServer(7).setReceiptDelayMillis(0).start();
+        transport = new KASTransport();
+        caver = new CaverExtKAS(transport);
+        caver.initNodeAPI(1001, "accessKeyId", "secretAccessKey", server.getNodeUrl());
+    }
+
+    @After
+    public void tearDown() {
+        server.close();
+        transport.shutdown();
+    }
+
+    static String blockHash(long number) {
+        return String.format("0x%064x", number);
+    }
+
+    EthBlock getBlockByHash(String hash) throws IOException {
+        return new Request<>("klay_getBlockByHash", Arrays.asList(hash, false), caver.getNodeHttpService(), EthBlock.class).send();
+    }
+
+    EthBlock getBlockByNumber(String number) throws IOException {
+        return new Request<>("klay_getBlockByNumber", Arrays.asList(number, false), caver.getNodeHttpService(), EthBlock.class).send();
+    }
+
+    EthGetTransactionReceipt getTransactionReceipt(String hash) throws IOException {
+        return new Request<>("klay_getTransactionReceipt", Collections.singletonList(hash), caver.getNodeHttpService(), EthGetTransactionReceipt.class).send();
+    }
+
+    BigInteger getBlockNumber() throws IOException {
+        return new Request<>("klay_blockNumber", Collections.emptyList(), caver.getNodeHttpService(), EthBlockNumber.class).send().getBlockNumber();
+    }
+
+    String sendTransaction() throws IOException {
+        return new Request<>("klay_sendRawTransaction", Collections.singletonList("0x00"), caver.getNodeHttpService(), EthSendTransaction.class).send().getTransactionHash();
+    }
+
+    @Test
+    public void cacheBlockByHash() throws Exception {
+        caver.enableNodeCache(100, 1024 * 1024, 0);
+        String hash = blockHash(1000);
+
+        EthBlock first = getBlockByHash(hash);
+        long requests = server.getRequestCount();
+        EthBlock second = getBlockByHash(hash.toUpperCase().replace("0X", "0x"));
+
+        assertEquals(requests, server.getRequestCount());
+        assertEquals(BigInteger.valueOf(1000), second.getBlock().getNumber());
+        assertEquals(first.getBlock().getHash(), second.getBlock().getHash());
+        assertEquals(1, caver.getNodeCache().size());
+        assertEquals(1, caver.getNodeCache().getStats().getHitCount());
+        assertTrue(caver.getNodeCache().bytes() > 0);
+    }
+
+    @Test
+    public void notCacheNullResult() throws Exception {
+        caver.enableNodeCache(100, 1024 * 1024, 0);
+        String hash = blockHash(Long.MAX_VALUE);
+
+        assertNull(getBlockByHash(hash).getBlock());
+        long requests = server.getRequestCount();
+        assertNull(getBlockByHash(hash).getBlock());
+
+        assertEquals(requests + 1, server.getRequestCount());
+        assertEquals(0, caver.getNodeCache().size());
+    }
+
+    @Test
+    public void notCacheFailedRequest() throws Exception {
+        caver.enableNodeCache(100, 1024 * 1024, 0);
+        server.failNext(503, 1);
+        try {
+            getBlockByHash(blockHash(10));
+            fail();
+        } catch (Exception e) {
+            assertEquals(0, caver.getNodeCache().size());
+        }
+
+        assertNotNull(getBlockByHash(blockHash(10)).getBlock());
+        assertEquals(1, caver.getNodeCache().size());
+    }
+
+    @Test
+    public void cacheMinedReceiptOnly() throws Exception {
+        server.setReceiptDelayMillis(60_000);
+        caver.enableNodeCache(100, 1024 * 1024, 0);
+        String transactionHash = sendTransaction();
+
+        assertFalse(getTransactionReceipt(transactionHash).getTransactionReceipt().isPresent());
+        assertEquals(0, caver.getNodeCache().size());
+
+        server.setReceiptDelayMillis(0);
+        assertTrue(getTransactionReceipt(transactionHash).getTransactionReceipt().isPresent());
+        long requests = server.getRequestCount();
+        assertEquals(transactionHash, getTransactionReceipt(transactionHash).getTransactionReceipt().get().getTransactionHash());
+        assertEquals(requests, server.getRequestCount());
+    }
+
+    @Test
+    public void waitForConfirmations() throws Exception {
+        caver.enableNodeCache(100, 1024 * 1024, 1);
+        BigInteger latest = getBlockNumber();
+        assertEquals(latest.longValue(), caver.getNodeCache().getLatestBlockNumber());
+
+        String transactionHash = sendTransaction();
+        assertTrue(getTransactionReceipt(transactionHash).getTransactionReceipt().isPresent());
+        getBlockByNumber("0x" + latest.toString(16));
+        assertEquals(0, caver.getNodeCache().size());
+
+        getBlockByNumber("0x" + latest.subtract(BigInteger.ONE).toString(16));
+        assertEquals(1, caver.getNodeCache().size());
+    }
+
+    @Test
+    public void notCacheBlockTag() throws Exception {
+        caver.enableNodeCache(100, 1024 * 1024, 0);
+        getBlockByNumber("latest");
+        getBlockByNumber("0x10");
+
+        assertEquals(1, caver.getNodeCache().size());
+    }
+
+    @Test
+    public void boundedByBytes() throws Exception {
+        caver.enableNodeCache(100, 1024, 0);
+        for(int i = 1; i <= 20; i++) {
+            getBlockByHash(blockHash(i));
+        }
+
+        NodeResponseCache cache = caver.getNodeCache();
+        assertTrue(cache.bytes() <= 1024);
+        assertTrue(cache.size() < 20);
+        assertTrue(cache.getStats().getEvictionCount() > 0);
+    }
+
+    @Test
+    public void serveBatchFromCache() throws Exception {
+        caver.enableNodeCache(100, 1024 * 1024, 0);
+        caver.enableNodeBatching(20, 100);
+        Web3jService service = caver.getNodeHttpService();
+
+        CompletableFuture<EthBlock> first = new Request<>("klay_getBlockByHash", Arrays.asList(blockHash(1), false), service, EthBlock.class).sendAsync();
+        CompletableFuture<EthBlock> second = new Request<>("klay_getBlockByHash", Arrays.asList(blockHash(2), false), service, EthBlock.class).sendAsync();
+        first.join();
+        second.join();
+        assertEquals(2, caver.getNodeCache().size());
+
+        long requests = server.getRequestCount();
+        first = new Request<>("klay_getBlockByHash", Arrays.asList(blockHash(2), false), service, EthBlock.class).sendAsync();
+        second = new Request<>("klay_getBlockByHash", Arrays.asList(blockHash(1), false), service, EthBlock.class).sendAsync();
+
+        assertEquals(BigInteger.valueOf(2), first.join().getBlock().getNumber());
+        assertEquals(BigInteger.valueOf(1), second.join().getBlock().getNumber());
+        assertEquals(requests, server.getRequestCount());
+    }
+
+    @Test
+    public void disableNodeCache() throws Exception {
+        caver.enableNodeCache(100, 1024 * 1024, 0);
+        getBlockByHash(blockHash(1));
+        caver.disableNodeCache();
+
+        long requests = server.getRequestCount();
+        getBlockByHash(blockHash(1));
+        assertNull(caver.getNodeCache());
+        assertEquals(requests + 1, server.getRequestCount());
+    }
+
+    @Test
+    public void negativeConfirmations() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("confirmations must not be negative.");
+
+        new NodeResponseCache(100, 1024, -1);
+    }
+}
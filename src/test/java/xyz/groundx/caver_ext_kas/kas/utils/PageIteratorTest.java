@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class PageIteratorTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static class Page {
+        List<Integer> items;
+        String cursor;
+
+        Page(String cursor, Integer... items) {
+            this.items = Arrays.asList(items);
+            this.cursor = cursor;
+        }
+
+        List<Integer> getItems() {
+            return items;
+        }
+
+        String getCursor() {
+            return cursor;
+        }
+    }
+
+    static class ManualFetcher implements PageIterator.PageFetcher<Page> {
+        Map<String, CompletableFuture<Page>> requested = new HashMap<>();
+        List<String> cursors = new ArrayList<>();
+
+        @Override
+        public synchronized CompletableFuture<Page> fetch(String cursor) {
+            CompletableFuture<Page> future = new CompletableFuture<>();
+            requested.put(cursor, future);
+            cursors.add(cursor);
+            return future;
+        }
+
+        synchronized CompletableFuture<Page> get(String cursor) {
+            return requested.get(cursor);
+        }
+    }
+
+    static Map<String, Page> pages() {
+        Map<String, Page> pages = new HashMap<>();
+        pages.put(null, new Page("c1", 1, 2));
+        pages.put("c1", new Page("c2"));
+        pages.put("c2", new Page("", 3));
+        return pages;
+    }
+
+    @Test
+    public void iterateAllPages() {
+        Map<String, Page> pages = pages();
+        PageIterator<Page, Integer> iterator = new PageIterator<>(null, cursor -> CompletableFuture.completedFuture(pages.get(cursor)), Page::getItems, Page::getCursor, 2);
+
+        List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+
+        assertEquals(Arrays.asList(1, 2, 3), items);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void stream() {
+        Map<String, Page> pages = pages();
+        List<Integer> items = new PageIterator<>("", (String cursor) -> CompletableFuture.completedFuture(pages.get(cursor)), Page::getItems, Page::getCursor, 1)
+                .stream()
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(1, 2, 3), items);
+    }
+
+    @Test
+    public void startFromCursor() {
+        Map<String, Page> pages = pages();
+        PageIterator<Page, Integer> iterator = new PageIterator<>("c2", cursor -> CompletableFuture.completedFuture(pages.get(cursor)), Page::getItems, Page::getCursor, 2);
+
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void prefetchIsBounded() {
+        ManualFetcher fetcher = new ManualFetcher();
+        PageIterator<Page, Integer> bounded = new PageIterator<>(null, cursor -> {
+            CompletableFuture<Page> future = fetcher.fetch(cursor);
+            if(cursor == null) {
+                future.complete(new Page("c1", 1));
+            } else if(cursor.equals("c1")) {
+                future.complete(new Page("c2", 2));
+            }
+            return future;
+        }, Page::getItems, Page::getCursor, 2);
+
+        assertEquals(Integer.valueOf(1), bounded.next());
+        // The first page is consumed, so the next two pages can be buffered: c1 is done and c2 is in flight.
+        assertEquals(Arrays.asList(null, "c1", "c2"), fetcher.cursors);
+
+        fetcher.get("c2").complete(new Page("", 3));
+        assertEquals(Integer.valueOf(2), bounded.next());
+        assertEquals(Integer.valueOf(3), bounded.next());
+        assertFalse(bounded.hasNext());
+        assertEquals(3, fetcher.cursors.size());
+    }
+
+    @Test
+    public void failedPage() {
+        expectedException.expect(CompletionException.class);
+
+        PageIterator<Page, Integer> iterator = new PageIterator<>(null, cursor -> {
+            CompletableFuture<Page> future = new CompletableFuture<>();
+            future.completeExceptionally(new ApiException(500, "error"));
+            return future;
+        }, Page::getItems, Page::getCursor, 2);
+
+        iterator.hasNext();
+    }
+
+    @Test
+    public void closeCancelsPendingPages() {
+        ManualFetcher fetcher = new ManualFetcher();
+        PageIterator<Page, Integer> iterator = new PageIterator<>(null, cursor -> {
+            CompletableFuture<Page> future = fetcher.fetch(cursor);
+            if(cursor == null) {
+                future.complete(new Page("c1", 1));
+            }
+            return future;
+        }, Page::getItems, Page::getCursor, 2);
+
+        assertEquals(Integer.valueOf(1), iterator.next());
+        CompletableFuture<Page> pending = fetcher.get("c1");
+        assertNotNull(pending);
+
+        iterator.close();
+        assertTrue(pending.isCancelled());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void emptyItems() {
+        PageIterator<Page, Integer> iterator = new PageIterator<>(null, cursor -> CompletableFuture.completedFuture(new Page(null)), page -> Collections.emptyList(), Page::getCursor, 1);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void invalidPrefetchSize() {
+        expectedException.expect(IllegalArgumentException.class);
+        new PageIterator<Page, Integer>(null, cursor -> null, Page::getItems, Page::getCursor, 0);
+    }
+}
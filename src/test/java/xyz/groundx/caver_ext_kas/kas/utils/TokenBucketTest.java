@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class TokenBucketTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    public void burst() {
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(-1, bucket.reserve(0));
+    }
+
+    @Test
+    public void release() {
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+
+        assertEquals(0, bucket.reserve(0));
+        bucket.release();
+        bucket.release();
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(-1, bucket.reserve(0));
+    }
+
+    @Test
+    public void reserveInOrder() {
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+
+        assertEquals(0, bucket.reserve(SECOND));
+        assertEquals(SECOND / 10, bucket.reserve(SECOND));
+        assertEquals(SECOND / 5, bucket.reserve(SECOND));
+
+        now.addAndGet(SECOND / 5);
+        assertEquals(SECOND / 10, bucket.reserve(SECOND));
+    }
+
+    @Test
+    public void refill() {
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+        for(int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.reserve(0));
+        }
+
+        now.addAndGet(SECOND);
+        for(int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.reserve(0));
+        }
+        assertEquals(-1, bucket.reserve(0));
+    }
+
+    @Test
+    public void backOffAndRecover() {
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(10, 5, now::get);
+
+        bucket.backOff(2 * SECOND);
+        assertEquals(5.0, bucket.getPermitsPerSecond(), 0);
+        assertEquals(-1, bucket.reserve(SECOND));
+        assertEquals(2 * SECOND + SECOND / 5, bucket.reserve(3 * SECOND));
+
+        for(int i = 0; i < 20; i++) {
+            bucket.recover();
+        }
+        assertEquals(10.0, bucket.getPermitsPerSecond(), 0);
+    }
+
+    @Test
+    public void rateHasLowerBound() {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        for(int i = 0; i < 10; i++) {
+            bucket.backOff(0);
+        }
+        assertEquals(1.0, bucket.getPermitsPerSecond(), 0);
+    }
+
+    @Test
+    public void invalidRate() {
+        expectedException.expect(IllegalArgumentException.class);
+        new TokenBucket(0, 1);
+    }
+}
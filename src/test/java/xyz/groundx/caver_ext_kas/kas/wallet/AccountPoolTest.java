@@ -0,0 +1,249 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import com.squareup.okhttp.Call;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Account;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.*;
+
+public class AccountPoolTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static class FakeWallet extends Wallet {
+        final AtomicInteger sequence = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicInteger requested = new AtomicInteger();
+        final ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+
+        FakeWallet() {
+            super("1001", new ApiClient());
+        }
+
+        @Override
+        public Call createAccountAsync(ApiCallback<Account> callback) throws ApiException {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            responder.schedule(() -> {
+                inFlight.decrementAndGet();
+                if(failures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                    callback.onFailure(new ApiException(500, "failed"), 500, Collections.<String, List<String>>emptyMap());
+                } else {
+                    callback.onSuccess(account(), 200, Collections.<String, List<String>>emptyMap());
+                }
+            }, 10, TimeUnit.MILLISECONDS);
+            return null;
+        }
+
+        @Override
+        Account requestAccount() {
+            requested.incrementAndGet();
+            return account();
+        }
+
+        Account account() {
+            int id = sequence.incrementAndGet();
+            return new Account().address(String.format("0x%040x", id)).keyId("krn:1001:wallet:test:account-pool:default:0x" + id)
+                    .krn("krn:1001:wallet:test:account-pool:default").chainId(1001L);
+        }
+    }
+
+    FakeWallet wallet = new FakeWallet();
+
+    @After
+    public void tearDown() {
+        wallet.disableAccountPool();
+        wallet.responder.shutdownNow();
+    }
+
+    static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while(!condition.getAsBoolean()) {
+            assertTrue("timed out", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void fillWithBoundedConcurrency() throws Exception {
+        AccountPool pool = new AccountPool(wallet, 20, 3);
+        await(() -> pool.getReadyCount() == 20);
+
+        assertEquals(20, pool.getCreatedCount());
+        assertTrue(wallet.maxInFlight.get() <= 3);
+        assertEquals(0, pool.getInFlightCount());
+        pool.shutdown();
+    }
+
+    @Test
+    public void takeAndRefill() throws Exception {
+        AccountPool pool = wallet.enableAccountPool(5, 2);
+        await(() -> pool.getReadyCount() == 5);
+
+        Set<String> addresses = new HashSet<>();
+        for(int i = 0; i < 5; i++) {
+            addresses.add(wallet.createAccount().getAddress());
+        }
+        assertEquals(5, addresses.size());
+        assertEquals(5, pool.getHitCount());
+        assertEquals(0, wallet.requested.get());
+
+        await(() -> pool.getReadyCount() == 5);
+        assertEquals(10, pool.getCreatedCount());
+    }
+
+    @Test
+    public void createOnCallerWhenEmpty() throws Exception {
+        AccountPool pool = wallet.enableAccountPool(0, 1);
+
+        assertNotNull(wallet.createAccount().getAddress());
+        assertNull(pool.poll());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(1, wallet.requested.get());
+    }
+
+    @Test
+    public void retryFailedCreation() throws Exception {
+        wallet.failures.set(1);
+        AccountPool pool = new AccountPool(wallet, 2, 1);
+
+        await(() -> pool.getFailureCount() == 1);
+        assertNotNull(pool.getLastError());
+        await(() -> pool.getReadyCount() == 2);
+        pool.shutdown();
+    }
+
+    @Test
+    public void reuseAccountsInJournal() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("accounts.journal");
+        AccountPool pool = new AccountPool(wallet, 5, 2, journal);
+        await(() -> pool.getReadyCount() == 5);
+
+        String first = pool.take().getAddress();
+        String second = pool.take().getAddress();
+        await(() -> pool.getReadyCount() == 5 && pool.getInFlightCount() == 0);
+        pool.shutdown();
+        int created = wallet.sequence.get();
+
+        AccountPool restarted = new AccountPool(wallet, 3, 2, journal);
+        assertEquals(5, restarted.getReadyCount());
+        assertEquals(0, restarted.getInFlightCount());
+        assertEquals(created, wallet.sequence.get());
+
+        Set<String> reused = new HashSet<>();
+        for(int i = 0; i < 5; i++) {
+            reused.add(restarted.poll().getAddress());
+        }
+        assertEquals(5, reused.size());
+        assertFalse(reused.contains(first));
+        assertFalse(reused.contains(second));
+        restarted.shutdown();
+    }
+
+    @Test
+    public void ignoreCutRecord() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("accounts.journal");
+        AccountPool pool = new AccountPool(wallet, 2, 2, journal);
+        await(() -> pool.getReadyCount() == 2);
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        Files.write(journal, "+{\"address\":\"0x12".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        AccountPool restarted = new AccountPool(wallet, 0, 1, journal);
+        assertEquals(2, restarted.getReadyCount());
+        restarted.shutdown();
+    }
+
+    @Test
+    public void recordCreationsInFlightAfterShutdown() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("accounts.journal");
+        AccountPool pool = new AccountPool(wallet, 3, 3, journal);
+        assertEquals(3, pool.getInFlightCount());
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(3, pool.getCreatedCount());
+
+        AccountPool restarted = new AccountPool(wallet, 3, 3, journal);
+        assertEquals(3, restarted.getReadyCount());
+        assertEquals(0, restarted.getInFlightCount());
+        restarted.shutdown();
+    }
+
+    @Test
+    public void replacePoolUsingSameJournal() throws Exception {
+        Path journal = folder.getRoot().toPath().resolve("accounts.journal");
+        AccountPool first = wallet.enableAccountPool(3, 3, journal);
+        AccountPool second = wallet.enableAccountPool(3, 3, journal);
+
+        // The accounts created by the first pool are loaded by the second one instead of being created again.
+        assertNotSame(first, second);
+        assertEquals(3, second.getReadyCount());
+        assertEquals(0, second.getInFlightCount());
+        assertEquals(3, wallet.sequence.get());
+
+        Set<String> addresses = new HashSet<>();
+        for(int i = 0; i < 3; i++) {
+            addresses.add(wallet.createAccount().getAddress());
+        }
+        assertEquals(3, addresses.size());
+    }
+
+    @Test
+    public void invalidSize() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("size must not be negative.");
+
+        new AccountPool(wallet, -1, 1);
+    }
+
+    @Test
+    public void invalidMaxConcurrency() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("maxConcurrency must be at least 1.");
+
+        new AccountPool(wallet, 1, 0);
+    }
+}
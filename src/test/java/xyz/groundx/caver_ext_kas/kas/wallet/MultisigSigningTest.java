@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import com.squareup.okhttp.Call;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.MultisigTransactionStatus;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class MultisigSigningTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static class FakeWallet extends Wallet {
+        final Map<String, Long> delays = new ConcurrentHashMap<>();
+        final Map<String, Boolean> failing = new ConcurrentHashMap<>();
+        final Map<String, CountDownLatch> blocking = new ConcurrentHashMap<>();
+        final AtomicLong signedWeight = new AtomicLong();
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final long threshold;
+        final ScheduledExecutorService responder = Executors.newScheduledThreadPool(4);
+
+        FakeWallet(long threshold) {
+            super("1001", new ApiClient());
+            this.threshold = threshold;
+        }
+
+        @Override
+        public Call signMultiSigTransactionAsync(String address, String transactionId, ApiCallback<MultisigTransactionStatus> callback) throws ApiException {
+            requests.incrementAndGet();
+            CountDownLatch latch = blocking.get(address);
+            if(latch != null) {
+                try {
+                    latch.await();
+                } catch(InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            responder.schedule(() -> {
+                inFlight.decrementAndGet();
+                if(failing.containsKey(address)) {
+                    callback.onFailure(new ApiException(400, "not a signer"), 400, Collections.<String, List<String>>emptyMap());
+                    return;
+                }
+                long weight = signedWeight.incrementAndGet();
+                MultisigTransactionStatus status = new MultisigTransactionStatus();
+                status.setTransactionId(transactionId);
+                status.setSignedWeight(weight);
+                status.setThreshold(threshold);
+                status.setWeight(1L);
+                status.setStatus(weight >= threshold ? "Submitted" : "Signed");
+                callback.onSuccess(status, 200, Collections.<String, List<String>>emptyMap());
+            }, delays.getOrDefault(address, 10L), TimeUnit.MILLISECONDS);
+            return null;
+        }
+    }
+
+    FakeWallet wallet;
+
+    @After
+    public void tearDown() {
+        if(wallet != null) {
+            wallet.responder.shutdownNow();
+        }
+    }
+
+    @Test
+    public void stopAtThreshold() throws Exception {
+        wallet = new FakeWallet(3);
+        List<String> signers = Arrays.asList("0x1", "0x2", "0x3", "0x4", "0x5");
+        wallet.delays.put("0x1", 10L);
+        wallet.delays.put("0x2", 20L);
+        wallet.delays.put("0x3", 30L);
+        wallet.delays.put("0x4", 2_000L);
+        wallet.delays.put("0x5", 2_000L);
+
+        long startedAt = System.nanoTime();
+        MultisigSigningResult result = wallet.signMultiSigTransaction(signers, "0xtx").get(5, TimeUnit.SECONDS);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1_000);
+        assertTrue(result.isThresholdReached());
+        assertEquals(3, result.getSignedCount());
+        assertEquals(Long.valueOf(3), result.getStatus().getSignedWeight());
+        assertEquals(MultisigSigningResult.State.CANCELLED, result.getAttempts().get(3).getState());
+        assertEquals(MultisigSigningResult.State.CANCELLED, result.getAttempts().get(4).getState());
+        for(MultisigSigningResult.Attempt attempt : result.getAttempts()) {
+            assertTrue(attempt.toString(), attempt.getLatencyMillis() >= 0);
+        }
+        assertTrue(result.getAttempts().get(2).getLatencyMillis() >= 25);
+    }
+
+    @Test
+    public void skipSignersAfterThreshold() throws Exception {
+        wallet = new FakeWallet(2);
+        List<String> signers = Arrays.asList("0x1", "0x2", "0x3", "0x4");
+
+        MultisigSigningResult result = wallet.signMultiSigTransaction(signers, "0xtx", 1).get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isThresholdReached());
+        assertEquals(2, wallet.requests.get());
+        assertEquals(1, wallet.maxInFlight.get());
+        assertEquals(MultisigSigningResult.State.SIGNED, result.getAttempts().get(1).getState());
+        assertEquals(MultisigSigningResult.State.SKIPPED, result.getAttempts().get(2).getState());
+        assertEquals(-1, result.getAttempts().get(3).getLatencyMillis(), 0);
+    }
+
+    @Test
+    public void snapshotAttemptsIntoResult() throws Exception {
+        wallet = new FakeWallet(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        wallet.blocking.put("0x2", latch);
+        List<String> signers = Arrays.asList("0x1", "0x2");
+
+        // The threshold is reached while the request of 0x2 is being started.
+        CompletableFuture<CompletableFuture<MultisigSigningResult>> signing = CompletableFuture.supplyAsync(() -> wallet.signMultiSigTransaction(signers, "0xtx", 2));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while(wallet.signedWeight.get() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(200);
+        latch.countDown();
+        MultisigSigningResult result = signing.get(5, TimeUnit.SECONDS).get(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        assertTrue(result.isThresholdReached());
+        assertEquals(1, result.getSignedCount());
+        MultisigSigningResult.Attempt cancelled = result.getAttempts().get(1);
+        assertEquals(MultisigSigningResult.State.CANCELLED, cancelled.getState());
+        assertTrue(cancelled.toString(), cancelled.getLatencyMillis() >= 0 && cancelled.getLatencyMillis() < 200);
+    }
+
+    @Test
+    public void reportFailedSigners() throws Exception {
+        wallet = new FakeWallet(3);
+        wallet.failing.put("0x2", true);
+        List<String> signers = Arrays.asList("0x1", "0x2", "0x3");
+
+        MultisigSigningResult result = wallet.signMultiSigTransaction(signers, "0xtx", 2).get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isThresholdReached());
+        assertEquals(2, result.getSignedCount());
+        MultisigSigningResult.Attempt failed = result.getAttempts().get(1);
+        assertEquals(MultisigSigningResult.State.FAILED, failed.getState());
+        assertEquals(400, ((ApiException)failed.getError()).getCode());
+        assertEquals(3, wallet.requests.get());
+    }
+
+    @Test
+    public void noSigners() throws Exception {
+        wallet = new FakeWallet(1);
+        MultisigSigningResult result = wallet.signMultiSigTransaction(Collections.<String>emptyList(), "0xtx").get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isThresholdReached());
+        assertTrue(result.getAttempts().isEmpty());
+        assertNull(result.getStatus());
+    }
+
+    @Test
+    public void requireTransactionId() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("transactionId is required.");
+
+        wallet = new FakeWallet(1);
+        wallet.signMultiSigTransaction(Collections.singletonList("0x1"), null);
+    }
+
+    @Test
+    public void invalidMaxConcurrency() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("maxConcurrency must be at least 1.");
+
+        wallet = new FakeWallet(1);
+        wallet.signMultiSigTransaction(Collections.singletonList("0x1"), "0xtx", 0);
+    }
+}
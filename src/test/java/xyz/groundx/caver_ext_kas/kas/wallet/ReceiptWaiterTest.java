@@ -0,0 +1,263 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import com.squareup.okhttp.Call;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Request;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiCallback;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ReceiptWaiterTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static class FakeWallet extends Wallet {
+        final Map<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+        final Map<String, Integer> finalizedAt = new ConcurrentHashMap<>();
+        final Map<String, Integer> failWith = new ConcurrentHashMap<>();
+        final Map<String, Long> delayMillis = new ConcurrentHashMap<>();
+        final AtomicInteger cancelled = new AtomicInteger();
+        final OkHttpClient httpClient = new OkHttpClient();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final ScheduledExecutorService responder = Executors.newSingleThreadScheduledExecutor();
+
+        FakeWallet() {
+            super("1001", new ApiClient());
+        }
+
+        @Override
+        public Call getTransactionAsync(String transactionHash, ApiCallback<TransactionReceipt> callback) throws ApiException {
+            int count = polls.computeIfAbsent(transactionHash, hash -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            Call call = httpClient.newCall(new Request.Builder().url("http://localhost/").build());
+            responder.schedule(() -> {
+                inFlight.decrementAndGet();
+                Integer finalizedAtPoll = finalizedAt.get(transactionHash);
+                Integer code = failWith.get(transactionHash);
+                if(call.isCanceled()) {
+                    cancelled.incrementAndGet();
+                    callback.onFailure(new ApiException(new IOException("Canceled")), 0, Collections.<String, List<String>>emptyMap());
+                } else if(code != null) {
+                    callback.onFailure(new ApiException(code, "failed"), code, Collections.<String, List<String>>emptyMap());
+                } else if(finalizedAtPoll != null && count >= finalizedAtPoll) {
+                    callback.onSuccess(TransactionReceiptCacheTest.receipt(transactionHash), 200, Collections.<String, List<String>>emptyMap());
+                } else {
+                    callback.onFailure(new ApiException(404, "not found"), 404, Collections.<String, List<String>>emptyMap());
+                }
+            }, delayMillis.getOrDefault(transactionHash, 20L), TimeUnit.MILLISECONDS);
+            return call;
+        }
+    }
+
+    static ReceiptWaiter waiter(Wallet wallet) {
+        return new ReceiptWaiter(wallet)
+                .setInitialIntervalMillis(10)
+                .setMaxIntervalMillis(40)
+                .setTimeoutMillis(5000);
+    }
+
+    @Test
+    public void awaitReceipt() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.finalizedAt.put("0x01", 3);
+        wallet.setReceiptWaiter(waiter(wallet));
+
+        TransactionReceipt receipt = wallet.awaitReceipt("0x01").get(5, TimeUnit.SECONDS);
+
+        assertEquals("0x01", receipt.getTransactionHash());
+        assertEquals(3, wallet.polls.get("0x01").get());
+        assertEquals(0, wallet.getReceiptWaiter().getPendingCount());
+    }
+
+    @Test
+    public void shareSameTransaction() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.finalizedAt.put("0xab", 2);
+        ReceiptWaiter waiter = waiter(wallet);
+
+        CompletableFuture<TransactionReceipt> first = waiter.await("0xab");
+        CompletableFuture<TransactionReceipt> second = waiter.await("0xAB");
+        assertEquals(1, waiter.getPendingCount());
+
+        second.cancel(true);
+        assertNotNull(first.get(5, TimeUnit.SECONDS));
+        assertEquals(2, wallet.polls.get("0xab").get());
+    }
+
+    @Test
+    public void timeout() throws Exception {
+        expectedException.expect(ExecutionException.class);
+        expectedException.expectCause(org.hamcrest.CoreMatchers.instanceOf(TimeoutException.class));
+
+        FakeWallet wallet = new FakeWallet();
+        ReceiptWaiter waiter = waiter(wallet);
+
+        CompletableFuture<TransactionReceipt> future = waiter.await("0x01", 200);
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } finally {
+            assertEquals(0, waiter.getPendingCount());
+            assertTrue(wallet.polls.get("0x01").get() >= 2);
+        }
+    }
+
+    @Test
+    public void boundConcurrency() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        ReceiptWaiter waiter = waiter(wallet).setMaxConcurrency(2);
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[10];
+        for(int i = 0; i < futures.length; i++) {
+            String hash = "0x0" + i;
+            wallet.finalizedAt.put(hash, 2);
+            futures[i] = waiter.await(hash);
+        }
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+
+        assertTrue(wallet.maxInFlight.get() <= 2);
+        assertEquals(0, waiter.getPendingCount());
+    }
+
+    @Test
+    public void stopPollingWhenAllWaitersCancel() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        ReceiptWaiter waiter = waiter(wallet);
+
+        CompletableFuture<TransactionReceipt> first = waiter.await("0x01");
+        CompletableFuture<TransactionReceipt> second = waiter.await("0x01");
+        Thread.sleep(100);
+
+        first.cancel(true);
+        assertEquals(1, waiter.getPendingCount());
+        second.cancel(true);
+        assertEquals(0, waiter.getPendingCount());
+
+        Thread.sleep(100);
+        int polls = wallet.polls.get("0x01").get();
+        Thread.sleep(200);
+        assertEquals(polls, wallet.polls.get("0x01").get());
+    }
+
+    @Test
+    public void failPermanentError() throws Exception {
+        expectedException.expect(ExecutionException.class);
+        expectedException.expectCause(org.hamcrest.CoreMatchers.instanceOf(ApiException.class));
+
+        FakeWallet wallet = new FakeWallet();
+        wallet.failWith.put("0x01", 401);
+        ReceiptWaiter waiter = waiter(wallet);
+
+        CompletableFuture<TransactionReceipt> future = waiter.await("0x01");
+        try {
+            future.get(1, TimeUnit.SECONDS);
+        } finally {
+            assertEquals(1, wallet.polls.get("0x01").get());
+            assertEquals(0, waiter.getPendingCount());
+        }
+    }
+
+    @Test
+    public void retryTransientError() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.failWith.put("0x01", 503);
+        ReceiptWaiter waiter = waiter(wallet);
+
+        CompletableFuture<TransactionReceipt> future = waiter.await("0x01");
+        Thread.sleep(100);
+        wallet.failWith.remove("0x01");
+        wallet.finalizedAt.put("0x01", 1);
+
+        assertNotNull(future.get(5, TimeUnit.SECONDS));
+        assertTrue(wallet.polls.get("0x01").get() >= 2);
+    }
+
+    @Test
+    public void timeoutWhileConcurrencyIsSaturated() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.delayMillis.put("0x01", 3000L);
+        ReceiptWaiter waiter = waiter(wallet).setMaxConcurrency(1);
+
+        waiter.await("0x01");
+        Thread.sleep(50);
+        CompletableFuture<TransactionReceipt> future = waiter.await("0x02", 200);
+
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertNull(wallet.polls.get("0x02"));
+        waiter.shutdown();
+    }
+
+    @Test
+    public void cancelCallInFlightAtTimeout() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.delayMillis.put("0x01", 500L);
+        ReceiptWaiter waiter = waiter(wallet);
+
+        CompletableFuture<TransactionReceipt> future = waiter.await("0x01", 100);
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertEquals(0, waiter.getPendingCount());
+
+        Thread.sleep(600);
+        assertEquals(1, wallet.cancelled.get());
+    }
+
+    @Test
+    public void shutdown() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        ReceiptWaiter waiter = waiter(wallet);
+        CompletableFuture<TransactionReceipt> future = waiter.await("0x01");
+
+        waiter.shutdown();
+        assertTrue(future.isCompletedExceptionally());
+
+        expectedException.expect(IllegalStateException.class);
+        waiter.await("0x02");
+    }
+}
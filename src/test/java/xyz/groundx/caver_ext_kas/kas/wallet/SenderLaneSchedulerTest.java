@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionResult;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ValueTransferTransactionRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class SenderLaneSchedulerTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static final long ERROR_NONCE = -2;
+
+    static class FakeWallet extends Wallet {
+        final Map<String, List<Long>> sent = new ConcurrentHashMap<>();
+        final Map<String, AtomicInteger> inFlightBySender = new ConcurrentHashMap<>();
+        final AtomicInteger maxInFlightBySender = new AtomicInteger();
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+
+        FakeWallet() {
+            super("1001", new ApiClient());
+        }
+
+        @Override
+        public TransactionResult requestValueTransfer(ValueTransferTransactionRequest request) throws ApiException {
+            AtomicInteger senderInFlight = inFlightBySender.computeIfAbsent(request.getFrom(), from -> new AtomicInteger());
+            maxInFlightBySender.accumulateAndGet(senderInFlight.incrementAndGet(), Math::max);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+                sent.computeIfAbsent(request.getFrom(), from -> new CopyOnWriteArrayList<>()).add(request.getNonce());
+                if(request.getNonce() == ERROR_NONCE) {
+                    throw new AssertionError("broken request");
+                }
+                if(request.getNonce() < 0) {
+                    throw new ApiException(400, "invalid nonce");
+                }
+                return new TransactionResult().from(request.getFrom()).nonce(request.getNonce());
+            } catch (InterruptedException e) {
+                throw new ApiException(e);
+            } finally {
+                inFlight.decrementAndGet();
+                senderInFlight.decrementAndGet();
+            }
+        }
+    }
+
+    FakeWallet wallet = new FakeWallet();
+    SenderLaneScheduler scheduler = new SenderLaneScheduler(wallet, 8);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    static String sender(int i) {
+        return String.format("0x%040x", i);
+    }
+
+    static ValueTransferTransactionRequest request(String from, long nonce) {
+        return new ValueTransferTransactionRequest().from(from).to(sender(999)).value("0x1").nonce(nonce);
+    }
+
+    @Test
+    public void keepOrderPerSender() {
+        List<CompletableFuture<TransactionResult>> futures = new ArrayList<>();
+        for(int nonce = 0; nonce < 20; nonce++) {
+            for(int i = 0; i < 10; i++) {
+                futures.add(scheduler.requestValueTransfer(request(sender(i), nonce)));
+            }
+        }
+        futures.forEach(CompletableFuture::join);
+
+        for(int i = 0; i < 10; i++) {
+            List<Long> nonces = wallet.sent.get(sender(i));
+            assertEquals(20, nonces.size());
+            for(int nonce = 0; nonce < 20; nonce++) {
+                assertEquals(nonce, (long)nonces.get(nonce));
+            }
+        }
+        assertEquals(1, wallet.maxInFlightBySender.get());
+        assertTrue(wallet.maxInFlight.get() > 1);
+        assertTrue(wallet.maxInFlight.get() <= 8);
+
+        // A lane is removed right after its last future is completed.
+        long deadline = System.currentTimeMillis() + 5_000;
+        while(scheduler.getLaneCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.yield();
+        }
+        assertEquals(0, scheduler.getLaneCount());
+    }
+
+    @Test
+    public void sameLaneIgnoringCase() {
+        String sender = "0xAbCdEf0000000000000000000000000000000001";
+        List<CompletableFuture<TransactionResult>> futures = new ArrayList<>();
+        for(int nonce = 0; nonce < 10; nonce++) {
+            String from = nonce % 2 == 0 ? sender : sender.toLowerCase();
+            ValueTransferTransactionRequest request = request(sender, nonce);
+            futures.add(scheduler.submit(from, () -> wallet.requestValueTransfer(request)));
+        }
+        futures.forEach(CompletableFuture::join);
+
+        assertEquals(1, wallet.maxInFlightBySender.get());
+        for(int nonce = 0; nonce < 10; nonce++) {
+            assertEquals(nonce, (long)wallet.sent.get(sender).get(nonce));
+        }
+    }
+
+    @Test
+    public void continueAfterFailure() {
+        CompletableFuture<TransactionResult> failed = scheduler.requestValueTransfer(request(sender(1), -1));
+        CompletableFuture<TransactionResult> next = scheduler.requestValueTransfer(request(sender(1), 1));
+
+        try {
+            failed.join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof ApiException);
+        }
+        assertEquals(Long.valueOf(1), next.join().getNonce());
+    }
+
+    @Test
+    public void continueAfterError() throws Exception {
+        CompletableFuture<TransactionResult> failed = scheduler.requestValueTransfer(request(sender(1), ERROR_NONCE));
+        CompletableFuture<TransactionResult> next = scheduler.requestValueTransfer(request(sender(1), 1));
+
+        try {
+            failed.get(5, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof AssertionError);
+        }
+        assertEquals(Long.valueOf(1), next.get(5, TimeUnit.SECONDS).getNonce());
+    }
+
+    @Test
+    public void notBlockOtherSenders() throws Exception {
+        SenderLaneScheduler single = new SenderLaneScheduler(wallet, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<Void> blocked = single.submit(sender(1), () -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new ApiException(e);
+                }
+                return null;
+            });
+            single.submit(sender(1), () -> null);
+
+            assertNotNull(single.requestValueTransfer(request(sender(2), 1)).get(5, TimeUnit.SECONDS));
+            assertEquals(1, single.getQueuedCount());
+            assertFalse(blocked.isDone());
+        } finally {
+            release.countDown();
+            single.shutdown();
+        }
+    }
+
+    @Test
+    public void rejectAfterShutdown() {
+        scheduler.shutdown();
+        CompletableFuture<TransactionResult> future = scheduler.requestValueTransfer(request(sender(1), 1));
+
+        try {
+            future.join();
+            fail();
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(0, scheduler.getLaneCount());
+    }
+
+    @Test
+    public void requireSender() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("from is required.");
+
+        scheduler.requestValueTransfer(new ValueTransferTransactionRequest());
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiClient;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ApiException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionResult;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ValueTransferTransactionRequest;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class TransactionOutboxTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static class FakeWallet extends Wallet {
+        final AtomicInteger requests = new AtomicInteger();
+        volatile CountDownLatch blocker;
+        volatile int failWith;
+
+        FakeWallet() {
+            super("1001", new ApiClient());
+        }
+
+        @Override
+        public TransactionResult requestValueTransfer(ValueTransferTransactionRequest request) throws ApiException {
+            requests.incrementAndGet();
+            CountDownLatch latch = blocker;
+            if(latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new ApiException(e);
+                }
+            }
+            if(failWith != 0) {
+                throw new ApiException(failWith, "failed");
+            }
+            return new TransactionResult().from(request.getFrom()).to(request.getTo()).value(request.getValue())
+                    .nonce(request.getNonce()).status("Submitted").transactionHash(String.format("0x%064x", request.getNonce()));
+        }
+    }
+
+    static ValueTransferTransactionRequest request(long nonce) {
+        return new ValueTransferTransactionRequest()
+                .from("0x1b71a63903e35371e2fc41c6012effb99b9a2c0f")
+                .to("0x6f4d5a7b4e4e8b25c1d44ef8bd6a6e3d8b9a5bcb")
+                .value("0x1")
+                .nonce(nonce)
+                .submit(true);
+    }
+
+    Path logPath() {
+        return folder.getRoot().toPath().resolve("wallet.outbox");
+    }
+
+    @Test
+    public void submit() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath())) {
+            CompletableFuture<TransactionResult> future = outbox.submit(request(1));
+            TransactionResult result = future.get(5, TimeUnit.SECONDS);
+
+            assertEquals(String.format("0x%064x", 1), result.getTransactionHash());
+            assertEquals(TransactionOutbox.State.COMPLETED, outbox.getEntry(TransactionOutbox.hash(ValueTransferTransactionRequest.class.getName(),
+                    new ApiClient().getJSON().serialize(request(1)))).getState());
+            assertTrue(outbox.getUnfinishedEntries().isEmpty());
+        }
+    }
+
+    @Test
+    public void detectDuplicate() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath())) {
+            CompletableFuture<TransactionResult> first = outbox.submit(request(1));
+            CompletableFuture<TransactionResult> second = outbox.submit(request(1));
+            CompletableFuture<TransactionResult> other = outbox.submit("another", request(1));
+
+            assertEquals(first.join().getTransactionHash(), second.join().getTransactionHash());
+            other.join();
+            assertEquals(2, wallet.requests.get());
+        }
+
+        // The result is loaded from the log, so the same request is not sent after reopening.
+        FakeWallet reopenedWallet = new FakeWallet();
+        try (TransactionOutbox outbox = new TransactionOutbox(reopenedWallet, logPath())) {
+            TransactionResult result = outbox.<TransactionResult>submit(request(1)).get(5, TimeUnit.SECONDS);
+
+            assertEquals(String.format("0x%064x", 1), result.getTransactionHash());
+            assertEquals(0, reopenedWallet.requests.get());
+            assertTrue(outbox.replay().isEmpty());
+        }
+    }
+
+    @Test
+    public void replayAfterCrash() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.blocker = new CountDownLatch(1);
+        Path copy = folder.getRoot().toPath().resolve("copy.outbox");
+
+        TransactionOutbox outbox = new TransactionOutbox(wallet, logPath());
+        outbox.submit(request(1));
+        outbox.submit(request(2));
+        while(wallet.requests.get() < 2) {
+            Thread.sleep(5);
+        }
+        // The copy is the log of a process which crashed while KAS was handling the requests.
+        Files.copy(logPath(), copy);
+        wallet.blocker.countDown();
+        outbox.close();
+
+        FakeWallet restartedWallet = new FakeWallet();
+        try (TransactionOutbox restarted = new TransactionOutbox(restartedWallet, copy)) {
+            List<TransactionOutbox.Entry> unfinished = restarted.getUnfinishedEntries();
+            assertEquals(2, unfinished.size());
+            assertEquals(TransactionOutbox.State.SUBMITTED, unfinished.get(0).getState());
+
+            List<TransactionOutbox.Entry> replayed = restarted.replay();
+            assertEquals(2, replayed.size());
+            for(TransactionOutbox.Entry entry : replayed) {
+                entry.getFuture().get(5, TimeUnit.SECONDS);
+            }
+            assertEquals(2, restartedWallet.requests.get());
+            assertTrue(restarted.getUnfinishedEntries().isEmpty());
+        }
+    }
+
+    @Test
+    public void ignoreCutRecord() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath())) {
+            outbox.submit(request(1)).get(5, TimeUnit.SECONDS);
+        }
+
+        int end;
+        try (OutboxLog log = new OutboxLog(logPath(), TransactionOutbox.INITIAL_CAPACITY)) {
+            assertEquals(3, log.read().size());
+            end = log.size();
+        }
+        // A record whose header is written but whose payload is not.
+        try (FileChannel channel = FileChannel.open(logPath(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 100, 1, 2, 3, 4, TransactionOutbox.INTENT}), end);
+        }
+
+        try (TransactionOutbox reopened = new TransactionOutbox(new FakeWallet(), logPath())) {
+            assertTrue(reopened.getUnfinishedEntries().isEmpty());
+            assertNotNull(reopened.submit(request(2)).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void rejectedRequest() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.failWith = 400;
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath())) {
+            CompletableFuture<TransactionResult> future = outbox.submit(request(1));
+            try {
+                future.join();
+                fail();
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof ApiException);
+            }
+
+            assertTrue(outbox.getUnfinishedEntries().isEmpty());
+            assertTrue(outbox.replay().isEmpty());
+            assertEquals(1, wallet.requests.get());
+        }
+    }
+
+    @Test
+    public void retryTransientFailure() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        wallet.failWith = 503;
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath())) {
+            CompletableFuture<TransactionResult> future = outbox.submit(request(1));
+            try {
+                future.join();
+                fail();
+            } catch (CompletionException e) {
+                assertEquals(503, ((ApiException)e.getCause()).getCode());
+            }
+            assertEquals(TransactionOutbox.State.SUBMITTED, outbox.getUnfinishedEntries().get(0).getState());
+
+            wallet.failWith = 0;
+            TransactionResult result = outbox.<TransactionResult>submit(request(1)).get(5, TimeUnit.SECONDS);
+            assertNotNull(result.getTransactionHash());
+            assertEquals(2, wallet.requests.get());
+        }
+    }
+
+    @Test
+    public void groupCommit() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath(), 16, 1000)) {
+            List<CompletableFuture<TransactionResult>> futures = new ArrayList<>();
+            for(int i = 0; i < 500; i++) {
+                futures.add(outbox.submit(request(i)));
+            }
+            for(CompletableFuture<TransactionResult> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            assertEquals(1500, outbox.getAppendCount());
+            assertTrue(outbox.getSyncCount() < outbox.getAppendCount());
+        }
+    }
+
+    @Test
+    public void keepCompletedEntries() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath(), 4, 2)) {
+            for(int i = 0; i < 5; i++) {
+                outbox.submit("key-" + i, request(i)).get(5, TimeUnit.SECONDS);
+            }
+            assertNull(outbox.getEntry("key-0"));
+            assertNotNull(outbox.getEntry("key-4"));
+        }
+
+        try (TransactionOutbox reopened = new TransactionOutbox(new FakeWallet(), logPath(), 4, 2)) {
+            assertNull(reopened.getEntry("key-2"));
+            assertEquals(TransactionOutbox.State.COMPLETED, reopened.getEntry("key-3").getState());
+            assertNotNull(((TransactionResult)reopened.getEntry("key-4").getResult()).getTransactionHash());
+        }
+    }
+
+    @Test
+    public void growLog() throws Exception {
+        Path path = logPath();
+        try (OutboxLog log = new OutboxLog(path, 64)) {
+            log.read();
+            int offset = 0;
+            for(int i = 0; i < 100; i++) {
+                offset = log.append(TransactionOutbox.INTENT, TransactionOutbox.encode(i, "value-" + i));
+            }
+            log.sync(offset);
+        }
+
+        try (OutboxLog log = new OutboxLog(path, 64)) {
+            assertEquals(100, log.read().size());
+        }
+    }
+
+    @Test
+    public void rollOverLog() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath(), 16, 10, 16 * 1024)) {
+            List<CompletableFuture<TransactionResult>> futures = new ArrayList<>();
+            for(int i = 0; i < 500; i++) {
+                futures.add(outbox.submit("key-" + i, request(i)));
+            }
+            for(CompletableFuture<TransactionResult> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            assertTrue(outbox.getRollCount() > 0);
+            assertEquals(1500, outbox.getAppendCount());
+            assertEquals(TransactionOutbox.INITIAL_CAPACITY, Files.size(logPath()));
+        }
+
+        try (TransactionOutbox reopened = new TransactionOutbox(new FakeWallet(), logPath(), 16, 10)) {
+            assertNull(reopened.getEntry("key-0"));
+            assertEquals(TransactionOutbox.State.COMPLETED, reopened.getEntry("key-499").getState());
+            assertEquals(String.format("0x%064x", 499), ((TransactionResult)reopened.getEntry("key-499").getResult()).getTransactionHash());
+            assertTrue(reopened.getUnfinishedEntries().isEmpty());
+        }
+    }
+
+    @Test
+    public void keepUnfinishedEntryAcrossRollOver() throws Exception {
+        FakeWallet wallet = new FakeWallet();
+        Path copy = folder.getRoot().toPath().resolve("copy.outbox");
+        try (TransactionOutbox outbox = new TransactionOutbox(wallet, logPath(), 2, 10, 16 * 1024)) {
+            CountDownLatch blocker = new CountDownLatch(1);
+            wallet.blocker = blocker;
+            outbox.submit("blocked", request(0));
+            while(wallet.requests.get() < 1) {
+                Thread.sleep(5);
+            }
+
+            // The other sender rolls the log over while the blocked request is submitted.
+            wallet.blocker = null;
+            for(int i = 1; i <= 200; i++) {
+                outbox.submit("key-" + i, request(i)).get(5, TimeUnit.SECONDS);
+            }
+            assertTrue(outbox.getRollCount() > 0);
+
+            // The copy is the log left by a crash.
+            Files.copy(logPath(), copy);
+            blocker.countDown();
+        }
+
+        try (TransactionOutbox reopened = new TransactionOutbox(new FakeWallet(), copy, 2, 10)) {
+            assertEquals(TransactionOutbox.State.SUBMITTED, reopened.getEntry("blocked").getState());
+            assertEquals(1, reopened.getUnfinishedEntries().size());
+        }
+    }
+
+    @Test
+    public void unsupportedRequest() throws Exception {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The request type is not supported: java.lang.String");
+
+        try (TransactionOutbox outbox = new TransactionOutbox(new FakeWallet(), logPath())) {
+            outbox.submit("request");
+        }
+    }
+}
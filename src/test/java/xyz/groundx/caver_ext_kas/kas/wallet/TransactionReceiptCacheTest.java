@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.kas.wallet;
+
+import com.squareup.okhttp.Call;
+import org.junit.Test;
+import xyz.groundx.caver_ext_kas.CaverExtKAS;
+import xyz.groundx.caver_ext_kas.fake.FakeKASServer;
+import xyz.groundx.caver_ext_kas.kas.utils.ApiCallFuture;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.EventLog;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionResult;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.ValueTransferTransactionRequest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TransactionReceiptCacheTest {
+
+    static TransactionReceipt receipt(String hash) {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(hash);
+        receipt.setBlockHash("0x4d2bdb8f0ad2b0a2c4bb4a8d3f3f5c6f2a0c5f2e2c0b8e7b9d7d5b3a1c9e7f5a");
+        receipt.setBlockNumber("0x1f");
+        receipt.setStatus("0x1");
+        receipt.setFrom("0x8a7b4f3cd7c6fcd2e1f5e3b4a0d6c9e8f7a1b2c3");
+        receipt.setGas("0x61a8");
+
+        EventLog log = new EventLog();
+        log.setAddress("0x8a7b4f3cd7c6fcd2e1f5e3b4a0d6c9e8f7a1b2c3");
+        log.setData("0x00");
+        log.setTopics(Arrays.asList("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef"));
+        receipt.setLogs(Arrays.asList(log));
+        return receipt;
+    }
+
+    @Test
+    public void cacheFinalizedReceipt() {
+        TransactionReceiptCache cache = new TransactionReceiptCache(10, Long.MAX_VALUE, false, new JSON());
+        TransactionReceipt receipt = receipt("0xAB");
+
+        assertTrue(cache.put("0xAB", receipt));
+        assertEquals(receipt, cache.get("0xab"));
+        assertTrue(cache.bytes() > 0);
+    }
+
+    @Test
+    public void handOutCopies() {
+        TransactionReceiptCache cache = new TransactionReceiptCache(10, Long.MAX_VALUE, false, new JSON());
+        TransactionReceipt receipt = receipt("0x01");
+        cache.put("0x01", receipt);
+
+        // Neither the cached receipt nor the returned ones are shared with a caller.
+        receipt.setStatus("0x0");
+        TransactionReceipt first = cache.get("0x01");
+        assertEquals("0x1", first.getStatus());
+
+        first.getLogs().get(0).setData("0xff");
+        TransactionReceipt second = cache.get("0x01");
+        assertNotSame(first, second);
+        assertEquals("0x00", second.getLogs().get(0).getData());
+    }
+
+    @Test
+    public void getTransactionAsyncFromCache() throws Exception {
+        try(FakeKASServer server = new FakeKASServer().start()) {
+            CaverExtKAS caver = new CaverExtKAS();
+            caver.initWalletAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+            caver.kas.wallet.enableReceiptCache(10, Long.MAX_VALUE, false);
+
+            ValueTransferTransactionRequest request = new ValueTransferTransactionRequest();
+            request.setFrom("0x6a3edfad6d1126020d5369e9097db39281876c5d");
+            request.setTo("0xd4c7ff6a6a1b2e3b8d1f1b2c6d7e1f2a3b4c5d6e");
+            request.setValue("0x1");
+            request.setSubmit(true);
+            TransactionResult result = caver.kas.wallet.requestValueTransfer(request);
+            TransactionReceipt receipt = caver.kas.wallet.getTransaction(result.getTransactionHash());
+            long requestCount = server.getRequestCount();
+
+            ApiCallFuture<TransactionReceipt> future = new ApiCallFuture<>(null);
+            Call call = caver.kas.wallet.getTransactionAsync(result.getTransactionHash(), future);
+            assertNotNull(call);
+            assertEquals(receipt, future.get(5, TimeUnit.SECONDS));
+            assertNotSame(receipt, future.get());
+            assertEquals(requestCount, server.getRequestCount());
+        }
+    }
+
+    @Test
+    public void notCachePendingReceipt() {
+        TransactionReceiptCache cache = new TransactionReceiptCache(10, Long.MAX_VALUE, false, new JSON());
+        TransactionReceipt receipt = receipt("0x01");
+        receipt.setBlockNumber(null);
+
+        assertFalse(cache.put("0x01", receipt));
+        assertNull(cache.get("0x01"));
+        assertFalse(cache.put("0x02", null));
+    }
+
+    @Test
+    public void compactForm() {
+        TransactionReceiptCache cache = new TransactionReceiptCache(10, Long.MAX_VALUE, true, new JSON());
+        TransactionReceipt receipt = receipt("0x01");
+        cache.put("0x01", receipt);
+
+        TransactionReceipt cached = cache.get("0x01");
+        assertNotSame(receipt, cached);
+        assertEquals(receipt, cached);
+
+        TransactionReceiptCache objectCache = new TransactionReceiptCache(10, Long.MAX_VALUE, false, new JSON());
+        objectCache.put("0x01", receipt);
+        assertTrue(cache.bytes() < objectCache.bytes());
+    }
+
+    @Test
+    public void boundedByBytes() {
+        long receiptBytes = TransactionReceiptCache.approximateBytes(receipt("0x01"));
+        TransactionReceiptCache cache = new TransactionReceiptCache(10, receiptBytes * 2, false, new JSON());
+
+        cache.put("0x01", receipt("0x01"));
+        cache.put("0x02", receipt("0x02"));
+        cache.put("0x03", receipt("0x03"));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("0x01"));
+        assertTrue(cache.bytes() <= receiptBytes * 2);
+    }
+
+    @Test
+    public void boundedByEntries() {
+        TransactionReceiptCache cache = new TransactionReceiptCache(1, Long.MAX_VALUE, true, new JSON());
+        cache.put("0x01", receipt("0x01"));
+        cache.put("0x02", receipt("0x02"));
+
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get("0x02"));
+        assertEquals(1, cache.getStats().getEvictionCount());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client;
+
+import com.google.gson.reflect.TypeToken;
+import com.squareup.okhttp.*;
+import org.junit.Test;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.FtTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.KlayTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.PageableTransfers;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.auth.HttpBasicAuth;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class ApiClientTest {
+    static final String PAGEABLE_TRANSFERS = "{\"items\":[" +
+            "{\"transferType\":\"klay\",\"transaction\":{\"transactionHash\":\"0xaa\",\"blockNumber\":1,\"timestamp\":1599000000},\"from\":\"0x01\",\"to\":\"0x02\",\"value\":\"0x1\"}," +
+            "{\"transferType\":\"ft\",\"contract\":{\"address\":\"0x03\",\"decimals\":18,\"name\":\"Token\",\"symbol\":\"TK\"},\"transaction\":{\"transactionHash\":\"0xbb\",\"blockNumber\":2,\"timestamp\":1599000001},\"from\":\"0x01\",\"to\":\"0x02\",\"formattedValue\":\"1\",\"transferFrom\":\"0x01\",\"transferTo\":\"0x02\",\"value\":\"0x1\"}" +
+            "],\"cursor\":\"next\"}";
+
+    static Response makeResponse(String contentType, String body) {
+        Request request = new Request.Builder().url("http://localhost/v2/transfer").build();
+        Response.Builder builder = new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(contentType == null ? null : MediaType.parse(contentType), body));
+        if(contentType != null) {
+            builder.header("Content-Type", contentType);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void deserializeStreamingJson() throws ApiException {
+        ApiClient apiClient = new ApiClient();
+        Type type = new TypeToken<PageableTransfers>(){}.getType();
+
+        PageableTransfers transfers = apiClient.deserialize(makeResponse("application/json", PAGEABLE_TRANSFERS), type);
+
+        assertEquals("next", transfers.getCursor());
+        assertEquals(2, transfers.getItems().size());
+        assertTrue(transfers.getItems().get(0) instanceof KlayTransfer);
+        assertTrue(transfers.getItems().get(1) instanceof FtTransfer);
+    }
+
+    @Test
+    public void deserializeLenientJson() throws ApiException {
+        ApiClient apiClient = new ApiClient();
+        apiClient.setLenientOnJson(true);
+        Type type = new TypeToken<PageableTransfers>(){}.getType();
+
+        PageableTransfers transfers = apiClient.deserialize(makeResponse("application/json", "{cursor:'next'}"), type);
+        assertEquals("next", transfers.getCursor());
+    }
+
+    @Test
+    public void deserializeEmptyBody() throws ApiException {
+        ApiClient apiClient = new ApiClient();
+        Type type = new TypeToken<PageableTransfers>(){}.getType();
+
+        assertNull(apiClient.deserialize(makeResponse("application/json", ""), type));
+    }
+
+    @Test
+    public void deserializeStringFallback() throws ApiException {
+        ApiClient apiClient = new ApiClient();
+
+        String body = apiClient.deserialize(makeResponse("application/json", "not a json"), String.class);
+        assertEquals("not a json", body);
+
+        body = apiClient.deserialize(makeResponse("text/plain", "plain"), String.class);
+        assertEquals("plain", body);
+    }
+
+    @Test
+    public void cacheBasicAuthorization() {
+        ApiClient apiClient = new ApiClient();
+        HttpBasicAuth auth = (HttpBasicAuth)apiClient.getAuthentication("basic");
+        Map<String, String> headers = new HashMap<>();
+
+        auth.applyToParams(new ArrayList<>(), headers);
+        assertFalse(headers.containsKey("Authorization"));
+
+        apiClient.setUsername("accessKeyId");
+        apiClient.setPassword("secretAccessKey");
+        String authorization = auth.getAuthorization();
+        assertEquals(Credentials.basic("accessKeyId", "secretAccessKey"), authorization);
+
+        auth.applyToParams(new ArrayList<>(), headers);
+        assertSame(authorization, headers.get("Authorization"));
+
+        apiClient.setCredentials("newAccessKeyId", "newSecretAccessKey");
+        assertEquals("newAccessKeyId", auth.getUsername());
+        assertEquals("newSecretAccessKey", auth.getPassword());
+        auth.applyToParams(new ArrayList<>(), headers);
+        assertEquals(Credentials.basic("newAccessKeyId", "newSecretAccessKey"), headers.get("Authorization"));
+    }
+}
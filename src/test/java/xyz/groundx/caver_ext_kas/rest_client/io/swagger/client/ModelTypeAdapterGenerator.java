@@ -0,0 +1,345 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the TypeAdapterFactory of each model package, which reads and writes the models without reflection.
+ * Run it from the project directory after the models are regenerated by swagger-codegen. ModelTypeAdaptersTest fails if the generated sources are out of date.
+ */
+public class ModelTypeAdapterGenerator {
+
+    static final String MAIN_SOURCES = "src/main/java";
+
+    /**
+     * The model packages and the name of the TypeAdapterFactory generated in each package.
+     */
+    static final String[][] PACKAGES = {
+            {"xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model", "AnchorModelTypeAdapters"},
+            {"xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model", "TokenHistoryModelTypeAdapters"},
+            {"xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model", "WalletModelTypeAdapters"},
+    };
+
+    public static void main(String[] args) throws Exception {
+        Path root = Paths.get(args.length > 0 ? args[0] : ".");
+        for(String[] pkg : PACKAGES) {
+            Path path = sourcePath(root, pkg[0], pkg[1]);
+            Files.write(path, generate(pkg[0], pkg[1], modelClasses(root, pkg[0])).getBytes(StandardCharsets.UTF_8));
+            System.out.println("Generated " + path);
+        }
+    }
+
+    static Path sourcePath(Path root, String packageName, String className) {
+        return root.resolve(MAIN_SOURCES).resolve(packageName.replace('.', File.separatorChar)).resolve(className + ".java");
+    }
+
+    /**
+     * Returns the model classes of the package which can have a generated adapter.
+     * Interfaces, collections and maps are left to Gson.
+     */
+    static List<Class<?>> modelClasses(Path root, String packageName) throws IOException, ClassNotFoundException {
+        Path dir = root.resolve(MAIN_SOURCES).resolve(packageName.replace('.', File.separatorChar));
+        List<String> names;
+        try(java.util.stream.Stream<Path> files = Files.list(dir)) {
+            names = files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(".java"))
+                    .map(name -> name.substring(0, name.length() - ".java".length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        List<Class<?>> classes = new ArrayList<>();
+        for(String name : names) {
+            Class<?> type = Class.forName(packageName + "." + name);
+            if(type.isInterface() || Modifier.isAbstract(type.getModifiers()) || !Modifier.isPublic(type.getModifiers())
+                    || Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+                    || name.endsWith("Adapter") || name.endsWith("ModelTypeAdapters")) {
+                continue;
+            }
+            classes.add(type);
+        }
+        return classes;
+    }
+
+    static List<Field> fields(Class<?> type) {
+        // Gson writes the fields of the superclasses after the fields of the class.
+        List<Field> fields = new ArrayList<>();
+        for(Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for(Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if(Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    static String generate(String packageName, String className, List<Class<?>> models) {
+        Source source = new Source();
+        TreeSet<String> imports = new TreeSet<>(Arrays.asList(
+                "com.google.gson.Gson",
+                "com.google.gson.TypeAdapter",
+                "com.google.gson.TypeAdapterFactory",
+                "com.google.gson.reflect.TypeToken",
+                "com.google.gson.stream.JsonReader",
+                "com.google.gson.stream.JsonWriter",
+                "xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.ModelTypeAdapters",
+                "java.io.IOException"));
+        for(Class<?> model : models) {
+            for(Field field : fields(model)) {
+                collectImports(field.getGenericType(), packageName, imports);
+            }
+        }
+
+        source.line("/*");
+        source.line(" * Copyright 2020 The caver-java-ext-kas Authors");
+        source.line(" *");
+        source.line(" * Licensed under the Apache License, Version 2.0 (the “License”);");
+        source.line(" * you may not use this file except in compliance with the License.");
+        source.line(" * You may obtain a copy of the License at");
+        source.line(" *");
+        source.line(" * http://www.apache.org/licenses/LICENSE-2.0");
+        source.line(" *");
+        source.line(" * Unless required by applicable law or agreed to in writing, software");
+        source.line(" * distributed under the License is distributed on an “AS IS” BASIS,");
+        source.line(" * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.");
+        source.line(" * See the License for the specific language governing permissions and");
+        source.line(" * limitations under the License.");
+        source.line(" */");
+        source.line("");
+        source.line("package " + packageName + ";");
+        source.line("");
+        for(String name : imports) {
+            if(!name.startsWith("java.")) {
+                source.line("import " + name + ";");
+            }
+        }
+        source.line("");
+        for(String name : imports) {
+            if(name.startsWith("java.")) {
+                source.line("import " + name + ";");
+            }
+        }
+        source.line("");
+        source.line("/**");
+        source.line(" * Representing the TypeAdapters of the models in this package, which read and write the fields through the accessors instead of reflection.");
+        source.line(" * The JSON is the same as the one of the reflective adapters of Gson.");
+        source.line(" * NOTE: This class is generated by ModelTypeAdapterGenerator in the test sources. Do not edit the class manually.");
+        source.line(" */");
+        source.line("public final class " + className + " implements TypeAdapterFactory {");
+        source.line("");
+        source.line("    @Override");
+        source.line("    @SuppressWarnings(\"unchecked\")");
+        source.line("    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {");
+        source.line("        Class<? super T> rawType = type.getRawType();");
+        for(int i = 0; i < models.size(); i++) {
+            Class<?> model = models.get(i);
+            source.line("        " + (i == 0 ? "" : "} else ") + "if(rawType == " + model.getSimpleName() + ".class) {");
+            source.line("            return (TypeAdapter<T>)new " + model.getSimpleName() + "Adapter(gson);");
+        }
+        source.line("        }");
+        source.line("        return null;");
+        source.line("    }");
+
+        for(Class<?> model : models) {
+            source.line("");
+            generateAdapter(source, model);
+        }
+        source.line("}");
+        return source.toString();
+    }
+
+    private static void generateAdapter(Source source, Class<?> model) {
+        String name = model.getSimpleName();
+        List<Field> fields = fields(model);
+        List<Field> delegated = fields.stream().filter(field -> scalar(field.getType()) == null).collect(Collectors.toList());
+
+        source.line("    static final class " + name + "Adapter extends TypeAdapter<" + name + "> {");
+        if(!delegated.isEmpty()) {
+            source.line("        private final Gson gson;");
+            for(Field field : delegated) {
+                source.line("        private final TypeAdapter<" + typeName(field.getGenericType()) + "> " + field.getName() + "Adapter;");
+            }
+            source.line("");
+        }
+        source.line("        " + name + "Adapter(Gson gson) {");
+        if(!delegated.isEmpty()) {
+            source.line("            this.gson = gson;");
+            for(Field field : delegated) {
+                Type type = field.getGenericType();
+                String token = type instanceof Class
+                        ? "TypeToken.get(" + typeName(type) + ".class)"
+                        : "new TypeToken<" + typeName(type) + ">() {}";
+                source.line("            this." + field.getName() + "Adapter = gson.getAdapter(" + token + ");");
+            }
+        }
+        source.line("        }");
+        source.line("");
+        source.line("        @Override");
+        source.line("        public void write(JsonWriter out, " + name + " value) throws IOException {");
+        source.line("            if(value == null) {");
+        source.line("                out.nullValue();");
+        source.line("                return;");
+        source.line("            }");
+        source.line("            out.beginObject();");
+        for(Field field : fields) {
+            String getter = "value." + getter(model, field).getName() + "()";
+            source.line("            out.name(\"" + serializedName(field) + "\");");
+            String scalar = scalar(field.getType());
+            if(scalar != null) {
+                source.line("            ModelTypeAdapters.write" + scalar + "(out, " + getter + ");");
+            } else if(field.getGenericType() instanceof Class && !Modifier.isFinal(field.getType().getModifiers())) {
+                // Like Gson, a subclass instance is written with the adapter of its runtime type.
+                source.line("            ModelTypeAdapters.writeRuntimeType(gson, out, " + field.getName() + "Adapter, " + typeName(field.getType()) + ".class, " + getter + ");");
+            } else {
+                source.line("            " + field.getName() + "Adapter.write(out, " + getter + ");");
+            }
+        }
+        source.line("            out.endObject();");
+        source.line("        }");
+        source.line("");
+        source.line("        @Override");
+        source.line("        public " + name + " read(JsonReader in) throws IOException {");
+        source.line("            if(ModelTypeAdapters.nextNull(in)) {");
+        source.line("                return null;");
+        source.line("            }");
+        source.line("            " + name + " value = new " + name + "();");
+        source.line("            ModelTypeAdapters.beginObject(in);");
+        source.line("            while(in.hasNext()) {");
+        if(fields.isEmpty()) {
+            source.line("                in.nextName();");
+            source.line("                in.skipValue();");
+        } else {
+            source.line("                switch(in.nextName()) {");
+            for(Field field : fields) {
+                source.line("                    case \"" + serializedName(field) + "\":");
+                String scalar = scalar(field.getType());
+                String read = scalar != null ? "ModelTypeAdapters.read" + scalar + "(in)" : field.getName() + "Adapter.read(in)";
+                source.line("                        value." + setter(model, field).getName() + "(" + read + ");");
+                source.line("                        break;");
+            }
+            source.line("                    default:");
+            source.line("                        in.skipValue();");
+            source.line("                }");
+        }
+        source.line("            }");
+        source.line("            in.endObject();");
+        source.line("            return value;");
+        source.line("        }");
+        source.line("    }");
+    }
+
+    private static String scalar(Class<?> type) {
+        if(type == String.class) {
+            return "String";
+        } else if(type == Long.class) {
+            return "Long";
+        } else if(type == Integer.class) {
+            return "Integer";
+        } else if(type == Boolean.class) {
+            return "Boolean";
+        }
+        return null;
+    }
+
+    private static String serializedName(Field field) {
+        SerializedName name = field.getAnnotation(SerializedName.class);
+        return name == null ? field.getName() : name.value();
+    }
+
+    private static Method getter(Class<?> model, Field field) {
+        String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        for(String prefix : new String[] {"get", "is"}) {
+            try {
+                Method method = model.getMethod(prefix + suffix);
+                if(method.getReturnType() == field.getType()) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignored) {
+            }
+        }
+        throw new IllegalStateException("No getter of " + model.getName() + "." + field.getName());
+    }
+
+    private static Method setter(Class<?> model, Field field) {
+        String suffix = Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        try {
+            return model.getMethod("set" + suffix, field.getType());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("No setter of " + model.getName() + "." + field.getName());
+        }
+    }
+
+    private static void collectImports(Type type, String packageName, TreeSet<String> imports) {
+        if(type instanceof ParameterizedType) {
+            collectImports(((ParameterizedType)type).getRawType(), packageName, imports);
+            for(Type argument : ((ParameterizedType)type).getActualTypeArguments()) {
+                collectImports(argument, packageName, imports);
+            }
+        } else if(type instanceof Class) {
+            Class<?> clazz = (Class<?>)type;
+            if(!clazz.getPackage().getName().equals("java.lang") && !clazz.getPackage().getName().equals(packageName)) {
+                imports.add(clazz.getName());
+            }
+        }
+    }
+
+    private static String typeName(Type type) {
+        if(type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType)type;
+            return typeName(parameterized.getRawType()) + "<" + Arrays.stream(parameterized.getActualTypeArguments())
+                    .map(ModelTypeAdapterGenerator::typeName)
+                    .collect(Collectors.joining(", ")) + ">";
+        }
+        return ((Class<?>)type).getSimpleName();
+    }
+
+    static class Source {
+        private final StringBuilder builder = new StringBuilder();
+
+        void line(String line) {
+            builder.append(line).append('\n');
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockPayload;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.AnyOfTransferArrayItems;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.FtTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.KlayTransfer;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.PageableTransfers;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.TransferArray;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.AccountUpdateKey;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.AccountUpdateTransactionRequest;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.MultisigUpdateKeyType;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.PubkeyUpdateKeyType;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.TransactionReceipt;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ModelTypeAdaptersTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    Gson reflective = JSON.createGson().create();
+    Gson generated = new JSON().getGson();
+
+    @Test
+    public void generatedSourcesAreUpToDate() throws Exception {
+        Path root = Paths.get(".");
+        for(String[] pkg : ModelTypeAdapterGenerator.PACKAGES) {
+            Path path = ModelTypeAdapterGenerator.sourcePath(root, pkg[0], pkg[1]);
+            String expected = ModelTypeAdapterGenerator.generate(pkg[0], pkg[1], ModelTypeAdapterGenerator.modelClasses(root, pkg[0]));
+            assertEquals("Run ModelTypeAdapterGenerator to update " + path, expected, new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void sameJsonAsReflectiveAdapters() throws Exception {
+        Path root = Paths.get(".");
+        int count = 0;
+        for(String[] pkg : ModelTypeAdapterGenerator.PACKAGES) {
+            for(Class<?> model : ModelTypeAdapterGenerator.modelClasses(root, pkg[0])) {
+                assertNotEquals(model.getName(), "ReflectiveTypeAdapterFactory$Adapter", generated.getAdapter(model).getClass().getSimpleName());
+
+                Object empty = model.newInstance();
+                assertEquals(model.getName(), reflective.toJson(empty), generated.toJson(empty));
+
+                Object value = populate(model, 0);
+                String json = generated.toJson(value);
+                if(!hasTransferItems(model)) {
+                    assertEquals(model.getName(), reflective.toJson(value), json);
+                }
+                assertEquals(model.getName(), reflective.fromJson(json, model), generated.fromJson(json, model));
+                count++;
+            }
+        }
+        assertTrue(count > 80);
+    }
+
+    @Test
+    public void convertScalars() {
+        String json = "{\"blockNumber\":\"0x1\",\"gas\":1000,\"typeInt\":\"30\",\"unknown\":{\"nested\":[1,2]},\"status\":true,\"humanReadable\":\"true\"}";
+        assertEquals(reflective.fromJson(json, TransactionReceipt.class), generated.fromJson(json, TransactionReceipt.class));
+        assertEquals(Long.valueOf(30), generated.fromJson(json, TransactionReceipt.class).getTypeInt());
+        assertEquals("1000", generated.fromJson(json, TransactionReceipt.class).getGas());
+        assertEquals("true", generated.fromJson(json, TransactionReceipt.class).getStatus());
+    }
+
+    @Test
+    public void writeRuntimeType() {
+        PubkeyUpdateKeyType key = new PubkeyUpdateKeyType();
+        key.setKeyType(2L);
+        key.setKey("0x04");
+        AccountUpdateTransactionRequest request = new AccountUpdateTransactionRequest();
+        request.setAccountKey(key);
+
+        assertEquals(reflective.toJson(request), generated.toJson(request));
+        assertTrue(generated.toJson(request).contains("\"accountKey\":{\"keyType\":2,\"key\":\"0x04\"}"));
+    }
+
+    @Test
+    public void writeTransferItems() {
+        // TransferItemAdapter writes each item by its runtime type with the reflective and the generated adapters,
+        // so transfers can be read back.
+        FtTransfer transfer = new FtTransfer();
+        transfer.setTransferType("ft");
+        transfer.setValue("0x1");
+        PageableTransfers transfers = new PageableTransfers();
+        transfers.setItems(new TransferArray());
+        transfers.getItems().add(transfer);
+
+        assertEquals(reflective.toJson(transfers), generated.toJson(transfers));
+        assertEquals("{\"items\":[{\"transferType\":\"ft\",\"value\":\"0x1\"}]}", generated.toJson(transfers));
+        assertEquals(transfers, generated.fromJson(generated.toJson(transfers), PageableTransfers.class));
+    }
+
+    @Test
+    public void invalidNumber() {
+        expectedException.expect(JsonSyntaxException.class);
+        generated.fromJson("{\"typeInt\":\"thirty\"}", TransactionReceipt.class);
+    }
+
+    @Test
+    public void notAnObject() {
+        expectedException.expect(JsonSyntaxException.class);
+        generated.fromJson("[]", TransactionReceipt.class);
+    }
+
+    private static boolean hasTransferItems(Class<?> model) {
+        return ModelTypeAdapterGenerator.fields(model).stream().anyMatch(field -> field.getType() == TransferArray.class);
+    }
+
+    /**
+     * Creates an instance whose fields are all set, so every field is compared.
+     */
+    static Object populate(Type type, int depth) throws Exception {
+        Class<?> raw = type instanceof ParameterizedType ? (Class<?>)((ParameterizedType)type).getRawType() : (Class<?>)type;
+        if(raw == String.class) {
+            return "0x" + Integer.toHexString(depth * 31 + 7);
+        } else if(raw == Long.class) {
+            return 1_000_000_000_000L + depth;
+        } else if(raw == Integer.class) {
+            return 42 + depth;
+        } else if(raw == Boolean.class) {
+            return depth % 2 == 0;
+        } else if(raw == List.class) {
+            Type element = ((ParameterizedType)type).getActualTypeArguments()[0];
+            List<Object> list = new ArrayList<>();
+            list.add(populate(element, depth + 1));
+            list.add(populate(element, depth + 2));
+            return list;
+        } else if(raw == AnchorBlockPayload.class) {
+            AnchorBlockPayload payload = new AnchorBlockPayload();
+            payload.put("id", "payload-" + depth);
+            payload.put("name", "name");
+            return payload;
+        } else if(raw == TransferArray.class) {
+            TransferArray array = new TransferArray();
+            array.add((AnyOfTransferArrayItems)populate(FtTransfer.class, depth + 1));
+            array.add((AnyOfTransferArrayItems)populate(KlayTransfer.class, depth + 1));
+            ((FtTransfer)array.get(0)).setTransferType("ft");
+            ((KlayTransfer)array.get(1)).setTransferType("klay");
+            return array;
+        } else if(raw == AccountUpdateKey.class) {
+            // A subclass instance is written by its runtime type and read as the declared type.
+            return depth > 2 ? new AccountUpdateKey() : populate(MultisigUpdateKeyType.class, depth + 1);
+        }
+
+        Object value = raw.newInstance();
+        if(depth > 4) {
+            return value;
+        }
+        for(Field field : ModelTypeAdapterGenerator.fields(raw)) {
+            field.setAccessible(true);
+            field.set(value, populate(field.getGenericType(), depth + 1));
+        }
+        return value;
+    }
+}
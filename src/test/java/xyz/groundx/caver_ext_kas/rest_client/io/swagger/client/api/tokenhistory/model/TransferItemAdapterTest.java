@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.annotations.SerializedName;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class TransferItemAdapterTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    static final String FT = "{\"contract\":{\"address\":\"0xbc74254770f58904dba41ecccc3fc1626e53a130\",\"decimals\":18,\"name\":\"Example Token\",\"symbol\":\"EXT\",\"status\":\"completed\"}," +
+            "\"formattedValue\":\"1.5\",\"from\":\"0x43b026c48bbf33feff9243a8f506b40928b5b7a7\",\"to\":\"0x67c76fb008f86bebb2737f6a6f0fb23c6f5da2ce\"," +
+            "\"transaction\":{\"feePayer\":\"\",\"feeRatio\":0,\"fee\":\"0x2d79883d2000\",\"from\":\"0xa4c123b1612dd272d1371c17149d439536b3216f\",\"timestamp\":1602550000," +
+            "\"transactionHash\":\"0xdaeeb975729fae923d5a4fd12aabfe228f219e9cb0eb53f16947ccf25ec84d8d\",\"typeInt\":48,\"value\":\"0x0\"}," +
+            "\"transferType\":\"ft\",\"value\":\"0x14d1120d7b160000\"}";
+
+    static final String NFT = "{\"contract\":{\"address\":\"0xee0ca923732881584d8c4fa2815d2802827283e0\",\"name\":\"Example NFT\",\"symbol\":\"ENFT\",\"status\":\"completed\"}," +
+            "\"from\":\"0xad84173581569969e58b081006f7e3dfc967a64c\",\"to\":\"0xb14028d512c9791e558e08baa7196b50ac2f8670\"," +
+            "\"transaction\":{\"feePayer\":\"\",\"feeRatio\":0,\"fee\":\"0x2d79883d2000\",\"from\":\"0xc255404e4fb440034d6608697a8d41bed440e504\",\"timestamp\":1602550001," +
+            "\"transactionHash\":\"0x54f31af3176813e02ea68ef786e4d3cea27d26934b484e73cf575dcad6ba2b0a\",\"typeInt\":48,\"value\":\"0x0\"}," +
+            "\"transferType\":\"nft\",\"tokenId\":\"0x1\"}";
+
+    static final String KLAY = "{\"feePayer\":\"\",\"feeRatio\":0,\"fee\":\"0x2d79883d2000\",\"from\":\"0x5e47b195eeb11d72f5e1d27aebb6d341f1a9bedb\"," +
+            "\"to\":\"0x3f71029af4e252b25b9ab999f77182f0cd3bc085\",\"transactionHash\":\"0xf0ac4a05bdd7ee5ca7be2ddc1ad18b90acb1d2fdbfab6da1a56d4e4c8c7b59e0\"," +
+            "\"transactionIndex\":1,\"transferType\":\"klay\",\"typeInt\":0,\"value\":\"0xde0b6b3a7640000\"}";
+
+    Gson gson = new JSON().getGson();
+    Gson reflective = JSON.createGson().create();
+
+    @Test
+    public void sameAsTree() {
+        for(String item : new String[] {FT, NFT, KLAY}) {
+            assertEquals(readWithTree(item), gson.fromJson(item, AnyOfTransferArrayItems.class));
+            assertEquals(readWithTree(item), reflective.fromJson(item, AnyOfTransferArrayItems.class));
+        }
+    }
+
+    @Test
+    public void transferTypeFirst() {
+        String item = "{\"transferType\":\"ft\"," + FT.substring(1).replace(",\"transferType\":\"ft\"", "");
+        assertEquals(readWithTree(FT), gson.fromJson(item, AnyOfTransferArrayItems.class));
+    }
+
+    @Test
+    public void dropFieldsOfOtherTypes() {
+        // The nft contract has no decimals, and the fields of the other transfer types are ignored like the unknown fields.
+        String item = NFT.replace("\"name\":\"Example NFT\"", "\"decimals\":0,\"name\":\"Example NFT\"")
+                .replace("\"tokenId\"", "\"unknown\":[1,{\"a\":null}],\"formattedValue\":\"1\",\"typeInt\":8,\"tokenId\"");
+        assertEquals(readWithTree(NFT), gson.fromJson(item, AnyOfTransferArrayItems.class));
+    }
+
+    @Test
+    public void readAllFields() throws Exception {
+        for(Class<?> type : new Class<?>[] {FtTransfer.class, NftTransfer.class, KlayTransfer.class}) {
+            Object transfer = filled(type);
+            type.getMethod("setTransferType", String.class).invoke(transfer, type.getSimpleName().replace("Transfer", "").toLowerCase());
+
+            String json = reflective.toJson(transfer);
+            assertEquals(transfer, gson.fromJson(json, AnyOfTransferArrayItems.class));
+            assertEquals(json, gson.toJson(transfer, AnyOfTransferArrayItems.class));
+        }
+    }
+
+    /**
+     * The adapter lists the fields of the transfer models by hand, so this fails with the name of the field
+     * when a field is added to a model without being read by the adapter.
+     */
+    @Test
+    public void coverAllModelFields() throws Exception {
+        for(Class<?> type : new Class<?>[] {FtTransfer.class, NftTransfer.class, KlayTransfer.class}) {
+            Object transfer = filled(type);
+            type.getMethod("setTransferType", String.class).invoke(transfer, type.getSimpleName().replace("Transfer", "").toLowerCase());
+
+            JsonObject written = reflective.toJsonTree(transfer).getAsJsonObject();
+            JsonObject read = reflective.toJsonTree(gson.fromJson(written, AnyOfTransferArrayItems.class)).getAsJsonObject();
+            for(Map.Entry<String, com.google.gson.JsonElement> field : written.entrySet()) {
+                assertEquals(type.getSimpleName() + "." + field.getKey() + " is not read by TransferItemAdapter.", field.getValue(), read.get(field.getKey()));
+            }
+        }
+
+        // The contract of every transfer is read as a FtContract.
+        Set<String> ftContractFields = serializedNames(FtContract.class);
+        for(String field : serializedNames(NftContract.class)) {
+            assertTrue("NftContract." + field + " is not a field of FtContract.", ftContractFields.contains(field));
+        }
+    }
+
+    @Test
+    public void unknownTransferType() {
+        assertNull(gson.fromJson(KLAY.replace("\"klay\"", "\"sft\""), AnyOfTransferArrayItems.class));
+    }
+
+    @Test
+    public void nullItem() {
+        assertNull(gson.fromJson("null", AnyOfTransferArrayItems.class));
+        assertEquals("null", gson.toJson(null, AnyOfTransferArrayItems.class));
+    }
+
+    @Test
+    public void missingTransferType() {
+        expectedException.expect(JsonParseException.class);
+        expectedException.expectMessage("The transfer item has no transferType.");
+        gson.fromJson(KLAY.replace("\"transferType\":\"klay\",", ""), AnyOfTransferArrayItems.class);
+    }
+
+    AnyOfTransferArrayItems readWithTree(String item) {
+        JsonObject object = new JsonParser().parse(item).getAsJsonObject();
+        switch(object.get("transferType").getAsString()) {
+            case "ft":
+                return reflective.fromJson(object, FtTransfer.class);
+            case "nft":
+                return reflective.fromJson(object, NftTransfer.class);
+            case "klay":
+                return reflective.fromJson(object, KlayTransfer.class);
+            default:
+                return null;
+        }
+    }
+
+    static Object filled(Class<?> type) throws Exception {
+        Object instance = type.newInstance();
+        for(Field field : type.getDeclaredFields()) {
+            if(Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            Class<?> fieldType = field.getType();
+            if(fieldType == String.class) {
+                field.set(instance, "0x" + Integer.toHexString(field.getName().hashCode()));
+            } else if(fieldType == Integer.class) {
+                field.set(instance, field.getName().length());
+            } else if(fieldType == Long.class) {
+                field.set(instance, (long)field.getName().hashCode());
+            } else {
+                assertEquals("Add a value of " + fieldType.getSimpleName() + " to filled().", AnyOfTransferArrayItems.class.getPackage(), fieldType.getPackage());
+                field.set(instance, filled(fieldType));
+            }
+        }
+        return instance;
+    }
+
+    static Set<String> serializedNames(Class<?> type) {
+        Set<String> names = new LinkedHashSet<>();
+        for(Field field : type.getDeclaredFields()) {
+            if(Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            SerializedName name = field.getAnnotation(SerializedName.class);
+            names.add(name != null ? name.value() : field.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,657 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.fake;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockRequest;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorBlockStatus;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorTransaction;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorTransactionDetail;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.AnchorTransactions;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.Operator;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.anchor.model.Operators;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.tokenhistory.model.*;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.*;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.api.wallet.model.Signature;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The default routes of FakeKASServer.
+ * The lists are generated from the seed of the server. The transactions sent to the Wallet API and the Node API
+ * and the payloads sent to the Anchor API are kept, so their receipts and anchoring transactions can be queried.
+ */
+class FakeKASRoutes {
+    /**
+     * The timestamp of the oldest generated transfer. Transfers are listed from the newest one like KAS.
+     */
+    static final long BASE_TIMESTAMP = 1_600_000_000L;
+
+    /**
+     * The interval between the timestamps of the generated transfers.
+     */
+    static final long TIMESTAMP_STEP = 60;
+
+    static final long BLOCK_NUMBER = 0x2d8f9b1;
+
+    static final List<String> BASIC_TX_PATHS = Arrays.asList("", "/account", "/anchor", "/contract/deploy", "/contract/execute", "/legacy", "/rlp", "/value");
+    static final List<String> FD_TX_PATHS = Arrays.asList("", "/account", "/anchor", "/contract/deploy", "/contract/execute", "/rlp", "/value");
+
+    private final FakeKASServer server;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> submittedTransactions = new ConcurrentHashMap<>();
+    private final Map<String, List<AnchorTransactionDetail>> anchors = new ConcurrentHashMap<>();
+    private final Map<String, AnchorTransactionDetail> anchorsByPayloadId = new ConcurrentHashMap<>();
+
+    private FakeKASRoutes(FakeKASServer server) {
+        this.server = server;
+    }
+
+    static void install(FakeKASServer server) {
+        new FakeKASRoutes(server).installWallet().installAnchor().installTokenHistory().installNode();
+    }
+
+    private FakeKASRoutes installWallet() {
+        server.addRoute("POST", "/v2/account", request -> account(nextHex(40)));
+        server.addRoute("GET", "/v2/account", request -> {
+            FakeKASServer.Page<Account> page = FakeKASServer.page(server.dataset("accounts", (i, random) -> account(hex(random, 40))), request);
+            Accounts accounts = new Accounts();
+            accounts.setItems(page.items);
+            accounts.setCursor(page.cursor);
+            return accounts;
+        });
+        server.addRoute("GET", "/v2/account/{address}", request -> account(request.getPathParameter("address")));
+        server.addRoute("DELETE", "/v2/account/{address}", request -> {
+            AccountStatus status = new AccountStatus();
+            status.setStatus("deleted");
+            return status;
+        });
+        server.addRoute("PUT", "/v2/account/{address}/enable", request -> accountSummary(request.getPathParameter("address")));
+        server.addRoute("PUT", "/v2/account/{address}/disable", request -> accountSummary(request.getPathParameter("address")));
+        server.addRoute("PUT", "/v2/account/{address}/multisig", request -> {
+            MultisigAccount account = new MultisigAccount();
+            account.setAddress(request.getPathParameter("address"));
+            account.setKrn(krn(request));
+            account.setMultiSigKeys(new ArrayList<>());
+            account.setThreshold(1L);
+            account.setTransactionHash(submit());
+            account.setUpdatedAt(now());
+            return account;
+        });
+        server.addRoute("POST", "/v2/account/{address}/tx/{transaction-id}/sign", request -> signature());
+        server.addRoute("GET", "/v2/pubkey/{public-key}/account", request -> {
+            AccountByPubkey account = new AccountByPubkey();
+            account.setAddress(nextHex(40));
+            account.setChainId(chainId(request));
+            AccountsByPubkey accounts = new AccountsByPubkey();
+            accounts.setItems(Collections.singletonList(account));
+            return accounts;
+        });
+
+        for(String method : Arrays.asList("POST", "PUT", "DELETE")) {
+            for(String path : BASIC_TX_PATHS) {
+                server.addRoute(method, "/v2/tx" + path, request -> transactionResult());
+            }
+            for(String path : FD_TX_PATHS) {
+                server.addRoute(method, "/v2/tx/fd" + path, request -> fdTransactionResult());
+                server.addRoute(method, "/v2/tx/fd-user" + path, request -> fdTransactionResult());
+            }
+        }
+        server.addRoute("GET", "/v2/tx/{transaction-hash}", request -> {
+            TransactionReceipt receipt = receipt(request.getPathParameter("transaction-hash"));
+            if(receipt == null) {
+                throw new FakeResponseException(FakeResponse.error(404, 1061010, "data don't exist"));
+            }
+            return receipt;
+        });
+
+        server.addRoute("GET", "/v2/multisig/account/{address}/tx", request -> {
+            MultisigTransactions transactions = new MultisigTransactions();
+            transactions.setItems(new ArrayList<>());
+            transactions.setCursor("");
+            return transactions;
+        });
+        server.addRoute("POST", "/v2/multisig/account/{address}/tx/{transaction-id}/sign", request -> multisigStatus(request));
+        server.addRoute("POST", "/v2/multisig/tx/{transaction-id}/sign", request -> multisigStatus(request));
+
+        server.addRoute("GET", "/v2/stat/count", request -> {
+            AccountCountByAccountID count = new AccountCountByAccountID();
+            count.setAccountId("fake");
+            count.setCount((long)server.getDatasetSize());
+            return count;
+        });
+        server.addRoute("GET", "/v2/stat/count/krn", request -> {
+            AccountCountByKRN count = new AccountCountByKRN();
+            count.setAccountId("fake");
+            count.setCount((long)server.getDatasetSize());
+            count.setKrn(krn(request));
+            return count;
+        });
+        return this;
+    }
+
+    private FakeKASRoutes installAnchor() {
+        server.addRoute("POST", "/v1/anchor", request -> {
+            AnchorBlockRequest anchorRequest = server.getJSON().deserialize(request.getBody(), AnchorBlockRequest.class);
+            Object payloadId = anchorRequest.getPayload() == null ? null : anchorRequest.getPayload().get("id");
+            if(!(payloadId instanceof String)) {
+                throw new FakeResponseException(FakeResponse.error(400, 1071010, "payload id must be a string"));
+            }
+
+            AnchorTransactionDetail detail = new AnchorTransactionDetail();
+            detail.setPayload(anchorRequest.getPayload());
+            detail.setTransactionHash(submit());
+            if(anchorsByPayloadId.putIfAbsent(anchorRequest.getOperator() + "/" + payloadId, detail) != null) {
+                throw new FakeResponseException(FakeResponse.error(400, 1072101, "data already exists"));
+            }
+            anchors.computeIfAbsent(anchorRequest.getOperator(), operator -> new CopyOnWriteArrayList<>()).add(0, detail);
+
+            AnchorBlockStatus status = new AnchorBlockStatus();
+            status.setStatus("succeed");
+            return status;
+        });
+        server.addRoute("GET", "/v1/operator", request -> {
+            FakeKASServer.Page<Operator> page = FakeKASServer.page(server.dataset("operators", (i, random) -> operator(hex(random, 40), i)), request);
+            Operators operators = new Operators();
+            operators.setItems(page.items);
+            operators.setCursor(page.cursor);
+            return operators;
+        });
+        server.addRoute("GET", "/v1/operator/{operator-id}", request -> operator(request.getPathParameter("operator-id"), 0));
+        server.addRoute("GET", "/v1/operator/{operator-id}/tx", request -> {
+            List<AnchorTransaction> items = anchors.getOrDefault(request.getPathParameter("operator-id"), Collections.<AnchorTransactionDetail>emptyList())
+                    .stream()
+                    .map(detail -> {
+                        AnchorTransaction transaction = new AnchorTransaction();
+                        transaction.setPayloadId((String)detail.getPayload().get("id"));
+                        transaction.setTransactionHash(detail.getTransactionHash());
+                        transaction.setCreatedAt(submittedTransactions.get(detail.getTransactionHash()) / 1000);
+                        return transaction;
+                    })
+                    .collect(Collectors.toList());
+            FakeKASServer.Page<AnchorTransaction> page = FakeKASServer.page(items, request);
+            AnchorTransactions transactions = new AnchorTransactions();
+            transactions.setItems(page.items);
+            transactions.setCursor(page.cursor);
+            return transactions;
+        });
+        server.addRoute("GET", "/v1/operator/{operator-id}/tx/{transaction-hash}", request -> {
+            String transactionHash = request.getPathParameter("transaction-hash");
+            return anchors.getOrDefault(request.getPathParameter("operator-id"), Collections.<AnchorTransactionDetail>emptyList())
+                    .stream()
+                    .filter(detail -> detail.getTransactionHash().equalsIgnoreCase(transactionHash))
+                    .findFirst()
+                    .orElseThrow(() -> new FakeResponseException(FakeResponse.error(404, 1071010, "data don't exist")));
+        });
+        server.addRoute("GET", "/v1/operator/{operator-id}/payload/{payload-id}", request -> {
+            AnchorTransactionDetail detail = anchorsByPayloadId.get(request.getPathParameter("operator-id") + "/" + request.getPathParameter("payload-id"));
+            if(detail == null) {
+                throw new FakeResponseException(FakeResponse.error(404, 1071010, "data don't exist"));
+            }
+            return detail;
+        });
+        return this;
+    }
+
+    private FakeKASRoutes installTokenHistory() {
+        server.addRoute("GET", "/v2/transfer", request -> transfers(request, "transfers"));
+        server.addRoute("GET", "/v2/transfer/account/{address}", request -> transfers(request, "transfers:" + request.getPathParameter("address").toLowerCase()));
+        server.addRoute("GET", "/v2/transfer/tx/{transaction-hash}", request -> {
+            TimedTransfer transfer = transfer(0, new Random(request.getPathParameter("transaction-hash").hashCode()), "ft", BASE_TIMESTAMP);
+            return transferResponse(Collections.singletonList(transfer), null);
+        });
+
+        server.addRoute("GET", "/v2/contract/ft", request -> {
+            FakeKASServer.Page<FtContractDetail> page = FakeKASServer.page(server.dataset("ft-contracts", (i, random) -> ftContract(hex(random, 40), i)), request);
+            PageableFtContractDetails contracts = new PageableFtContractDetails();
+            contracts.setItems(page.items);
+            contracts.setCursor(page.cursor);
+            return contracts;
+        });
+        server.addRoute("GET", "/v2/contract/ft/{ft-address}", request -> ftContract(request.getPathParameter("ft-address"), 0));
+        server.addRoute("GET", "/v2/contract/nft", request -> {
+            FakeKASServer.Page<NftContractDetail> page = FakeKASServer.page(server.dataset("nft-contracts", (i, random) -> nftContract(hex(random, 40), i)), request);
+            PageableNftContractDetails contracts = new PageableNftContractDetails();
+            contracts.setItems(page.items);
+            contracts.setCursor(page.cursor);
+            return contracts;
+        });
+        server.addRoute("GET", "/v2/contract/nft/{nft-address}", request -> nftContract(request.getPathParameter("nft-address"), 0));
+        server.addRoute("GET", "/v2/contract/nft/{nft-address}/token", request ->
+                nfts(request, "nfts:" + request.getPathParameter("nft-address").toLowerCase(), null));
+        server.addRoute("GET", "/v2/contract/nft/{nft-address}/owner/{owner-address}", request ->
+                nfts(request, "nfts:" + request.getPathParameter("nft-address").toLowerCase() + ":" + request.getPathParameter("owner-address").toLowerCase(), request.getPathParameter("owner-address")));
+        server.addRoute("GET", "/v2/contract/nft/{nft-address}/token/{token-id}", request -> {
+            Nft nft = nft(new Random(request.getPathParameter("token-id").hashCode()), 0, null);
+            nft.setTokenId(request.getPathParameter("token-id"));
+            return nft;
+        });
+        server.addRoute("GET", "/v2/contract/nft/{nft-address}/token/{token-id}/history", request -> {
+            String key = "nft-history:" + request.getPathParameter("nft-address").toLowerCase() + ":" + request.getPathParameter("token-id");
+            FakeKASServer.Page<NftOwnershipChange> page = FakeKASServer.page(server.dataset(key, (i, random) -> {
+                NftOwnershipChange change = new NftOwnershipChange();
+                change.setFrom(hex(random, 40));
+                change.setTo(hex(random, 40));
+                change.setTimestamp(BASE_TIMESTAMP + (server.getDatasetSize() - 1 - i) * TIMESTAMP_STEP);
+                return change;
+            }), request);
+            PageableNftOwnershipChanges changes = new PageableNftOwnershipChanges();
+            changes.setItems(page.items);
+            changes.setCursor(page.cursor);
+            return changes;
+        });
+        return this;
+    }
+
+    private FakeKASRoutes installNode() {
+        server.addRoute("POST", FakeKASServer.NODE_PATH, request -> {
+            JsonElement body = new JsonParser().parse(request.getBody());
+            if(body.isJsonArray()) {
+                JsonArray responses = new JsonArray();
+                for(JsonElement call : body.getAsJsonArray()) {
+                    responses.add(rpc(call.getAsJsonObject(), request));
+                }
+                return FakeResponse.json(200, responses.toString());
+            }
+            return FakeResponse.json(200, rpc(body.getAsJsonObject(), request).toString());
+        });
+        return this;
+    }
+
+    private JsonObject rpc(JsonObject call, FakeRequest request) {
+        JsonObject response = new JsonObject();
+        response.addProperty("jsonrpc", "2.0");
+        response.add("id", call.has("id") ? call.get("id") : JsonNull.INSTANCE);
+
+        String method = call.get("method").getAsString();
+        JsonArray params = call.has("params") && call.get("params").isJsonArray() ? call.getAsJsonArray("params") : new JsonArray();
+        switch (method) {
+            case "klay_blockNumber":
+                response.addProperty("result", hexNumber(BLOCK_NUMBER));
+                break;
+            case "klay_chainID":
+            case "net_version":
+                response.addProperty("result", method.equals("net_version") ? String.valueOf(chainId(request)) : hexNumber(chainId(request)));
+                break;
+            case "klay_gasPrice":
+                response.addProperty("result", "0x5d21dba00");
+                break;
+            case "klay_getBalance":
+                response.addProperty("result", "0xde0b6b3a7640000");
+                break;
+            case "klay_getTransactionCount":
+                response.addProperty("result", "0x0");
+                break;
+            case "klay_sendRawTransaction":
+                response.addProperty("result", submit());
+                break;
+            case "klay_getTransactionReceipt": {
+                TransactionReceipt receipt = params.size() > 0 ? receipt(params.get(0).getAsString()) : null;
+                response.add("result", receipt == null ? JsonNull.INSTANCE : new JsonParser().parse(server.getJSON().serialize(receipt)));
+                break;
+            }
+            case "klay_getBlockByNumber": {
+                long number = params.size() > 0 && params.get(0).getAsString().startsWith("0x") ? Long.decode(params.get(0).getAsString()) : BLOCK_NUMBER;
+                response.add("result", block(number));
+                break;
+            }
+            case "klay_getBlockByHash": {
+                // The hash of a fake block is its number, and a block above the latest block does not exist.
+                long number = params.size() > 0 ? new BigInteger(params.get(0).getAsString().substring(2), 16).longValue() : -1;
+                response.add("result", number < 0 || number > BLOCK_NUMBER ? JsonNull.INSTANCE : block(number));
+                break;
+            }
+            default: {
+                JsonObject error = new JsonObject();
+                error.addProperty("code", -32601);
+                error.addProperty("message", "the method " + method + " does not exist/is not available");
+                response.add("error", error);
+            }
+        }
+        return response;
+    }
+
+    private static JsonObject block(long number) {
+        JsonObject block = new JsonObject();
+        block.addProperty("number", hexNumber(number));
+        block.addProperty("hash", hexOf(number, 64));
+        block.addProperty("parentHash", hexOf(number - 1, 64));
+        block.addProperty("timestamp", hexNumber(BASE_TIMESTAMP + number));
+        block.add("transactions", new JsonArray());
+        return block;
+    }
+
+    private FakeResponse transfers(FakeRequest request, String key) {
+        List<TimedTransfer> items = server.dataset(key, (i, random) -> transfer(i, random, null, BASE_TIMESTAMP + (server.getDatasetSize() - 1 - i) * TIMESTAMP_STEP));
+
+        String kind = request.getQuery("kind");
+        String range = request.getQuery("range");
+        if(kind != null || range != null) {
+            Set<String> kinds = kind == null ? null : new HashSet<>(Arrays.asList(kind.split(",")));
+            long from = Long.MIN_VALUE;
+            long to = Long.MAX_VALUE;
+            // A range of block numbers(hex) is not filtered because the generated transfers have no block number.
+            if(range != null && !range.startsWith("0x")) {
+                String[] bounds = range.split(",");
+                from = Long.parseLong(bounds[0].trim());
+                to = bounds.length > 1 ? Long.parseLong(bounds[1].trim()) : Long.MAX_VALUE;
+            }
+
+            long fromTimestamp = from;
+            long toTimestamp = to;
+            items = items.stream()
+                    .filter(item -> kinds == null || kinds.contains(item.type))
+                    .filter(item -> item.timestamp >= fromTimestamp && item.timestamp <= toTimestamp)
+                    .collect(Collectors.toList());
+        }
+
+        FakeKASServer.Page<TimedTransfer> page = FakeKASServer.page(items, request);
+        return transferResponse(page.items, page.cursor);
+    }
+
+    private FakeResponse transferResponse(List<TimedTransfer> items, String cursor) {
+        PageableTransfers transfers = new PageableTransfers();
+        transfers.setItems(new TransferArray());
+        for(TimedTransfer item : items) {
+            transfers.getItems().add(item.item);
+        }
+        transfers.setCursor(cursor);
+        return FakeResponse.json(200, server.getJSON().serialize(transfers));
+    }
+
+    static class TimedTransfer {
+        final String type;
+        final long timestamp;
+        final AnyOfTransferArrayItems item;
+
+        TimedTransfer(String type, long timestamp, AnyOfTransferArrayItems item) {
+            this.type = type;
+            this.timestamp = timestamp;
+            this.item = item;
+        }
+    }
+
+    private static TimedTransfer transfer(int index, Random random, String type, long timestamp) {
+        if(type == null) {
+            type = index % 3 == 0 ? "ft" : index % 3 == 1 ? "nft" : "klay";
+        }
+
+        Transaction transaction = new Transaction();
+        transaction.setFeePayer("");
+        transaction.setFeeRatio(0);
+        transaction.setFee("0x2d79883d2000");
+        transaction.setFrom(hex(random, 40));
+        transaction.setTimestamp(timestamp);
+        transaction.setTransactionHash(hex(random, 64));
+        transaction.setTypeInt(48);
+        transaction.setValue("0x0");
+
+        if(type.equals("ft")) {
+            FtContract contract = new FtContract();
+            contract.setAddress(hex(random, 40));
+            contract.setDecimals(18L);
+            contract.setName("Fake Token");
+            contract.setSymbol("FAKE");
+            contract.setStatus("completed");
+
+            FtTransfer transfer = new FtTransfer();
+            transfer.setContract(contract);
+            transfer.setFormattedValue("1.0");
+            transfer.setFrom(hex(random, 40));
+            transfer.setTo(hex(random, 40));
+            transfer.setTransaction(transaction);
+            transfer.setTransferType("ft");
+            transfer.setValue("0xde0b6b3a7640000");
+            return new TimedTransfer(type, timestamp, transfer);
+        } else if(type.equals("nft")) {
+            NftContract contract = new NftContract();
+            contract.setAddress(hex(random, 40));
+            contract.setName("Fake NFT");
+            contract.setSymbol("FNFT");
+            contract.setStatus("completed");
+
+            NftTransfer transfer = new NftTransfer();
+            transfer.setContract(contract);
+            transfer.setFrom(hex(random, 40));
+            transfer.setTo(hex(random, 40));
+            transfer.setTransaction(transaction);
+            transfer.setTransferType("nft");
+            transfer.setTokenId(hexNumber(index));
+            return new TimedTransfer(type, timestamp, transfer);
+        }
+
+        KlayTransfer transfer = new KlayTransfer();
+        transfer.setFeePayer("");
+        transfer.setFeeRatio(0);
+        transfer.setFee("0x2d79883d2000");
+        transfer.setFrom(hex(random, 40));
+        transfer.setTo(hex(random, 40));
+        transfer.setTransactionHash(transaction.getTransactionHash());
+        transfer.setTransactionIndex(0);
+        transfer.setTransferType("klay");
+        transfer.setTypeInt(8);
+        transfer.setValue("0xde0b6b3a7640000");
+        return new TimedTransfer(type, timestamp, transfer);
+    }
+
+    private PageableNfts nfts(FakeRequest request, String key, String owner) {
+        FakeKASServer.Page<Nft> page = FakeKASServer.page(server.dataset(key, (i, random) -> nft(random, i, owner)), request);
+        PageableNfts nfts = new PageableNfts();
+        nfts.setItems(page.items);
+        nfts.setCursor(page.cursor);
+        return nfts;
+    }
+
+    private static Nft nft(Random random, int index, String owner) {
+        Nft nft = new Nft();
+        nft.setOwner(owner != null ? owner : hex(random, 40));
+        nft.setPreviousOwner(hex(random, 40));
+        nft.setTokenId(hexNumber(index));
+        nft.setTokenUri("https://example.com/token/" + index);
+        nft.setTransactionHash(hex(random, 64));
+        nft.setCreatedAt(BASE_TIMESTAMP + index);
+        nft.setUpdatedAt(BASE_TIMESTAMP + index);
+        return nft;
+    }
+
+    private static FtContractDetail ftContract(String address, int index) {
+        FtContractDetail contract = new FtContractDetail();
+        contract.setAddress(address);
+        contract.setDecimals(18);
+        contract.setName("Fake Token " + index);
+        contract.setSymbol("FAKE" + index);
+        contract.setStatus("completed");
+        contract.setTotalSupply("0x3635c9adc5dea00000");
+        contract.setCreatedAt(BASE_TIMESTAMP + index);
+        contract.setUpdatedAt(BASE_TIMESTAMP + index);
+        contract.setDeletedAt(0L);
+        contract.setType("KIP-7");
+        return contract;
+    }
+
+    private static NftContractDetail nftContract(String address, int index) {
+        NftContractDetail contract = new NftContractDetail();
+        contract.setAddress(address);
+        contract.setName("Fake NFT " + index);
+        contract.setSymbol("FNFT" + index);
+        contract.setStatus("completed");
+        contract.setTotalSupply("0x64");
+        contract.setCreatedAt(BASE_TIMESTAMP + index);
+        contract.setUpdatedAt(BASE_TIMESTAMP + index);
+        contract.setDeletedAt(0L);
+        contract.setType("KIP-17");
+        return contract;
+    }
+
+    private static Operator operator(String address, int index) {
+        Operator operator = new Operator();
+        operator.setOperator(address);
+        operator.setCreatedAt(BASE_TIMESTAMP + index);
+        return operator;
+    }
+
+    private Account account(String address) {
+        Account account = new Account();
+        account.setAddress(address);
+        account.setChainId(1001L);
+        account.setCreatedAt(BASE_TIMESTAMP);
+        account.setKeyId("krn:1001:wallet:fake:account-pool:default:" + address);
+        account.setKrn("krn:1001:wallet:fake:account-pool:default");
+        account.setPublicKey("0x04" + address.replace("0x", "") + address.replace("0x", "") + address.replace("0x", "").substring(0, Math.min(48, address.length() - 2)));
+        account.setUpdatedAt(BASE_TIMESTAMP);
+        return account;
+    }
+
+    private static AccountSummary accountSummary(String address) {
+        AccountSummary summary = new AccountSummary();
+        summary.setAddress(address);
+        summary.setKrn("krn:1001:wallet:fake:account-pool:default");
+        summary.setUpdatedAt(now());
+        return summary;
+    }
+
+    private MultisigTransactionStatus multisigStatus(FakeRequest request) {
+        MultisigTransactionStatus status = new MultisigTransactionStatus();
+        status.setStatus("Submitted");
+        status.setSignedWeight(1L);
+        status.setThreshold(1L);
+        status.setWeight(1L);
+        status.setTransactionId(request.getPathParameter("transaction-id"));
+        status.setTransactionHash(submit());
+        return status;
+    }
+
+    private TransactionResult transactionResult() {
+        TransactionResult result = new TransactionResult();
+        result.setTransactionHash(submit());
+        result.setStatus("Submitted");
+        result.setGas(1000000L);
+        result.setGasPrice("0x5d21dba00");
+        result.setNonce(sequence.get());
+        result.setTypeInt(8L);
+        result.setRlp("0x08f8");
+        return result;
+    }
+
+    private FDTransactionResult fdTransactionResult() {
+        FDTransactionResult result = new FDTransactionResult();
+        result.setTransactionHash(submit());
+        result.setStatus("Submitted");
+        result.setGas(1000000L);
+        result.setGasPrice("0x5d21dba00");
+        result.setNonce(sequence.get());
+        result.setTypeInt(9L);
+        result.setFeeRatio(0L);
+        result.setRlp("0x09f8");
+        return result;
+    }
+
+    private Signature signature() {
+        Signature signature = new Signature();
+        signature.setV("0x7f6");
+        signature.setR(nextHex(64));
+        signature.setS(nextHex(64));
+        return signature;
+    }
+
+    /**
+     * Returns the receipt of a transaction submitted to this server, or null if it is unknown or its receipt delay has not passed yet.
+     */
+    private TransactionReceipt receipt(String transactionHash) {
+        Long submittedAt = submittedTransactions.get(transactionHash.toLowerCase());
+        if(submittedAt == null || System.currentTimeMillis() - submittedAt < server.getReceiptDelayMillis()) {
+            return null;
+        }
+
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(transactionHash);
+        receipt.setBlockHash(hexOf(BLOCK_NUMBER, 64));
+        receipt.setBlockNumber(hexNumber(BLOCK_NUMBER));
+        receipt.setStatus("0x1");
+        receipt.setGas("0xf4240");
+        receipt.setGasPrice("0x5d21dba00");
+        receipt.setGasUsed("0x5208");
+        receipt.setLogs(new ArrayList<>());
+        receipt.setLogsBloom("0x" + new String(new char[512]).replace('\0', '0'));
+        receipt.setTransactionIndex("0x0");
+        receipt.setType("TxTypeValueTransfer");
+        receipt.setTypeInt(8L);
+        receipt.setValue("0x0");
+        return receipt;
+    }
+
+    private String submit() {
+        String transactionHash = nextHex(64);
+        submittedTransactions.put(transactionHash, System.currentTimeMillis());
+        return transactionHash;
+    }
+
+    private String nextHex(int length) {
+        return hexOf(server.getSeed() * 1_000_003 + sequence.incrementAndGet(), length);
+    }
+
+    private String krn(FakeRequest request) {
+        return "krn:" + chainId(request) + ":wallet:fake:account-pool:default";
+    }
+
+    private static long chainId(FakeRequest request) {
+        String chainId = request.getHeader("x-chain-id");
+        return chainId == null ? 1001 : Long.parseLong(chainId);
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    static String hex(Random random, int length) {
+        StringBuilder builder = new StringBuilder("0x");
+        for(int i = 0; i < length; i++) {
+            builder.append(Character.forDigit(random.nextInt(16), 16));
+        }
+        return builder.toString();
+    }
+
+    static String hexOf(long value, int length) {
+        String hex = Long.toHexString(value);
+        StringBuilder builder = new StringBuilder("0x");
+        for(int i = hex.length(); i < length; i++) {
+            builder.append('0');
+        }
+        return builder.append(hex).toString();
+    }
+
+    static String hexNumber(long value) {
+        return "0x" + Long.toHexString(value);
+    }
+}
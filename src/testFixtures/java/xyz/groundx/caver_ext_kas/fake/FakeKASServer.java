@@ -0,0 +1,649 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.fake;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.Credentials;
+import xyz.groundx.caver_ext_kas.rest_client.io.swagger.client.JSON;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Representing an in-process HTTP server standing in for KAS in load and latency tests.
+ * It serves the Wallet, Anchor and Token History API routes used by the generated *Api classes and the Node API JSON-RPC,
+ * so a CaverExtKAS instance initialized with getUrl() works without credentials or network.
+ * The responses are generated deterministically from the seed, the list routes are paginated by a stable cursor,
+ * and the latency and the errors(e.g. 429, 503) of the responses can be injected.
+ * A delayed response does not hold a server thread, so the latency does not limit the number of concurrent requests.
+ *
+ * <pre>
+ * try(FakeKASServer server = new FakeKASServer().start()) {
+ *     server.setLatency(FakeKASServer.LatencyModel.logNormal(50, 0.5));
+ *     server.addErrorRule("/v2/tx", 429, 0.01);
+ *
+ *     CaverExtKAS caver = new CaverExtKAS();
+ *     caver.initWalletAPI(1001, "accessKeyId", "secretAccessKey", server.getUrl());
+ * }
+ * </pre>
+ */
+public class FakeKASServer implements AutoCloseable {
+
+    /**
+     * The path of the Node API JSON-RPC.
+     */
+    public static final String NODE_PATH = "/v1/klaytn";
+
+    /**
+     * The default number of items of each generated list.
+     */
+    public static final int DEFAULT_DATASET_SIZE = 250;
+
+    /**
+     * The default page size used when a list request has no `size` parameter.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    /**
+     * Representing a handler of a route.
+     * It returns a FakeResponse, or a model object which is serialized to a JSON body of a 200 response.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        Object handle(FakeRequest request) throws Exception;
+    }
+
+    /**
+     * Representing a distribution of the response latency.
+     */
+    @FunctionalInterface
+    public interface LatencyModel {
+        long nextDelayMillis(Random random);
+
+        static LatencyModel none() {
+            return random -> 0;
+        }
+
+        static LatencyModel fixed(long millis) {
+            return random -> millis;
+        }
+
+        static LatencyModel uniform(long minMillis, long maxMillis) {
+            return random -> minMillis + (long)(random.nextDouble() * (maxMillis - minMillis));
+        }
+
+        static LatencyModel exponential(double meanMillis) {
+            return random -> (long)(-meanMillis * Math.log(1 - random.nextDouble()));
+        }
+
+        /**
+         * A log-normal distribution, which has the long tail of real network latency.
+         * @param medianMillis The median latency.
+         * @param sigma The standard deviation of the logarithm of the latency.
+         * @return LatencyModel
+         */
+        static LatencyModel logNormal(double medianMillis, double sigma) {
+            return random -> (long)(medianMillis * Math.exp(sigma * random.nextGaussian()));
+        }
+    }
+
+    private final long seed;
+    private final Random random;
+    private final JSON json = new JSON();
+
+    private final List<Route> routes = new CopyOnWriteArrayList<>();
+    private final List<ErrorRule> errorRules = new CopyOnWriteArrayList<>();
+    private final Deque<FakeResponse> queuedResponses = new ArrayDeque<>();
+    private final Map<String, LatencyModel> routeLatencies = new ConcurrentHashMap<>();
+    private final Set<String> authorizations = ConcurrentHashMap.newKeySet();
+    private volatile LatencyModel latency = LatencyModel.none();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong injectedErrorCount = new AtomicLong();
+    private final Map<String, AtomicLong> routeCounts = new ConcurrentHashMap<>();
+
+    private volatile int datasetSize = DEFAULT_DATASET_SIZE;
+    private volatile long receiptDelayMillis;
+    private final Map<String, List<?>> datasets = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private ScheduledExecutorService delayer;
+
+    /**
+     * Creates a FakeKASServer instance with the seed 0.
+     */
+    public FakeKASServer() {
+        this(0);
+    }
+
+    /**
+     * Creates a FakeKASServer instance.
+     * @param seed The seed of the generated data, the latency and the injected errors.
+     */
+    public FakeKASServer(long seed) {
+        this.seed = seed;
+        this.random = new Random(seed);
+        FakeKASRoutes.install(this);
+    }
+
+    /**
+     * Starts the server on a free port of the loopback address.
+     * @return FakeKASServer
+     * @throws IOException Thrown when the server cannot be bound.
+     */
+    public synchronized FakeKASServer start() throws IOException {
+        if(server != null) {
+            throw new IllegalStateException("The server is already started.");
+        }
+
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "FakeKAS-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        delayer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "FakeKAS-delayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/", this::dispatch);
+        server.start();
+        return this;
+    }
+
+    /**
+     * Stops the server.
+     */
+    @Override
+    public synchronized void close() {
+        if(server == null) {
+            return;
+        }
+        server.stop(0);
+        delayer.shutdownNow();
+        executor.shutdownNow();
+        server = null;
+    }
+
+    /**
+     * Returns the base URL of the server, which can be passed to CaverExtKAS.init*API().
+     * @return String
+     */
+    public synchronized String getUrl() {
+        if(server == null) {
+            throw new IllegalStateException("The server is not started.");
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the URL of the Node API, which can be passed to CaverExtKAS.initNodeAPI().
+     * @return String
+     */
+    public String getNodeUrl() {
+        return getUrl() + NODE_PATH;
+    }
+
+    /**
+     * Adds a route. A route added later takes precedence over the default routes.
+     * @param method The HTTP method.
+     * @param pathTemplate The path having the parameters in braces(e.g. "/v2/account/{address}").
+     * @param handler The handler.
+     * @return FakeKASServer
+     */
+    public FakeKASServer addRoute(String method, String pathTemplate, Handler handler) {
+        routes.add(0, new Route(method, pathTemplate, handler));
+        return this;
+    }
+
+    /**
+     * Sets the latency of all routes not having their own latency.
+     * @param latency The latency distribution.
+     * @return FakeKASServer
+     */
+    public FakeKASServer setLatency(LatencyModel latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Sets the latency of the requests whose path starts with the given path.
+     * @param pathPrefix The path(e.g. "/v2/tx").
+     * @param latency The latency distribution.
+     * @return FakeKASServer
+     */
+    public FakeKASServer setLatency(String pathPrefix, LatencyModel latency) {
+        routeLatencies.put(pathPrefix, latency);
+        return this;
+    }
+
+    /**
+     * Makes the requests whose path starts with the given path fail randomly.
+     * A 429 or 503 response has a `Retry-After` header of 1 second.
+     * @param pathPrefix The path(e.g. "/v2/tx"). "/" matches all requests.
+     * @param statusCode The HTTP status code of the error.
+     * @param probability The probability of the error, between 0 and 1.
+     * @return FakeKASServer
+     */
+    public FakeKASServer addErrorRule(String pathPrefix, int statusCode, double probability) {
+        errorRules.add(new ErrorRule(pathPrefix, statusCode, probability));
+        return this;
+    }
+
+    /**
+     * Removes all error rules and queued responses.
+     * @return FakeKASServer
+     */
+    public FakeKASServer clearErrors() {
+        errorRules.clear();
+        synchronized (queuedResponses) {
+            queuedResponses.clear();
+        }
+        return this;
+    }
+
+    /**
+     * Makes the next requests fail with the given status, regardless of their path.
+     * @param statusCode The HTTP status code of the error.
+     * @param count The number of requests to fail.
+     * @return FakeKASServer
+     */
+    public FakeKASServer failNext(int statusCode, int count) {
+        synchronized (queuedResponses) {
+            for(int i = 0; i < count; i++) {
+                queuedResponses.add(FakeResponse.error(statusCode));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Accepts the credentials in the Authorization header.
+     * Once credentials are added, a request without accepted credentials fails with 401.
+     * @param accessKeyId The access key.
+     * @param secretAccessKey The secret key.
+     * @return FakeKASServer
+     */
+    public FakeKASServer addCredentials(String accessKeyId, String secretAccessKey) {
+        authorizations.add(Credentials.basic(accessKeyId, secretAccessKey));
+        return this;
+    }
+
+    /**
+     * Stops accepting the credentials.
+     * @param accessKeyId The access key.
+     * @param secretAccessKey The secret key.
+     * @return FakeKASServer
+     */
+    public FakeKASServer revokeCredentials(String accessKeyId, String secretAccessKey) {
+        authorizations.remove(Credentials.basic(accessKeyId, secretAccessKey));
+        return this;
+    }
+
+    /**
+     * Setter function for datasetSize.
+     * It applies to the lists not generated yet.
+     * @param datasetSize The number of items of each generated list.
+     * @return FakeKASServer
+     */
+    public FakeKASServer setDatasetSize(int datasetSize) {
+        if(datasetSize < 0) {
+            throw new IllegalArgumentException("datasetSize must not be negative.");
+        }
+        this.datasetSize = datasetSize;
+        return this;
+    }
+
+    /**
+     * Getter function for datasetSize.
+     * @return int
+     */
+    public int getDatasetSize() {
+        return datasetSize;
+    }
+
+    /**
+     * Setter function for receiptDelayMillis.
+     * @param receiptDelayMillis The time after which the receipt of a submitted transaction is found.
+     * @return FakeKASServer
+     */
+    public FakeKASServer setReceiptDelayMillis(long receiptDelayMillis) {
+        this.receiptDelayMillis = receiptDelayMillis;
+        return this;
+    }
+
+    /**
+     * Getter function for receiptDelayMillis.
+     * @return long
+     */
+    public long getReceiptDelayMillis() {
+        return receiptDelayMillis;
+    }
+
+    /**
+     * Getter function for seed.
+     * @return long
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of requests received.
+     * @return long
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * Returns the number of requests failed by an error rule or failNext().
+     * @return long
+     */
+    public long getInjectedErrorCount() {
+        return injectedErrorCount.get();
+    }
+
+    /**
+     * Returns the number of requests received by each route, keyed by "{method} {pathTemplate}".
+     * @return Map
+     */
+    public Map<String, Long> getRouteCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        routeCounts.forEach((route, count) -> counts.put(route, count.get()));
+        return counts;
+    }
+
+    /**
+     * Returns the generated list of the key, generating it with the factory if it does not exist yet.
+     * The same key always returns the same list, so a list can be paginated consistently.
+     */
+    @SuppressWarnings("unchecked")
+    <T> List<T> dataset(String key, DatasetFactory<T> factory) {
+        return (List<T>)datasets.computeIfAbsent(key, k -> {
+            Random datasetRandom = new Random(seed ^ k.hashCode());
+            List<T> items = new ArrayList<>(datasetSize);
+            for(int i = 0; i < datasetSize; i++) {
+                items.add(factory.create(i, datasetRandom));
+            }
+            return Collections.unmodifiableList(items);
+        });
+    }
+
+    @FunctionalInterface
+    interface DatasetFactory<T> {
+        T create(int index, Random random);
+    }
+
+    JSON getJSON() {
+        return json;
+    }
+
+    /**
+     * Returns the page of the list requested by the `size` and `cursor` query parameters.
+     * The cursor is an opaque string encoding the offset of the next page. It is empty on the last page.
+     */
+    static <T> Page<T> page(List<T> items, FakeRequest request) {
+        int size = request.getQueryInt("size", DEFAULT_PAGE_SIZE);
+        if(size < 1) {
+            size = DEFAULT_PAGE_SIZE;
+        }
+
+        int offset = 0;
+        String cursor = request.getQuery("cursor");
+        if(cursor != null && !cursor.isEmpty()) {
+            try {
+                offset = Integer.parseInt(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).substring("offset:".length()));
+            } catch (RuntimeException e) {
+                throw new FakeResponseException(FakeResponse.error(400, 1040000, "Invalid cursor."));
+            }
+        }
+
+        int end = Math.min(items.size(), offset + size);
+        List<T> pageItems = offset >= items.size() ? Collections.<T>emptyList() : new ArrayList<>(items.subList(offset, end));
+        String nextCursor = end < items.size() ? Base64.getUrlEncoder().withoutPadding().encodeToString(("offset:" + end).getBytes(StandardCharsets.UTF_8)) : "";
+        return new Page<>(pageItems, nextCursor);
+    }
+
+    static class Page<T> {
+        final List<T> items;
+        final String cursor;
+
+        Page(List<T> items, String cursor) {
+            this.items = items;
+            this.cursor = cursor;
+        }
+    }
+
+    private void dispatch(HttpExchange exchange) {
+        requestCount.incrementAndGet();
+        FakeResponse response;
+        String path = exchange.getRequestURI().getRawPath();
+        try {
+            FakeRequest request = readRequest(exchange);
+            response = authorize(request);
+            if(response == null) {
+                response = injectError(path);
+            }
+            if(response == null) {
+                response = route(request);
+            }
+        } catch (FakeResponseException e) {
+            response = e.getResponse();
+        } catch (Exception e) {
+            response = FakeResponse.error(500, 1000000, String.valueOf(e));
+        }
+
+        long delay = nextDelayMillis(path);
+        FakeResponse toSend = response;
+        if(delay <= 0) {
+            send(exchange, toSend);
+        } else {
+            delayer.schedule(() -> executor.execute(() -> send(exchange, toSend)), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private FakeResponse route(FakeRequest request) throws Exception {
+        for(Route route : routes) {
+            if(!route.method.equals(request.getMethod())) {
+                continue;
+            }
+            Matcher matcher = route.pattern.matcher(request.getPath());
+            if(!matcher.matches()) {
+                continue;
+            }
+
+            for(int i = 0; i < route.parameterNames.size(); i++) {
+                request.pathParameters.put(route.parameterNames.get(i), decode(matcher.group(i + 1)));
+            }
+            routeCounts.computeIfAbsent(route.key, key -> new AtomicLong()).incrementAndGet();
+
+            Object result = route.handler.handle(request);
+            if(result instanceof FakeResponse) {
+                return (FakeResponse)result;
+            }
+            return FakeResponse.json(200, json.serialize(result));
+        }
+        return FakeResponse.error(404, 1040400, "The route " + request.getMethod() + " " + request.getPath() + " is not supported by the fake KAS server.");
+    }
+
+    private FakeResponse authorize(FakeRequest request) {
+        if(authorizations.isEmpty() || authorizations.contains(request.getHeader("Authorization"))) {
+            return null;
+        }
+        return FakeResponse.error(401, 1010008, "The authorization header is not valid.");
+    }
+
+    private FakeResponse injectError(String path) {
+        synchronized (queuedResponses) {
+            FakeResponse queued = queuedResponses.poll();
+            if(queued != null) {
+                injectedErrorCount.incrementAndGet();
+                return queued;
+            }
+        }
+
+        for(ErrorRule rule : errorRules) {
+            if(path.startsWith(rule.pathPrefix) && nextDouble() < rule.probability) {
+                injectedErrorCount.incrementAndGet();
+                return FakeResponse.error(rule.statusCode);
+            }
+        }
+        return null;
+    }
+
+    private long nextDelayMillis(String path) {
+        LatencyModel model = latency;
+        String matched = null;
+        for(Map.Entry<String, LatencyModel> entry : routeLatencies.entrySet()) {
+            if(path.startsWith(entry.getKey()) && (matched == null || entry.getKey().length() > matched.length())) {
+                matched = entry.getKey();
+                model = entry.getValue();
+            }
+        }
+        synchronized (random) {
+            return Math.max(0, model.nextDelayMillis(random));
+        }
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private static FakeRequest readRequest(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while((read = in.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+        }
+
+        Map<String, String> query = new LinkedHashMap<>();
+        String rawQuery = exchange.getRequestURI().getRawQuery();
+        if(rawQuery != null) {
+            for(String pair : rawQuery.split("&")) {
+                int index = pair.indexOf('=');
+                if(index > 0) {
+                    query.put(decode(pair.substring(0, index)), decode(pair.substring(index + 1)));
+                }
+            }
+        }
+
+        Map<String, String> headers = new HashMap<>();
+        exchange.getRequestHeaders().forEach((name, values) -> headers.put(name.toLowerCase(), values.isEmpty() ? "" : values.get(0)));
+
+        return new FakeRequest(exchange.getRequestMethod(), exchange.getRequestURI().getRawPath(), query, headers, body.toString("UTF-8"));
+    }
+
+    private static void send(HttpExchange exchange, FakeResponse response) {
+        try {
+            byte[] body = response.getBody().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            response.getHeaders().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+            exchange.sendResponseHeaders(response.getStatusCode(), body.length == 0 ? -1 : body.length);
+            if(body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        } catch (IOException ignored) {
+            // The client closed the connection.
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String decode(String value) {
+        try {
+            return URLDecoder.decode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Route {
+        final String method;
+        final String key;
+        final Pattern pattern;
+        final List<String> parameterNames = new ArrayList<>();
+        final Handler handler;
+
+        Route(String method, String pathTemplate, Handler handler) {
+            this.method = method;
+            this.key = method + " " + pathTemplate;
+            this.handler = handler;
+
+            StringBuilder regex = new StringBuilder();
+            Matcher matcher = Pattern.compile("\\{([^}]+)}").matcher(pathTemplate);
+            int last = 0;
+            while(matcher.find()) {
+                regex.append(Pattern.quote(pathTemplate.substring(last, matcher.start()))).append("([^/]+)");
+                parameterNames.add(matcher.group(1));
+                last = matcher.end();
+            }
+            regex.append(Pattern.quote(pathTemplate.substring(last)));
+            this.pattern = Pattern.compile(regex.toString());
+        }
+    }
+
+    private static class ErrorRule {
+        final String pathPrefix;
+        final int statusCode;
+        final double probability;
+
+        ErrorRule(String pathPrefix, int statusCode, double probability) {
+            this.pathPrefix = pathPrefix;
+            this.statusCode = statusCode;
+            this.probability = probability;
+        }
+    }
+}
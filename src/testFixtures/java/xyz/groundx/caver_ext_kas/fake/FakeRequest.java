@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.fake;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Representing a request received by FakeKASServer.
+ */
+public class FakeRequest {
+    private final String method;
+    private final String path;
+    private final Map<String, String> query;
+    private final Map<String, String> headers;
+    private final String body;
+    final Map<String, String> pathParameters = new HashMap<>();
+
+    FakeRequest(String method, String path, Map<String, String> query, Map<String, String> headers, String body) {
+        this.method = method;
+        this.path = path;
+        this.query = query;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getPathParameter(String name) {
+        return pathParameters.get(name);
+    }
+
+    public String getQuery(String name) {
+        return query.get(name);
+    }
+
+    public int getQueryInt(String name, int defaultValue) {
+        String value = query.get(name);
+        if(value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new FakeResponseException(FakeResponse.error(400, 1040000, "Invalid " + name + "."));
+        }
+    }
+
+    /**
+     * Returns the header. The name is case-insensitive.
+     * @param name The name of the header.
+     * @return String
+     */
+    public String getHeader(String name) {
+        return headers.get(name.toLowerCase());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.fake;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Representing a response of FakeKASServer.
+ */
+public class FakeResponse {
+    private final int statusCode;
+    private final String body;
+    private final Map<String, String> headers = new LinkedHashMap<>();
+
+    public FakeResponse(int statusCode, String body) {
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    public static FakeResponse json(int statusCode, String body) {
+        return new FakeResponse(statusCode, body);
+    }
+
+    /**
+     * Creates an error response having the body of a KAS error.
+     * A 429 or 503 response has a `Retry-After` header of 1 second.
+     * @param statusCode The HTTP status code.
+     * @return FakeResponse
+     */
+    public static FakeResponse error(int statusCode) {
+        return error(statusCode, statusCode * 10000, "Injected error " + statusCode + ".");
+    }
+
+    /**
+     * Creates an error response having the body of a KAS error.
+     * @param statusCode The HTTP status code.
+     * @param code The KAS error code.
+     * @param message The error message.
+     * @return FakeResponse
+     */
+    public static FakeResponse error(int statusCode, long code, String message) {
+        FakeResponse response = new FakeResponse(statusCode, "{\"code\":" + code + ",\"message\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}");
+        if(statusCode == 429 || statusCode == 503) {
+            response.header("Retry-After", "1");
+        }
+        return response;
+    }
+
+    public FakeResponse header(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2020 The caver-java-ext-kas Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the “License”);
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an “AS IS” BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package xyz.groundx.caver_ext_kas.fake;
+
+/**
+ * Thrown by a route handler to respond with the given response, e.g. a 404 error.
+ */
+public class FakeResponseException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final FakeResponse response;
+
+    public FakeResponseException(FakeResponse response) {
+        super(response.getBody());
+        this.response = response;
+    }
+
+    public FakeResponse getResponse() {
+        return response;
+    }
+}